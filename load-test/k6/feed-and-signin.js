@@ -0,0 +1,125 @@
+// 게시글 피드 / 로그인 부하 테스트 (플랫폼 스레드 vs 가상 스레드 비교용)
+//
+// 같은 DB, 같은 부하로 두 번 실행하여 결과를 비교합니다.
+//   1) ./mvnw spring-boot:run -Dspring-boot.run.profiles=local \
+//        -Dspring-boot.run.arguments=--auth.rate-limit.enabled=false
+//      k6 run -e MODE=platform load-test/k6/feed-and-signin.js
+//   2) ./mvnw spring-boot:run -Dspring-boot.run.profiles=local,virtual-threads \
+//        -Dspring-boot.run.arguments=--auth.rate-limit.enabled=false
+//      k6 run -e MODE=virtual load-test/k6/feed-and-signin.js
+//
+// 결과는 실행한 디렉터리의 k6-<MODE>-summary.json 에 저장됩니다.
+// 비교 항목: 시나리오별 http_req_duration p95/p99, http_req_failed(503 비율), dropped_iterations,
+// 그리고 실행 중 /actuator/metrics 의 hikaricp.connections.pending, jvm.threads.virtual.pinned.
+//
+// 로그인은 BCrypt 가 전용 스레드 풀(auth.password-hash.*)에서 실행되므로 가상 스레드로 처리량이 늘지 않습니다.
+// 가상 스레드 모드에서 기대하는 차이는 로그인이 몰릴 때도 피드 요청의 지연 시간이 늘지 않는 것입니다.
+//
+// 환경 변수
+//   BASE_URL    대상 서버 (기본 http://localhost:8080)
+//   MODE        결과 파일 이름 구분 (기본 run)
+//   FEED_RATE   초당 피드 요청 수 (기본 500)
+//   SIGNIN_RATE 초당 로그인 요청 수 (기본 50)
+//   DURATION    측정 시간 (기본 2m)
+//   USERS       로그인에 사용할 계정 수 (기본 50)
+
+import http from 'k6/http';
+import { check } from 'k6';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080';
+const MODE = __ENV.MODE || 'run';
+const FEED_RATE = parseInt(__ENV.FEED_RATE || '500', 10);
+const SIGNIN_RATE = parseInt(__ENV.SIGNIN_RATE || '50', 10);
+const DURATION = __ENV.DURATION || '2m';
+const USERS = parseInt(__ENV.USERS || '50', 10);
+const PASSWORD = 'loadTest1234';
+
+const JSON_HEADERS = { headers: { 'Content-Type': 'application/json', 'Accept-Encoding': 'gzip' } };
+
+export const options = {
+    discardResponseBodies: true,
+    scenarios: {
+        // 익명 피드: 응답 캐시를 거치는 가벼운 요청
+        feed_anonymous: {
+            executor: 'constant-arrival-rate',
+            exec: 'feedAnonymous',
+            rate: Math.floor(FEED_RATE / 2),
+            timeUnit: '1s',
+            duration: DURATION,
+            preAllocatedVUs: 100,
+            maxVUs: 1000,
+        },
+        // 로그인 사용자 피드: 매번 DB 를 조회하는 요청
+        feed_authenticated: {
+            executor: 'constant-arrival-rate',
+            exec: 'feedAuthenticated',
+            rate: Math.ceil(FEED_RATE / 2),
+            timeUnit: '1s',
+            duration: DURATION,
+            preAllocatedVUs: 100,
+            maxVUs: 1000,
+        },
+        // 로그인: BCrypt 검증 + 토큰 발급
+        sign_in: {
+            executor: 'constant-arrival-rate',
+            exec: 'signIn',
+            rate: SIGNIN_RATE,
+            timeUnit: '1s',
+            duration: DURATION,
+            preAllocatedVUs: 50,
+            maxVUs: 500,
+        },
+    },
+    thresholds: {
+        'http_req_duration{scenario:feed_anonymous}': ['p(95)<200'],
+        'http_req_duration{scenario:feed_authenticated}': ['p(95)<300'],
+        'http_req_duration{scenario:sign_in}': ['p(95)<1000'],
+        'http_req_failed': ['rate<0.01'],
+    },
+    summaryTrendStats: ['avg', 'med', 'p(90)', 'p(95)', 'p(99)', 'max'],
+};
+
+function email(index) {
+    return `load-test-${index}@example.com`;
+}
+
+export function setup() {
+    for (let i = 0; i < USERS; i++) {
+        // 이미 가입된 계정이면 200 (result: false) 이 반환되므로 그대로 사용
+        http.post(`${BASE_URL}/api/auth/signUp`, JSON.stringify({ email: email(i), password: PASSWORD }), JSON_HEADERS);
+    }
+
+    const res = http.post(`${BASE_URL}/api/auth/signIn`,
+        JSON.stringify({ email: email(0), password: PASSWORD }),
+        Object.assign({ responseType: 'text' }, JSON_HEADERS));
+    check(res, { 'setup sign in 200': (r) => r.status === 200 });
+    return { token: res.json('data.token') };
+}
+
+export function feedAnonymous() {
+    const page = Math.floor(Math.random() * 5);
+    const res = http.get(`${BASE_URL}/api/post?pageNumber=${page}`, JSON_HEADERS);
+    check(res, { 'feed 200': (r) => r.status === 200 });
+}
+
+export function feedAuthenticated(data) {
+    const page = Math.floor(Math.random() * 5);
+    const res = http.get(`${BASE_URL}/api/post?pageNumber=${page}`, {
+        headers: { Authorization: `Bearer ${data.token}`, 'Accept-Encoding': 'gzip' },
+    });
+    check(res, { 'authenticated feed 200': (r) => r.status === 200 });
+}
+
+export function signIn() {
+    const user = Math.floor(Math.random() * USERS);
+    const res = http.post(`${BASE_URL}/api/auth/signIn`,
+        JSON.stringify({ email: email(user), password: PASSWORD }), JSON_HEADERS);
+    check(res, { 'sign in 200': (r) => r.status === 200 });
+}
+
+export function handleSummary(data) {
+    return {
+        [`k6-${MODE}-summary.json`]: JSON.stringify(data, null, 2),
+        stdout: `\n${MODE}: see k6-${MODE}-summary.json\n`,
+    };
+}
@@ -0,0 +1,166 @@
+package com.example.demo.benchmark;
+
+import com.example.demo.config.JacksonConfig;
+import com.example.demo.dto.ApiResult;
+import com.example.demo.dto.post.PostCommentDto;
+import com.example.demo.dto.post.PostDto;
+import com.example.demo.dto.post.PostDtoWithPaging;
+import com.example.demo.dto.todo.ToDoDto;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 응답 인코딩(JSON / CBOR / Smile) 비교 벤치마크
+ * <p>
+ * 실제 게시글 목록 한 페이지(게시글 10개, 게시글당 댓글 5개, 한글/영문이 섞인 본문)와 할 일 목록을
+ * ApiResult 로 감싼 상태로 직렬화하여 처리량을 측정합니다.
+ * 직렬화 결과 크기는 보조 지표(payloadBytes)로 처리량과 함께 결과 파일에 기록됩니다.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class EncodingBenchmark {
+
+    private static final int PAGE_SIZE = 10;
+    private static final int COMMENTS_PER_POST = 5;
+    private static final int TODO_COUNT = 50;
+
+    @Param({"json", "cbor", "smile"})
+    public String format;
+
+    private ObjectMapper objectMapper;
+    private ApiResult<PostDtoWithPaging> feedPage;
+    private ApiResult<List<ToDoDto>> todoList;
+
+    @Setup
+    public void setUp() throws Exception {
+        JsonFactory factory = switch (format) {
+            case "cbor" -> new CBORFactory();
+            case "smile" -> new SmileFactory();
+            default -> new JsonFactory();
+        };
+        // 애플리케이션과 같은 설정 (Boot 기본값: 날짜를 ISO-8601 문자열로 직렬화, PostDto 필드 필터)
+        Jackson2ObjectMapperBuilder builder = Jackson2ObjectMapperBuilder.json()
+                .factory(factory)
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        new JacksonConfig().postFieldsFilterCustomizer().customize(builder);
+        objectMapper = builder.build();
+
+        Random random = new Random(42);
+        feedPage = ApiResult.success(createFeedPage(random), "성공");
+        todoList = ApiResult.success(createTodos(random), "성공");
+    }
+
+    /**
+     * 직렬화 결과 크기 보조 지표
+     * <p>
+     * 누적하지 않고 마지막 결과 크기를 대입하므로 (입력이 고정이라 매번 같은 값) 측정 스레드 1개에서 그대로 결과 크기가 됩니다.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class PayloadSize {
+        public long payloadBytes;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            payloadBytes = 0;
+        }
+    }
+
+    @Benchmark
+    public byte[] serializeFeedPage(PayloadSize size) throws Exception {
+        byte[] bytes = objectMapper.writeValueAsBytes(feedPage);
+        size.payloadBytes = bytes.length;
+        return bytes;
+    }
+
+    @Benchmark
+    public byte[] serializeTodoList(PayloadSize size) throws Exception {
+        byte[] bytes = objectMapper.writeValueAsBytes(todoList);
+        size.payloadBytes = bytes.length;
+        return bytes;
+    }
+
+    private static PostDtoWithPaging createFeedPage(Random random) {
+        LocalDateTime base = LocalDateTime.of(2025, 1, 1, 9, 0);
+        List<PostDto> posts = new ArrayList<>(PAGE_SIZE);
+        for (int i = 0; i < PAGE_SIZE; i++) {
+            long postId = 1000L - i;
+            List<PostCommentDto> comments = new ArrayList<>(COMMENTS_PER_POST);
+            for (int c = 0; c < COMMENTS_PER_POST; c++) {
+                comments.add(PostCommentDto.builder()
+                        .id(postId * 10 + c)
+                        .content(text(random, 20 + random.nextInt(80)))
+                        .memberId(1L + random.nextInt(500))
+                        .memberEmail("member" + random.nextInt(500) + "@example.com")
+                        .postId(postId)
+                        .createdAt(base.plusMinutes(random.nextInt(100_000)))
+                        .updatedAt(base.plusMinutes(random.nextInt(100_000)))
+                        .isEnabledDelete(false)
+                        .build());
+            }
+            posts.add(PostDto.builder()
+                    .id(postId)
+                    .title(text(random, 10 + random.nextInt(40)))
+                    .content(text(random, 500 + random.nextInt(1500)))
+                    .likeCount(random.nextInt(300))
+                    .likedByUser(random.nextBoolean())
+                    .postComments(comments)
+                    .isEnabledDelete(false)
+                    .createdAt(base.plusMinutes(random.nextInt(100_000)))
+                    .updatedAt(base.plusMinutes(random.nextInt(100_000)))
+                    .version((long) random.nextInt(20))
+                    .build());
+        }
+        return PostDtoWithPaging.builder()
+                .posts(posts)
+                .totalPages(37)
+                .sizePages(PAGE_SIZE)
+                .currentPageNumber(0)
+                .build();
+    }
+
+    private static List<ToDoDto> createTodos(Random random) {
+        List<ToDoDto> todos = new ArrayList<>(TODO_COUNT);
+        for (int i = 0; i < TODO_COUNT; i++) {
+            todos.add(ToDoDto.builder()
+                    .id((long) i + 1)
+                    .title(text(random, 10 + random.nextInt(50)))
+                    .completed(random.nextBoolean())
+                    .build());
+        }
+        return todos;
+    }
+
+    /**
+     * 한글 음절과 영문 단어가 섞인 본문을 생성합니다.
+     */
+    private static String text(Random random, int length) {
+        StringBuilder builder = new StringBuilder(length);
+        while (builder.length() < length) {
+            if (random.nextInt(3) == 0) {
+                builder.append("lorem ipsum ");
+            } else {
+                for (int i = 0; i < 2 + random.nextInt(4); i++) {
+                    builder.append((char) ('가' + random.nextInt(11172)));
+                }
+                builder.append(' ');
+            }
+        }
+        return builder.substring(0, length);
+    }
+}
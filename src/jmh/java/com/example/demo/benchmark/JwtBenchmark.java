@@ -0,0 +1,78 @@
+package com.example.demo.benchmark;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import com.example.demo.provider.JwtProvider;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JWT 생성/검증 벤치마크
+ * <p>
+ * 모든 인증 요청이 거치는 {@link JwtProvider} 의 토큰 생성, 검증, subject 추출 처리량을 측정합니다.
+ * 검증은 정상 토큰과 서명이 변조된 토큰(예외 경로)을 나누어 측정합니다.
+ * 변조된 토큰마다 남기는 WARN 로그의 콘솔 출력이 측정값을 차지하지 않도록, 측정 중에는 JwtProvider 로그를 ERROR 로 올립니다.
+ * <p>
+ * 실행: ./mvnw -Pbenchmark -DskipTests verify -Djmh.includes=JwtBenchmark
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JwtBenchmark {
+
+    private static final String SECRET = "benchmark-secret-key-that-is-long-enough-for-hs256";
+    private static final String SUBJECT = "member42@example.com";
+
+    private final Logger jwtProviderLogger = (Logger) LoggerFactory.getLogger(JwtProvider.class);
+
+    private JwtProvider jwtProvider;
+    private String validToken;
+    private String tamperedToken;
+    private Level previousLevel;
+
+    @Setup
+    public void setUp() {
+        previousLevel = jwtProviderLogger.getLevel();
+        jwtProviderLogger.setLevel(Level.ERROR);
+
+        jwtProvider = new JwtProvider(SECRET, 900_000, new SimpleMeterRegistry());
+        validToken = jwtProvider.generateToken(SUBJECT);
+
+        // 서명 중간의 한 문자만 바꿔 형식은 올바르지만 서명 검증에 실패하는 토큰
+        // (마지막 문자는 패딩 비트만 바뀔 수 있으므로 사용하지 않음)
+        int index = validToken.length() - 5;
+        char replaced = validToken.charAt(index) == 'A' ? 'B' : 'A';
+        tamperedToken = validToken.substring(0, index) + replaced + validToken.substring(index + 1);
+    }
+
+    @TearDown
+    public void tearDown() {
+        jwtProviderLogger.setLevel(previousLevel);
+    }
+
+    @Benchmark
+    public String generateToken() {
+        return jwtProvider.generateToken(SUBJECT);
+    }
+
+    @Benchmark
+    public boolean validateToken() {
+        return jwtProvider.validateToken(validToken);
+    }
+
+    @Benchmark
+    public boolean validateTamperedToken() {
+        return jwtProvider.validateToken(tamperedToken);
+    }
+
+    @Benchmark
+    public String extractUsername() {
+        return jwtProvider.extractUsername(validToken);
+    }
+}
@@ -0,0 +1,57 @@
+package com.example.demo.benchmark;
+
+import com.example.demo.provider.MessageProvider;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.i18n.LocaleContextHolder;
+import org.springframework.context.support.StaticMessageSource;
+
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 다국어 메시지 조회 벤치마크
+ * <p>
+ * 모든 응답이 호출하는 {@link MessageProvider#getMessage(String, Object...)} 의 처리량을 Locale 별로 측정합니다.
+ * fr 은 메시지 파일이 없어 기본 파일로 대체되는 경우입니다.
+ * <p>
+ * 실행: ./mvnw -Pbenchmark -DskipTests verify -Djmh.includes=MessageProviderBenchmark
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class MessageProviderBenchmark {
+
+    @Param({"ko", "en", "fr"})
+    public String locale;
+
+    @Setup
+    public void setUp() {
+        // 생성 시 messages*.properties 를 읽어 정적 테이블을 만듦
+        new MessageProvider(new StaticMessageSource());
+        // Scope.Thread 상태의 Setup 은 측정 스레드에서 실행되므로 요청 Locale 이 그대로 적용됨
+        LocaleContextHolder.setLocale(Locale.of(locale));
+    }
+
+    @TearDown
+    public void tearDown() {
+        LocaleContextHolder.resetLocaleContext();
+    }
+
+    @Benchmark
+    public String plainMessage() {
+        return MessageProvider.getMessage("common.service.unavailable");
+    }
+
+    @Benchmark
+    public String formattedMessage() {
+        return MessageProvider.getMessage("common.validation.methodArgumentTypeMismatchException", "abc", "page", "int");
+    }
+
+    @Benchmark
+    public String missingCode() {
+        return MessageProvider.getMessage("common.benchmark.missing");
+    }
+}
@@ -0,0 +1,103 @@
+package com.example.demo.benchmark;
+
+import com.example.demo.DemoApplication;
+import com.example.demo.edge.TodoEdgeApplication;
+import com.example.demo.dto.todo.ToDoDto;
+import com.example.demo.dto.todo.ToDoDtoWithCursor;
+import com.example.demo.service.ToDoService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 할 일 저장소 구현(JPA/MySQL vs 내장 WAL) 비교 벤치마크
+ * <p>
+ * 같은 {@link ToDoService} 를 두 저장소 구현 위에서 실행합니다.
+ * jpa 는 DemoApplication 으로 기동하므로 local_db 프로파일의 MySQL 이 필요하며 (DB_USERNAME, DB_PASSWORD 환경 변수),
+ * embedded 는 DB 없는 {@link TodoEdgeApplication} 으로 기동합니다.
+ * 내장 저장소는 임시 디렉터리를 사용하며 fsync 를 켠 상태로 측정합니다.
+ * <p>
+ * 실행: ./mvnw -Pbenchmark -DskipTests verify -Djmh.includes=ToDoRepositoryBenchmark
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ToDoRepositoryBenchmark {
+
+    private static final int INITIAL_TODOS = 10_000;
+    private static final int PAGE_SIZE = 20;
+
+    @Param({"jpa", "embedded"})
+    public String backend;
+
+    private ConfigurableApplicationContext context;
+    private ToDoService toDoService;
+    private long[] ids;
+
+    @Setup
+    public void setUp() throws Exception {
+        Path directory = Files.createTempDirectory("todo-benchmark");
+        boolean embedded = "embedded".equals(backend);
+
+        context = new SpringApplicationBuilder(embedded ? TodoEdgeApplication.class : DemoApplication.class)
+                .web(WebApplicationType.NONE)
+                .profiles(embedded ? TodoEdgeApplication.PROFILE : "local")
+                // application.yml 의 값(${JWT_SECRET} 등)보다 우선하도록 기본 속성이 아닌 실행 인자로 전달
+                .run(
+                        "--jwt.secret=benchmark-secret-key-that-is-long-enough-for-hs256",
+                        "--auth.bcrypt.strength=10",
+                        "--member.role-migration.enabled=false",
+                        "--spring.jpa.show-sql=false",
+                        "--logging.level.root=WARN",
+                        "--todo.embedded.directory=" + directory);
+        toDoService = context.getBean(ToDoService.class);
+
+        List<Long> created = new ArrayList<>(INITIAL_TODOS);
+        for (int i = 0; i < INITIAL_TODOS; i++) {
+            created.add(toDoService.createTodo("benchmark todo").getId());
+        }
+        ids = created.stream().mapToLong(Long::longValue).toArray();
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public ToDoDto createTodo() {
+        return toDoService.createTodo("benchmark todo");
+    }
+
+    @Benchmark
+    public ToDoDto toggleCompleted() {
+        long id = ids[ThreadLocalRandom.current().nextInt(ids.length)];
+        return toDoService.updateTodoCompleted(id, ThreadLocalRandom.current().nextBoolean());
+    }
+
+    @Benchmark
+    public ToDoDtoWithCursor findPage() {
+        long cursor = ids[ThreadLocalRandom.current().nextInt(ids.length - PAGE_SIZE)];
+        return toDoService.findTodos(cursor, PAGE_SIZE, null);
+    }
+
+    /**
+     * 조회 후 같은 제목으로 저장 (변경이 없으므로 쓰기 없이 조회 경로만 측정)
+     */
+    @Benchmark
+    public ToDoDto updateTitleUnchanged() {
+        long id = ids[ThreadLocalRandom.current().nextInt(ids.length)];
+        return toDoService.updateTodoTitle(id, "benchmark todo");
+    }
+}
@@ -0,0 +1,134 @@
+package com.example.demo.benchmark;
+
+import com.example.demo.entity.BlacklistedToken;
+import com.example.demo.provider.TokenBlacklistProvider;
+import com.example.demo.repository.BlacklistedTokenRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+
+import java.lang.reflect.Proxy;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 토큰 블랙리스트 조회 경합 벤치마크
+ * <p>
+ * 인증 요청마다 호출되는 {@link TokenBlacklistProvider#isBlacklisted(String)} 를 여러 스레드에서 동시에 실행합니다.
+ * <ul>
+ *     <li>lookup: 8개 스레드가 조회만 수행 (적중/미적중 반반)</li>
+ *     <li>mixed: 7개 스레드가 조회하는 동안 1개 스레드가 로그아웃(추가)과 만료 정리(제거)를 반복</li>
+ * </ul>
+ * 공유 저장소(token_blacklist 테이블)는 메모리 구현으로 대체하여, DB 왕복 없이 해시 계산과 프로세스 내 캐시 경합만 측정합니다.
+ * <p>
+ * 실행: ./mvnw -Pbenchmark -DskipTests verify -Djmh.includes=TokenBlacklistBenchmark
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TokenBlacklistBenchmark {
+
+    private static final int LOOKUP_KEYS = 1024;
+    private static final Instant EXPIRES_AT = Instant.now().plus(1, ChronoUnit.HOURS);
+
+    @Param({"1000", "100000"})
+    public int blacklistSize;
+
+    private TokenBlacklistProvider tokenBlacklistProvider;
+    private String[] lookupTokens;
+    private String[] writeTokens;
+
+    @Setup
+    public void setUp() {
+        tokenBlacklistProvider = new TokenBlacklistProvider(inMemoryRepository(), new SimpleMeterRegistry());
+        String[] blacklisted = new String[blacklistSize];
+        for (int i = 0; i < blacklistSize; i++) {
+            blacklisted[i] = token();
+            tokenBlacklistProvider.addToBlacklist(blacklisted[i], EXPIRES_AT);
+        }
+
+        // 짝수 번째는 블랙리스트에 있는 토큰, 홀수 번째는 없는 토큰
+        lookupTokens = new String[LOOKUP_KEYS];
+        for (int i = 0; i < LOOKUP_KEYS; i++) {
+            lookupTokens[i] = (i % 2 == 0) ? blacklisted[i % blacklistSize] : token();
+        }
+
+        // 추가/제거용 토큰 (토큰 생성 비용이 측정에 섞이지 않도록 미리 생성)
+        writeTokens = new String[LOOKUP_KEYS];
+        for (int i = 0; i < LOOKUP_KEYS; i++) {
+            writeTokens[i] = token();
+        }
+    }
+
+    /**
+     * 스레드별 조회 위치
+     */
+    @State(Scope.Thread)
+    public static class Cursor {
+        int index;
+
+        String next(String[] tokens) {
+            return tokens[index++ & (LOOKUP_KEYS - 1)];
+        }
+    }
+
+    @Benchmark
+    @Threads(8)
+    public boolean lookup(Cursor cursor) {
+        return tokenBlacklistProvider.isBlacklisted(cursor.next(lookupTokens));
+    }
+
+    @Benchmark
+    @Group("mixed")
+    @GroupThreads(7)
+    public boolean mixedLookup(Cursor cursor) {
+        return tokenBlacklistProvider.isBlacklisted(cursor.next(lookupTokens));
+    }
+
+    @Benchmark
+    @Group("mixed")
+    @GroupThreads(1)
+    public boolean mixedAddAndRemove(Cursor cursor) {
+        String token = cursor.next(writeTokens);
+        tokenBlacklistProvider.addToBlacklist(token, EXPIRES_AT);
+        return tokenBlacklistProvider.removeFromBlacklist(token);
+    }
+
+    /**
+     * TokenBlacklistProvider 가 사용하는 메서드만 구현한 메모리 저장소를 만듭니다.
+     */
+    private static BlacklistedTokenRepository inMemoryRepository() {
+        Map<String, BlacklistedToken> rows = new ConcurrentHashMap<>();
+        return (BlacklistedTokenRepository) Proxy.newProxyInstance(
+                BlacklistedTokenRepository.class.getClassLoader(),
+                new Class<?>[]{BlacklistedTokenRepository.class},
+                (proxy, method, args) -> switch (method.getName()) {
+                    case "save" -> {
+                        BlacklistedToken row = (BlacklistedToken) args[0];
+                        rows.put(row.getTokenHash(), row);
+                        yield row;
+                    }
+                    case "findById" -> Optional.ofNullable(rows.get((String) args[0]));
+                    case "existsById" -> rows.containsKey((String) args[0]);
+                    case "deleteById" -> {
+                        rows.remove((String) args[0]);
+                        yield null;
+                    }
+                    default -> throw new UnsupportedOperationException(method.getName());
+                });
+    }
+
+    /**
+     * 실제 JWT 와 비슷한 길이(약 150자)의 토큰 문자열을 만듭니다.
+     */
+    private static String token() {
+        return "eyJhbGciOiJIUzI1NiJ9." + UUID.randomUUID() + UUID.randomUUID() + UUID.randomUUID() + "." + UUID.randomUUID();
+    }
+}
@@ -0,0 +1,71 @@
+package com.example.demo.benchmark;
+
+import com.example.demo.validator.EmailValidator;
+import com.example.demo.validator.PasswordValidator;
+import com.example.demo.validator.PhoneNumberValidator;
+import com.example.demo.validator.ValidPhoneNumber;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 회원 가입/로그인 요청 검증기 벤치마크
+ * <p>
+ * {@link EmailValidator}, {@link PasswordValidator}, {@link PhoneNumberValidator} 의 isValid 처리량을
+ * 올바른 입력과 잘못된 입력으로 나누어 측정합니다. (ConstraintValidatorContext 는 사용하지 않으므로 null 전달)
+ * <p>
+ * 실행: ./mvnw -Pbenchmark -DskipTests verify -Djmh.includes=ValidatorBenchmark
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ValidatorBenchmark {
+
+    @Param({"valid", "invalid"})
+    public String input;
+
+    private EmailValidator emailValidator;
+    private PasswordValidator passwordValidator;
+    private PhoneNumberValidator phoneNumberValidator;
+
+    private String email;
+    private String password;
+    private String phoneNumber;
+
+    @Setup
+    public void setUp() throws Exception {
+        emailValidator = new EmailValidator();
+        passwordValidator = new PasswordValidator();
+        phoneNumberValidator = new PhoneNumberValidator();
+        // 애노테이션 기본값(allowHyphen = true)으로 초기화
+        phoneNumberValidator.initialize(AnnotationHolder.class.getDeclaredField("phoneNumber").getAnnotation(ValidPhoneNumber.class));
+
+        boolean valid = "valid".equals(input);
+        email = valid ? "first.last+tag@sub.example.com" : "first.last@example";
+        password = valid ? "abcd1234efgh" : "abcdefghijklmnopqrst";
+        phoneNumber = valid ? "010-1234-5678" : "010-12345-678";
+    }
+
+    @Benchmark
+    public boolean email() {
+        return emailValidator.isValid(email, null);
+    }
+
+    @Benchmark
+    public boolean password() {
+        return passwordValidator.isValid(password, null);
+    }
+
+    @Benchmark
+    public boolean phoneNumber() {
+        return phoneNumberValidator.isValid(phoneNumber, null);
+    }
+
+    private static final class AnnotationHolder {
+        @ValidPhoneNumber
+        String phoneNumber;
+    }
+}
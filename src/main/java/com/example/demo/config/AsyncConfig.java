@@ -0,0 +1,52 @@
+package com.example.demo.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.boot.task.SimpleAsyncTaskExecutorBuilder;
+import org.springframework.boot.task.ThreadPoolTaskExecutorBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/**
+ * 비동기 작업(@Async, MVC 비동기 응답) 실행기 설정
+ * <p>
+ * {@code passwordHashExecutor} 가 Executor 빈이므로 Spring Boot 의 기본 {@code applicationTaskExecutor} 가 생성되지 않습니다.
+ * 같은 이름의 빈을 직접 등록하여 @Async 와 StreamingResponseBody 가 이 실행기를 사용하도록 합니다.
+ * <ul>
+ *     <li>{@code spring.threads.virtual.enabled=true} (virtual-threads 프로파일): 작업마다 가상 스레드 생성
+ *     ({@code spring.task.execution.simple.concurrency-limit} 로 동시 실행 수 제한)</li>
+ *     <li>그 외: {@code spring.task.execution.pool.*} 설정을 따르는 플랫폼 스레드 풀</li>
+ * </ul>
+ */
+@Configuration
+@EnableAsync
+public class AsyncConfig {
+
+    /**
+     * 가상 스레드 기반 실행기
+     *
+     * @param builder spring.task.execution.simple.* 과 가상 스레드 설정이 적용된 빌더
+     * @return 작업마다 가상 스레드를 생성하는 실행기
+     */
+    @Bean(name = {TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME, "taskExecutor"})
+    @ConditionalOnThreading(Threading.VIRTUAL)
+    public SimpleAsyncTaskExecutor virtualThreadTaskExecutor(SimpleAsyncTaskExecutorBuilder builder) {
+        return builder.build();
+    }
+
+    /**
+     * 플랫폼 스레드 풀 실행기
+     *
+     * @param builder spring.task.execution.pool.* 설정이 적용된 빌더
+     * @return 고정 크기 스레드 풀 실행기
+     */
+    @Bean(name = {TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME, "taskExecutor"})
+    @ConditionalOnThreading(Threading.PLATFORM)
+    public ThreadPoolTaskExecutor platformThreadTaskExecutor(ThreadPoolTaskExecutorBuilder builder) {
+        return builder.build();
+    }
+}
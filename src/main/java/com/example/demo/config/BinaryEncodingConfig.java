@@ -0,0 +1,33 @@
+package com.example.demo.config;
+
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+
+/**
+ * 바이너리 응답 인코딩 설정
+ * <p>
+ * Accept 헤더에 따라 JSON 대신 CBOR(application/cbor) 또는 Smile(application/x-jackson-smile)로 응답합니다.
+ * ApiResult 응답 형식은 JSON 과 동일하며, 요청 본문도 같은 Content-Type 으로 보낼 수 있습니다.
+ * <p>
+ * Spring 기본 컨버터 대신 Boot 의 {@link Jackson2ObjectMapperBuilder} 로 ObjectMapper 를 만들어
+ * 날짜 형식 등 JSON 응답과 같은 Jackson 설정이 적용되도록 합니다.
+ * 컨버터 순서상 JSON 이 먼저이므로 Accept 헤더가 없거나 {@code *}/{@code *} 이면 기존처럼 JSON 으로 응답합니다.
+ */
+@Configuration
+public class BinaryEncodingConfig {
+
+    @Bean
+    public MappingJackson2CborHttpMessageConverter cborHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2CborHttpMessageConverter(builder.factory(new CBORFactory()).build());
+    }
+
+    @Bean
+    public MappingJackson2SmileHttpMessageConverter smileHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2SmileHttpMessageConverter(builder.factory(new SmileFactory()).build());
+    }
+}
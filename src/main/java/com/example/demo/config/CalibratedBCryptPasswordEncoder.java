@@ -0,0 +1,41 @@
+package com.example.demo.config;
+
+import lombok.Getter;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 보정(calibration)된 강도를 사용하는 BCryptPasswordEncoder
+ * <p>
+ * 저장된 해시의 cost 가 현재 강도와 다르면(높거나 낮으면) {@link #upgradeEncoding(String)} 이 true 를 반환하여
+ * 로그인 성공 시 현재 강도로 다시 해싱되도록 합니다.
+ */
+@Getter
+public class CalibratedBCryptPasswordEncoder extends BCryptPasswordEncoder {
+
+    private static final Pattern BCRYPT_COST_PATTERN = Pattern.compile("^\\$2[aby]?\\$(\\d\\d)\\$");
+
+    private final int strength;
+
+    public CalibratedBCryptPasswordEncoder(int strength) {
+        super(strength);
+        this.strength = strength;
+    }
+
+    /**
+     * 저장된 해시의 cost 가 현재 강도와 다른지 확인합니다.
+     *
+     * @param encodedPassword 저장된 해시
+     * @return 다시 해싱해야 하면 true
+     */
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        if (encodedPassword == null || encodedPassword.isEmpty()) {
+            return false;
+        }
+        Matcher matcher = BCRYPT_COST_PATTERN.matcher(encodedPassword);
+        return matcher.find() && Integer.parseInt(matcher.group(1)) != strength;
+    }
+}
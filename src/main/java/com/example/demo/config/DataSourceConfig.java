@@ -0,0 +1,96 @@
+package com.example.demo.config;
+
+import com.example.demo.config.RoutingDataSource.Pool;
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * DB 커넥션 풀 분리 설정 (bulkhead)
+ * <p>
+ * 인증(JWT 회원 조회, /api/auth/**), 읽기 전용 트랜잭션, 쓰기 트랜잭션이 각각 다른 Hikari 풀을 사용합니다.
+ * 긴 목록 조회나 좋아요 쓰기가 몰려 한 풀이 고갈되어도 다른 종류의 요청은 자기 풀에서 커넥션을 얻습니다.
+ * <ul>
+ *     <li>접속 정보는 spring.datasource.*, 공통 Hikari 설정은 spring.datasource.hikari.* 를 따릅니다.</li>
+ *     <li>풀 크기와 커넥션 대기 시간은 db.pools.{auth,read,write}.* 로 풀마다 지정합니다.
+ *     대기 시간을 넘기면 SQLTransientConnectionException 이 발생하여 503 으로 응답합니다.</li>
+ *     <li>풀마다 Hikari 메트릭(hikaricp.connections.acquire, hikaricp.connections.pending,
+ *     hikaricp.connections.timeout)이 pool 태그로 구분되어 기록됩니다.</li>
+ * </ul>
+ * 풀 선택 규칙은 {@link RoutingDataSource} 를 참고하세요.
+ */
+@Configuration
+public class DataSourceConfig {
+
+    @Bean
+    public HikariDataSource authDataSource(
+            DataSourceProperties properties,
+            Environment environment,
+            @Value("${db.pools.auth.maximum-pool-size:5}") int maximumPoolSize,
+            @Value("${db.pools.auth.connection-timeout:500ms}") Duration connectionTimeout
+    ) {
+        return createPool(properties, environment, Pool.AUTH, maximumPoolSize, connectionTimeout);
+    }
+
+    @Bean
+    public HikariDataSource readDataSource(
+            DataSourceProperties properties,
+            Environment environment,
+            @Value("${db.pools.read.maximum-pool-size:10}") int maximumPoolSize,
+            @Value("${db.pools.read.connection-timeout:1s}") Duration connectionTimeout
+    ) {
+        return createPool(properties, environment, Pool.READ, maximumPoolSize, connectionTimeout);
+    }
+
+    @Bean
+    public HikariDataSource writeDataSource(
+            DataSourceProperties properties,
+            Environment environment,
+            @Value("${db.pools.write.maximum-pool-size:10}") int maximumPoolSize,
+            @Value("${db.pools.write.connection-timeout:2s}") Duration connectionTimeout
+    ) {
+        return createPool(properties, environment, Pool.WRITE, maximumPoolSize, connectionTimeout);
+    }
+
+    /**
+     * JPA, JdbcTemplate 등이 사용하는 기본 DataSource
+     * <p>
+     * 커넥션 획득을 첫 SQL 실행 시점까지 미뤄, 트랜잭션의 readOnly 여부가 정해진 뒤에 풀을 고르도록 합니다.
+     * 모든 문장에는 요청의 남은 처리 시간이 query timeout 으로 지정됩니다. ({@link DeadlineAwareDataSource})
+     */
+    @Bean
+    @Primary
+    public DataSource dataSource(HikariDataSource authDataSource, HikariDataSource readDataSource, HikariDataSource writeDataSource) {
+        RoutingDataSource routingDataSource = new RoutingDataSource();
+        routingDataSource.setTargetDataSources(Map.of(
+                Pool.AUTH, authDataSource,
+                Pool.READ, readDataSource,
+                Pool.WRITE, writeDataSource));
+        routingDataSource.setDefaultTargetDataSource(writeDataSource);
+        routingDataSource.afterPropertiesSet();
+        return new LazyConnectionDataSourceProxy(new DeadlineAwareDataSource(routingDataSource));
+    }
+
+    private HikariDataSource createPool(DataSourceProperties properties, Environment environment, Pool pool,
+                                        int maximumPoolSize, Duration connectionTimeout) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        Binder.get(environment).bind("spring.datasource.hikari", Bindable.ofInstance(dataSource));
+        dataSource.setPoolName(pool.name().toLowerCase(Locale.ROOT));
+        dataSource.setMaximumPoolSize(maximumPoolSize);
+        dataSource.setMinimumIdle(Math.min(dataSource.getMinimumIdle() < 0 ? maximumPoolSize : dataSource.getMinimumIdle(), maximumPoolSize));
+        dataSource.setConnectionTimeout(connectionTimeout.toMillis());
+        return dataSource;
+    }
+}
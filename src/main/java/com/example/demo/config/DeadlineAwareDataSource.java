@@ -0,0 +1,82 @@
+package com.example.demo.config;
+
+import com.example.demo.provider.RequestDeadline;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTimeoutException;
+import java.sql.Statement;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 요청의 남은 처리 시간을 JDBC 문장의 query timeout 으로 지정하는 DataSource
+ * <p>
+ * 커넥션에서 Statement/PreparedStatement/CallableStatement 를 만들 때마다 {@link RequestDeadline} 의 남은 시간을
+ * {@link Statement#setQueryTimeout(int)} 으로 지정합니다. JPA 레포지토리를 포함한 모든 SQL 에 적용되므로,
+ * 느린 LIKE 검색 등이 클라이언트가 포기한 뒤에도 커넥션을 계속 잡고 있지 않습니다.
+ * <ul>
+ *     <li>JDBC query timeout 은 초 단위이므로 남은 시간을 올림하여 지정합니다.</li>
+ *     <li>이미 deadline 이 지났으면 SQL 을 실행하지 않고 SQLTimeoutException 을 던집니다.</li>
+ *     <li>deadline 이 없는 스레드(스케줄러, 마이그레이션 등)의 문장에는 timeout 을 지정하지 않습니다.</li>
+ * </ul>
+ */
+public class DeadlineAwareDataSource extends DelegatingDataSource {
+
+    public DeadlineAwareDataSource(DataSource targetDataSource) {
+        super(targetDataSource);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return wrap(obtainTargetDataSource().getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return wrap(obtainTargetDataSource().getConnection(username, password));
+    }
+
+    private static Connection wrap(Connection connection) {
+        return (Connection) Proxy.newProxyInstance(
+                DeadlineAwareDataSource.class.getClassLoader(),
+                new Class<?>[]{Connection.class},
+                (proxy, method, args) -> {
+                    Object result = invoke(connection, method, args);
+                    if (result instanceof Statement statement && isStatementFactory(method)) {
+                        applyDeadline(statement);
+                    }
+                    return result;
+                });
+    }
+
+    private static boolean isStatementFactory(Method method) {
+        String name = method.getName();
+        return name.equals("createStatement") || name.equals("prepareStatement") || name.equals("prepareCall");
+    }
+
+    private static void applyDeadline(Statement statement) throws SQLException {
+        long remainingNanos = RequestDeadline.remainingNanos();
+        if (remainingNanos == Long.MAX_VALUE) {
+            return;
+        }
+        if (remainingNanos <= 0) {
+            statement.close();
+            throw new SQLTimeoutException("Request deadline exceeded before statement execution");
+        }
+        long seconds = TimeUnit.NANOSECONDS.toSeconds(remainingNanos + TimeUnit.SECONDS.toNanos(1) - 1);
+        statement.setQueryTimeout((int) Math.min(seconds, Integer.MAX_VALUE));
+    }
+
+    private static Object invoke(Connection connection, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(connection, args);
+        } catch (InvocationTargetException e) {
+            throw e.getTargetException();
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package com.example.demo.config;
+
+import com.example.demo.dto.post.PostFields;
+import com.fasterxml.jackson.databind.ser.impl.SimpleBeanPropertyFilter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleFilterProvider;
+import org.springframework.boot.autoconfigure.jackson.Jackson2ObjectMapperBuilderCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Jackson 공통 설정
+ * <p>
+ * {@link PostFields#FILTER_ID} 필터의 기본값을 "전체 직렬화"로 등록합니다.
+ * 요청별 필터가 지정되지 않은 경우(fields 파라미터 없음, 게시글 외 응답)에는 모든 필드가 직렬화됩니다.
+ * Boot 의 ObjectMapper 빌더에 적용되므로 JSON, CBOR, Smile 컨버터 모두에 반영됩니다.
+ */
+@Configuration
+public class JacksonConfig {
+
+    @Bean
+    public Jackson2ObjectMapperBuilderCustomizer postFieldsFilterCustomizer() {
+        return builder -> builder.filters(new SimpleFilterProvider()
+                .addFilter(PostFields.FILTER_ID, SimpleBeanPropertyFilter.serializeAll()));
+    }
+}
@@ -0,0 +1,121 @@
+package com.example.demo.config;
+
+import com.example.demo.entity.Member.MemberRole;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * member_roles 테이블의 역할 정보를 members.role_mask 컬럼으로 옮기는 온라인 마이그레이션
+ * <p>
+ * 웹 서버가 요청을 받기 전에 끝내야 role_mask 가 0 인 관리자가 ROLE_USER 로 해석되어 403 을 받지 않으므로
+ * 모든 싱글톤 빈이 생성된 직후(웹 서버 시작 전) 동기적으로 실행합니다.
+ * id 범위 단위로 짧은 UPDATE 를 반복하므로 테이블 전체를 오래 잠그지 않습니다.
+ * 이미 옮겨진 행(role_mask != 0)은 건드리지 않으므로 여러 인스턴스가 동시에 실행하거나 재시작해도 안전합니다.
+ * <p>
+ * 레거시 역할이 없는 회원은 옮긴 뒤에도 role_mask 가 0 이므로 role_mask 만으로는 완료 여부를 알 수 없습니다.
+ * 끝까지 실행하면 schema_migrations 테이블에 완료 기록을 남기고, 이후 기동에서는 다시 훑지 않습니다.
+ * member_roles 테이블은 롤백을 위해 삭제하지 않고 남겨 둡니다.
+ */
+@Slf4j
+@Component
+public class MemberRoleMigrationRunner implements SmartInitializingSingleton {
+
+    private static final String LEGACY_TABLE = "member_roles";
+    private static final String MIGRATION_NAME = "member_role_mask";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final boolean enabled;
+    private final int chunkSize;
+
+    public MemberRoleMigrationRunner(
+            JdbcTemplate jdbcTemplate,
+            @Value("${member.role-migration.enabled:true}") boolean enabled,
+            @Value("${member.role-migration.chunk-size:1000}") int chunkSize
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.enabled = enabled;
+        this.chunkSize = Math.max(1, chunkSize);
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        migrate();
+    }
+
+    /**
+     * 레거시 테이블이 있고 완료 기록이 없으면 id 범위별로 role_mask 를 채운 뒤 완료 기록을 남깁니다.
+     * 실패하면 잘못된 권한으로 요청을 처리하지 않도록 기동을 중단하며, 다음 기동 시 남은 행부터 이어서 진행합니다.
+     */
+    public void migrate() {
+        if (!enabled || !legacyTableExists()) {
+            return;
+        }
+
+        try {
+            jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS schema_migrations ("
+                    + "name VARCHAR(100) NOT NULL PRIMARY KEY, completed_at DATETIME(6) NOT NULL)");
+            if (isCompleted()) {
+                return;
+            }
+
+            Long minId = jdbcTemplate.queryForObject("SELECT MIN(id) FROM members WHERE role_mask = 0", Long.class);
+            Long maxId = jdbcTemplate.queryForObject("SELECT MAX(id) FROM members WHERE role_mask = 0", Long.class);
+            if (minId == null || maxId == null) {
+                markCompleted();
+                return;
+            }
+
+            String sql = "UPDATE members m SET m.role_mask = ("
+                    + "SELECT COALESCE(BIT_OR(" + roleCaseExpression() + "), 0) "
+                    + "FROM " + LEGACY_TABLE + " r WHERE r.member_id = m.id) "
+                    + "WHERE m.id >= ? AND m.id < ? AND m.role_mask = 0";
+
+            long migrated = 0;
+            for (long from = minId; from <= maxId; from += chunkSize) {
+                migrated += jdbcTemplate.update(sql, from, from + chunkSize);
+            }
+            markCompleted();
+            log.info("Migrated {} members from {} to role_mask", migrated, LEGACY_TABLE);
+        } catch (RuntimeException e) {
+            throw new IllegalStateException("Member role migration failed. It will be resumed on next startup.", e);
+        }
+    }
+
+    /**
+     * 역할 이름을 비트로 바꾸는 CASE 식을 enum 정의로부터 만듭니다.
+     */
+    private String roleCaseExpression() {
+        Map<String, Integer> bits = Arrays.stream(MemberRole.values())
+                .collect(Collectors.toMap(MemberRole::name, MemberRole::getBit));
+        StringBuilder expression = new StringBuilder("CASE r.roles");
+        bits.forEach((name, bit) -> expression.append(" WHEN '").append(name).append("' THEN ").append(bit));
+        return expression.append(" ELSE 0 END").toString();
+    }
+
+    private boolean isCompleted() {
+        Integer count = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM schema_migrations WHERE name = ?", Integer.class, MIGRATION_NAME);
+        return count != null && count > 0;
+    }
+
+    /**
+     * 다른 인스턴스가 먼저 완료 기록을 남겼을 수 있으므로 중복 키는 무시합니다.
+     */
+    private void markCompleted() {
+        jdbcTemplate.update("INSERT IGNORE INTO schema_migrations (name, completed_at) VALUES (?, NOW(6))", MIGRATION_NAME);
+    }
+
+    private boolean legacyTableExists() {
+        Integer count = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM information_schema.tables WHERE table_schema = DATABASE() AND table_name = ?",
+                Integer.class, LEGACY_TABLE);
+        return count != null && count > 0;
+    }
+}
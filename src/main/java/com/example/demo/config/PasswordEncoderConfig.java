@@ -1,14 +1,97 @@
 package com.example.demo.config;
 
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.bcrypt.BCrypt;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
+import java.time.Duration;
+import java.util.Arrays;
+
+/**
+ * 비밀번호 인코더 설정
+ * <p>
+ * {@code auth.bcrypt.strength} 가 지정되지 않으면(0) 애플리케이션 시작 시 BCrypt 강도를 측정하여,
+ * 설정된 지연 시간 예산(p99) 안에 들어오는 가장 높은 강도를 선택합니다.
+ * 배포된 인스턴스 타입과 무관하게 로그인 한 번의 비용이 예측 가능하도록 하기 위함입니다.
+ */
+@Slf4j
 @Configuration
 public class PasswordEncoderConfig {
+
+    private static final String CALIBRATION_PASSWORD = "calibration-Passw0rd";
+    private static final int WARMUP_ROUNDS = 2;
+
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(
+            @Value("${auth.bcrypt.strength:0}") int strength,
+            @Value("${auth.bcrypt.min-strength:10}") int minStrength,
+            @Value("${auth.bcrypt.max-strength:14}") int maxStrength,
+            @Value("${auth.bcrypt.latency-budget:100ms}") Duration latencyBudget,
+            @Value("${auth.bcrypt.calibration-samples:20}") int samples
+    ) {
+        if (strength > 0) {
+            log.info("BCrypt strength fixed by configuration: {}", strength);
+            return new CalibratedBCryptPasswordEncoder(strength);
+        }
+        return new CalibratedBCryptPasswordEncoder(calibrate(minStrength, maxStrength, latencyBudget, samples));
+    }
+
+    /**
+     * 최소 강도부터 차례로 측정하여 p99 지연 시간이 예산 이내인 가장 높은 강도를 반환합니다.
+     * 강도가 1 오를 때마다 비용이 두 배가 되므로, 다음 강도가 예산을 넘을 것이 확실하면 측정을 멈춥니다.
+     * 최소 강도도 예산을 넘으면 보안을 위해 최소 강도를 사용합니다.
+     *
+     * @param minStrength   허용하는 최소 강도
+     * @param maxStrength   허용하는 최대 강도
+     * @param latencyBudget 해싱 1회 지연 시간 예산 (p99 기준)
+     * @param samples       강도별 측정 횟수
+     * @return 선택된 강도
+     */
+    private int calibrate(int minStrength, int maxStrength, Duration latencyBudget, int samples) {
+        long budgetNanos = latencyBudget.toNanos();
+        int selected = minStrength;
+
+        for (int candidate = minStrength; candidate <= maxStrength; candidate++) {
+            long p99 = measureP99(candidate, samples);
+            log.info("BCrypt calibration: strength={}, p99={}ms", candidate, p99 / 1_000_000);
+
+            if (p99 > budgetNanos) {
+                break;
+            }
+            selected = candidate;
+            if (p99 * 2 > budgetNanos) {
+                break;
+            }
+        }
+
+        log.info("BCrypt strength calibrated to {} (budget {}ms)", selected, latencyBudget.toMillis());
+        return selected;
+    }
+
+    /**
+     * 주어진 강도로 해싱을 반복 실행하여 p99 지연 시간을 측정합니다.
+     *
+     * @param strength BCrypt 강도
+     * @param samples  측정 횟수
+     * @return p99 지연 시간(나노초)
+     */
+    private long measureP99(int strength, int samples) {
+        for (int i = 0; i < WARMUP_ROUNDS; i++) {
+            BCrypt.hashpw(CALIBRATION_PASSWORD, BCrypt.gensalt(strength));
+        }
+
+        long[] elapsed = new long[Math.max(1, samples)];
+        for (int i = 0; i < elapsed.length; i++) {
+            long start = System.nanoTime();
+            BCrypt.hashpw(CALIBRATION_PASSWORD, BCrypt.gensalt(strength));
+            elapsed[i] = System.nanoTime() - start;
+        }
+
+        Arrays.sort(elapsed);
+        int index = (int) Math.ceil(elapsed.length * 0.99) - 1;
+        return elapsed[Math.max(0, index)];
     }
 }
@@ -0,0 +1,49 @@
+package com.example.demo.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 비밀번호 해싱 전용 실행기 설정
+ * <p>
+ * BCrypt 해싱/검증은 CPU 를 많이 사용하므로 Tomcat 요청 스레드가 아닌 전용 스레드 풀에서 실행합니다.
+ * 스레드 수는 CPU 코어 수로 제한하고, 대기열은 고정 크기로 제한하여 로그인 폭주 시에도
+ * 게시글 조회 등 가벼운 요청이 CPU 를 확보할 수 있도록 합니다.
+ * 대기열이 가득 차면 작업은 즉시 거부되며(AbortPolicy), 호출 측에서 503 응답으로 변환합니다.
+ */
+@Configuration
+public class PasswordHashingConfig {
+
+    /**
+     * 비밀번호 해싱 전용 스레드 풀 빈 생성
+     *
+     * @param poolSize      스레드 수 (0 이하이면 사용 가능한 CPU 코어 수)
+     * @param queueCapacity 대기열 최대 크기
+     * @return 고정 크기 스레드 풀
+     */
+    @Bean(name = "passwordHashExecutor", destroyMethod = "shutdown")
+    public ThreadPoolExecutor passwordHashExecutor(
+            @Value("${auth.password-hash.pool-size:0}") int poolSize,
+            @Value("${auth.password-hash.queue-capacity:64}") int queueCapacity
+    ) {
+        int threads = poolSize > 0 ? poolSize : Runtime.getRuntime().availableProcessors();
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("password-hash-");
+        threadFactory.setDaemon(true);
+
+        return new ThreadPoolExecutor(
+                threads,
+                threads,
+                0L,
+                TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                threadFactory,
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+    }
+}
@@ -0,0 +1,19 @@
+package com.example.demo.config;
+
+import com.example.demo.provider.QueryCounter;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Hibernate 가 준비하는 모든 SQL 문장을 {@link QueryCounter} 에 기록하는 StatementInspector
+ * <p>
+ * hibernate.session_factory.statement_inspector 설정으로 등록되며, 문장은 변경하지 않고 그대로 반환합니다.
+ * JPA 를 거치지 않는 JdbcTemplate 문장은 집계되지 않습니다.
+ */
+public class QueryCountingStatementInspector implements StatementInspector {
+
+    @Override
+    public String inspect(String sql) {
+        QueryCounter.record(sql);
+        return sql;
+    }
+}
@@ -0,0 +1,36 @@
+package com.example.demo.config;
+
+import com.example.demo.filter.ResponseCompressionFilter;
+import com.example.demo.provider.ResponseCompressor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.security.SecurityProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.MediaType;
+import org.springframework.util.unit.DataSize;
+
+import java.util.List;
+
+/**
+ * 응답 압축 설정
+ * <p>
+ * {@link ResponseCompressionFilter} 를 Spring Security 필터 체인보다 먼저(바깥에서) 실행되도록 등록합니다.
+ */
+@Configuration
+public class ResponseCompressionConfig {
+
+    @Bean
+    public FilterRegistrationBean<ResponseCompressionFilter> responseCompressionFilter(
+            ResponseCompressor responseCompressor,
+            @Value("${http.compression.enabled:true}") boolean enabled,
+            @Value("${http.compression.min-response-size:2KB}") DataSize minResponseSize,
+            @Value("${http.compression.mime-types:application/json,application/*+json}") List<MediaType> mimeTypes
+    ) {
+        FilterRegistrationBean<ResponseCompressionFilter> registration = new FilterRegistrationBean<>(
+                new ResponseCompressionFilter(responseCompressor, (int) minResponseSize.toBytes(), List.copyOf(mimeTypes)));
+        registration.setEnabled(enabled);
+        registration.setOrder(SecurityProperties.DEFAULT_FILTER_ORDER - 10);
+        return registration;
+    }
+}
@@ -0,0 +1,65 @@
+package com.example.demo.config;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 요청 종류에 따라 서로 다른 커넥션 풀(bulkhead)로 연결하는 DataSource
+ * <p>
+ * 커넥션을 실제로 얻는 시점에 풀을 고릅니다.
+ * <ol>
+ *     <li>{@link #use(Pool)} 로 지정된 풀 (예: JWT 인증의 회원 조회, /api/auth/** 요청)</li>
+ *     <li>읽기 전용 트랜잭션(@Transactional(readOnly = true), Spring Data 조회 메서드)이면 READ</li>
+ *     <li>그 외(쓰기 트랜잭션, 트랜잭션 밖의 조회)는 WRITE</li>
+ * </ol>
+ * 트랜잭션 시작 시점에는 아직 readOnly 여부가 등록되지 않으므로,
+ * 반드시 LazyConnectionDataSourceProxy 로 감싸 첫 SQL 실행 시점까지 커넥션 획득을 미뤄야 합니다.
+ */
+public class RoutingDataSource extends AbstractRoutingDataSource {
+
+    private static final ThreadLocal<Pool> CURRENT_POOL = new ThreadLocal<>();
+
+    /**
+     * 커넥션 풀 종류
+     */
+    public enum Pool {
+        AUTH, READ, WRITE
+    }
+
+    /**
+     * 현재 스레드에서 얻는 커넥션의 풀을 지정합니다. try-with-resources 로 사용합니다.
+     * 이미 커넥션을 잡은 트랜잭션 안에서는 효과가 없습니다.
+     *
+     * @param pool 사용할 풀
+     * @return 블록을 벗어날 때 이전 지정을 복원하는 범위
+     */
+    public static Scope use(Pool pool) {
+        Pool previous = CURRENT_POOL.get();
+        CURRENT_POOL.set(pool);
+        return () -> {
+            if (previous == null) {
+                CURRENT_POOL.remove();
+            } else {
+                CURRENT_POOL.set(previous);
+            }
+        };
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        Pool pool = CURRENT_POOL.get();
+        if (pool != null) {
+            return pool;
+        }
+        return TransactionSynchronizationManager.isCurrentTransactionReadOnly() ? Pool.READ : Pool.WRITE;
+    }
+
+    /**
+     * 풀 지정 범위
+     */
+    @FunctionalInterface
+    public interface Scope extends AutoCloseable {
+        @Override
+        void close();
+    }
+}
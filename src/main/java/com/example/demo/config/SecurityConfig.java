@@ -1,7 +1,14 @@
 package com.example.demo.config;
 
+import com.example.demo.filter.AuthRateLimitFilter;
+import com.example.demo.filter.FeedCacheFilter;
 import com.example.demo.filter.JwtAuthenticationFilter;
+import com.example.demo.filter.LoadSheddingFilter;
+import com.example.demo.filter.QueryBudgetFilter;
+import com.example.demo.filter.RequestDeadlineFilter;
+import jakarta.servlet.DispatcherType;
 import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.autoconfigure.security.servlet.EndpointRequest;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpMethod;
@@ -28,7 +35,9 @@ import java.util.List;
  * <ul>
  *   <li>POST /api/auth/signIn : 인증 없이 로그인 요청 허용</li>
  *   <li>POST /api/auth/signUp : 인증 없이 회원가입 요청 허용</li>
+ *   <li>POST /api/auth/refresh : 인증 없이 토큰 갱신 요청 허용 (리프레시 토큰으로 검증)</li>
  *   <li>GET /api/auth/signOut : 인증 없이 로그아웃 요청 허용</li>
+ *   <li>/api/admin/** : ROLE_ADMIN 권한 필요</li>
  *   <li>그 외의 모든 요청 : 인증 필요</li>
  * </ul>
  */
@@ -38,6 +47,11 @@ import java.util.List;
 public class SecurityConfig {
 
     private final JwtAuthenticationFilter jwtAuthenticationFilter;
+    private final AuthRateLimitFilter authRateLimitFilter;
+    private final FeedCacheFilter feedCacheFilter;
+    private final LoadSheddingFilter loadSheddingFilter;
+    private final RequestDeadlineFilter requestDeadlineFilter;
+    private final QueryBudgetFilter queryBudgetFilter;
     private final AuthenticationEntryPoint authenticationEntryPoint;
     private final AccessDeniedHandler accessDeniedHandler;
 
@@ -46,7 +60,9 @@ public class SecurityConfig {
      * <p>
      * URL 적용 내역:
      * <ul>
-     *   <li>POST /api/auth/signIn, POST /api/auth/signUp, GET /api/auth/signOut : permitAll()</li>
+     *   <li>POST /api/auth/signIn, POST /api/auth/signUp, POST /api/auth/refresh, GET /api/auth/signOut : permitAll()</li>
+     *   <li>/api/admin/** : hasRole("ADMIN")</li>
+     *   <li>Actuator health, prometheus : permitAll() (외부에 공개하지 않는 management 포트에서만 제공)</li>
      *   <li>나머지 모든 요청 : 인증 필요</li>
      * </ul>
      *
@@ -67,14 +83,30 @@ public class SecurityConfig {
                 .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
                 // URL 접근 제어 설정
                 .authorizeHttpRequests(auth -> auth
+                        // 비동기 처리(StreamingResponseBody 등) 결과를 전달하는 ASYNC 디스패치는 최초 요청에서 이미 인가되었으며,
+                        // 상태 없는(JWT) 인증이라 다시 인증할 SecurityContext 가 없으므로 허용
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
                         .requestMatchers(HttpMethod.POST, "/api/auth/signIn").permitAll()
                         .requestMatchers(HttpMethod.POST, "/api/auth/signUp").permitAll()
+                        .requestMatchers(HttpMethod.POST, "/api/auth/refresh").permitAll()
                         .requestMatchers(HttpMethod.GET, "/api/auth/signOut").permitAll()
                         .requestMatchers(HttpMethod.GET, "/api/post").permitAll()
+                        .requestMatchers("/api/admin/**").hasRole("ADMIN")
+                        .requestMatchers(EndpointRequest.to("health", "prometheus")).permitAll()
                         .anyRequest().authenticated()
                 )
                 // JWT 인증 필터를 UsernamePasswordAuthenticationFilter 전에 추가
                 .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class)
+                // 요청 처리 제한 시간 설정 필터를 가장 먼저 추가 (회원 조회를 포함한 모든 SQL 에 남은 시간 적용)
+                .addFilterBefore(requestDeadlineFilter, JwtAuthenticationFilter.class)
+                // SQL 문장 수 허용치 확인 필터를 JWT 인증 필터 전에 추가 (회원 조회를 포함한 요청 전체의 문장 집계)
+                .addFilterBefore(queryBudgetFilter, JwtAuthenticationFilter.class)
+                // 인증 요청 빈도 제한 필터를 JWT 인증 필터 전에 추가 (DB 조회/비밀번호 해싱 전에 거부)
+                .addFilterBefore(authRateLimitFilter, JwtAuthenticationFilter.class)
+                // 익명 게시글 목록 캐시 필터를 JWT 인증 필터 전에 추가 (캐시 적중 시 서비스 계층 생략)
+                .addFilterBefore(feedCacheFilter, JwtAuthenticationFilter.class)
+                // 과부하 시 요청 거부 필터를 JWT 인증 필터 전에 추가 (빈도 제한/캐시 적중 요청은 자리를 차지하지 않음)
+                .addFilterBefore(loadSheddingFilter, JwtAuthenticationFilter.class)
                 // 예외 처리 설정
                 .exceptionHandling(exception -> exception
                         .authenticationEntryPoint(authenticationEntryPoint)
@@ -103,7 +135,9 @@ public class SecurityConfig {
                 "https://jangjeonghun1004.github.io"
         )); // 허용할 프론트엔드 도메인
         configuration.setAllowedMethods(List.of("GET", "POST", "PUT", "DELETE", "OPTIONS", "PATCH")); // 허용할 HTTP 메서드
-        configuration.setAllowedHeaders(List.of("Authorization", "Cache-Control", "Content-Type")); // 허용할 Header
+        configuration.setAllowedHeaders(List.of("Authorization", "Cache-Control", "Content-Type", "If-Match", "If-None-Match",
+                RequestDeadlineFilter.TIMEOUT_HEADER)); // 허용할 Header
+        configuration.setExposedHeaders(List.of("ETag")); // 조건부 요청을 위해 클라이언트에 노출할 Header
 
         UrlBasedCorsConfigurationSource source = new UrlBasedCorsConfigurationSource();
         source.registerCorsConfiguration("/**", configuration); // 모든 경로에 대해 CORS 설정 적용
@@ -0,0 +1,35 @@
+package com.example.demo.controller;
+
+import com.example.demo.dto.ApiResult;
+import com.example.demo.provider.MessageProvider;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * 관리자 전용 REST API 컨트롤러
+ *
+ * 운영 중 설정성 데이터를 다시 읽어들이는 기능을 제공합니다.
+ * 모든 요청은 ROLE_ADMIN 권한이 필요합니다. (SecurityConfig 참고)
+ */
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/admin")
+public class AdminController {
+
+    private final MessageProvider messageProvider;
+
+    /**
+     * 메시지 파일 다시 읽기 API
+     * URL: POST /api/admin/messages/reload
+     *
+     * @return 로드된 Locale 수
+     */
+    @PostMapping("/messages/reload")
+    public ResponseEntity<ApiResult<Integer>> reloadMessages() {
+        int locales = messageProvider.reload();
+        return ResponseEntity.ok(ApiResult.success(locales));
+    }
+}
@@ -4,12 +4,15 @@ import com.example.demo.dto.ApiResult;
 import com.example.demo.dto.member.MemberResponse;
 import com.example.demo.dto.sign.in.SignInRequest;
 import com.example.demo.dto.sign.in.SignInResponse;
+import com.example.demo.dto.sign.refresh.RefreshTokenRequest;
 import com.example.demo.dto.sign.up.SignUpRequest;
 import com.example.demo.dto.sign.up.SignUpResponse;
+import com.example.demo.exception.MemberAlreadyExistsException;
 import com.example.demo.provider.JwtProvider;
 import com.example.demo.provider.MessageProvider;
 import com.example.demo.provider.TokenBlacklistProvider;
 import com.example.demo.service.MemberService;
+import com.example.demo.service.RefreshTokenService;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -22,7 +25,7 @@ import java.util.Optional;
 /**
  * 인증 REST API 컨트롤러
  *
- * 회원가입, 로그인, 로그아웃 기능을 제공하며,
+ * 회원가입, 로그인, 토큰 갱신, 로그아웃 기능을 제공하며,
  * JWT 기반 인증 및 블랙리스트 처리를 수행합니다.
  */
 @RestController
@@ -33,30 +36,49 @@ public class AuthController {
     private final MemberService memberService;
     private final JwtProvider jwtProvider;
     private final TokenBlacklistProvider tokenBlacklistProvider;
+    private final RefreshTokenService refreshTokenService;
 
     /**
-     * 사용자 로그인 API (JWT 발급)
+     * 사용자 로그인 API (JWT 및 리프레시 토큰 발급)
      * URL: POST /api/auth/signIn
      *
      * @param signInRequest 이메일 및 비밀번호를 포함한 로그인 요청 데이터
-     * @return JWT 토큰 및 응답 메시지를 포함한 ApiResult
+     * @return JWT 토큰, 리프레시 토큰 및 응답 메시지를 포함한 ApiResult
      * @status 200 OK - 로그인 성공 (JWT 발급)
      * @status 401 Unauthorized - 로그인 실패 (이메일 또는 비밀번호 불일치)
      */
     @PostMapping("/signIn")
     public ResponseEntity<ApiResult<SignInResponse>> signIn(@RequestBody @Valid SignInRequest signInRequest) {
         return memberService.authenticateMember(signInRequest.getEmail(), signInRequest.getPassword())
-                .map(user -> {
-                    String token = jwtProvider.generateToken(user.getEmail());
-                    SignInResponse response = SignInResponse.builder().token(token).build();
-                    return ResponseEntity.ok(ApiResult.success(response));
-                })
+                .map(user -> ResponseEntity.ok(ApiResult.success(refreshTokenService.issueTokens(user))))
                 .orElseGet(() ->
                         ResponseEntity.status(HttpStatus.UNAUTHORIZED)
                                 .body(ApiResult.failure(MessageProvider.getMessage("user.email.password.incorrect")))
                 );
     }
 
+    /**
+     * 토큰 갱신 API (리프레시 토큰 회전)
+     * URL: POST /api/auth/refresh
+     * <p>
+     * 비밀번호 검증 없이 리프레시 토큰만으로 새 액세스 토큰과 리프레시 토큰을 발급합니다.
+     * 사용된 리프레시 토큰은 즉시 무효화되며, 재사용이 감지되면 같은 로그인에서 파생된 토큰이 모두 폐기됩니다.
+     *
+     * @param refreshTokenRequest 리프레시 토큰을 포함한 요청 데이터
+     * @return 새 JWT 토큰 및 리프레시 토큰을 포함한 ApiResult
+     * @status 200 OK - 갱신 성공
+     * @status 401 Unauthorized - 만료, 폐기 또는 재사용된 리프레시 토큰
+     */
+    @PostMapping("/refresh")
+    public ResponseEntity<ApiResult<SignInResponse>> refresh(@RequestBody @Valid RefreshTokenRequest refreshTokenRequest) {
+        return refreshTokenService.rotateTokens(refreshTokenRequest.getRefreshToken())
+                .map(response -> ResponseEntity.ok(ApiResult.success(response)))
+                .orElseGet(() ->
+                        ResponseEntity.status(HttpStatus.UNAUTHORIZED)
+                                .body(ApiResult.failure(MessageProvider.getMessage("auth.token.invalid")))
+                );
+    }
+
     /**
      * 사용자 회원가입 API
      * URL: POST /api/auth/signUp
@@ -64,18 +86,23 @@ public class AuthController {
      * @param signUpRequest 회원가입 요청 데이터 (이메일, 비밀번호 등)
      * @return 회원가입 성공 메시지 및 등록된 사용자 정보
      * @status 201 Created - 회원가입 성공
+     * @status 200 OK - 이미 존재하는 이메일 (result: false)
      * @status 400 Bad Request - 유효성 검사 실패
      */
     @PostMapping("/signUp")
     public ResponseEntity<ApiResult<SignUpResponse>> signUp(@RequestBody @Valid SignUpRequest signUpRequest) {
-        // 1. 중복 이메일 체크 (이미 존재하는 경우)
+        // 1. 중복 이메일 체크 (Bloom filter 로 확실히 없는 이메일은 DB 조회 생략)
         if (memberService.existsMemberByEmail(signUpRequest.getEmail())) {
-            return ResponseEntity.status(HttpStatus.OK)
-                    .body(ApiResult.failure("이미 존재하는 이메일입니다: " + signUpRequest.getEmail()));
+            return duplicateEmailResponse(signUpRequest.getEmail());
         }
 
-        // 2. 회원 가입
-        MemberResponse user = memberService.saveMember(signUpRequest);
+        // 2. 회원 가입 (동시 가입 등으로 유니크 제약 조건에 걸리면 중복 응답으로 변환)
+        MemberResponse user;
+        try {
+            user = memberService.saveMember(signUpRequest);
+        } catch (MemberAlreadyExistsException e) {
+            return duplicateEmailResponse(signUpRequest.getEmail());
+        }
         SignUpResponse response = SignUpResponse.builder()
                 .id(user.getId())
                 .email(user.getEmail())
@@ -86,7 +113,7 @@ public class AuthController {
     }
 
     /**
-     * 사용자 로그아웃 API (JWT 블랙리스트 처리)
+     * 사용자 로그아웃 API (JWT 블랙리스트 처리 및 리프레시 토큰 폐기)
      * URL: GET /api/auth/signOut
      *
      * @param request 클라이언트의 HTTP 요청 (Authorization 헤더에 JWT 포함)
@@ -98,13 +125,25 @@ public class AuthController {
     public ResponseEntity<ApiResult<Object>> signOut(HttpServletRequest request) {
         return extractValidToken(request)
                 .map(token -> {
-                    tokenBlacklistProvider.addToBlacklist(token);
+                    tokenBlacklistProvider.addToBlacklist(token, jwtProvider.extractExpiration(token));
+                    refreshTokenService.revokeAllTokens(jwtProvider.extractUsername(token));
                     return ResponseEntity.ok(ApiResult.success(null, MessageProvider.getMessage("auth.logout.success")));
                 })
                 .orElseGet(() -> ResponseEntity.status(HttpStatus.UNAUTHORIZED)
                         .body(ApiResult.failure(MessageProvider.getMessage("auth.token.invalid"))));
     }
 
+    /**
+     * 이미 존재하는 이메일에 대한 실패 응답을 생성하는 헬퍼 메서드
+     *
+     * @param email 중복된 이메일
+     * @return 실패 메시지를 포함한 ApiResult
+     */
+    private ResponseEntity<ApiResult<SignUpResponse>> duplicateEmailResponse(String email) {
+        return ResponseEntity.status(HttpStatus.OK)
+                .body(ApiResult.failure("이미 존재하는 이메일입니다: " + email));
+    }
+
     /**
      * 요청에서 JWT 토큰을 추출하고, 유효성을 검사하여 반환하는 헬퍼 메서드
      *
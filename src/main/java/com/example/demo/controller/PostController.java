@@ -3,6 +3,7 @@ package com.example.demo.controller;
 import com.example.demo.dto.ApiResult;
 import com.example.demo.dto.post.PostDto;
 import com.example.demo.dto.post.PostDtoWithPaging;
+import com.example.demo.dto.post.PostFields;
 import com.example.demo.dto.post.PostRequest;
 import com.example.demo.service.PostCommentService;
 import com.example.demo.service.PostService;
@@ -14,10 +15,21 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ETag;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
+import org.springframework.web.HttpMediaTypeNotAcceptableException;
+import org.springframework.web.accept.ContentNegotiationManager;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.NativeWebRequest;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
 
 /**
  * 자유 게시판 REST API 컨트롤러
@@ -30,9 +42,15 @@ public class PostController {
 
     private static final int PAGE_SIZE = 10;
     private static final Sort DEFAULT_SORT = Sort.by("createdAt").descending();
+    // 게시글 응답은 사용자별 값(좋아요 여부 등)을 포함하므로 공유 캐시에 저장하지 않고 매번 ETag 로 재검증
+    private static final CacheControl POST_CACHE_CONTROL = CacheControl.noCache().cachePrivate();
+    // 게시글 응답 형식 (메시지 컨버터 등록 순서)
+    private static final List<MediaType> POST_MEDIA_TYPES = List.of(
+            MediaType.APPLICATION_JSON, MediaType.valueOf("application/cbor"), MediaType.valueOf("application/x-jackson-smile"));
 
     private final PostService postService;
     private final PostCommentService postCommentService;
+    private final ContentNegotiationManager contentNegotiationManager;
 
     /**
      * 새로운 게시글 생성 API.
@@ -53,12 +71,15 @@ public class PostController {
      * URL: GET /api/post
      *
      * @param pageNumber 페이지 번호 (기본값: 0)
+     * @param fields     응답에 포함할 게시글 필드 (예: id,title,likeCount / 생략 시 전체)
      * @return 게시글 페이지와 HTTP 200 응답
      */
     @GetMapping
-    public ResponseEntity<ApiResult<PostDtoWithPaging>> findAllPosts(@RequestParam(defaultValue = "0") int pageNumber) {
+    public ResponseEntity<ApiResult<PostDtoWithPaging>> findAllPosts(
+            @RequestParam(defaultValue = "0") int pageNumber,
+            @RequestParam(required = false) String fields) {
         Pageable pageable = PageRequest.of(pageNumber, PAGE_SIZE, DEFAULT_SORT);
-        Page<PostDto> postsPage = postService.findAllPosts(pageable);
+        Page<PostDto> postsPage = postService.findAllPosts(pageable, PostFields.parse(fields));
         PostDtoWithPaging result = buildPostDtoWithPaging(postsPage);
         return ResponseEntity.ok(ApiResult.success(result));
     }
@@ -69,15 +90,17 @@ public class PostController {
      *
      * @param title      검색할 키워드 (빈 값은 허용되지 않음)
      * @param pageNumber 페이지 번호 (기본값: 0)
+     * @param fields     응답에 포함할 게시글 필드 (생략 시 전체)
      * @return 검색된 게시글 페이지와 HTTP 200 응답
      */
     @GetMapping("/search")
     public ResponseEntity<ApiResult<PostDtoWithPaging>> searchPosts(
             @RequestParam @NotBlank(message = "{common.validation.notBlank}") String title,
-            @RequestParam(defaultValue = "0") int pageNumber) {
+            @RequestParam(defaultValue = "0") int pageNumber,
+            @RequestParam(required = false) String fields) {
 
         Pageable pageable = PageRequest.of(pageNumber, PAGE_SIZE, DEFAULT_SORT);
-        Page<PostDto> postsPage = postService.searchPostsByTitle(title, pageable);
+        Page<PostDto> postsPage = postService.searchPostsByTitle(title, pageable, PostFields.parse(fields));
         PostDtoWithPaging result = buildPostDtoWithPaging(postsPage);
         return ResponseEntity.ok(ApiResult.success(result));
     }
@@ -85,31 +108,68 @@ public class PostController {
     /**
      * 특정 게시글 조회 API.
      * URL: GET /api/post/{id}
+     * <p>
+     * 응답에는 게시글 버전, 응답 형식, 필드 목록을 담은 ETag 를 포함합니다. ({@link PostETag})
+     * If-None-Match 가 현재 ETag 와 일치하면 버전만 조회한 뒤 본문 없이 304 를 반환합니다.
      *
-     * @param id 조회할 게시글 ID (양수여야 함)
-     * @return 게시글 정보와 HTTP 200 응답
+     * @param id          조회할 게시글 ID (양수여야 함)
+     * @param ifNoneMatch 클라이언트가 가진 ETag (선택)
+     * @param fields      응답에 포함할 게시글 필드 (생략 시 전체)
+     * @param webRequest  현재 요청 (응답 형식 협상용)
+     * @return 게시글 정보와 HTTP 200 응답 또는 HTTP 304 응답
      */
     @GetMapping("/{id}")
     public ResponseEntity<ApiResult<PostDto>> getPostById(
-            @PathVariable @Positive(message = "{common.validation.positive}") Long id) {
-        PostDto postDto = postService.getPostById(id);
-        return ResponseEntity.ok(ApiResult.success(postDto));
+            @PathVariable @Positive(message = "{common.validation.positive}") Long id,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+            @RequestParam(required = false) String fields,
+            NativeWebRequest webRequest) {
+        PostFields postFields = PostFields.parse(fields);
+        MediaType contentType = negotiate(webRequest);
+        if (ifNoneMatch != null) {
+            Optional<Long> version = postService.findPostVersion(id);
+            if (version.isPresent()) {
+                ETag current = PostETag.create(version.get(), postFields, contentType);
+                if (matchesAny(ifNoneMatch, current)) {
+                    return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                            .eTag(current.formattedTag())
+                            .cacheControl(POST_CACHE_CONTROL)
+                            .varyBy(HttpHeaders.AUTHORIZATION, HttpHeaders.ACCEPT)
+                            .build();
+                }
+            }
+        }
+
+        PostDto postDto = postService.getPostById(id, postFields);
+        return ResponseEntity.ok()
+                .eTag(PostETag.create(postDto.getVersion(), postFields, contentType).formattedTag())
+                .cacheControl(POST_CACHE_CONTROL)
+                .varyBy(HttpHeaders.AUTHORIZATION, HttpHeaders.ACCEPT)
+                .body(ApiResult.success(postDto));
     }
 
     /**
      * 게시글 수정 API.
      * URL: PUT /api/post/{id}
+     * <p>
+     * If-Match 헤더가 있으면 해당 버전일 때만 수정하며, 다른 요청이 먼저 수정한 경우 412 를 반환합니다.
      *
      * @param id          수정할 게시글 ID (양수여야 함)
+     * @param ifMatch     클라이언트가 알고 있는 ETag (선택)
      * @param postRequest 수정할 데이터 (제목, 내용)
+     * @param webRequest  현재 요청 (응답 형식 협상용)
      * @return 수정된 게시글 정보와 HTTP 200 응답
      */
     @PutMapping("/{id}")
     public ResponseEntity<ApiResult<PostDto>> updatePost(
             @PathVariable @Positive(message = "{common.validation.positive}") Long id,
-            @RequestBody @Valid PostRequest postRequest) {
-        PostDto updatedPost = postService.updatePost(id, postRequest);
-        return ResponseEntity.ok(ApiResult.success(updatedPost));
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+            @RequestBody @Valid PostRequest postRequest,
+            NativeWebRequest webRequest) {
+        PostDto updatedPost = postService.updatePost(id, postRequest, parseIfMatch(ifMatch));
+        return ResponseEntity.ok()
+                .eTag(PostETag.create(updatedPost.getVersion(), PostFields.ALL, negotiate(webRequest)).formattedTag())
+                .body(ApiResult.success(updatedPost));
     }
 
     /**
@@ -141,6 +201,62 @@ public class PostController {
         return ResponseEntity.ok(ApiResult.success(postDto));
     }
 
+    /**
+     * Accept 헤더로 협상될 응답 형식을 미리 계산하는 헬퍼 메서드. (ETag 계산용)
+     * 실제로 협상된 형식이 다르면 {@link PostFieldsResponseBodyAdvice} 가 응답의 ETag 를 다시 지정합니다.
+     *
+     * @param webRequest 현재 요청
+     * @return 응답 형식 (판단할 수 없으면 JSON)
+     */
+    private MediaType negotiate(NativeWebRequest webRequest) {
+        try {
+            for (MediaType accepted : contentNegotiationManager.resolveMediaTypes(webRequest)) {
+                for (MediaType producible : POST_MEDIA_TYPES) {
+                    if (accepted.isCompatibleWith(producible)) {
+                        return producible;
+                    }
+                }
+            }
+        } catch (HttpMediaTypeNotAcceptableException e) {
+            // 형식 협상 실패는 메시지 컨버터 단계에서 406 으로 처리됨
+        }
+        return MediaType.APPLICATION_JSON;
+    }
+
+    /**
+     * If-None-Match 헤더의 ETag 목록 중 현재 ETag 와 일치하는 것이 있는지 확인하는 헬퍼 메서드. (약한 비교)
+     *
+     * @param ifNoneMatch If-None-Match 헤더 값
+     * @param current     현재 ETag
+     * @return 일치하면 true
+     */
+    private boolean matchesAny(String ifNoneMatch, ETag current) {
+        return ETag.parse(ifNoneMatch).stream().anyMatch(etag -> etag.isWildcard() || current.compare(etag, false));
+    }
+
+    /**
+     * If-Match 헤더에서 클라이언트가 기대하는 버전을 추출하는 헬퍼 메서드.
+     * 헤더가 없거나 "*" 이면 버전 확인 없이 수정하며, 해석할 수 없는 값은 어떤 버전과도 일치하지 않는 것으로 처리합니다.
+     *
+     * @param ifMatch If-Match 헤더 값
+     * @return 기대 버전 (확인하지 않으면 null)
+     */
+    private Long parseIfMatch(String ifMatch) {
+        if (ifMatch == null) {
+            return null;
+        }
+        List<ETag> etags = ETag.parse(ifMatch);
+        if (etags.stream().anyMatch(ETag::isWildcard)) {
+            return null;
+        }
+        return etags.stream()
+                .filter(etag -> !etag.weak())
+                .map(PostETag::parseVersion)
+                .filter(Objects::nonNull)
+                .findFirst()
+                .orElse(-1L);
+    }
+
     /**
      * Page<PostDto>를 PostDtoWithPaging로 변환하는 헬퍼 메서드.
      *
@@ -0,0 +1,63 @@
+package com.example.demo.controller;
+
+import com.example.demo.dto.post.PostFields;
+import org.springframework.http.ETag;
+import org.springframework.http.MediaType;
+
+/**
+ * 게시글 응답의 강한 ETag
+ * <p>
+ * 같은 버전이라도 fields 와 응답 형식(JSON/CBOR/Smile)에 따라 본문 바이트가 다르므로,
+ * 버전, 응답 형식, 정규화된 필드 목록을 모두 ETag 에 담습니다. (예: "3-json", "3-cbor-1b")
+ * If-Match 로 수정할 때는 앞의 버전만 사용합니다.
+ */
+final class PostETag {
+
+    private static final MediaType SMILE = MediaType.valueOf("application/x-jackson-smile");
+    private static final MediaType CBOR = MediaType.valueOf("application/cbor");
+
+    private PostETag() {
+    }
+
+    /**
+     * ETag 를 만듭니다.
+     *
+     * @param version     게시글 버전
+     * @param fields      응답에 포함한 필드
+     * @param contentType 응답 형식
+     * @return 강한 ETag
+     */
+    static ETag create(long version, PostFields fields, MediaType contentType) {
+        return ETag.create(version + "-" + representation(contentType) + (fields.isAll() ? "" : "-" + fields.key()));
+    }
+
+    /**
+     * ETag 에서 게시글 버전을 추출합니다.
+     *
+     * @param etag 클라이언트가 보낸 ETag
+     * @return 게시글 버전 (해석할 수 없으면 null)
+     */
+    static Long parseVersion(ETag etag) {
+        String tag = etag.tag();
+        int end = tag.indexOf('-');
+        String version = (end < 0) ? tag : tag.substring(0, end);
+        if (version.isEmpty() || !version.chars().allMatch(Character::isDigit)) {
+            return null;
+        }
+        return Long.valueOf(version);
+    }
+
+    private static String representation(MediaType contentType) {
+        if (contentType == null || contentType.isCompatibleWith(MediaType.APPLICATION_JSON)
+                || "json".equals(contentType.getSubtypeSuffix())) {
+            return "json";
+        }
+        if (contentType.isCompatibleWith(CBOR)) {
+            return "cbor";
+        }
+        if (contentType.isCompatibleWith(SMILE)) {
+            return "smile";
+        }
+        return contentType.getSubtype();
+    }
+}
@@ -0,0 +1,55 @@
+package com.example.demo.controller;
+
+import com.example.demo.dto.ApiResult;
+import com.example.demo.dto.post.PostDto;
+import com.example.demo.dto.post.PostFields;
+import com.fasterxml.jackson.databind.ser.impl.SimpleBeanPropertyFilter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleFilterProvider;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.MappingJacksonValue;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.http.server.ServletServerHttpResponse;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.AbstractMappingJacksonResponseBodyAdvice;
+
+/**
+ * 게시글 응답의 sparse fieldset 을 적용하는 ResponseBodyAdvice
+ * <p>
+ * fields 파라미터가 있으면 PostDto 직렬화 시 요청된 필드만 포함하도록 Jackson 필터를 지정합니다.
+ * 파라미터가 없으면 기본 필터(전체 직렬화)가 사용됩니다. JSON, CBOR, Smile 모두에 적용됩니다.
+ * ETag 가 지정된 게시글 응답은 실제로 협상된 응답 형식으로 ETag 를 다시 계산합니다. ({@link PostETag})
+ */
+@ControllerAdvice(assignableTypes = PostController.class)
+public class PostFieldsResponseBodyAdvice extends AbstractMappingJacksonResponseBodyAdvice {
+
+    private static final String FIELDS_PARAMETER = "fields";
+
+    @Override
+    protected void beforeBodyWriteInternal(MappingJacksonValue bodyContainer, MediaType contentType,
+                                           MethodParameter returnType, ServerHttpRequest request, ServerHttpResponse response) {
+        if (!(request instanceof ServletServerHttpRequest servletRequest)) {
+            return;
+        }
+        HttpServletRequest httpServletRequest = servletRequest.getServletRequest();
+        PostFields fields = PostFields.parse(httpServletRequest.getParameter(FIELDS_PARAMETER));
+        if (response.getHeaders().getETag() != null
+                && response instanceof ServletServerHttpResponse servletResponse
+                && bodyContainer.getValue() instanceof ApiResult<?> apiResult
+                && apiResult.getContents() instanceof PostDto postDto) {
+            // GET 은 조건부 요청 확인 단계에서 이미 서블릿 응답에 ETag 가 기록되므로, 헤더 맵 대신 서블릿 응답에 한 번만 지정
+            response.getHeaders().remove(HttpHeaders.ETAG);
+            servletResponse.getServletResponse().setHeader(HttpHeaders.ETAG,
+                    PostETag.create(postDto.getVersion(), fields, contentType).formattedTag());
+        }
+        if (fields.isAll()) {
+            return;
+        }
+        bodyContainer.setFilters(new SimpleFilterProvider()
+                .addFilter(PostFields.FILTER_ID, SimpleBeanPropertyFilter.filterOutAllExcept(fields.names())));
+    }
+}
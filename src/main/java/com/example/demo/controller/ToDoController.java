@@ -1,19 +1,31 @@
 package com.example.demo.controller;
 
 import com.example.demo.dto.ApiResult;
+import com.example.demo.dto.todo.BulkUpdateToDoCompletedRequest;
+import com.example.demo.dto.todo.ToDoChanges;
 import com.example.demo.dto.todo.ToDoCreateRequest;
 import com.example.demo.dto.todo.ToDoDto;
+import com.example.demo.dto.todo.ToDoDtoWithCursor;
 import com.example.demo.dto.todo.UpdateToDoCompletedRequest;
 import com.example.demo.dto.todo.UpdateToDoTitleRequest;
+import com.example.demo.provider.MessageProvider;
 import com.example.demo.service.ToDoService;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.PositiveOrZero;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
-import java.util.List;
+import java.io.IOException;
+import java.io.UncheckedIOException;
 
 /**
  * 할 일(ToDo) REST API 컨트롤러
@@ -27,20 +39,93 @@ import java.util.List;
 @RequestMapping("/api/todo")
 public class ToDoController {
 
+    /**
+     * 스트리밍 응답에서 몇 건마다 클라이언트로 flush 할지
+     */
+    private static final int STREAM_FLUSH_INTERVAL = 100;
+
     private final ToDoService toDoService;
+    private final ObjectMapper objectMapper;
 
     /**
-     * 할 일 목록 조회 API
-     * URL: GET /api/todo
+     * 할 일 목록 조회 API (커서 기반 페이지)
+     * URL: GET /api/todo?cursor=&size=&completed=
      *
-     * @return 할 일 리스트 응답
+     * @param cursor    이전 응답의 nextCursor (생략 시 처음부터)
+     * @param size      페이지 크기 (1 ~ 100, 기본값 20)
+     * @param completed 완료 여부 필터 (생략 시 전체)
+     * @return 할 일 목록과 다음 커서
      */
     @GetMapping
-    public ResponseEntity<ApiResult<List<ToDoDto>>> findAllTodos() {
-        List<ToDoDto> toDoList = toDoService.findAllTodos();
+    public ResponseEntity<ApiResult<ToDoDtoWithCursor>> findTodos(
+            @RequestParam(required = false) @PositiveOrZero(message = "cursor: {common.validation.range}") Long cursor,
+            @RequestParam(defaultValue = "20")
+            @Min(value = 1, message = "size: {common.validation.range}")
+            @Max(value = 100, message = "size: {common.validation.range}") int size,
+            @RequestParam(required = false) Boolean completed
+    ) {
+        ToDoDtoWithCursor toDoList = toDoService.findTodos(cursor, size, completed);
         return ResponseEntity.ok(ApiResult.success(toDoList));
     }
 
+    /**
+     * 할 일 전체 목록 스트리밍 API
+     * URL: GET /api/todo/stream?completed=
+     * <p>
+     * ApiResult 와 같은 형태로 응답하되, contents 배열의 원소를 DB 커서에서 읽는 즉시 기록합니다.
+     * 전송 도중 오류가 발생하면 상태 코드를 바꿀 수 없으므로 연결이 끊기고 JSON 이 완결되지 않습니다.
+     *
+     * @param completed 완료 여부 필터 (생략 시 전체)
+     * @return 스트리밍 응답 본문
+     */
+    @GetMapping(value = "/stream", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamTodos(@RequestParam(required = false) Boolean completed) {
+        String message = MessageProvider.getMessage("common.success"); // 요청 스레드의 Locale 로 미리 조회
+
+        StreamingResponseBody body = outputStream -> {
+            try (JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream)) {
+                generator.writeStartObject();
+                generator.writeBooleanField("result", true);
+                generator.writeStringField("message", message);
+                generator.writeArrayFieldStart("contents");
+
+                int[] written = {0};
+                toDoService.streamTodos(completed, todo -> {
+                    try {
+                        generator.writeObject(todo);
+                        if (++written[0] % STREAM_FLUSH_INTERVAL == 0) {
+                            generator.flush();
+                        }
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+
+                generator.writeEndArray();
+                generator.writeEndObject();
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            }
+        };
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(body);
+    }
+
+    /**
+     * 할 일 변경분 동기화 API
+     * URL: GET /api/todo/changes?since=
+     * <p>
+     * since 이후에 생성, 수정, 삭제된 할 일만 반환합니다. 최초 동기화는 since 를 생략합니다.
+     * hasMore 가 true 이면 nextToken 으로 바로 다시 요청하고, resetRequired 가 true 이면 로컬 데이터를 비우고 since 없이 요청합니다.
+     *
+     * @param since 이전 응답의 nextToken
+     * @return 변경분과 다음 토큰
+     */
+    @GetMapping("/changes")
+    public ResponseEntity<ApiResult<ToDoChanges>> findChanges(@RequestParam(required = false) String since) {
+        ToDoChanges changes = toDoService.findChanges(since);
+        return ResponseEntity.ok(ApiResult.success(changes));
+    }
+
     /**
      * 새로운 할 일 저장 API
      * URL: POST /api/todo
@@ -80,6 +165,34 @@ public class ToDoController {
         return ResponseEntity.ok(ApiResult.success(updatedToDo));
     }
 
+    /**
+     * 할 일 완료 상태 일괄 변경 API
+     * URL: PATCH /api/todo/completed
+     * <p>
+     * ids 를 생략하면 완료 상태가 다른 모든 할 일을 변경합니다.
+     *
+     * @param request 일괄 변경 요청 데이터 (ids, completed)
+     * @return 변경된 할 일 수
+     */
+    @PatchMapping("/completed")
+    public ResponseEntity<ApiResult<Long>> updateTodosCompleted(@RequestBody @Valid BulkUpdateToDoCompletedRequest request) {
+        long affected = toDoService.updateTodosCompleted(request.getIds(), request.getCompleted());
+        return ResponseEntity.ok(ApiResult.success(affected));
+    }
+
+    /**
+     * 완료 상태별 할 일 일괄 삭제 API
+     * URL: DELETE /api/todo?completed=true
+     *
+     * @param completed 삭제할 할 일의 완료 상태
+     * @return 삭제된 할 일 수
+     */
+    @DeleteMapping
+    public ResponseEntity<ApiResult<Long>> deleteTodosByCompleted(@RequestParam boolean completed) {
+        long affected = toDoService.deleteTodosByCompleted(completed);
+        return ResponseEntity.ok(ApiResult.success(affected));
+    }
+
     /**
      * 할 일 삭제 API
      * URL: DELETE /api/todo/deleteTodo/{id}
@@ -1,5 +1,6 @@
 package com.example.demo.dto.post;
 
+import com.fasterxml.jackson.annotation.JsonFilter;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.Setter;
@@ -10,7 +11,9 @@ import java.util.List;
 /**
  * 게시글 응답 DTO.
  * 클라이언트에게 전달할 게시글 정보를 담습니다.
+ * fields 파라미터로 요청된 필드만 직렬화되도록 {@link PostFields#FILTER_ID} 필터를 적용합니다.
  */
+@JsonFilter(PostFields.FILTER_ID)
 @Getter
 @Setter
 @Builder
@@ -24,4 +27,5 @@ public class PostDto {
     private Boolean isEnabledDelete;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
+    private Long version;        // 게시글 버전 (ETag / If-Match 값)
 }
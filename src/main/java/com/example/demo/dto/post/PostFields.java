@@ -0,0 +1,128 @@
+package com.example.demo.dto.post;
+
+import com.example.demo.exception.InvalidParameterException;
+import com.example.demo.provider.MessageProvider;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 게시글 응답에 포함할 필드 목록 (sparse fieldset)
+ * <p>
+ * {@code fields=id,title,likeCount} 처럼 요청된 필드만 직렬화하고,
+ * 요청되지 않은 본문/댓글/좋아요 여부는 조회 자체를 생략하는 데 사용합니다.
+ * 파라미터가 없으면 {@link #ALL} 로 모든 필드를 포함합니다.
+ */
+public final class PostFields {
+
+    /**
+     * PostDto 에 적용되는 Jackson 필터 ID
+     */
+    public static final String FILTER_ID = "postFields";
+
+    /**
+     * 게시글 응답 필드 (JSON 속성명)
+     */
+    public enum Field {
+        ID("id"),
+        TITLE("title"),
+        CONTENT("content"),
+        LIKE_COUNT("likeCount"),
+        LIKED_BY_USER("likedByUser"),
+        POST_COMMENTS("postComments"),
+        IS_ENABLED_DELETE("isEnabledDelete"),
+        CREATED_AT("createdAt"),
+        UPDATED_AT("updatedAt"),
+        VERSION("version");
+
+        private static final Map<String, Field> BY_NAME = Arrays.stream(values())
+                .collect(Collectors.toUnmodifiableMap(field -> field.jsonName, Function.identity()));
+
+        private final String jsonName;
+
+        Field(String jsonName) {
+            this.jsonName = jsonName;
+        }
+    }
+
+    public static final PostFields ALL = new PostFields(EnumSet.allOf(Field.class));
+
+    private final Set<Field> fields;
+    private final Set<String> names;
+    private final String key;
+
+    private PostFields(EnumSet<Field> fields) {
+        this.fields = Collections.unmodifiableSet(fields);
+        this.names = fields.stream().map(field -> field.jsonName).collect(Collectors.toUnmodifiableSet());
+        this.key = Integer.toHexString(fields.stream().mapToInt(field -> 1 << field.ordinal()).sum());
+    }
+
+    /**
+     * fields 파라미터를 해석합니다.
+     *
+     * @param fields 쉼표로 구분된 필드 목록 (null 또는 빈 값이면 전체)
+     * @return 요청된 필드 목록
+     * @throws InvalidParameterException 알 수 없는 필드가 포함된 경우
+     */
+    public static PostFields parse(String fields) {
+        if (fields == null || fields.isBlank()) {
+            return ALL;
+        }
+
+        EnumSet<Field> requested = EnumSet.noneOf(Field.class);
+        for (String name : fields.split(",")) {
+            String trimmed = name.trim();
+            if (trimmed.isEmpty()) {
+                continue;
+            }
+            Field field = Field.BY_NAME.get(trimmed);
+            if (field == null) {
+                throw new InvalidParameterException(MessageProvider.getMessage("common.invalid.parameter") + " fields: " + trimmed);
+            }
+            requested.add(field);
+        }
+        return requested.isEmpty() || requested.size() == Field.values().length ? ALL : new PostFields(requested);
+    }
+
+    /**
+     * 필드가 포함되어 있는지 확인합니다.
+     *
+     * @param field 확인할 필드
+     * @return 포함되어 있으면 true
+     */
+    public boolean contains(Field field) {
+        return fields.contains(field);
+    }
+
+    /**
+     * 모든 필드를 포함하는지 확인합니다.
+     *
+     * @return 전체 필드이면 true
+     */
+    public boolean isAll() {
+        return this == ALL;
+    }
+
+    /**
+     * 요청 순서나 중복과 관계없이 같은 필드 목록이면 같은 값을 반환합니다. (ETag 등에 사용, 필드 순서 기준 16진수 비트 마스크)
+     *
+     * @return 정규화된 필드 목록 키
+     */
+    public String key() {
+        return key;
+    }
+
+    /**
+     * 포함된 필드의 JSON 속성명 목록을 반환합니다.
+     *
+     * @return JSON 속성명 목록
+     */
+    public Set<String> names() {
+        return names;
+    }
+}
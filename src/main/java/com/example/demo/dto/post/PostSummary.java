@@ -0,0 +1,28 @@
+package com.example.demo.dto.post;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 게시글 목록 조회용 프로젝션 (본문 LOB 제외)
+ * <p>
+ * 응답에 content 가 요청되지 않았을 때 JPQL 생성자 표현식으로 조회하여 본문 컬럼을 읽지 않습니다.
+ *
+ * @param id        게시글 ID
+ * @param title     게시글 제목
+ * @param likeCount 좋아요 수
+ * @param memberId  작성자 ID
+ * @param createdAt 생성일
+ * @param updatedAt 수정일
+ * @param version   게시글 버전
+ */
+public record PostSummary(
+        Long id,
+        String title,
+        AtomicInteger likeCount,
+        Long memberId,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt,
+        Long version
+) {
+}
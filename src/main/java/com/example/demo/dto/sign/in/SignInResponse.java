@@ -9,4 +9,5 @@ import lombok.Setter;
 @Builder
 public class SignInResponse {
     public String token;
+    private String refreshToken;
 }
@@ -0,0 +1,16 @@
+package com.example.demo.dto.sign.refresh;
+
+import jakarta.validation.constraints.NotBlank;
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * 토큰 갱신 요청 DTO
+ */
+@Getter
+@Setter
+public class RefreshTokenRequest {
+
+    @NotBlank(message = "refreshToken: {common.validation.notBlank}")
+    private String refreshToken;
+}
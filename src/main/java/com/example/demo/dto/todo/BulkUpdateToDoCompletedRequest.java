@@ -0,0 +1,24 @@
+package com.example.demo.dto.todo;
+
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.List;
+
+/**
+ * 할 일 완료 상태 일괄 변경 요청 DTO
+ * <p>
+ * ids 를 생략하면 완료 상태가 다른 모든 할 일을 변경합니다. (예: 전체 완료 처리)
+ */
+@Getter
+@Setter
+public class BulkUpdateToDoCompletedRequest {
+
+    @Size(min = 1, max = 10000, message = "ids: {common.validation.range}")
+    private List<@NotNull(message = "ids: {common.validation.notNull}") Long> ids;
+
+    @NotNull(message = "completed: {common.validation.notNull}")
+    private Boolean completed;
+}
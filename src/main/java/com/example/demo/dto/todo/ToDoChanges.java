@@ -0,0 +1,29 @@
+package com.example.demo.dto.todo;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.List;
+
+/**
+ * 할 일 변경분 동기화 응답 DTO
+ * <p>
+ * 클라이언트는 changed 를 ID 기준으로 덮어쓰고(upsert) deleted 를 제거한 뒤,
+ * nextToken 을 다음 요청의 since 로 사용합니다. 같은 항목이 다시 전달될 수 있으므로 적용은 멱등해야 합니다.
+ */
+@Getter
+@Setter
+@Builder
+public class ToDoChanges {
+    /** 생성 또는 수정된 할 일 */
+    List<ToDoDto> changed;
+    /** 삭제된 할 일 ID */
+    List<Long> deleted;
+    /** 다음 요청에 사용할 토큰 */
+    String nextToken;
+    /** 바로 다시 요청하면 이어서 받을 변경분이 있으면 true (safety-window 안의 변경만 남았으면 false) */
+    boolean hasMore;
+    /** 토큰이 삭제 기록 보존 기간보다 오래되어 전체 재동기화가 필요하면 true (로컬 데이터를 비우고 since 없이 요청) */
+    boolean resetRequired;
+}
@@ -1,5 +1,6 @@
 package com.example.demo.dto.todo;
 
+import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.Setter;
@@ -7,6 +8,7 @@ import lombok.Setter;
 @Getter
 @Setter
 @Builder
+@AllArgsConstructor // JPQL 생성자 표현식(select new ...)에서 사용
 public class ToDoDto {
     private Long id;
     private String title;
@@ -0,0 +1,22 @@
+package com.example.demo.dto.todo;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.List;
+
+/**
+ * 커서(keyset) 기반 할 일 목록 응답 DTO
+ * <p>
+ * 다음 페이지는 {@code nextCursor} 를 {@code cursor} 파라미터로 전달하여 조회합니다.
+ */
+@Getter
+@Setter
+@Builder
+public class ToDoDtoWithCursor {
+    List<ToDoDto> todos;
+    Long nextCursor;
+    boolean hasNext;
+    int size;
+}
@@ -0,0 +1,90 @@
+package com.example.demo.dto.todo;
+
+import com.example.demo.exception.InvalidParameterException;
+import com.example.demo.provider.MessageProvider;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.Base64;
+
+/**
+ * 변경분 동기화 토큰
+ * <p>
+ * 변경된 할 일과 삭제 기록 각각에 대해 마지막으로 전달한 위치 (시각, ID) 를 담습니다.
+ * 같은 시각에 변경된 행이 많아도(일괄 변경) 페이지 경계에서 누락되지 않도록 ID 를 함께 사용합니다.
+ * 클라이언트에는 불투명한 Base64URL 문자열로 전달됩니다.
+ *
+ * @param changedAt 마지막으로 전달한 변경 시각
+ * @param changedId 마지막으로 전달한 변경 할 일 ID
+ * @param deletedAt 마지막으로 전달한 삭제 시각
+ * @param deletedId 마지막으로 전달한 삭제 할 일 ID
+ */
+public record ToDoSyncToken(LocalDateTime changedAt, long changedId, LocalDateTime deletedAt, long deletedId) {
+
+    private static final String VERSION = "1";
+    private static final LocalDateTime EPOCH = LocalDateTime.of(1970, 1, 1, 0, 0);
+
+    /**
+     * 최초 동기화용 토큰. 모든 할 일을 변경분으로 전달하고, 삭제 기록은 주어진 시각 이후부터 전달합니다.
+     *
+     * @param deletedAfter 삭제 기록 시작 시각
+     * @return 최초 토큰
+     */
+    public static ToDoSyncToken initial(LocalDateTime deletedAfter) {
+        return new ToDoSyncToken(EPOCH, 0L, deletedAfter, Long.MAX_VALUE);
+    }
+
+    /**
+     * 토큰을 문자열로 인코딩합니다.
+     *
+     * @return Base64URL 문자열
+     */
+    public String encode() {
+        String raw = String.join(".", VERSION,
+                Long.toString(toMicros(changedAt)), Long.toString(changedId),
+                Long.toString(toMicros(deletedAt)), Long.toString(deletedId));
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.US_ASCII));
+    }
+
+    /**
+     * 문자열 토큰을 해석합니다.
+     *
+     * @param token 클라이언트가 전달한 토큰
+     * @return 해석된 토큰
+     * @throws InvalidParameterException 형식이 올바르지 않은 경우
+     */
+    public static ToDoSyncToken decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.US_ASCII);
+            String[] parts = raw.split("\\.");
+            if (parts.length != 5 || !VERSION.equals(parts[0])) {
+                throw new IllegalArgumentException(raw);
+            }
+            return new ToDoSyncToken(
+                    fromMicros(Long.parseLong(parts[1])), Long.parseLong(parts[2]),
+                    fromMicros(Long.parseLong(parts[3])), Long.parseLong(parts[4]));
+        } catch (IllegalArgumentException e) {
+            throw new InvalidParameterException(MessageProvider.getMessage("common.invalid.parameter") + " since: " + token);
+        }
+    }
+
+    /**
+     * DB(datetime(6)) 정밀도에 맞게 마이크로초 단위로 자릅니다.
+     *
+     * @param time 시각
+     * @return 마이크로초 단위로 자른 시각
+     */
+    public static LocalDateTime truncate(LocalDateTime time) {
+        return time.truncatedTo(ChronoUnit.MICROS);
+    }
+
+    private static long toMicros(LocalDateTime time) {
+        return ChronoUnit.MICROS.between(EPOCH, time);
+    }
+
+    private static LocalDateTime fromMicros(long micros) {
+        return EPOCH.plus(micros, ChronoUnit.MICROS);
+    }
+}
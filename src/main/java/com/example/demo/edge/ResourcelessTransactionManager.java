@@ -0,0 +1,31 @@
+package com.example.demo.edge;
+
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.AbstractPlatformTransactionManager;
+import org.springframework.transaction.support.DefaultTransactionStatus;
+
+/**
+ * 아무 자원도 묶지 않는 트랜잭션 관리자
+ * <p>
+ * 내장 할 일 저장소는 메서드 하나가 하나의 원자적 변경이므로 커밋/롤백할 것이 없습니다.
+ * ToDoServiceImpl 의 트랜잭션 경계(@Transactional, TransactionTemplate)를 그대로 두고 실행만 통과시킵니다.
+ */
+class ResourcelessTransactionManager extends AbstractPlatformTransactionManager {
+
+    @Override
+    protected Object doGetTransaction() {
+        return new Object();
+    }
+
+    @Override
+    protected void doBegin(Object transaction, TransactionDefinition definition) {
+    }
+
+    @Override
+    protected void doCommit(DefaultTransactionStatus status) {
+    }
+
+    @Override
+    protected void doRollback(DefaultTransactionStatus status) {
+    }
+}
@@ -0,0 +1,69 @@
+package com.example.demo.edge;
+
+import com.example.demo.config.InternationalizationConfig;
+import com.example.demo.config.JacksonConfig;
+import com.example.demo.config.SchedulingConfig;
+import com.example.demo.controller.ToDoController;
+import com.example.demo.exception.GlobalExceptionHandler;
+import com.example.demo.exception.MemberAccessDeniedHandler;
+import com.example.demo.exception.MemberAuthenticationEntryPoint;
+import com.example.demo.provider.JwtProvider;
+import com.example.demo.provider.MessageProvider;
+import com.example.demo.repository.embedded.EmbeddedToDoRepository;
+import com.example.demo.service.ToDoServiceImpl;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.autoconfigure.data.jpa.JpaRepositoriesAutoConfiguration;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceAutoConfiguration;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceTransactionManagerAutoConfiguration;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernateJpaAutoConfiguration;
+import org.springframework.boot.autoconfigure.security.servlet.UserDetailsServiceAutoConfiguration;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.ComponentScan;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.PlatformTransactionManager;
+
+/**
+ * 할 일 API 만 제공하는 애플리케이션 (DB 없는 엣지 배포용, Maven todo-edge 프로파일)
+ * <p>
+ * {@code todo-embedded} 프로파일로 실행하여 할 일을 내장 저장소(메모리 + WAL)에 저장하며,
+ * DataSource/JPA 자동 설정과 회원/게시글/인증 모듈을 등록하지 않으므로 MySQL 없이 기동합니다.
+ * <ul>
+ *     <li>인증은 {@link JwtProvider} 의 서명/만료 검증만 수행합니다. 회원 조회와 로그아웃 토큰 확인은 DB 가 필요하므로
+ *     하지 않으며, 로그아웃한 토큰도 만료(jwt.expirationMillis)까지는 허용됩니다.</li>
+ *     <li>내장 저장소는 트랜잭션을 지원하지 않으므로 {@link ResourcelessTransactionManager} 로 트랜잭션 경계만 통과시킵니다.</li>
+ *     <li>이 패키지는 DemoApplication 의 컴포넌트 스캔에서 제외됩니다.</li>
+ * </ul>
+ * 실행: ./mvnw -Ptodo-edge spring-boot:run
+ */
+@SpringBootConfiguration
+@EnableAutoConfiguration(exclude = {
+        DataSourceAutoConfiguration.class,
+        DataSourceTransactionManagerAutoConfiguration.class,
+        HibernateJpaAutoConfiguration.class,
+        JpaRepositoriesAutoConfiguration.class,
+        UserDetailsServiceAutoConfiguration.class
+})
+@ComponentScan
+@Import({
+        ToDoController.class, ToDoServiceImpl.class, EmbeddedToDoRepository.class,
+        JwtProvider.class, MessageProvider.class, GlobalExceptionHandler.class,
+        MemberAuthenticationEntryPoint.class, MemberAccessDeniedHandler.class,
+        JacksonConfig.class, InternationalizationConfig.class, SchedulingConfig.class
+})
+public class TodoEdgeApplication {
+
+    public static final String PROFILE = "todo-embedded";
+
+    public static void main(String[] args) {
+        new SpringApplicationBuilder(TodoEdgeApplication.class)
+                .profiles(PROFILE)
+                .run(args);
+    }
+
+    @Bean
+    public PlatformTransactionManager transactionManager() {
+        return new ResourcelessTransactionManager();
+    }
+}
@@ -0,0 +1,87 @@
+package com.example.demo.edge;
+
+import com.example.demo.provider.JwtProvider;
+import jakarta.servlet.DispatcherType;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.autoconfigure.security.servlet.EndpointRequest;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.config.annotation.web.builders.HttpSecurity;
+import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
+import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
+import org.springframework.security.config.http.SessionCreationPolicy;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.web.AuthenticationEntryPoint;
+import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.access.AccessDeniedHandler;
+import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * 할 일 엣지 애플리케이션 보안 설정
+ * <p>
+ * 서블릿 API 에서 발급한 JWT 를 서명/만료만 검증하여 인증합니다. (회원 DB 없음)
+ * <ul>
+ *   <li>Actuator health, prometheus : permitAll() (외부에 공개하지 않는 management 포트에서만 제공)</li>
+ *   <li>나머지 모든 요청 : 인증 필요</li>
+ * </ul>
+ */
+@Configuration
+@EnableWebSecurity
+@RequiredArgsConstructor
+public class TodoEdgeSecurityConfig {
+
+    private final JwtProvider jwtProvider;
+    private final AuthenticationEntryPoint authenticationEntryPoint;
+    private final AccessDeniedHandler accessDeniedHandler;
+
+    @Bean
+    public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
+        http
+                .httpBasic(AbstractHttpConfigurer::disable)
+                .csrf(AbstractHttpConfigurer::disable)
+                .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
+                .authorizeHttpRequests(auth -> auth
+                        // 스트리밍 응답의 ASYNC 디스패치는 최초 요청에서 이미 인가됨 (SecurityConfig 와 동일)
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
+                        .requestMatchers(EndpointRequest.to("health", "prometheus")).permitAll()
+                        .anyRequest().authenticated()
+                )
+                // 빈으로 등록하면 서블릿 필터로도 자동 등록되므로 보안 필터 체인에만 추가
+                .addFilterBefore(new JwtSignatureFilter(jwtProvider), UsernamePasswordAuthenticationFilter.class)
+                .exceptionHandling(exception -> exception
+                        .authenticationEntryPoint(authenticationEntryPoint)
+                        .accessDeniedHandler(accessDeniedHandler)
+                );
+        return http.build();
+    }
+
+    /**
+     * Bearer 토큰의 서명/만료가 유효하면 subject(이메일)를 주체로 인증합니다.
+     * 유효하지 않으면 인증하지 않고 넘겨 인증 진입점에서 401 로 응답합니다.
+     */
+    @RequiredArgsConstructor
+    static class JwtSignatureFilter extends OncePerRequestFilter {
+
+        private final JwtProvider jwtProvider;
+
+        @Override
+        protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+                throws ServletException, IOException {
+            jwtProvider.extractToken(request)
+                    .filter(jwtProvider::validateToken)
+                    .map(jwtProvider::extractUsername)
+                    .ifPresent(email -> SecurityContextHolder.getContext().setAuthentication(
+                            new UsernamePasswordAuthenticationToken(email, null, List.of())));
+            filterChain.doFilter(request, response);
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package com.example.demo.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import lombok.experimental.FieldDefaults;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+
+/**
+ * 로그아웃된 액세스 토큰 (블랙리스트)
+ * <p>
+ * 서블릿 API 와 WebFlux 읽기 API 프로세스가 같은 테이블을 조회하므로, 한 프로세스에서 로그아웃한 토큰은
+ * 다른 프로세스(인스턴스)에서도 거부됩니다. 토큰 원문은 저장하지 않고 SHA-256 해시만 저장하며,
+ * 만료된 토큰은 서명 검증에서 거부되므로 만료 시각이 지난 기록은 주기적으로 삭제됩니다.
+ */
+@Entity
+@Table(name = "token_blacklist", indexes = {
+        @Index(name = "idx_token_blacklist_expires_at", columnList = "expires_at")
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED) // 직접 객체 생성 방지
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@FieldDefaults(level = AccessLevel.PRIVATE)
+@EqualsAndHashCode(of = "tokenHash")
+public class BlacklistedToken {
+
+    /** 토큰 원문의 SHA-256 해시 (hex) */
+    @Id
+    @Column(name = "token_hash", length = 64)
+    String tokenHash;
+
+    /** 토큰 만료 시각 */
+    @Column(name = "expires_at", nullable = false, updatable = false)
+    LocalDateTime expiresAt;
+
+    /**
+     * 토큰 원문으로 블랙리스트 기록을 만듭니다.
+     *
+     * @param token     액세스 토큰 원문
+     * @param expiresAt 토큰 만료 시각
+     * @return 블랙리스트 기록
+     */
+    public static BlacklistedToken of(String token, LocalDateTime expiresAt) {
+        return new BlacklistedToken(hashOf(token), expiresAt);
+    }
+
+    /**
+     * 토큰 원문의 SHA-256 해시(hex)를 계산합니다. 모든 프로세스가 같은 방식으로 조회해야 하므로 이 메서드만 사용합니다.
+     *
+     * @param token 액세스 토큰 원문
+     * @return 해시 (64자 hex)
+     */
+    public static String hashOf(String token) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+}
@@ -1,8 +1,10 @@
 package com.example.demo.entity;
 
+import com.example.demo.entity.converter.MemberRoleSetConverter;
 import jakarta.persistence.*;
 import lombok.*;
 import lombok.experimental.FieldDefaults;
+import org.hibernate.annotations.ColumnDefault;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
 import org.springframework.security.core.GrantedAuthority;
@@ -10,8 +12,11 @@ import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.EnumSet;
+import java.util.List;
 import java.util.Set;
 
 /**
@@ -68,15 +73,13 @@ public class Member implements UserDetails {
 
     /**
      * 사용자 권한 정보
+     * <p>
+     * 별도 테이블(member_roles) 조인 없이 members.role_mask 비트마스크 컬럼 하나로 저장합니다.
+     * 기존 member_roles 데이터는 {@code MemberRoleMigrationRunner} 가 온라인으로 옮깁니다.
      */
-    @ElementCollection(fetch = FetchType.EAGER)
-    @CollectionTable(
-            name = "member_roles",
-            joinColumns = @JoinColumn(name = "member_id"),
-            foreignKey = @ForeignKey(ConstraintMode.NO_CONSTRAINT)
-    )
-    @Column(nullable = false) // 권한 정보가 null 이 되지 않도록 보장
-    @Enumerated(EnumType.STRING)
+    @Convert(converter = MemberRoleSetConverter.class)
+    @ColumnDefault("0")
+    @Column(name = "role_mask", nullable = false)
     Set<MemberRole> roles;
 
     /**
@@ -105,19 +108,85 @@ public class Member implements UserDetails {
 
     /**
      * 사용자 역할(권한) 정의
+     * <p>
+     * 각 역할은 고정된 비트를 가지며, 저장된 값과 호환되도록 기존 비트는 절대 변경하지 않습니다.
+     * 가능한 모든 비트마스크 조합에 대한 역할 집합과 권한 목록을 미리 만들어 공유합니다.
      */
+    @Getter
     public enum MemberRole {
-        ROLE_USER, ROLE_ADMIN
+        ROLE_USER(1), ROLE_ADMIN(1 << 1);
+
+        private final int bit;
+
+        MemberRole(int bit) {
+            this.bit = bit;
+        }
+
+        private static final int MASK_LIMIT = 1 << values().length;
+        private static final List<Set<MemberRole>> ROLE_SETS;
+        private static final List<List<GrantedAuthority>> AUTHORITIES;
+
+        static {
+            List<Set<MemberRole>> roleSets = new ArrayList<>(MASK_LIMIT);
+            List<List<GrantedAuthority>> authorities = new ArrayList<>(MASK_LIMIT);
+            for (int mask = 0; mask < MASK_LIMIT; mask++) {
+                EnumSet<MemberRole> roles = EnumSet.noneOf(MemberRole.class);
+                for (MemberRole role : values()) {
+                    if ((mask & role.bit) != 0) {
+                        roles.add(role);
+                    }
+                }
+                roleSets.add(Collections.unmodifiableSet(roles));
+                authorities.add(roles.stream()
+                        .<GrantedAuthority>map(role -> new SimpleGrantedAuthority(role.name()))
+                        .toList());
+            }
+            ROLE_SETS = List.copyOf(roleSets);
+            AUTHORITIES = List.copyOf(authorities);
+        }
+
+        /**
+         * 역할 집합을 비트마스크로 변환합니다.
+         *
+         * @param roles 역할 집합
+         * @return 비트마스크
+         */
+        public static int toMask(Set<MemberRole> roles) {
+            int mask = 0;
+            for (MemberRole role : roles) {
+                mask |= role.bit;
+            }
+            return mask;
+        }
+
+        /**
+         * 비트마스크에 해당하는 공유 불변 역할 집합을 반환합니다.
+         * 알 수 없는 비트(향후 추가된 역할 등)는 무시합니다.
+         *
+         * @param mask 비트마스크
+         * @return 불변 역할 집합
+         */
+        public static Set<MemberRole> fromMask(int mask) {
+            return ROLE_SETS.get(mask & (MASK_LIMIT - 1));
+        }
+
+        /**
+         * 역할 집합에 해당하는 공유 불변 권한 목록을 반환합니다.
+         *
+         * @param roles 역할 집합
+         * @return 불변 권한 목록
+         */
+        public static List<GrantedAuthority> authoritiesOf(Set<MemberRole> roles) {
+            return AUTHORITIES.get(toMask(roles));
+        }
     }
 
     /**
-     * Spring Security 에서 사용자 권한 정보 반환
+     * Spring Security 에서 사용자 권한 정보 반환 (미리 계산된 불변 목록을 공유)
      */
     @Override
     public Collection<? extends GrantedAuthority> getAuthorities() {
-        return roles.stream()
-                .map(role -> new SimpleGrantedAuthority(role.name()))
-                .toList();
+        return MemberRole.authoritiesOf(roles);
     }
 
     /**
@@ -178,7 +247,7 @@ public class Member implements UserDetails {
         this.email = email;
         this.password = password;
         // roles 가 null 일 경우 기본 ROLE_USER 적용
-        this.roles = (roles != null) ? Collections.unmodifiableSet(roles) : Set.of(MemberRole.ROLE_USER);
+        this.roles = MemberRole.fromMask(MemberRole.toMask(roles != null ? roles : Set.of(MemberRole.ROLE_USER)));
         this.enabled = enabled;
         this.accountNonLocked = accountNonLocked;
         this.credentialsNonExpired = true;
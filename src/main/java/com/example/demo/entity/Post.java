@@ -3,6 +3,7 @@ package com.example.demo.entity;
 import jakarta.persistence.*;
 import lombok.*;
 import lombok.experimental.FieldDefaults;
+import org.hibernate.annotations.ColumnDefault;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
 
@@ -14,6 +15,7 @@ import java.util.concurrent.atomic.AtomicInteger;
  * <p>
  * 이 엔티티는 게시글의 제목, 내용, 좋아요 수, 생성일, 수정일을 관리하며,
  * 동시성 이슈를 고려하여 낙관적 락(@Version)을 적용하였습니다.
+ * 버전은 게시글 응답의 ETag 로도 사용되므로, 응답에 포함되는 댓글이 변경될 때도 증가시킵니다.
  * </p>
  */
 @Entity
@@ -59,6 +61,14 @@ public class Post {
     @JoinColumn(name = "member_id", nullable = false, foreignKey = @ForeignKey(ConstraintMode.NO_CONSTRAINT))
     Member member;
 
+    /**
+     * 게시글 버전 (낙관적 락, ETag)
+     */
+    @Version
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    Long version;
+
     /**
      * 게시글 생성일
      */
@@ -0,0 +1,81 @@
+package com.example.demo.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import lombok.experimental.FieldDefaults;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.time.LocalDateTime;
+
+/**
+ * 리프레시 토큰 엔티티
+ * <p>
+ * 토큰 원문은 저장하지 않고 SHA-256 해시만 저장합니다.
+ * 한 번의 로그인에서 파생된 토큰들은 같은 familyId 를 공유하며,
+ * 이미 사용된 토큰이 다시 제시되면(재사용 탐지) 해당 family 전체를 폐기합니다.
+ */
+@Entity
+@Table(name = "refresh_tokens", indexes = {
+        @Index(name = "uk_refresh_tokens_token_hash", columnList = "token_hash", unique = true),
+        @Index(name = "idx_refresh_tokens_family_id", columnList = "family_id")
+})
+@Getter
+@ToString(exclude = "member")
+@EqualsAndHashCode(of = "id")
+@NoArgsConstructor(access = AccessLevel.PROTECTED) // 직접 객체 생성 방지
+@FieldDefaults(level = AccessLevel.PRIVATE)
+public class RefreshToken {
+
+    /** 기본 키 (자동 증가) */
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    Long id;
+
+    /** 토큰 원문의 SHA-256 해시 (hex) */
+    @Column(name = "token_hash", nullable = false, length = 64, updatable = false)
+    String tokenHash;
+
+    /** 같은 로그인에서 회전(rotation)된 토큰들이 공유하는 식별자 */
+    @Column(name = "family_id", nullable = false, length = 36, updatable = false)
+    String familyId;
+
+    /** 토큰 소유 회원 */
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "member_id", nullable = false, updatable = false, foreignKey = @ForeignKey(ConstraintMode.NO_CONSTRAINT))
+    Member member;
+
+    /** 만료 시각 */
+    @Column(nullable = false, updatable = false)
+    LocalDateTime expiresAt;
+
+    /** 회전에 사용된 시각 (null 이면 아직 사용되지 않음) */
+    LocalDateTime usedAt;
+
+    /** 폐기 여부 (재사용 탐지 또는 로그아웃) */
+    @Column(nullable = false)
+    boolean revoked;
+
+    /** 생성일 */
+    @CreationTimestamp
+    @Column(nullable = false, updatable = false)
+    LocalDateTime createdAt;
+
+    @Builder
+    public RefreshToken(String tokenHash, String familyId, Member member, LocalDateTime expiresAt) {
+        this.tokenHash = tokenHash;
+        this.familyId = familyId;
+        this.member = member;
+        this.expiresAt = expiresAt;
+        this.revoked = false;
+    }
+
+    /**
+     * 만료 여부를 확인합니다.
+     *
+     * @param now 기준 시각
+     * @return 만료되었으면 true
+     */
+    public boolean isExpired(LocalDateTime now) {
+        return !expiresAt.isAfter(now);
+    }
+}
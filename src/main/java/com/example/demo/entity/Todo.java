@@ -14,7 +14,12 @@ import java.time.LocalDateTime;
  * 데이터베이스의 'todos' 테이블과 매핑되며, 각 할 일(ToDo) 항목을 표현합니다.
  */
 @Entity
-@Table(name = "todos")
+@Table(name = "todos", indexes = {
+        // 완료 여부 필터 + id 커서 기반 페이지 조회용
+        @Index(name = "idx_todos_completed_id", columnList = "completed, id"),
+        // 변경분 동기화(GET /api/todo/changes)의 (updatedAt, id) 커서 조회용
+        @Index(name = "idx_todos_updated_at_id", columnList = "updated_at, id")
+})
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED) // 직접 객체 생성 방지
 @AllArgsConstructor(access = AccessLevel.PRIVATE) // 빌더 패턴을 통한 객체 생성 유도
@@ -67,6 +72,21 @@ public class Todo {
         this.completed = completed;
     }
 
+    /**
+     * 저장된 상태로부터 엔티티를 복원합니다.
+     * JPA 가 아닌 저장소 구현(todo-embedded 프로파일)에서만 사용합니다.
+     *
+     * @param id        할 일 ID
+     * @param title     할 일 제목
+     * @param completed 완료 여부
+     * @param createdAt 생성일
+     * @param updatedAt 수정일
+     * @return 복원된 할 일
+     */
+    public static Todo restore(Long id, String title, Boolean completed, LocalDateTime createdAt, LocalDateTime updatedAt) {
+        return new Todo(id, title, completed, createdAt, updatedAt);
+    }
+
     /**
      * 할 일 완료 상태를 업데이트합니다.
      *
@@ -0,0 +1,47 @@
+package com.example.demo.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import lombok.experimental.FieldDefaults;
+
+import java.time.LocalDateTime;
+
+/**
+ * 삭제된 할 일의 기록(tombstone)
+ * <p>
+ * 변경분 동기화 클라이언트가 삭제 사실을 알 수 있도록 삭제된 할 일의 ID 와 삭제 시각을 보관합니다.
+ * 할 일 ID 는 재사용되지 않으므로 할 일 ID 를 그대로 기본 키로 사용하며,
+ * 보존 기간이 지난 기록은 주기적으로 삭제됩니다.
+ */
+@Entity
+@Table(name = "todo_tombstones", indexes = {
+        @Index(name = "idx_todo_tombstones_deleted_at_todo_id", columnList = "deleted_at, todo_id")
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED) // 직접 객체 생성 방지
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@FieldDefaults(level = AccessLevel.PRIVATE)
+@EqualsAndHashCode(of = "todoId")
+public class TodoTombstone {
+
+    /** 삭제된 할 일 ID */
+    @Id
+    @Column(name = "todo_id")
+    Long todoId;
+
+    /** 삭제 시각 */
+    @Column(name = "deleted_at", nullable = false)
+    LocalDateTime deletedAt;
+
+    /**
+     * 저장된 상태로부터 삭제 기록을 복원합니다.
+     * JPA 가 아닌 저장소 구현(todo-embedded 프로파일)에서만 사용합니다.
+     *
+     * @param todoId    삭제된 할 일 ID
+     * @param deletedAt 삭제 시각
+     * @return 복원된 삭제 기록
+     */
+    public static TodoTombstone restore(Long todoId, LocalDateTime deletedAt) {
+        return new TodoTombstone(todoId, deletedAt);
+    }
+}
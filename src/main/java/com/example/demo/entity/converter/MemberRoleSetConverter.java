@@ -0,0 +1,33 @@
+package com.example.demo.entity.converter;
+
+import com.example.demo.entity.Member.MemberRole;
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+import java.util.Set;
+
+/**
+ * 회원 역할 집합을 비트마스크 정수 컬럼으로 변환하는 컨버터
+ * <p>
+ * DB 값 0 은 member_roles 에 역할이 없던 행이므로 기본 역할(ROLE_USER)로 해석합니다.
+ * (member_roles 가 남아 있는 행은 요청을 받기 전에 {@code MemberRoleMigrationRunner} 가 모두 옮깁니다.)
+ * 조회 시에는 비트마스크별로 미리 만들어 둔 불변 집합을 그대로 반환하여 할당이 발생하지 않습니다.
+ */
+@Converter
+public class MemberRoleSetConverter implements AttributeConverter<Set<MemberRole>, Integer> {
+
+    private static final Set<MemberRole> LEGACY_DEFAULT = MemberRole.fromMask(MemberRole.ROLE_USER.getBit());
+
+    @Override
+    public Integer convertToDatabaseColumn(Set<MemberRole> roles) {
+        return (roles == null) ? 0 : MemberRole.toMask(roles);
+    }
+
+    @Override
+    public Set<MemberRole> convertToEntityAttribute(Integer mask) {
+        if (mask == null || mask == 0) {
+            return LEGACY_DEFAULT;
+        }
+        return MemberRole.fromMask(mask);
+    }
+}
@@ -0,0 +1,11 @@
+package com.example.demo.event;
+
+/**
+ * 게시글 목록 응답에 영향을 주는 변경(게시글, 댓글, 좋아요)이 발생했음을 알리는 이벤트
+ * <p>
+ * 트랜잭션 커밋 이후에 처리되어 캐시된 응답을 무효화하는 데 사용됩니다.
+ *
+ * @param postId 변경된 게시글 ID
+ */
+public record PostChangedEvent(Long postId) {
+}
@@ -0,0 +1,11 @@
+package com.example.demo.exception;
+
+/**
+ * 요청 처리 제한 시간(deadline)이 지나 남은 작업을 중단할 때 발생하는 예외.
+ * 전역 예외 처리기에서 HTTP 504 응답으로 변환됩니다.
+ */
+public class DeadlineExceededException extends RuntimeException {
+    public DeadlineExceededException(String message) {
+        super(message);
+    }
+}
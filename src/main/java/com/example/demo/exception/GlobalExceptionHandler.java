@@ -1,15 +1,21 @@
 package com.example.demo.exception;
 
 import com.example.demo.dto.ApiResult;
+import com.example.demo.provider.MessageProvider;
 import jakarta.validation.ConstraintViolation;
 import jakarta.validation.ConstraintViolationException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.security.core.AuthenticationException;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.transaction.CannotCreateTransactionException;
 import org.springframework.web.HttpRequestMethodNotSupportedException;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.MissingServletRequestParameterException;
@@ -18,6 +24,7 @@ import org.springframework.web.bind.annotation.RestControllerAdvice;
 import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
 import org.springframework.web.servlet.resource.NoResourceFoundException;
 
+import java.sql.SQLTransientConnectionException;
 import java.util.Objects;
 import java.util.stream.Collectors;
 
@@ -176,6 +183,101 @@ public class GlobalExceptionHandler {
         return buildErrorResponse(message, HttpStatus.I_AM_A_TEAPOT);
     }
 
+    /**
+     * 서버 과부하로 요청을 거부한 경우 (ServiceOverloadedException)
+     * <p>
+     * 작업을 대기시키지 않고 즉시 503 을 반환하며, Retry-After 헤더로 재시도 시점을 안내합니다.
+     *
+     * @param ex ServiceOverloadedException 예외
+     * @return 503 Service Unavailable 응답
+     */
+    @ExceptionHandler(ServiceOverloadedException.class)
+    public ResponseEntity<ApiResult<Void>> handleServiceOverloadedException(ServiceOverloadedException ex) {
+        logger.warn("Service overloaded: {}", ex.getMessage());
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfterSeconds()))
+                .body(ApiResult.failure(ex.getMessage()));
+    }
+
+    /**
+     * DB 커넥션을 얻지 못한 경우 (CannotCreateTransactionException, DataAccessResourceFailureException)
+     * <p>
+     * 커넥션 풀 대기 시간(db.pools.*.connection-timeout)을 넘긴 경우에는 과부하로 보고 503 을 반환합니다.
+     * 커넥션은 첫 SQL 실행 시점에 얻으므로(LazyConnectionDataSourceProxy) JPA 예외 변환 결과인
+     * DataAccessResourceFailureException 으로도 전달됩니다.
+     * 가상 스레드 모드에서는 요청 수가 스레드 수로 제한되지 않으므로, 풀 대기열이 무한정 길어지지 않도록 빠르게 거부합니다.
+     * 그 밖의 연결 실패는 500 으로 처리합니다.
+     *
+     * @param ex 커넥션 획득 실패 예외
+     * @return 503 Service Unavailable 또는 500 Internal Server Error 응답
+     */
+    @ExceptionHandler({CannotCreateTransactionException.class, DataAccessResourceFailureException.class})
+    public ResponseEntity<ApiResult<Void>> handleConnectionUnavailableException(RuntimeException ex) {
+        for (Throwable cause = ex; cause != null; cause = cause.getCause()) {
+            if (cause instanceof SQLTransientConnectionException) {
+                logger.warn("Connection pool exhausted: {}", cause.getMessage());
+                return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                        .header(HttpHeaders.RETRY_AFTER, "1")
+                        .body(ApiResult.failure(MessageProvider.getMessage("common.service.unavailable")));
+            }
+        }
+        return handleGenericException(ex);
+    }
+
+    /**
+     * 요청 처리 제한 시간 초과 (DeadlineExceededException, QueryTimeoutException)
+     * <p>
+     * 요청의 deadline 이 지나 남은 작업을 중단했거나, 남은 시간으로 지정된 JDBC query timeout 에 걸린 경우 504 를 반환합니다.
+     *
+     * @param ex 제한 시간 초과 예외
+     * @return 504 Gateway Timeout 응답
+     */
+    @ExceptionHandler({DeadlineExceededException.class, QueryTimeoutException.class})
+    public ResponseEntity<ApiResult<Void>> handleDeadlineExceededException(RuntimeException ex) {
+        logger.warn("Request deadline exceeded: {}", ex.getMessage());
+        return buildErrorResponse(MessageProvider.getMessage("common.deadline.exceeded"), HttpStatus.GATEWAY_TIMEOUT);
+    }
+
+    /**
+     * 잘못된 요청 파라미터 (InvalidParameterException)
+     *
+     * @param ex InvalidParameterException 예외
+     * @return 400 Bad Request 응답
+     */
+    @ExceptionHandler(InvalidParameterException.class)
+    public ResponseEntity<ApiResult<Void>> handleInvalidParameterException(InvalidParameterException ex) {
+        logger.warn("Invalid parameter: {}", ex.getMessage());
+        return buildErrorResponse(ex.getMessage(), HttpStatus.BAD_REQUEST);
+    }
+
+    /**
+     * 조건부 요청 실패 (PreconditionFailedException)
+     * <p>
+     * If-Match 로 전달된 버전이 현재 버전과 다른 경우, 덮어쓰지 않고 412 를 반환합니다.
+     *
+     * @param ex PreconditionFailedException 예외
+     * @return 412 Precondition Failed 응답
+     */
+    @ExceptionHandler(PreconditionFailedException.class)
+    public ResponseEntity<ApiResult<Void>> handlePreconditionFailedException(PreconditionFailedException ex) {
+        logger.warn("Precondition failed: {}", ex.getMessage());
+        return buildErrorResponse(ex.getMessage(), HttpStatus.PRECONDITION_FAILED);
+    }
+
+    /**
+     * 동시 변경 충돌 (OptimisticLockingFailureException)
+     * <p>
+     * 같은 리소스를 동시에 변경하는 요청과 겹쳐 재시도 후에도 낙관적 락 검사에 실패한 경우 409 를 반환합니다.
+     *
+     * @param ex OptimisticLockingFailureException 예외
+     * @return 409 Conflict 응답
+     */
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public ResponseEntity<ApiResult<Void>> handleOptimisticLockingFailureException(OptimisticLockingFailureException ex) {
+        logger.warn("Concurrent modification conflict: {}", ex.getMessage());
+        return buildErrorResponse(MessageProvider.getMessage("common.conflict"), HttpStatus.CONFLICT);
+    }
+
     /**
      * 기타 모든 예외 처리 (Generic Exception)
      * <p>
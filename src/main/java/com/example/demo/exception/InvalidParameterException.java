@@ -0,0 +1,11 @@
+package com.example.demo.exception;
+
+/**
+ * 요청 파라미터 값이 허용되지 않는 형식일 때 발생하는 예외.
+ * 전역 예외 처리기에서 HTTP 400 응답으로 변환됩니다.
+ */
+public class InvalidParameterException extends RuntimeException {
+    public InvalidParameterException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,11 @@
+package com.example.demo.exception;
+
+/**
+ * 요청의 조건(If-Match 등)이 현재 리소스 상태와 맞지 않을 때 발생하는 예외.
+ * 전역 예외 처리기에서 HTTP 412 응답으로 변환됩니다.
+ */
+public class PreconditionFailedException extends RuntimeException {
+    public PreconditionFailedException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,21 @@
+package com.example.demo.exception;
+
+import lombok.Getter;
+
+/**
+ * 서버가 과부하 상태여서 요청을 즉시 거부해야 할 때 발생하는 예외.
+ * 전역 예외 처리기에서 HTTP 503 응답과 Retry-After 헤더로 변환됩니다.
+ */
+@Getter
+public class ServiceOverloadedException extends RuntimeException {
+
+    /**
+     * 클라이언트가 재시도하기 전에 대기해야 하는 시간(초)
+     */
+    private final long retryAfterSeconds;
+
+    public ServiceOverloadedException(String message, long retryAfterSeconds) {
+        super(message);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+}
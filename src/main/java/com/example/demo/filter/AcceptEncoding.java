@@ -0,0 +1,84 @@
+package com.example.demo.filter;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.util.StringUtils;
+
+/**
+ * Accept-Encoding 요청 헤더 해석
+ * <p>
+ * "gzip;q=0.8, br, *;q=0" 처럼 콘텐츠 코딩과 q 값(선호도) 쌍의 목록을 해석합니다 (RFC 9110 12.5.3).
+ * <ul>
+ *   <li>q=0 인 코딩은 허용하지 않는 것으로 봅니다. q 값이 없으면 1 입니다.</li>
+ *   <li>코딩 이름은 대소문자를 구분하지 않으며, x-gzip 은 gzip 과 같습니다.</li>
+ *   <li>"*" 는 목록에 직접 나오지 않은 코딩에만 적용됩니다.</li>
+ *   <li>헤더가 없으면 압축하지 않습니다. q 값 형식이 잘못된 항목은 허용하지 않는 것으로 봅니다.</li>
+ * </ul>
+ */
+final class AcceptEncoding {
+
+    private static final String GZIP = "gzip";
+    private static final String X_GZIP = "x-gzip";
+    private static final String WILDCARD = "*";
+
+    private AcceptEncoding() {
+    }
+
+    /**
+     * @param request HTTP 요청 객체
+     * @return Accept-Encoding 이 gzip 을 0 보다 큰 q 값으로 허용하면 true
+     */
+    static boolean acceptsGzip(HttpServletRequest request) {
+        return qValue(request.getHeader(HttpHeaders.ACCEPT_ENCODING), GZIP) > 0;
+    }
+
+    /**
+     * 헤더에서 코딩의 q 값을 구합니다. 직접 나온 항목이 "*" 보다 우선합니다.
+     *
+     * @param header Accept-Encoding 헤더 값 (null 이면 0)
+     * @param coding 콘텐츠 코딩 이름
+     * @return q 값 (0 ~ 1, 허용하지 않으면 0)
+     */
+    static double qValue(String header, String coding) {
+        if (header == null) {
+            return 0;
+        }
+        double explicit = -1;
+        double wildcard = -1;
+        for (String element : header.split(",")) {
+            if (!StringUtils.hasText(element)) {
+                continue;
+            }
+            String[] parts = element.split(";");
+            String name = normalize(parts[0].trim());
+            if (name.equals(normalize(coding))) {
+                explicit = Math.max(explicit, parseQ(parts));
+            } else if (name.equals(WILDCARD)) {
+                wildcard = Math.max(wildcard, parseQ(parts));
+            }
+        }
+        return Math.max(explicit >= 0 ? explicit : wildcard, 0);
+    }
+
+    private static String normalize(String coding) {
+        String name = coding.toLowerCase();
+        return name.equals(X_GZIP) ? GZIP : name;
+    }
+
+    private static double parseQ(String[] parts) {
+        for (int i = 1; i < parts.length; i++) {
+            String parameter = parts[i].trim();
+            int separator = parameter.indexOf('=');
+            if (separator < 0 || !parameter.substring(0, separator).trim().equalsIgnoreCase("q")) {
+                continue;
+            }
+            try {
+                double q = Double.parseDouble(parameter.substring(separator + 1).trim());
+                return (q >= 0 && q <= 1) ? q : 0;
+            } catch (NumberFormatException e) {
+                return 0;
+            }
+        }
+        return 1;
+    }
+}
@@ -0,0 +1,118 @@
+package com.example.demo.filter;
+
+import com.example.demo.dto.ApiResult;
+import com.example.demo.provider.AuthRateLimitProvider;
+import com.example.demo.provider.MessageProvider;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 인증 엔드포인트 요청 빈도 제한 필터
+ * <p>
+ * {@link JwtAuthenticationFilter} 보다 먼저 실행되어, 한도를 초과한 요청은 회원 조회나
+ * 비밀번호 해싱에 도달하기 전에 HTTP 429 로 거부합니다.
+ * <p>
+ * 적용 URL:
+ * <ul>
+ *   <li>POST /api/auth/signIn</li>
+ *   <li>POST /api/auth/signUp</li>
+ * </ul>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AuthRateLimitFilter extends OncePerRequestFilter {
+
+    // 이메일 추출을 위해 본문을 읽을 최대 크기 (초과하거나 길이를 알 수 없으면 IP 기준으로만 제한)
+    private static final long MAX_INSPECTED_BODY_BYTES = 16 * 1024;
+
+    private final AuthRateLimitProvider authRateLimitProvider;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 로그인/회원가입 요청에 대해서만 필터를 적용합니다.
+     *
+     * @param request HTTP 요청 객체
+     * @return 필터를 건너뛰어야 하면 true
+     */
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        String requestURI = request.getRequestURI();
+        return !"POST".equalsIgnoreCase(request.getMethod())
+                || !(requestURI.equals("/api/auth/signIn") || requestURI.equals("/api/auth/signUp"));
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        HttpServletRequest requestToUse = request;
+        String email = null;
+
+        // 길이를 알 수 없는 요청(chunked, -1)은 본문을 읽지 않고 IP 기준으로만 제한합니다.
+        long contentLength = request.getContentLengthLong();
+        if (contentLength >= 0 && contentLength <= MAX_INSPECTED_BODY_BYTES) {
+            CachedBodyHttpServletRequest cachedRequest = new CachedBodyHttpServletRequest(request);
+            email = extractEmail(cachedRequest.getBody());
+            requestToUse = cachedRequest;
+        }
+
+        long waitNanos = authRateLimitProvider.tryAcquire(request.getRemoteAddr(), email);
+        if (waitNanos > 0) {
+            log.warn("Auth rate limit exceeded: ip={}, uri={}", request.getRemoteAddr(), request.getRequestURI());
+            reject(response, waitNanos);
+            return;
+        }
+
+        filterChain.doFilter(requestToUse, response);
+    }
+
+    /**
+     * JSON 요청 본문에서 email 필드를 추출합니다.
+     *
+     * @param body 요청 본문
+     * @return 이메일 (없거나 파싱 실패 시 null)
+     */
+    private String extractEmail(byte[] body) {
+        if (body.length == 0) {
+            return null;
+        }
+        try {
+            JsonNode email = objectMapper.readTree(body).path("email");
+            return email.isTextual() ? email.asText() : null;
+        } catch (IOException e) {
+            // 잘못된 본문은 컨트롤러에서 400 으로 처리되므로 IP 기준으로만 제한합니다.
+            return null;
+        }
+    }
+
+    /**
+     * HTTP 429 응답과 Retry-After 헤더를 전송합니다.
+     *
+     * @param response  HTTP 응답 객체
+     * @param waitNanos 다음 토큰까지 남은 시간(나노초)
+     * @throws IOException 응답 전송 실패 시
+     */
+    private void reject(HttpServletResponse response, long waitNanos) throws IOException {
+        long retryAfterSeconds = Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos + TimeUnit.SECONDS.toNanos(1) - 1));
+        ApiResult<Void> apiResult = ApiResult.failure(MessageProvider.getMessage("auth.rate.limited"));
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding("UTF-8");
+        response.getWriter().write(objectMapper.writeValueAsString(apiResult));
+    }
+}
@@ -0,0 +1,300 @@
+package com.example.demo.filter;
+
+import com.example.demo.provider.ResponseCompressor;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.io.UncheckedIOException;
+import java.util.List;
+
+/**
+ * 응답 본문을 임계값까지 버퍼링한 뒤, 넘으면 gzip 스트리밍 압축으로 전환하는 응답 래퍼
+ * <p>
+ * 임계값 이하의 응답은 원본 그대로 Content-Length 와 함께 전송합니다.
+ * 압축 대상 형식이 아니거나 이미 Content-Encoding 이 지정된(미리 압축된) 응답은 버퍼링 없이 그대로 통과시킵니다.
+ * 비동기 응답은 본문을 쓰는 스레드와 {@link #finish()} 를 호출하는 스레드가 다를 수 있으므로 상태 변경은 모두 동기화합니다.
+ */
+public class CompressingHttpServletResponse extends HttpServletResponseWrapper {
+
+    private enum State { BUFFERING, COMPRESSING, PASSTHROUGH }
+
+    private final ResponseCompressor responseCompressor;
+    private final int threshold;
+    private final List<MediaType> compressibleTypes;
+    private final ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+
+    private State state = State.BUFFERING;
+    private OutputStream compressedStream;
+    private ServletOutputStream outputStream;
+    private PrintWriter writer;
+    private long contentLength = -1;
+    private boolean finished;
+
+    /**
+     * @param response           원본 응답
+     * @param responseCompressor 압축 컴포넌트
+     * @param threshold          압축을 시작할 최소 본문 크기(바이트)
+     * @param compressibleTypes  압축 대상 Content-Type
+     */
+    public CompressingHttpServletResponse(HttpServletResponse response, ResponseCompressor responseCompressor,
+                                          int threshold, List<MediaType> compressibleTypes) {
+        super(response);
+        this.responseCompressor = responseCompressor;
+        this.threshold = threshold;
+        this.compressibleTypes = compressibleTypes;
+    }
+
+    @Override
+    public ServletOutputStream getOutputStream() throws IOException {
+        if (writer != null) {
+            throw new IllegalStateException("getWriter() has already been called");
+        }
+        if (outputStream == null) {
+            outputStream = new CompressingServletOutputStream();
+        }
+        return outputStream;
+    }
+
+    @Override
+    public PrintWriter getWriter() throws IOException {
+        if (outputStream != null && writer == null) {
+            throw new IllegalStateException("getOutputStream() has already been called");
+        }
+        if (writer == null) {
+            outputStream = new CompressingServletOutputStream();
+            writer = new PrintWriter(new OutputStreamWriter(outputStream, getCharacterEncoding()));
+        }
+        return writer;
+    }
+
+    @Override
+    public void setContentLength(int len) {
+        setContentLengthLong(len);
+    }
+
+    @Override
+    public synchronized void setContentLengthLong(long len) {
+        if (state == State.BUFFERING) {
+            contentLength = len; // 압축 여부가 정해질 때까지 보류
+        } else if (state == State.PASSTHROUGH) {
+            super.setContentLengthLong(len);
+        }
+    }
+
+    @Override
+    public void setHeader(String name, String value) {
+        if (HttpHeaders.CONTENT_LENGTH.equalsIgnoreCase(name)) {
+            setContentLengthLong(Long.parseLong(value));
+        } else {
+            super.setHeader(name, value);
+        }
+    }
+
+    @Override
+    public void addHeader(String name, String value) {
+        if (HttpHeaders.CONTENT_LENGTH.equalsIgnoreCase(name)) {
+            setContentLengthLong(Long.parseLong(value));
+        } else {
+            super.addHeader(name, value);
+        }
+    }
+
+    @Override
+    public void flushBuffer() throws IOException {
+        if (writer != null) {
+            writer.flush();
+        }
+        flushStream();
+    }
+
+    /**
+     * 버퍼링 중에는 flush 를 무시하고, 그 이후에는 압축 스트림과 원본 응답을 flush 합니다.
+     */
+    private synchronized void flushStream() throws IOException {
+        if (state != State.BUFFERING) {
+            if (compressedStream != null) {
+                compressedStream.flush();
+            }
+            super.flushBuffer();
+        }
+    }
+
+    @Override
+    public synchronized void resetBuffer() {
+        if (state == State.BUFFERING) {
+            buffer.reset();
+        }
+        super.resetBuffer();
+    }
+
+    @Override
+    public synchronized void reset() {
+        if (state == State.BUFFERING) {
+            buffer.reset();
+            contentLength = -1;
+        }
+        super.reset();
+    }
+
+    @Override
+    public void sendError(int sc, String msg) throws IOException {
+        passThrough();
+        super.sendError(sc, msg);
+    }
+
+    @Override
+    public void sendError(int sc) throws IOException {
+        passThrough();
+        super.sendError(sc);
+    }
+
+    @Override
+    public void sendRedirect(String location) throws IOException {
+        passThrough();
+        super.sendRedirect(location);
+    }
+
+    /**
+     * 필터 체인(비동기 요청이면 비동기 처리)이 끝난 뒤 호출하여 버퍼에 남은 본문을 전송하거나 압축 스트림을 마무리합니다.
+     * 두 번 이상 호출되어도 한 번만 처리합니다.
+     *
+     * @throws IOException 전송 실패 시
+     */
+    public synchronized void finish() throws IOException {
+        if (finished) {
+            return;
+        }
+        finished = true;
+        if (writer != null) {
+            writer.flush();
+        }
+        switch (state) {
+            case BUFFERING -> {
+                if (isCompressible()) {
+                    super.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+                }
+                state = State.PASSTHROUGH;
+                if (buffer.size() > 0 || contentLength >= 0) {
+                    super.setContentLengthLong(buffer.size());
+                }
+                buffer.writeTo(getResponse().getOutputStream());
+            }
+            case COMPRESSING -> compressedStream.close();
+            case PASSTHROUGH -> {
+                // 이미 원본 응답으로 전송됨
+            }
+        }
+    }
+
+    private synchronized void write(byte[] b, int off, int len) throws IOException {
+        if (state == State.BUFFERING) {
+            if (!isCompressible()) {
+                passThrough();
+            } else if (buffer.size() + len > threshold) {
+                startCompression();
+            } else {
+                buffer.write(b, off, len);
+                return;
+            }
+        }
+
+        if (state == State.COMPRESSING) {
+            compressedStream.write(b, off, len);
+        } else {
+            getResponse().getOutputStream().write(b, off, len);
+        }
+    }
+
+    private void startCompression() throws IOException {
+        state = State.COMPRESSING;
+        super.setHeader(HttpHeaders.CONTENT_ENCODING, "gzip");
+        super.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        compressedStream = responseCompressor.openGzipStream(getResponse().getOutputStream());
+        buffer.writeTo(compressedStream);
+        buffer.reset();
+    }
+
+    private synchronized void passThrough() throws IOException {
+        if (state != State.BUFFERING) {
+            return;
+        }
+        state = State.PASSTHROUGH;
+        if (contentLength >= 0) {
+            super.setContentLengthLong(contentLength);
+        }
+        if (buffer.size() > 0) {
+            buffer.writeTo(getResponse().getOutputStream());
+            buffer.reset();
+        }
+    }
+
+    private boolean isCompressible() {
+        int status = getStatus();
+        if (status == SC_NO_CONTENT || status == SC_NOT_MODIFIED || status == SC_PARTIAL_CONTENT
+                || getHeader(HttpHeaders.CONTENT_ENCODING) != null) {
+            return false;
+        }
+        String contentType = getContentType();
+        if (contentType == null) {
+            return false;
+        }
+        MediaType mediaType = MediaType.parseMediaType(contentType);
+        return compressibleTypes.stream().anyMatch(type -> type.includes(mediaType));
+    }
+
+    /**
+     * 래퍼의 상태에 따라 버퍼/압축 스트림/원본 스트림으로 쓰는 ServletOutputStream
+     */
+    private class CompressingServletOutputStream extends ServletOutputStream {
+
+        @Override
+        public void write(int b) throws IOException {
+            CompressingHttpServletResponse.this.write(new byte[]{(byte) b}, 0, 1);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            CompressingHttpServletResponse.this.write(b, off, len);
+        }
+
+        @Override
+        public void flush() throws IOException {
+            flushStream();
+        }
+
+        /**
+         * 버퍼링 중에는 항상 쓸 수 있고, 그 이후에는 원본 스트림의 상태를 따릅니다.
+         */
+        @Override
+        public boolean isReady() {
+            synchronized (CompressingHttpServletResponse.this) {
+                if (state == State.BUFFERING) {
+                    return true;
+                }
+            }
+            try {
+                return getResponse().getOutputStream().isReady();
+            } catch (IOException e) {
+                return false;
+            }
+        }
+
+        @Override
+        public void setWriteListener(WriteListener writeListener) {
+            try {
+                getResponse().getOutputStream().setWriteListener(writeListener);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+}
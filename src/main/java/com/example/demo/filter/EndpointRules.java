@@ -0,0 +1,87 @@
+package com.example.demo.filter;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.util.StringUtils;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * 엔드포인트별 설정 값 목록 ("METHOD /path/pattern=값")
+ * <p>
+ * http.deadline.endpoints, http.query-budget.endpoints 처럼 엔드포인트마다 다른 값을 지정하는 설정을 해석합니다.
+ * <ul>
+ *   <li>METHOD 가 "*" 이면 모든 메서드와 일치합니다.</li>
+ *   <li>경로 패턴은 Ant 스타일이며, 요청과 처음 일치하는 항목의 값을 사용합니다.</li>
+ * </ul>
+ *
+ * @param <T> 설정 값 타입
+ */
+final class EndpointRules<T> {
+
+    private static final AntPathMatcher PATH_MATCHER = new AntPathMatcher();
+
+    private final List<Rule<T>> rules;
+
+    private EndpointRules(List<Rule<T>> rules) {
+        this.rules = rules;
+    }
+
+    /**
+     * 설정 항목 목록을 해석합니다. 빈 항목은 무시합니다.
+     *
+     * @param property    설정 이름 (오류 메시지용)
+     * @param entries     설정 항목 목록
+     * @param valueParser '=' 뒤의 값을 변환하는 함수
+     * @return 엔드포인트별 설정 값 목록
+     * @throws IllegalArgumentException 항목 형식이 잘못된 경우
+     */
+    static <T> EndpointRules<T> parse(String property, List<String> entries, Function<String, T> valueParser) {
+        return new EndpointRules<>(entries.stream()
+                .filter(StringUtils::hasText)
+                .map(entry -> Rule.parse(property, entry, valueParser))
+                .toList());
+    }
+
+    /**
+     * 요청과 처음 일치하는 항목의 값을 반환합니다.
+     *
+     * @param request      HTTP 요청 객체
+     * @param defaultValue 일치하는 항목이 없을 때의 값
+     * @return 설정 값
+     */
+    T resolve(HttpServletRequest request, T defaultValue) {
+        String method = request.getMethod();
+        String requestURI = request.getRequestURI();
+        for (Rule<T> rule : rules) {
+            if (rule.matches(method, requestURI)) {
+                return rule.value();
+            }
+        }
+        return defaultValue;
+    }
+
+    /**
+     * 엔드포인트 하나의 설정 값 ("GET /api/post/search=2s")
+     *
+     * @param method  HTTP 메서드 ("*" 이면 모든 메서드)
+     * @param pattern 경로 패턴 (Ant 스타일)
+     * @param value   설정 값
+     */
+    private record Rule<T>(String method, String pattern, T value) {
+
+        static <T> Rule<T> parse(String property, String entry, Function<String, T> valueParser) {
+            int separator = entry.lastIndexOf('=');
+            String[] endpoint = entry.substring(0, Math.max(separator, 0)).trim().split("\\s+");
+            if (separator < 0 || endpoint.length != 2) {
+                throw new IllegalArgumentException("Invalid " + property + " entry: " + entry);
+            }
+            return new Rule<>(endpoint[0], endpoint[1], valueParser.apply(entry.substring(separator + 1).trim()));
+        }
+
+        boolean matches(String requestMethod, String requestURI) {
+            return (method.equals("*") || method.equalsIgnoreCase(requestMethod)) && PATH_MATCHER.match(pattern, requestURI);
+        }
+    }
+}
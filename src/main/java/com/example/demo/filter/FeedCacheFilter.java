@@ -0,0 +1,166 @@
+package com.example.demo.filter;
+
+import com.example.demo.provider.FeedResponseCacheProvider;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.i18n.LocaleContextHolder;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * 익명 게시글 목록 응답 캐시 필터
+ * <p>
+ * {@link JwtAuthenticationFilter} 보다 먼저 실행되어, 캐시된 응답이 있으면 서비스 계층과 Jackson 을 거치지 않고
+ * 미리 직렬화/압축된 바이트를 그대로 전송합니다. If-None-Match 가 일치하면 본문 없이 304 를 반환합니다.
+ * <p>
+ * 적용 URL:
+ * <ul>
+ *   <li>GET /api/post (Authorization 헤더가 없고, pageNumber 외의 파라미터가 없으며, JSON 응답을 받는 요청)</li>
+ * </ul>
+ */
+@Component
+public class FeedCacheFilter extends OncePerRequestFilter {
+
+    private static final String PAGE_PARAMETER = "pageNumber";
+    private static final String VARY = String.join(", ", HttpHeaders.ACCEPT, HttpHeaders.ACCEPT_ENCODING, HttpHeaders.ACCEPT_LANGUAGE);
+
+    private final FeedResponseCacheProvider feedResponseCacheProvider;
+    private final boolean enabled;
+    private final String cacheControl;
+
+    public FeedCacheFilter(
+            FeedResponseCacheProvider feedResponseCacheProvider,
+            @Value("${post.feed-cache.enabled:true}") boolean enabled,
+            @Value("${post.feed-cache.max-age:0s}") Duration maxAge
+    ) {
+        this.feedResponseCacheProvider = feedResponseCacheProvider;
+        this.enabled = enabled;
+        this.cacheControl = CacheControl.maxAge(maxAge).cachePublic().mustRevalidate().getHeaderValue();
+    }
+
+    /**
+     * 익명 GET /api/post 요청에 대해서만 필터를 적용합니다.
+     *
+     * @param request HTTP 요청 객체
+     * @return 필터를 건너뛰어야 하면 true
+     */
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !enabled
+                || !"GET".equalsIgnoreCase(request.getMethod())
+                || !request.getRequestURI().equals("/api/post")
+                || request.getHeader(HttpHeaders.AUTHORIZATION) != null
+                || !negotiatesJson(request);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        Integer page = extractPage(request);
+        if (page == null || !feedResponseCacheProvider.isCacheable(page)) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        FeedResponseCacheProvider.Key key = new FeedResponseCacheProvider.Key(page, LocaleContextHolder.getLocale());
+        FeedResponseCacheProvider.Entry entry = feedResponseCacheProvider.get(key);
+
+        if (entry == null) {
+            // 캐시 미스: 평소처럼 컨트롤러를 실행하고 응답 바이트를 가로채 캐시합니다.
+            long generation = feedResponseCacheProvider.currentGeneration();
+            ContentCachingResponseWrapper responseWrapper = new ContentCachingResponseWrapper(response);
+            filterChain.doFilter(request, responseWrapper);
+
+            if (responseWrapper.getStatus() != HttpStatus.OK.value() || !isJson(responseWrapper.getContentType())) {
+                responseWrapper.copyBodyToResponse();
+                return;
+            }
+            entry = feedResponseCacheProvider.put(key, responseWrapper.getContentAsByteArray(), generation);
+        }
+
+        writeEntry(request, response, entry);
+    }
+
+    /**
+     * 캐시 항목을 응답으로 전송합니다. gzip 을 허용하는 클라이언트에는 미리 압축된 바이트를 보냅니다.
+     *
+     * @param request  HTTP 요청 객체
+     * @param response HTTP 응답 객체
+     * @param entry    캐시 항목
+     * @throws IOException 응답 전송 실패 시
+     */
+    private void writeEntry(HttpServletRequest request, HttpServletResponse response, FeedResponseCacheProvider.Entry entry)
+            throws IOException {
+        boolean gzip = AcceptEncoding.acceptsGzip(request);
+        response.setHeader(HttpHeaders.ETAG, gzip ? entry.gzipEtag() : entry.etag());
+        response.setHeader(HttpHeaders.CACHE_CONTROL, cacheControl);
+        response.addHeader(HttpHeaders.VARY, VARY);
+
+        if (entry.matches(request.getHeader(HttpHeaders.IF_NONE_MATCH))) {
+            response.setStatus(HttpStatus.NOT_MODIFIED.value());
+            return;
+        }
+
+        byte[] body = gzip ? entry.gzip() : entry.json();
+        response.setStatus(HttpStatus.OK.value());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        if (gzip) {
+            response.setHeader(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        response.setContentLength(body.length);
+        response.getOutputStream().write(body);
+    }
+
+    /**
+     * 페이지 번호를 추출합니다. 컨트롤러가 처리해야 하는 요청(다른 파라미터, 잘못된 값)이면 null 을 반환합니다.
+     */
+    private Integer extractPage(HttpServletRequest request) {
+        Map<String, String[]> parameters = request.getParameterMap();
+        if (parameters.isEmpty()) {
+            return 0;
+        }
+        String[] values = parameters.get(PAGE_PARAMETER);
+        if (parameters.size() != 1 || values == null || values.length != 1) {
+            return null;
+        }
+        try {
+            return Integer.parseInt(values[0]);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    /**
+     * 콘텐츠 협상 결과가 JSON 인지 확인합니다. (CBOR/Smile 등 다른 형식을 요청하면 캐시를 사용하지 않음)
+     * Accept 헤더에 와일드카드와 application/json 외의 형식이 없을 때만 true 를 반환합니다.
+     */
+    private boolean negotiatesJson(HttpServletRequest request) {
+        String accept = request.getHeader(HttpHeaders.ACCEPT);
+        if (accept == null || accept.isBlank()) {
+            return true;
+        }
+        try {
+            return MediaType.parseMediaTypes(accept).stream()
+                    .allMatch(mediaType -> mediaType.isWildcardSubtype() || mediaType.isCompatibleWith(MediaType.APPLICATION_JSON));
+        } catch (InvalidMediaTypeException e) {
+            return false;
+        }
+    }
+
+    private boolean isJson(String contentType) {
+        return contentType != null && contentType.startsWith(MediaType.APPLICATION_JSON_VALUE);
+    }
+}
@@ -1,8 +1,11 @@
 package com.example.demo.filter;
 
+import com.example.demo.config.RoutingDataSource;
+import com.example.demo.config.RoutingDataSource.Pool;
 import com.example.demo.dto.ApiResult;
 import com.example.demo.entity.Member;
 import com.example.demo.provider.JwtProvider;
+import com.example.demo.provider.MessageProvider;
 import com.example.demo.provider.TokenBlacklistProvider;
 import com.example.demo.service.MemberService;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -11,6 +14,7 @@ import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
@@ -18,6 +22,7 @@ import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
+import java.sql.SQLTransientConnectionException;
 import java.util.Optional;
 
 /**
@@ -28,8 +33,10 @@ import java.util.Optional;
  * 다음 URL은 토큰 검증을 건너뜁니다:
  * <ul>
  *   <li>POST /api/auth/signIn</li>
+ *   <li>POST /api/auth/refresh</li>
  *   <li>GET /api/auth/signOut</li>
  * </ul>
+ * 토큰의 회원 조회와 /api/auth/** 요청은 인증 전용 커넥션 풀({@link Pool#AUTH})을 사용합니다.
  */
 @Slf4j
 @Component
@@ -64,6 +71,26 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
             throws ServletException, IOException {
+        // 인증 API 는 요청 전체가 인증 전용 커넥션 풀을 사용 (긴 조회/쓰기가 몰려도 로그인은 영향을 받지 않음)
+        if (request.getRequestURI().startsWith("/api/auth/")) {
+            try (RoutingDataSource.Scope ignored = RoutingDataSource.use(Pool.AUTH)) {
+                authenticate(request, response, filterChain);
+            }
+            return;
+        }
+        authenticate(request, response, filterChain);
+    }
+
+    /**
+     * JWT 토큰을 검증하고 인증 정보를 설정한 뒤 필터 체인을 수행합니다.
+     *
+     * @param request     HTTP 요청 객체
+     * @param response    HTTP 응답 객체
+     * @param filterChain 필터 체인
+     * @throws IOException 오류 응답 전송 실패 시
+     */
+    private void authenticate(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws IOException {
         try {
             if (shouldSkipTokenValidation(request)) {
                 filterChain.doFilter(request, response);
@@ -78,12 +105,7 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             }
 
             String token = tokenOptional.get();
-            if (tokenBlacklistProvider.isBlacklisted(token)) {
-                log.warn("Attempted use of blacklisted token: {}", token);
-                handleException(response, "Token is blacklisted", HttpStatus.UNAUTHORIZED);
-                return;
-            }
-
+            // 서명 검증을 먼저 하여 위조된 토큰으로는 블랙리스트 조회(DB)가 일어나지 않도록 함
             if (!jwtProvider.validateToken(token)) {
                 log.warn("Invalid or expired token: {}", token);
                 handleException(response, "Invalid or expired token", HttpStatus.UNAUTHORIZED);
@@ -91,7 +113,15 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             }
 
             String email = jwtProvider.extractUsername(token);
-            Optional<Member> memberOptional = memberService.findMemberByEmail(email);
+            Optional<Member> memberOptional;
+            try (RoutingDataSource.Scope ignored = RoutingDataSource.use(Pool.AUTH)) {
+                if (tokenBlacklistProvider.isBlacklisted(token)) {
+                    log.warn("Attempted use of blacklisted token: {}", token);
+                    handleException(response, "Token is blacklisted", HttpStatus.UNAUTHORIZED);
+                    return;
+                }
+                memberOptional = memberService.findMemberByEmail(email);
+            }
             if (memberOptional.isEmpty()) {
                 log.warn("User not found for email: {}", email);
                 handleException(response, "User not found", HttpStatus.NOT_FOUND);
@@ -101,6 +131,13 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             setAuthentication(memberOptional.get());
             filterChain.doFilter(request, response);
         } catch (Exception ex) {
+            if (isConnectionPoolTimeout(ex)) {
+                // 인증 풀이 고갈된 경우 토큰 문제가 아니므로 401 대신 503 으로 재시도를 안내
+                log.warn("Auth connection pool exhausted: {}", ex.getMessage());
+                response.setHeader(HttpHeaders.RETRY_AFTER, "1");
+                handleException(response, MessageProvider.getMessage("common.service.unavailable"), HttpStatus.SERVICE_UNAVAILABLE);
+                return;
+            }
             log.error("Authentication error", ex);
             handleException(response, "Authentication error: " + ex.getMessage(), HttpStatus.UNAUTHORIZED);
         }
@@ -121,8 +158,26 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             return request.getHeader("Authorization") == null;
         }
 
-        // signIn 및 signOut 요청은 인증 검증을 건너뜁니다.
-        return requestURI.equals("/api/auth/signIn") || requestURI.equals("/api/auth/signOut");
+        // signIn, refresh 및 signOut 요청은 인증 검증을 건너뜁니다.
+        // (refresh 는 만료된 액세스 토큰이 함께 전송되어도 리프레시 토큰으로만 검증합니다.)
+        return requestURI.equals("/api/auth/signIn")
+                || requestURI.equals("/api/auth/refresh")
+                || requestURI.equals("/api/auth/signOut");
+    }
+
+    /**
+     * 커넥션 풀 대기 시간을 넘겨 실패했는지 확인합니다.
+     *
+     * @param ex 발생한 예외
+     * @return 원인에 SQLTransientConnectionException 이 있으면 true
+     */
+    private boolean isConnectionPoolTimeout(Throwable ex) {
+        for (Throwable cause = ex; cause != null; cause = cause.getCause()) {
+            if (cause instanceof SQLTransientConnectionException) {
+                return true;
+            }
+        }
+        return false;
     }
 
     /**
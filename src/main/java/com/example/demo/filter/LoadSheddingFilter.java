@@ -0,0 +1,154 @@
+package com.example.demo.filter;
+
+import com.example.demo.dto.ApiResult;
+import com.example.demo.provider.LoadSheddingProvider;
+import com.example.demo.provider.LoadSheddingProvider.Permit;
+import com.example.demo.provider.LoadSheddingProvider.RequestClass;
+import com.example.demo.provider.MessageProvider;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * 과부하 시 요청을 빠르게 거부하는 필터 (load shedding)
+ * <p>
+ * {@link JwtAuthenticationFilter} 보다 먼저 실행되어, 동시 실행 한도({@link LoadSheddingProvider})를 넘는 요청은
+ * 회원 조회나 DB 커넥션 대기에 들어가기 전에 HTTP 503 과 Retry-After 로 거부합니다.
+ * DB 가 느려져도 Tomcat 스레드와 커넥션 풀 앞에 대기열이 쌓이지 않으므로, 처리할 수 있는 만큼은 정상 응답합니다.
+ * <p>
+ * 요청 종류:
+ * <ul>
+ *   <li>/api/auth/** : AUTH</li>
+ *   <li>그 외 GET, HEAD : READ</li>
+ *   <li>그 외 : WRITE</li>
+ * </ul>
+ * OPTIONS(CORS preflight)와 /actuator/** 는 제한하지 않습니다.
+ * 비동기 요청(StreamingResponseBody 등)도 끝날 때까지 자리를 차지하지만, 처리 시간은 전송량과 클라이언트 수신 속도에
+ * 좌우되므로 한도 계산(RTT 표본)에는 반영하지 않습니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LoadSheddingFilter extends OncePerRequestFilter {
+
+    private static final long RETRY_AFTER_SECONDS = 1;
+
+    private final LoadSheddingProvider loadSheddingProvider;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return "OPTIONS".equalsIgnoreCase(request.getMethod()) || request.getRequestURI().startsWith("/actuator/");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        RequestClass requestClass = classify(request);
+        Permit permit = loadSheddingProvider.tryAcquire(requestClass);
+        if (permit == null) {
+            log.debug("Request shed: class={}, uri={}", requestClass, request.getRequestURI());
+            reject(response);
+            return;
+        }
+
+        boolean completed = false;
+        try {
+            filterChain.doFilter(request, response);
+            completed = true;
+        } finally {
+            if (completed && request.isAsyncStarted()) {
+                // 비동기 요청(StreamingResponseBody 등)은 응답이 끝날 때 처리 시간을 반영하지 않고 자리만 반환
+                request.getAsyncContext().addListener(new PermitReleasingListener(permit));
+            } else if (completed) {
+                permit.release(isOverloaded(response));
+            } else {
+                permit.releaseIgnored();
+            }
+        }
+    }
+
+    /**
+     * 요청 종류를 판단합니다.
+     *
+     * @param request HTTP 요청 객체
+     * @return 요청 종류
+     */
+    private RequestClass classify(HttpServletRequest request) {
+        if (request.getRequestURI().startsWith("/api/auth/")) {
+            return RequestClass.AUTH;
+        }
+        String method = request.getMethod();
+        return "GET".equalsIgnoreCase(method) || "HEAD".equalsIgnoreCase(method) ? RequestClass.READ : RequestClass.WRITE;
+    }
+
+    /**
+     * 하위 계층(커넥션 풀, 비밀번호 해싱 풀 등)이 과부하로 요청을 거부했는지 확인합니다.
+     *
+     * @param response HTTP 응답 객체
+     * @return 503 또는 504 이면 true
+     */
+    private static boolean isOverloaded(HttpServletResponse response) {
+        int status = response.getStatus();
+        return status == HttpStatus.SERVICE_UNAVAILABLE.value() || status == HttpStatus.GATEWAY_TIMEOUT.value();
+    }
+
+    /**
+     * HTTP 503 응답과 Retry-After 헤더를 전송합니다.
+     *
+     * @param response HTTP 응답 객체
+     * @throws IOException 응답 전송 실패 시
+     */
+    private void reject(HttpServletResponse response) throws IOException {
+        ApiResult<Void> apiResult = ApiResult.failure(MessageProvider.getMessage("common.service.unavailable"));
+        response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(RETRY_AFTER_SECONDS));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding("UTF-8");
+        response.getWriter().write(objectMapper.writeValueAsString(apiResult));
+    }
+
+    /**
+     * 비동기 요청이 끝나면 자리를 반환하는 리스너
+     * <p>
+     * 스트리밍 응답의 전체 시간은 서비스 지연이 아니므로 RTT 표본으로 쓰지 않습니다.
+     * 타임아웃과 오류 뒤에도 항상 onComplete 가 호출됩니다.
+     */
+    @RequiredArgsConstructor
+    private static final class PermitReleasingListener implements AsyncListener {
+
+        private final Permit permit;
+
+        @Override
+        public void onComplete(AsyncEvent event) {
+            permit.releaseIgnored();
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) {
+        }
+
+        @Override
+        public void onError(AsyncEvent event) {
+        }
+
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+            // 다시 비동기로 시작된 경우에도 같은 리스너로 완료를 기다림
+            event.getAsyncContext().addListener(this);
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package com.example.demo.filter;
+
+import com.example.demo.provider.QueryCounter;
+import com.example.demo.provider.QueryCounter.Recording;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * 요청별 SQL 문장 수 허용치(query budget) 확인 필터 (N+1 감지)
+ * <p>
+ * 요청마다 {@link Recording} 을 지정하여 Hibernate 가 실행한 문장 수를 세고, 허용치를 넘은 요청은
+ * 반복된 문장 형태와 함께 WARN 로그로 남깁니다. 응답에는 영향을 주지 않습니다.
+ * <ul>
+ *   <li>허용치는 http.query-budget.endpoints 에서 처음 일치하는 항목("METHOD /path/pattern=문장 수"), 없으면 default-budget 입니다.</li>
+ *   <li>기록은 {@value #RECORDING_ATTRIBUTE} 요청 속성으로도 제공되어 테스트에서 허용치 초과를 검증할 수 있습니다.</li>
+ *   <li>OPTIONS(CORS preflight)와 /actuator/** 는 집계하지 않습니다.</li>
+ * </ul>
+ */
+@Slf4j
+@Component
+public class QueryBudgetFilter extends OncePerRequestFilter {
+
+    /**
+     * 요청의 문장 실행 기록을 담는 요청 속성 이름
+     */
+    public static final String RECORDING_ATTRIBUTE = QueryBudgetFilter.class.getName() + ".RECORDING";
+
+    private static final int MAX_LOGGED_SHAPES = 5;
+    private static final int MAX_LOGGED_SQL_LENGTH = 200;
+
+    private final boolean enabled;
+    private final int defaultBudget;
+    private final EndpointRules<Integer> endpointBudgets;
+
+    public QueryBudgetFilter(
+            @Value("${http.query-budget.enabled:true}") boolean enabled,
+            @Value("${http.query-budget.default-budget:10}") int defaultBudget,
+            @Value("${http.query-budget.endpoints:}") List<String> endpoints
+    ) {
+        this.enabled = enabled;
+        this.defaultBudget = defaultBudget;
+        this.endpointBudgets = EndpointRules.parse("http.query-budget.endpoints", endpoints, Integer::valueOf);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !enabled || "OPTIONS".equalsIgnoreCase(request.getMethod()) || request.getRequestURI().startsWith("/actuator/");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        Recording recording = new Recording(resolveBudget(request));
+        request.setAttribute(RECORDING_ATTRIBUTE, recording);
+        try (QueryCounter.Scope ignored = QueryCounter.record(recording)) {
+            filterChain.doFilter(request, response);
+        } finally {
+            if (recording.isOverBudget()) {
+                log.warn("Query budget exceeded: {} {} executed {} statements (budget {}), repeated: {}",
+                        request.getMethod(), request.getRequestURI(), recording.getCount(), recording.getBudget(),
+                        describe(recording.getRepeatedShapes()));
+            }
+        }
+    }
+
+    /**
+     * 요청의 문장 수 허용치를 결정합니다.
+     *
+     * @param request HTTP 요청 객체
+     * @return 허용치
+     */
+    private int resolveBudget(HttpServletRequest request) {
+        return endpointBudgets.resolve(request, defaultBudget);
+    }
+
+    private static String describe(Map<String, Integer> repeatedShapes) {
+        return repeatedShapes.entrySet().stream()
+                .limit(MAX_LOGGED_SHAPES)
+                .map(entry -> entry.getValue() + "x " + StringUtils.truncate(entry.getKey(), MAX_LOGGED_SQL_LENGTH))
+                .collect(Collectors.joining(" | ", "[", "]"));
+    }
+}
@@ -0,0 +1,87 @@
+package com.example.demo.filter;
+
+import com.example.demo.provider.RequestDeadline;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.convert.DurationStyle;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 요청 처리 제한 시간(deadline) 설정 필터
+ * <p>
+ * 요청이 들어온 시점에 deadline 을 정하고 {@link RequestDeadline} 에 보관합니다.
+ * 이후 JDBC 문장마다 남은 시간이 query timeout 으로 지정되고, 시간이 지나면 남은 작업을 중단하여 504 로 응답합니다.
+ * <ul>
+ *   <li>제한 시간은 http.deadline.endpoints 에서 처음 일치하는 항목("METHOD /path/pattern=시간"), 없으면 default-timeout 입니다.</li>
+ *   <li>클라이언트는 {@value #TIMEOUT_HEADER} 헤더(밀리초)로 제한 시간을 줄일 수 있습니다. (늘릴 수는 없음)</li>
+ *   <li>OPTIONS(CORS preflight)와 /actuator/** 는 제한하지 않습니다.</li>
+ * </ul>
+ */
+@Slf4j
+@Component
+public class RequestDeadlineFilter extends OncePerRequestFilter {
+
+    /**
+     * 클라이언트가 기다릴 수 있는 시간(밀리초)을 알리는 헤더
+     */
+    public static final String TIMEOUT_HEADER = "X-Request-Timeout";
+
+    private final boolean enabled;
+    private final Duration defaultTimeout;
+    private final EndpointRules<Duration> endpointTimeouts;
+
+    public RequestDeadlineFilter(
+            @Value("${http.deadline.enabled:true}") boolean enabled,
+            @Value("${http.deadline.default-timeout:5s}") Duration defaultTimeout,
+            @Value("${http.deadline.endpoints:}") List<String> endpoints
+    ) {
+        this.enabled = enabled;
+        this.defaultTimeout = defaultTimeout;
+        this.endpointTimeouts = EndpointRules.parse("http.deadline.endpoints", endpoints, DurationStyle::detectAndParse);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !enabled || "OPTIONS".equalsIgnoreCase(request.getMethod()) || request.getRequestURI().startsWith("/actuator/");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        try (RequestDeadline.Scope ignored = RequestDeadline.start(resolveTimeout(request))) {
+            filterChain.doFilter(request, response);
+        }
+    }
+
+    /**
+     * 요청의 제한 시간을 결정합니다.
+     *
+     * @param request HTTP 요청 객체
+     * @return 제한 시간
+     */
+    private Duration resolveTimeout(HttpServletRequest request) {
+        Duration timeout = endpointTimeouts.resolve(request, defaultTimeout);
+
+        String header = request.getHeader(TIMEOUT_HEADER);
+        if (header != null) {
+            try {
+                long requestedMillis = Long.parseLong(header.trim());
+                if (requestedMillis > 0 && requestedMillis < timeout.toMillis()) {
+                    return Duration.ofMillis(requestedMillis);
+                }
+            } catch (NumberFormatException e) {
+                log.debug("Ignoring invalid {} header: {}", TIMEOUT_HEADER, header);
+            }
+        }
+        return timeout;
+    }
+}
@@ -0,0 +1,87 @@
+package com.example.demo.filter;
+
+import com.example.demo.provider.ResponseCompressor;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.MediaType;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * 응답 압축 필터
+ * <p>
+ * Accept-Encoding 이 gzip 을 허용하는(q > 0) 요청에 대해, 압축 대상 형식(JSON 등)이면서 임계값보다 큰 응답을 gzip 으로 압축합니다.
+ * 보안 필터 체인 바깥에서 실행되어 필터가 직접 쓰는 오류 응답도 같은 규칙으로 처리합니다.
+ * 게시글 목록 캐시처럼 미리 압축된 응답(Content-Encoding 지정)은 다시 압축하지 않습니다.
+ * 비동기 요청(StreamingResponseBody 등)은 다른 스레드가 본문을 모두 쓴 뒤 비동기 처리가 끝나는 시점에 압축을 마무리합니다.
+ */
+public class ResponseCompressionFilter extends OncePerRequestFilter {
+
+    private final ResponseCompressor responseCompressor;
+    private final int threshold;
+    private final List<MediaType> compressibleTypes;
+
+    public ResponseCompressionFilter(ResponseCompressor responseCompressor, int threshold, List<MediaType> compressibleTypes) {
+        this.responseCompressor = responseCompressor;
+        this.threshold = threshold;
+        this.compressibleTypes = compressibleTypes;
+    }
+
+    /**
+     * gzip 을 허용하지 않는 요청과 HEAD 요청은 건너뜁니다.
+     *
+     * @param request HTTP 요청 객체
+     * @return 필터를 건너뛰어야 하면 true
+     */
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return "HEAD".equalsIgnoreCase(request.getMethod()) || !AcceptEncoding.acceptsGzip(request);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        CompressingHttpServletResponse compressingResponse =
+                new CompressingHttpServletResponse(response, responseCompressor, threshold, compressibleTypes);
+        try {
+            filterChain.doFilter(request, compressingResponse);
+        } finally {
+            if (request.isAsyncStarted()) {
+                request.getAsyncContext().addListener(new FinishingListener(compressingResponse));
+            } else {
+                compressingResponse.finish();
+            }
+        }
+    }
+
+    /**
+     * 비동기 처리가 끝나면(정상 완료, 타임아웃, 오류 모두 onComplete 로 이어짐) 압축 응답을 마무리하는 리스너
+     */
+    private record FinishingListener(CompressingHttpServletResponse response) implements AsyncListener {
+
+        @Override
+        public void onComplete(AsyncEvent event) throws IOException {
+            response.finish();
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) {
+        }
+
+        @Override
+        public void onError(AsyncEvent event) {
+        }
+
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+            // 비동기 처리가 다시 시작되면 새 AsyncContext 에 리스너를 다시 등록해야 함
+            event.getAsyncContext().addListener(this);
+        }
+    }
+}
@@ -0,0 +1,157 @@
+package com.example.demo.provider;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 관측된 응답 시간으로 동시 실행 한도를 조절하는 limiter (gradient 방식)
+ * <p>
+ * 짧은 구간의 평균 응답 시간(shortRtt)을 장기 평균(longRtt)과 비교하여 한도를 조절합니다.
+ * <ul>
+ *     <li>응답 시간이 장기 평균의 tolerance 배 이내이면 한도를 sqrt(limit) 만큼 늘립니다.</li>
+ *     <li>응답 시간이 늘어나면 그 비율(gradient, 최소 0.5)만큼 한도를 줄입니다. DB 가 느려지면 대기열이 쌓이기 전에 한도가 내려갑니다.</li>
+ *     <li>하위 계층이 과부하를 알린 경우(503/504)에는 즉시 한도를 {@value #BACKOFF_RATIO} 배로 줄입니다. (AIMD)</li>
+ *     <li>실행 중인 요청이 한도의 절반 미만이면 응답 시간이 부하를 반영하지 않으므로 한도를 늘리지 않습니다.</li>
+ * </ul>
+ * 획득/반환은 CAS 만 사용하며, 응답 시간 집계만 짧은 락으로 보호합니다.
+ */
+public class AdaptiveConcurrencyLimiter {
+
+    private static final double BACKOFF_RATIO = 0.9;
+    private static final double MIN_GRADIENT = 0.5;
+    private static final double SMOOTHING = 0.2;
+    // 장기 평균에 반영되는 비율 (약 최근 100 개 구간)
+    private static final double LONG_RTT_WEIGHT = 0.01;
+    private static final long WINDOW_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+    private static final int WINDOW_MIN_SAMPLES = 10;
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final double rttTolerance;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final ReentrantLock sampleLock = new ReentrantLock();
+
+    private volatile double limit;
+
+    // sampleLock 으로 보호
+    private double longRttNanos;
+    private long windowStartNanos = System.nanoTime();
+    private long windowRttSumNanos;
+    private int windowSamples;
+    private int windowMaxInFlight;
+
+    /**
+     * @param initialLimit 초기 한도
+     * @param minLimit     최소 한도
+     * @param maxLimit     최대 한도
+     * @param rttTolerance 한도를 줄이기 전까지 허용하는 응답 시간 증가 배율 (예: 1.5)
+     */
+    public AdaptiveConcurrencyLimiter(int initialLimit, int minLimit, int maxLimit, double rttTolerance) {
+        if (minLimit < 1 || maxLimit < minLimit) {
+            throw new IllegalArgumentException("limits must satisfy 1 <= minLimit <= maxLimit");
+        }
+        if (rttTolerance < 1.0) {
+            throw new IllegalArgumentException("rttTolerance must be >= 1.0");
+        }
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.rttTolerance = rttTolerance;
+        this.limit = Math.clamp(initialLimit, minLimit, maxLimit);
+    }
+
+    /**
+     * 한도 안이면 실행 중인 요청 수를 하나 늘립니다.
+     *
+     * @return 허용되면 true (이후 반드시 {@link #release} 또는 {@link #releaseIgnored} 호출)
+     */
+    public boolean tryAcquire() {
+        int current;
+        do {
+            current = inFlight.get();
+            if (current >= (int) limit) {
+                return false;
+            }
+        } while (!inFlight.compareAndSet(current, current + 1));
+        return true;
+    }
+
+    /**
+     * 요청 완료를 기록하고 실행 중인 요청 수를 줄입니다.
+     *
+     * @param rttNanos   요청 처리 시간(나노초)
+     * @param overloaded 하위 계층이 과부하로 요청을 거부했으면 true
+     */
+    public void release(long rttNanos, boolean overloaded) {
+        int current = inFlight.getAndDecrement();
+        sampleLock.lock();
+        try {
+            if (overloaded) {
+                limit = Math.max(minLimit, limit * BACKOFF_RATIO);
+                resetWindow(System.nanoTime());
+                return;
+            }
+            windowRttSumNanos += rttNanos;
+            windowSamples++;
+            windowMaxInFlight = Math.max(windowMaxInFlight, current);
+
+            long now = System.nanoTime();
+            if (windowSamples >= WINDOW_MIN_SAMPLES && now - windowStartNanos >= WINDOW_NANOS) {
+                updateLimit((double) windowRttSumNanos / windowSamples);
+                resetWindow(now);
+            }
+        } finally {
+            sampleLock.unlock();
+        }
+    }
+
+    /**
+     * 응답 시간을 기록하지 않고 실행 중인 요청 수만 줄입니다. (예외로 끝난 요청 등)
+     */
+    public void releaseIgnored() {
+        inFlight.decrementAndGet();
+    }
+
+    /**
+     * @return 현재 한도
+     */
+    public int getLimit() {
+        return (int) limit;
+    }
+
+    /**
+     * @return 실행 중인 요청 수
+     */
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    private void updateLimit(double shortRttNanos) {
+        if (longRttNanos == 0) {
+            longRttNanos = shortRttNanos;
+        } else {
+            longRttNanos += (shortRttNanos - longRttNanos) * LONG_RTT_WEIGHT;
+            // 부하가 줄어든 뒤에도 장기 평균이 높게 남아 있으면 빠르게 따라 내려감
+            if (longRttNanos > shortRttNanos * 2) {
+                longRttNanos *= 0.95;
+            }
+        }
+
+        // 한도의 절반도 사용하지 않은 구간은 한도를 늘리는 근거가 되지 않음
+        if (windowMaxInFlight < limit / 2) {
+            return;
+        }
+
+        double gradient = Math.clamp(rttTolerance * longRttNanos / shortRttNanos, MIN_GRADIENT, 1.0);
+        double newLimit = limit * gradient + Math.sqrt(limit);
+        newLimit = limit * (1 - SMOOTHING) + newLimit * SMOOTHING;
+        limit = Math.clamp(newLimit, minLimit, maxLimit);
+    }
+
+    private void resetWindow(long now) {
+        windowStartNanos = now;
+        windowRttSumNanos = 0;
+        windowSamples = 0;
+        windowMaxInFlight = 0;
+    }
+}
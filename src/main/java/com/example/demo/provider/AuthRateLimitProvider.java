@@ -0,0 +1,56 @@
+package com.example.demo.provider;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import java.time.Duration;
+import java.util.Locale;
+
+/**
+ * 인증 엔드포인트(로그인/회원가입) 요청 빈도를 제한하는 컴포넌트입니다.
+ * <p>
+ * 클라이언트 IP 와 이메일 각각에 대해 {@link TokenBucketSketch} 를 유지합니다.
+ * 두 버킷 중 하나라도 토큰이 없으면 요청을 거부합니다.
+ */
+@Component
+public class AuthRateLimitProvider {
+
+    private final boolean enabled;
+    private final TokenBucketSketch ipBuckets;
+    private final TokenBucketSketch emailBuckets;
+
+    public AuthRateLimitProvider(
+            @Value("${auth.rate-limit.enabled:true}") boolean enabled,
+            @Value("${auth.rate-limit.ip.capacity:20}") int ipCapacity,
+            @Value("${auth.rate-limit.ip.period:1m}") Duration ipPeriod,
+            @Value("${auth.rate-limit.email.capacity:5}") int emailCapacity,
+            @Value("${auth.rate-limit.email.period:1m}") Duration emailPeriod,
+            @Value("${auth.rate-limit.sketch.width:4096}") int width,
+            @Value("${auth.rate-limit.sketch.depth:4}") int depth
+    ) {
+        this.enabled = enabled;
+        this.ipBuckets = new TokenBucketSketch(ipCapacity, ipPeriod, width, depth);
+        this.emailBuckets = new TokenBucketSketch(emailCapacity, emailPeriod, width, depth);
+    }
+
+    /**
+     * IP 와 이메일 버킷에서 토큰을 하나씩 소비합니다.
+     * IP 한도를 초과한 요청은 이메일 버킷을 소비하지 않습니다.
+     *
+     * @param clientIp 클라이언트 IP
+     * @param email    요청 본문의 이메일 (없으면 null)
+     * @return 허용되면 0, 거부되면 재시도까지 기다려야 하는 시간(나노초)
+     */
+    public long tryAcquire(String clientIp, String email) {
+        if (!enabled) {
+            return 0L;
+        }
+
+        long ipWait = ipBuckets.tryAcquire(clientIp);
+        if (ipWait > 0 || !StringUtils.hasText(email)) {
+            return ipWait;
+        }
+        return emailBuckets.tryAcquire(email.trim().toLowerCase(Locale.ROOT));
+    }
+}
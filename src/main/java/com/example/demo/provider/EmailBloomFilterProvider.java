@@ -0,0 +1,135 @@
+package com.example.demo.provider;
+
+import com.example.demo.repository.MemberRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Locale;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.stream.Stream;
+
+/**
+ * 가입된 이메일 집합에 대한 Bloom filter 를 관리하는 컴포넌트입니다.
+ * <p>
+ * {@link #mightContain(String)} 이 false 를 반환하면 해당 이메일은 확실히 가입되어 있지 않으므로
+ * 중복 확인 쿼리를 생략할 수 있습니다. true 는 "있을 수도 있음" 을 의미하며 DB 로 확인해야 합니다.
+ * <ul>
+ *     <li>애플리케이션 시작 시 members.email 전체를 읽어 채웁니다.</li>
+ *     <li>회원 가입 시 {@link #put(String)} 으로 점진적으로 갱신합니다.</li>
+ *     <li>채우기가 끝나기 전에는 항상 true 를 반환하여 DB 확인으로 위임합니다.</li>
+ * </ul>
+ */
+@Slf4j
+@Component
+public class EmailBloomFilterProvider {
+
+    private final MemberRepository memberRepository;
+    private final AtomicLongArray bits;
+    private final long bitCount;
+    private final int hashCount;
+    private final long expectedInsertions;
+    private final long seed = ThreadLocalRandom.current().nextLong();
+    private final AtomicLong insertions = new AtomicLong();
+    private volatile boolean ready = false;
+
+    /**
+     * 예상 원소 수와 목표 오탐률로 비트 수와 해시 함수 수를 계산합니다.
+     *
+     * @param memberRepository     회원 레포지토리
+     * @param expectedInsertions   예상 이메일 수
+     * @param falsePositiveRate    목표 오탐률 (0 ~ 1)
+     */
+    public EmailBloomFilterProvider(
+            MemberRepository memberRepository,
+            @Value("${auth.email-bloom.expected-insertions:1000000}") long expectedInsertions,
+            @Value("${auth.email-bloom.false-positive-rate:0.01}") double falsePositiveRate
+    ) {
+        this.memberRepository = memberRepository;
+        this.expectedInsertions = Math.max(1, expectedInsertions);
+
+        double ln2 = Math.log(2);
+        long optimalBits = (long) Math.ceil(-this.expectedInsertions * Math.log(falsePositiveRate) / (ln2 * ln2));
+        int words = (int) Math.max(1, (optimalBits + 63) / 64);
+        this.bits = new AtomicLongArray(words);
+        this.bitCount = (long) words * 64;
+        this.hashCount = Math.max(1, (int) Math.round((double) bitCount / this.expectedInsertions * ln2));
+    }
+
+    /**
+     * 애플리케이션 준비 완료 후 가입된 이메일로 필터를 채웁니다.
+     * 채우는 동안에도 요청은 DB 확인으로 처리되므로 applicationTaskExecutor 에서 비동기로 실행합니다.
+     */
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void load() {
+        long start = System.nanoTime();
+        try (Stream<String> emails = memberRepository.streamAllEmails()) {
+            emails.forEach(this::put);
+        }
+        ready = true;
+        log.info("Email bloom filter loaded: {} emails, {} bits, {} hashes in {}ms",
+                insertions.get(), bitCount, hashCount, (System.nanoTime() - start) / 1_000_000);
+    }
+
+    /**
+     * 이메일이 가입되어 있을 가능성이 있는지 확인합니다.
+     *
+     * @param email 확인할 이메일
+     * @return 확실히 없으면 false, 있을 수도 있으면 true
+     */
+    public boolean mightContain(String email) {
+        if (!ready || email == null) {
+            return true;
+        }
+
+        long hash = SeededHasher.hash(normalize(email), seed);
+        long h1 = hash;
+        long h2 = SeededHasher.mix(hash) | 1;
+        for (int i = 0; i < hashCount; i++) {
+            long bit = Math.floorMod(h1 + i * h2, bitCount);
+            if ((bits.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 이메일을 필터에 추가합니다.
+     *
+     * @param email 추가할 이메일
+     */
+    public void put(String email) {
+        long hash = SeededHasher.hash(normalize(email), seed);
+        long h1 = hash;
+        long h2 = SeededHasher.mix(hash) | 1;
+        for (int i = 0; i < hashCount; i++) {
+            long bit = Math.floorMod(h1 + i * h2, bitCount);
+            int word = (int) (bit >>> 6);
+            long mask = 1L << bit;
+            long current;
+            do {
+                current = bits.get(word);
+            } while ((current & mask) == 0 && !bits.compareAndSet(word, current, current | mask));
+        }
+
+        if (insertions.incrementAndGet() == expectedInsertions + 1) {
+            log.warn("Email bloom filter exceeded expected insertions ({}). False positive rate will grow.", expectedInsertions);
+        }
+    }
+
+    /**
+     * MySQL 기본 collation 은 대소문자를 구분하지 않으므로 소문자로 정규화합니다.
+     */
+    private String normalize(String email) {
+        return email.trim().toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,181 @@
+package com.example.demo.provider;
+
+import com.example.demo.event.PostChangedEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.util.DigestUtils;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 익명 사용자용 게시글 목록(GET /api/post) 응답을 직렬화된 바이트 그대로 캐시하는 컴포넌트입니다.
+ * <p>
+ * 익명 응답은 모든 사용자에게 동일하므로 페이지와 Locale 별로 JSON 바이트, gzip 바이트, ETag 를 한 번만 만듭니다.
+ * <ul>
+ *     <li>게시글/댓글/좋아요 변경이 커밋되면 세대(generation)를 올리고 전체를 비웁니다.</li>
+ *     <li>무효화 이전에 조회를 시작한 응답은 세대가 달라 저장되지 않으므로 오래된 내용이 남지 않습니다.</li>
+ *     <li>캐시 항목 수는 상한을 두어, 임의의 페이지/Locale 요청으로 메모리가 늘어나지 않게 합니다.</li>
+ *     <li>적중/실패 횟수(cache.gets)와 항목 수(cache.size)를 cache=feed 태그로 기록합니다.</li>
+ * </ul>
+ */
+@Slf4j
+@Component
+public class FeedResponseCacheProvider {
+
+    private static final String CACHE_NAME = "feed";
+
+    private final ResponseCompressor responseCompressor;
+    private final Map<Key, Entry> entries = new ConcurrentHashMap<>();
+    private final AtomicLong generation = new AtomicLong();
+    private final int maxEntries;
+    private final int maxPages;
+    private final Counter hitCounter;
+    private final Counter missCounter;
+
+    public FeedResponseCacheProvider(
+            ResponseCompressor responseCompressor,
+            MeterRegistry meterRegistry,
+            @Value("${post.feed-cache.max-entries:256}") int maxEntries,
+            @Value("${post.feed-cache.max-pages:50}") int maxPages
+    ) {
+        this.responseCompressor = responseCompressor;
+        this.maxEntries = maxEntries;
+        this.maxPages = maxPages;
+        this.hitCounter = cacheGetsCounter(meterRegistry, "hit");
+        this.missCounter = cacheGetsCounter(meterRegistry, "miss");
+        Gauge.builder("cache.size", entries, Map::size)
+                .description("캐시 항목 수")
+                .tag("cache", CACHE_NAME)
+                .register(meterRegistry);
+    }
+
+    private static Counter cacheGetsCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("cache.gets")
+                .description("캐시 조회 횟수 (적중/실패)")
+                .tags("cache", CACHE_NAME, "result", result)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 캐시 키
+     *
+     * @param page   페이지 번호
+     * @param locale 응답 메시지 Locale
+     */
+    public record Key(int page, Locale locale) {
+    }
+
+    /**
+     * 캐시된 응답
+     *
+     * @param json     JSON 바이트
+     * @param gzip     gzip 압축된 JSON 바이트
+     * @param etag     JSON 표현의 ETag
+     * @param gzipEtag gzip 표현의 ETag
+     */
+    public record Entry(byte[] json, byte[] gzip, String etag, String gzipEtag) {
+
+        /**
+         * If-None-Match 헤더 값이 이 응답의 어느 표현과든 일치하는지 확인합니다. (약한 비교)
+         *
+         * @param ifNoneMatch If-None-Match 헤더 값
+         * @return 일치하면 true
+         */
+        public boolean matches(String ifNoneMatch) {
+            if (ifNoneMatch == null) {
+                return false;
+            }
+            for (String candidate : ifNoneMatch.split(",")) {
+                String tag = candidate.trim();
+                if (tag.startsWith("W/")) {
+                    tag = tag.substring(2);
+                }
+                if (tag.equals("*") || tag.equals(etag) || tag.equals(gzipEtag)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+
+    /**
+     * 캐시 대상 페이지인지 확인합니다.
+     *
+     * @param page 페이지 번호
+     * @return 캐시 대상이면 true
+     */
+    public boolean isCacheable(int page) {
+        return page >= 0 && page < maxPages;
+    }
+
+    /**
+     * 캐시된 응답을 조회합니다.
+     *
+     * @param key 캐시 키
+     * @return 캐시된 응답 (없으면 null)
+     */
+    public Entry get(Key key) {
+        Entry entry = entries.get(key);
+        (entry != null ? hitCounter : missCounter).increment();
+        return entry;
+    }
+
+    /**
+     * 현재 세대를 반환합니다. 응답 생성을 시작하기 전에 읽어 {@link #put(Key, byte[], long)} 에 전달합니다.
+     *
+     * @return 현재 세대
+     */
+    public long currentGeneration() {
+        return generation.get();
+    }
+
+    /**
+     * JSON 바이트로 캐시 항목을 만들고, 생성 도중 무효화되지 않았다면 저장합니다.
+     *
+     * @param key        캐시 키
+     * @param json       직렬화된 응답
+     * @param generation 응답 생성을 시작할 때의 세대
+     * @return 생성된 캐시 항목 (저장되지 않았더라도 반환)
+     */
+    public Entry put(Key key, byte[] json, long generation) {
+        String hash = DigestUtils.md5DigestAsHex(json);
+        Entry entry = new Entry(json, responseCompressor.gzip(json), "\"" + hash + "\"", "\"" + hash + "-gz\"");
+
+        if (entries.size() < maxEntries && this.generation.get() == generation) {
+            entries.put(key, entry);
+            // put 과 무효화가 겹쳤다면 방금 넣은 항목을 제거
+            if (this.generation.get() != generation) {
+                entries.remove(key, entry);
+            }
+        }
+        return entry;
+    }
+
+    /**
+     * 게시글 관련 변경이 커밋된 뒤 캐시를 무효화합니다.
+     *
+     * @param event 게시글 변경 이벤트
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onPostChanged(PostChangedEvent event) {
+        invalidate();
+    }
+
+    /**
+     * 세대를 올리고 모든 캐시 항목을 제거합니다.
+     */
+    public void invalidate() {
+        generation.incrementAndGet();
+        entries.clear();
+        log.debug("Feed response cache invalidated");
+    }
+}
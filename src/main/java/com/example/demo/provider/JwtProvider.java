@@ -3,6 +3,8 @@ package com.example.demo.provider;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
 import io.jsonwebtoken.security.SecurityException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
@@ -13,6 +15,9 @@ import javax.crypto.SecretKey;
 import java.nio.charset.StandardCharsets;
 import java.time.Instant;
 import java.util.Date;
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
 import java.util.Optional;
 
 /**
@@ -25,6 +30,7 @@ import java.util.Optional;
  *     <li>토큰 유효성 검증</li>
  *     <li>토큰에서 사용자 정보 추출</li>
  *     <li>HTTP 요청에서 토큰 추출</li>
+ *     <li>검증 결과별 횟수 메트릭(auth.jwt.validations) 기록</li>
  * </ul>
  *
  * @author Your Name
@@ -40,21 +46,37 @@ public class JwtProvider {
 
     private final SecretKey secretKey;
     private final long expirationMillis;
+    private final Map<ValidationResult, Counter> validationCounters = new EnumMap<>(ValidationResult.class);
+
+    /**
+     * 토큰 검증 결과
+     */
+    private enum ValidationResult {
+        VALID, EMPTY, EXPIRED, UNSUPPORTED, MALFORMED, SIGNATURE, INVALID
+    }
 
     /**
      * JWT Provider 인스턴스를 초기화합니다.
      *
      * @param secret JWT 서명에 사용될 비밀 키 (최소 32바이트)
      * @param expirationMillis 토큰 만료 시간 (밀리초)
+     * @param meterRegistry 메트릭 레지스트리
      * @throws IllegalArgumentException 비밀 키가 최소 길이 요구사항을 충족하지 않는 경우
      */
     public JwtProvider(
             @Value("${jwt.secret}") String secret,
-            @Value("${jwt.expirationMillis}") long expirationMillis
+            @Value("${jwt.expirationMillis}") long expirationMillis,
+            MeterRegistry meterRegistry
     ) {
         validateSecretKey(secret);
         this.secretKey = Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
         this.expirationMillis = expirationMillis;
+        for (ValidationResult result : ValidationResult.values()) {
+            validationCounters.put(result, Counter.builder("auth.jwt.validations")
+                    .description("JWT 토큰 검증 횟수 (결과별)")
+                    .tag("result", result.name().toLowerCase(Locale.ROOT))
+                    .register(meterRegistry));
+        }
     }
 
     /**
@@ -101,7 +123,16 @@ public class JwtProvider {
      * @return Bearer 토큰을 포함한 Optional
      */
     public Optional<String> extractToken(HttpServletRequest request) {
-        String header = request.getHeader(AUTHORIZATION_HEADER);
+        return extractToken(request.getHeader(AUTHORIZATION_HEADER));
+    }
+
+    /**
+     * Authorization 헤더 값에서 Bearer 토큰을 추출합니다. (서블릿 외 환경용)
+     *
+     * @param header Authorization 헤더 값 (없으면 null)
+     * @return Bearer 토큰을 포함한 Optional
+     */
+    public Optional<String> extractToken(String header) {
         if (StringUtils.hasText(header) && header.startsWith(BEARER_PREFIX)) {
             return Optional.of(header.substring(BEARER_PREFIX.length()));
         }
@@ -115,28 +146,34 @@ public class JwtProvider {
      * @return 토큰이 유효한 경우 true, 그렇지 않으면 false
      */
     public boolean validateToken(String token) {
+        ValidationResult result = validate(token);
+        validationCounters.get(result).increment();
+        return result == ValidationResult.VALID;
+    }
+
+    private ValidationResult validate(String token) {
         if (!StringUtils.hasText(token)) {
-            return false;
+            return ValidationResult.EMPTY;
         }
 
         try {
             parseToken(token);
-            return true;
+            return ValidationResult.VALID;
         } catch (ExpiredJwtException e) {
             log.warn("만료된 JWT 토큰: {}", e.getMessage());
-            return false;
+            return ValidationResult.EXPIRED;
         } catch (UnsupportedJwtException e) {
             log.warn("지원되지 않는 JWT 형식: {}", e.getMessage());
-            return false;
+            return ValidationResult.UNSUPPORTED;
         } catch (MalformedJwtException e) {
             log.warn("잘못된 JWT 형식: {}", e.getMessage());
-            return false;
+            return ValidationResult.MALFORMED;
         } catch (SecurityException e) {
             log.warn("JWT 보안 검증 실패: {}", e.getMessage());
-            return false;
+            return ValidationResult.SIGNATURE;
         } catch (JwtException e) {
             log.warn("JWT 검증 실패: {}", e.getMessage());
-            return false;
+            return ValidationResult.INVALID;
         }
     }
 
@@ -156,6 +193,21 @@ public class JwtProvider {
         }
     }
 
+    /**
+     * JWT 토큰의 만료 시각을 추출합니다.
+     *
+     * @param token JWT 토큰
+     * @return 만료 시각. 토큰이 유효하지 않은 경우 null
+     */
+    public Instant extractExpiration(String token) {
+        try {
+            return parseToken(token).getExpiration().toInstant();
+        } catch (JwtException e) {
+            log.warn("JWT 파싱 실패: {}", e.getMessage());
+            return null;
+        }
+    }
+
     /**
      * JWT 토큰을 파싱하여 Claims를 추출합니다.
      *
@@ -0,0 +1,153 @@
+package com.example.demo.provider;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 요청 종류(읽기/쓰기/인증)별 동시 실행 한도를 관리하는 컴포넌트입니다.
+ * <p>
+ * 종류마다 {@link AdaptiveConcurrencyLimiter} 를 따로 두어, 응답 시간이 다른 요청(예: BCrypt 를 쓰는 로그인)이
+ * 서로의 한도에 영향을 주지 않도록 합니다. 여기에 전체 동시 실행 상한(max-in-flight)을 두고,
+ * 종류마다 사용할 수 있는 비율(max-share)을 다르게 하여 우선순위를 적용합니다.
+ * 전체가 붐비면 비율이 낮은 종류(기본: 읽기)부터 거부되어, 남은 자리는 쓰기/인증 요청이 사용합니다.
+ */
+@Component
+public class LoadSheddingProvider {
+
+    /**
+     * 요청 종류
+     */
+    public enum RequestClass {
+        READ, WRITE, AUTH
+    }
+
+    private final boolean enabled;
+    private final int maxInFlight;
+    private final AtomicInteger totalInFlight = new AtomicInteger();
+    private final Map<RequestClass, AdaptiveConcurrencyLimiter> limiters = new EnumMap<>(RequestClass.class);
+    private final Map<RequestClass, Integer> classCeilings = new EnumMap<>(RequestClass.class);
+    private final Map<RequestClass, Counter> shedCounters = new EnumMap<>(RequestClass.class);
+
+    public LoadSheddingProvider(
+            MeterRegistry meterRegistry,
+            @Value("${http.load-shedding.enabled:true}") boolean enabled,
+            @Value("${http.load-shedding.max-in-flight:200}") int maxInFlight,
+            @Value("${http.load-shedding.min-limit:4}") int minLimit,
+            @Value("${http.load-shedding.rtt-tolerance:1.5}") double rttTolerance,
+            @Value("${http.load-shedding.read.max-limit:150}") int readMaxLimit,
+            @Value("${http.load-shedding.read.max-share:0.7}") double readMaxShare,
+            @Value("${http.load-shedding.write.max-limit:100}") int writeMaxLimit,
+            @Value("${http.load-shedding.write.max-share:1.0}") double writeMaxShare,
+            @Value("${http.load-shedding.auth.max-limit:50}") int authMaxLimit,
+            @Value("${http.load-shedding.auth.max-share:0.9}") double authMaxShare
+    ) {
+        this.enabled = enabled;
+        this.maxInFlight = maxInFlight;
+        register(RequestClass.READ, readMaxLimit, readMaxShare, minLimit, rttTolerance);
+        register(RequestClass.WRITE, writeMaxLimit, writeMaxShare, minLimit, rttTolerance);
+        register(RequestClass.AUTH, authMaxLimit, authMaxShare, minLimit, rttTolerance);
+
+        Gauge.builder("http.server.concurrency.in.flight", totalInFlight, AtomicInteger::get)
+                .description("Requests currently admitted by the load shedding filter")
+                .register(meterRegistry);
+        limiters.forEach((requestClass, limiter) -> {
+            String tag = requestClass.name().toLowerCase(Locale.ROOT);
+            Gauge.builder("http.server.concurrency.limit", limiter, AdaptiveConcurrencyLimiter::getLimit)
+                    .description("Adaptive concurrency limit")
+                    .tag("class", tag)
+                    .register(meterRegistry);
+            shedCounters.put(requestClass, Counter.builder("http.server.requests.shed")
+                    .description("Requests rejected with 503 by the load shedding filter")
+                    .tag("class", tag)
+                    .register(meterRegistry));
+        });
+    }
+
+    /**
+     * 요청 실행 자리를 얻습니다.
+     *
+     * @param requestClass 요청 종류
+     * @return 허용되면 자리, 거부되면 null
+     */
+    public Permit tryAcquire(RequestClass requestClass) {
+        if (!enabled) {
+            return Permit.UNLIMITED;
+        }
+
+        int ceiling = classCeilings.get(requestClass);
+        int current;
+        do {
+            current = totalInFlight.get();
+            if (current >= ceiling) {
+                shedCounters.get(requestClass).increment();
+                return null;
+            }
+        } while (!totalInFlight.compareAndSet(current, current + 1));
+
+        AdaptiveConcurrencyLimiter limiter = limiters.get(requestClass);
+        if (!limiter.tryAcquire()) {
+            totalInFlight.decrementAndGet();
+            shedCounters.get(requestClass).increment();
+            return null;
+        }
+        return new Permit(this, limiter, System.nanoTime());
+    }
+
+    private void register(RequestClass requestClass, int maxLimit, double maxShare, int minLimit, double rttTolerance) {
+        int initialLimit = Math.max(minLimit, maxLimit / 4);
+        limiters.put(requestClass, new AdaptiveConcurrencyLimiter(initialLimit, Math.min(minLimit, maxLimit), maxLimit, rttTolerance));
+        classCeilings.put(requestClass, Math.max(1, (int) Math.round(maxInFlight * Math.clamp(maxShare, 0.0, 1.0))));
+    }
+
+    /**
+     * 허용된 요청의 실행 자리. 요청이 끝나면 한 번만 반환합니다.
+     */
+    public static final class Permit {
+
+        static final Permit UNLIMITED = new Permit(null, null, 0L);
+
+        private final LoadSheddingProvider owner;
+        private final AdaptiveConcurrencyLimiter limiter;
+        private final long startNanos;
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        private Permit(LoadSheddingProvider owner, AdaptiveConcurrencyLimiter limiter, long startNanos) {
+            this.owner = owner;
+            this.limiter = limiter;
+            this.startNanos = startNanos;
+        }
+
+        /**
+         * 처리 시간을 한도 계산에 반영하고 자리를 반환합니다.
+         *
+         * @param overloaded 하위 계층이 과부하로 요청을 거부했으면 true (503/504 응답)
+         */
+        public void release(boolean overloaded) {
+            if (limiter == null || !released.compareAndSet(false, true)) {
+                return;
+            }
+            limiter.release(System.nanoTime() - startNanos, overloaded);
+            owner.totalInFlight.decrementAndGet();
+        }
+
+        /**
+         * 처리 시간을 반영하지 않고 자리만 반환합니다. (예외로 끝난 요청)
+         */
+        public void releaseIgnored() {
+            if (limiter == null || !released.compareAndSet(false, true)) {
+                return;
+            }
+            limiter.releaseIgnored();
+            owner.totalInFlight.decrementAndGet();
+        }
+    }
+}
@@ -1,27 +1,58 @@
 package com.example.demo.provider;
 
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.MessageSource;
 import org.springframework.context.i18n.LocaleContextHolder;
+import org.springframework.context.support.ReloadableResourceBundleMessageSource;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
 import org.springframework.stereotype.Component;
 
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.text.MessageFormat;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Properties;
+
 /**
- * 메시지 프로바이더는 현재 요청의 Locale에 맞는 메시지를 MessageSource에서 조회하여 반환합니다.
+ * 메시지 프로바이더는 현재 요청의 Locale에 맞는 메시지를 반환합니다.
  * 이 클래스는 전역에서 정적 메서드를 통해 손쉽게 사용될 수 있습니다.
+ * <p>
+ * 시작 시 messages*.properties 를 모두 읽어 Locale 별 불변 테이블로 만들어 두므로,
+ * 조회 시에는 MessageSource 를 거치지 않고 맵 조회만 수행합니다.
+ * <ul>
+ *     <li>인자가 없으면 intern 된 원문 문자열을 그대로 반환합니다.</li>
+ *     <li>인자가 있으면 미리 파싱된 {@link MessageFormat} 을 복제하여 사용합니다.</li>
+ *     <li>Locale 탐색 순서는 기존 MessageSource 와 같습니다. (언어_국가 → 언어 → 시스템 기본 → 기본 파일)</li>
+ *     <li>파일 변경은 {@link #reload()} 를 명시적으로 호출해야 반영됩니다.</li>
+ * </ul>
  */
+@Slf4j
 @Component
 public final class MessageProvider {
 
-    private static MessageSource messageSource;
+    private static final String BASENAME = "messages";
+    private static final String LOCATION_PATTERN = "classpath*:" + BASENAME + "*.properties";
+
+    private static volatile MessageTable table;
+
+    private final MessageSource messageSource;
 
     /**
-     * 생성자 주입을 통해 MessageSource를 할당합니다.
+     * 생성자 주입을 통해 MessageSource를 할당하고 메시지 테이블을 생성합니다.
      *
-     * @param messageSource Spring에서 제공하는 MessageSource 빈
+     * @param messageSource Spring에서 제공하는 MessageSource 빈 (reload 시 캐시를 함께 비움)
      */
     @Autowired
     public MessageProvider(MessageSource messageSource) {
-        MessageProvider.messageSource = messageSource;
+        this.messageSource = messageSource;
+        MessageProvider.table = MessageTable.load();
     }
 
     /**
@@ -29,9 +60,165 @@ public final class MessageProvider {
      *
      * @param code 메시지 코드 (예: "user.email.exists")
      * @param args 메시지 포맷에 사용할 인자 (없을 경우 생략 가능)
-     * @return 해당 로케일에 맞는 메시지 문자열
+     * @return 해당 로케일에 맞는 메시지 문자열 (코드가 없으면 코드 자체)
      */
     public static String getMessage(String code, Object... args) {
-        return messageSource.getMessage(code, args, LocaleContextHolder.getLocale());
+        MessageTable current = table;
+        if (current == null) {
+            return code;
+        }
+
+        CompiledMessage message = current.resolve(LocaleContextHolder.getLocale()).get(code);
+        if (message == null) {
+            return code;
+        }
+        return (args == null || args.length == 0) ? message.raw() : message.format(args);
+    }
+
+    /**
+     * messages*.properties 를 다시 읽어 테이블을 교체합니다.
+     * 새 테이블이 완성된 뒤 한 번에 교체되므로 조회 중인 요청은 영향을 받지 않습니다.
+     *
+     * @return 로드된 Locale 수
+     */
+    public int reload() {
+        MessageTable reloaded = MessageTable.load();
+        MessageProvider.table = reloaded;
+        if (messageSource instanceof ReloadableResourceBundleMessageSource reloadable) {
+            reloadable.clearCache();
+        }
+        log.info("Messages reloaded: {} locales", reloaded.size());
+        return reloaded.size();
+    }
+
+    /**
+     * 미리 파싱된 메시지
+     *
+     * @param raw    원문 (intern 됨)
+     * @param format 파싱된 MessageFormat 원형 (스레드 안전하지 않으므로 복제하여 사용)
+     */
+    private record CompiledMessage(String raw, MessageFormat format) {
+
+        static CompiledMessage compile(String raw, Locale locale) {
+            MessageFormat format;
+            try {
+                format = new MessageFormat(raw, locale);
+            } catch (IllegalArgumentException e) {
+                format = null; // 포맷으로 해석할 수 없는 메시지는 원문 그대로 사용
+            }
+            return new CompiledMessage(raw.intern(), format);
+        }
+
+        String format(Object[] args) {
+            return (format == null) ? raw : ((MessageFormat) format.clone()).format(args);
+        }
+    }
+
+    /**
+     * Locale 별 불변 메시지 테이블
+     * <p>
+     * 각 Locale 의 맵에는 탐색 순서상 뒤의 파일(시스템 기본, 기본 파일) 메시지까지 모두 병합되어 있어
+     * 조회는 항상 맵 한 번으로 끝납니다.
+     */
+    private static final class MessageTable {
+
+        private final Map<Locale, Map<String, CompiledMessage>> tables;
+        private final Map<String, CompiledMessage> fallback;
+
+        private MessageTable(Map<Locale, Map<String, CompiledMessage>> tables, Map<String, CompiledMessage> fallback) {
+            this.tables = tables;
+            this.fallback = fallback;
+        }
+
+        static MessageTable load() {
+            Map<Locale, Properties> files = readFiles();
+            Locale systemLocale = Locale.getDefault();
+
+            Map<String, CompiledMessage> fallback = merge(files, systemLocale, null);
+            Map<Locale, Map<String, CompiledMessage>> tables = new HashMap<>();
+            for (Locale locale : files.keySet()) {
+                if (!locale.equals(Locale.ROOT)) {
+                    tables.put(locale, merge(files, systemLocale, locale));
+                }
+            }
+            return new MessageTable(Map.copyOf(tables), fallback);
+        }
+
+        /**
+         * 요청 Locale 에 가장 가까운 테이블을 찾습니다. 요청마다 다른 Locale 이 와도 새 항목을 만들지 않습니다.
+         */
+        Map<String, CompiledMessage> resolve(Locale locale) {
+            Map<String, CompiledMessage> found = tables.get(locale);
+            if (found == null && !locale.getCountry().isEmpty()) {
+                found = tables.get(Locale.of(locale.getLanguage()));
+            }
+            return (found != null) ? found : fallback;
+        }
+
+        int size() {
+            return tables.size();
+        }
+
+        /**
+         * 기본 파일 → 시스템 Locale → 요청 Locale 순으로 덮어써서, 구체적인 파일이 우선하도록 병합합니다.
+         */
+        private static Map<String, CompiledMessage> merge(Map<Locale, Properties> files, Locale systemLocale, Locale locale) {
+            Map<String, String> merged = new HashMap<>();
+            putAll(merged, files.get(Locale.ROOT));
+            putAll(merged, files.get(Locale.of(systemLocale.getLanguage())));
+            putAll(merged, files.get(systemLocale));
+            if (locale != null) {
+                putAll(merged, files.get(Locale.of(locale.getLanguage())));
+                putAll(merged, files.get(locale));
+            }
+
+            Locale formatLocale = (locale != null) ? locale : systemLocale;
+            Map<String, CompiledMessage> compiled = new HashMap<>();
+            merged.forEach((code, raw) -> compiled.put(code, CompiledMessage.compile(raw, formatLocale)));
+            return Map.copyOf(compiled);
+        }
+
+        private static void putAll(Map<String, String> target, Properties properties) {
+            if (properties != null) {
+                properties.forEach((key, value) -> target.put((String) key, (String) value));
+            }
+        }
+
+        private static Map<Locale, Properties> readFiles() {
+            Map<Locale, Properties> files = new HashMap<>();
+            try {
+                for (Resource resource : new PathMatchingResourcePatternResolver().getResources(LOCATION_PATTERN)) {
+                    Locale locale = toLocale(resource.getFilename());
+                    if (locale == null) {
+                        continue;
+                    }
+                    Properties properties = files.computeIfAbsent(locale, l -> new Properties());
+                    try (Reader reader = new InputStreamReader(resource.getInputStream(), StandardCharsets.UTF_8)) {
+                        properties.load(reader);
+                    }
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException("Failed to load " + LOCATION_PATTERN, e);
+            }
+            return files;
+        }
+
+        /**
+         * messages.properties → ROOT, messages_ko.properties → ko, messages_en_US.properties → en_US
+         */
+        private static Locale toLocale(String filename) {
+            if (filename == null) {
+                return null;
+            }
+            String name = filename.substring(0, filename.length() - ".properties".length());
+            if (name.equals(BASENAME)) {
+                return Locale.ROOT;
+            }
+            if (!name.startsWith(BASENAME + "_")) {
+                return null;
+            }
+            String[] parts = name.substring(BASENAME.length() + 1).split("_");
+            return (parts.length == 1) ? Locale.of(parts[0]) : Locale.of(parts[0], parts[1]);
+        }
     }
 }
@@ -0,0 +1,143 @@
+package com.example.demo.provider;
+
+import com.example.demo.exception.ServiceOverloadedException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * 비밀번호 해싱/검증을 전용 스레드 풀에서 실행하는 컴포넌트입니다.
+ *
+ * <p>주요 기능:
+ * <ul>
+ *     <li>BCrypt 해싱 및 검증을 {@code passwordHashExecutor} 에 위임</li>
+ *     <li>대기열 포화 시 {@link ServiceOverloadedException} 으로 즉시 거부</li>
+ *     <li>대기열 길이, 실행 중 작업 수, 해싱 지연 시간 메트릭 노출</li>
+ * </ul>
+ */
+@Slf4j
+@Component
+public class PasswordHashProvider {
+
+    private static final String METRIC_PREFIX = "auth.password.hash";
+
+    private final PasswordEncoder passwordEncoder;
+    private final ThreadPoolExecutor executor;
+    private final long retryAfterSeconds;
+    private final Timer encodeTimer;
+    private final Timer matchesTimer;
+    private final Counter rejectedCounter;
+
+    /**
+     * PasswordHashProvider 인스턴스를 초기화하고 메트릭을 등록합니다.
+     *
+     * @param passwordEncoder   실제 해싱을 수행할 PasswordEncoder
+     * @param executor          비밀번호 해싱 전용 스레드 풀
+     * @param meterRegistry     메트릭 레지스트리
+     * @param retryAfterSeconds 거부 시 클라이언트에 안내할 재시도 대기 시간(초)
+     */
+    public PasswordHashProvider(
+            PasswordEncoder passwordEncoder,
+            @Qualifier("passwordHashExecutor") ThreadPoolExecutor executor,
+            MeterRegistry meterRegistry,
+            @Value("${auth.password-hash.retry-after-seconds:1}") long retryAfterSeconds
+    ) {
+        this.passwordEncoder = passwordEncoder;
+        this.executor = executor;
+        this.retryAfterSeconds = retryAfterSeconds;
+
+        this.encodeTimer = Timer.builder(METRIC_PREFIX)
+                .description("BCrypt 해싱/검증 실행 시간 (대기 시간 제외)")
+                .tag("operation", "encode")
+                .register(meterRegistry);
+        this.matchesTimer = Timer.builder(METRIC_PREFIX)
+                .description("BCrypt 해싱/검증 실행 시간 (대기 시간 제외)")
+                .tag("operation", "matches")
+                .register(meterRegistry);
+        this.rejectedCounter = Counter.builder(METRIC_PREFIX + ".rejected")
+                .description("대기열 포화로 거부된 해싱 요청 수")
+                .register(meterRegistry);
+        Gauge.builder(METRIC_PREFIX + ".queue.size", executor, e -> e.getQueue().size())
+                .description("해싱 대기열에 쌓인 작업 수")
+                .register(meterRegistry);
+        Gauge.builder(METRIC_PREFIX + ".active", executor, ThreadPoolExecutor::getActiveCount)
+                .description("현재 해싱 중인 작업 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 평문 비밀번호를 해싱합니다.
+     *
+     * @param rawPassword 평문 비밀번호
+     * @return 해싱된 비밀번호
+     * @throws ServiceOverloadedException 해싱 대기열이 가득 찬 경우
+     */
+    public String encode(String rawPassword) {
+        return execute(() -> encodeTimer.record(() -> passwordEncoder.encode(rawPassword)));
+    }
+
+    /**
+     * 평문 비밀번호와 해싱된 비밀번호의 일치 여부를 검증합니다.
+     *
+     * @param rawPassword     평문 비밀번호
+     * @param encodedPassword 저장된 해싱 비밀번호
+     * @return 일치하면 true
+     * @throws ServiceOverloadedException 해싱 대기열이 가득 찬 경우
+     */
+    public boolean matches(String rawPassword, String encodedPassword) {
+        return execute(() -> matchesTimer.record(() -> passwordEncoder.matches(rawPassword, encodedPassword)));
+    }
+
+    /**
+     * 저장된 해시를 현재 설정된 강도로 다시 해싱해야 하는지 확인합니다.
+     * 해시 문자열만 검사하므로 스레드 풀을 사용하지 않습니다.
+     *
+     * @param encodedPassword 저장된 해싱 비밀번호
+     * @return 다시 해싱해야 하면 true
+     */
+    public boolean needsRehash(String encodedPassword) {
+        return passwordEncoder.upgradeEncoding(encodedPassword);
+    }
+
+    /**
+     * 작업을 전용 스레드 풀에 제출하고 결과를 기다립니다.
+     *
+     * @param task 실행할 해싱 작업
+     * @return 작업 결과
+     */
+    private <T> T execute(Callable<T> task) {
+        Future<T> future;
+        try {
+            future = executor.submit(task);
+        } catch (RejectedExecutionException e) {
+            rejectedCounter.increment();
+            log.warn("Password hash queue is full (queued: {})", executor.getQueue().size());
+            throw new ServiceOverloadedException(MessageProvider.getMessage("common.service.unavailable"), retryAfterSeconds);
+        }
+
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for password hashing", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException("Password hashing failed", e.getCause());
+        }
+    }
+}
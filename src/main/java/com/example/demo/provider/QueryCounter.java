@@ -0,0 +1,134 @@
+package com.example.demo.provider;
+
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Pattern;
+
+/**
+ * 현재 요청에서 실행된 SQL 문장 수를 세는 클래스 (N+1 감지)
+ * <p>
+ * QueryBudgetFilter 가 요청마다 {@link Recording} 을 지정하고, Hibernate StatementInspector 가 문장마다
+ * {@link #record(String)} 를 호출합니다. 같은 형태의 문장이 반복되면 모양(shape)별로 묶어 셉니다.
+ * <ul>
+ *     <li>{@link TaskScopeProvider} 의 작업 스레드로 전달되므로 동시 조회도 같은 요청으로 집계됩니다.</li>
+ *     <li>기록이 지정되지 않은 스레드(스케줄러, 마이그레이션 등)의 문장은 세지 않습니다.</li>
+ * </ul>
+ */
+public final class QueryCounter {
+
+    private static final ThreadLocal<Recording> CURRENT_RECORDING = new ThreadLocal<>();
+
+    // IN 목록의 길이만 다른 문장은 같은 형태로 봄
+    private static final Pattern IN_LIST = Pattern.compile("\\(\\s*\\?(\\s*,\\s*\\?)+\\s*\\)");
+
+    private QueryCounter() {
+    }
+
+    /**
+     * 현재 스레드의 문장을 주어진 기록에 집계합니다. try-with-resources 로 사용합니다.
+     *
+     * @param recording 집계할 기록 (null 이면 집계하지 않음)
+     * @return 블록을 벗어날 때 이전 기록을 복원하는 범위
+     */
+    public static Scope record(Recording recording) {
+        Recording previous = CURRENT_RECORDING.get();
+        set(recording);
+        return () -> set(previous);
+    }
+
+    /**
+     * @return 현재 스레드의 기록 (없으면 null)
+     */
+    public static Recording current() {
+        return CURRENT_RECORDING.get();
+    }
+
+    /**
+     * 실행될 SQL 문장을 현재 기록에 추가합니다.
+     *
+     * @param sql SQL 문장
+     */
+    public static void record(String sql) {
+        Recording recording = CURRENT_RECORDING.get();
+        if (recording != null) {
+            recording.add(sql);
+        }
+    }
+
+    private static void set(Recording recording) {
+        if (recording == null) {
+            CURRENT_RECORDING.remove();
+        } else {
+            CURRENT_RECORDING.set(recording);
+        }
+    }
+
+    /**
+     * 한 요청의 문장 실행 기록
+     */
+    public static final class Recording {
+
+        private final int budget;
+        private final AtomicInteger count = new AtomicInteger();
+        private final Map<String, AtomicInteger> shapes = new ConcurrentHashMap<>();
+
+        /**
+         * @param budget 요청에 허용된 최대 문장 수
+         */
+        public Recording(int budget) {
+            this.budget = budget;
+        }
+
+        private void add(String sql) {
+            count.incrementAndGet();
+            shapes.computeIfAbsent(IN_LIST.matcher(sql).replaceAll("(?)"), shape -> new AtomicInteger()).incrementAndGet();
+        }
+
+        /**
+         * @return 허용된 최대 문장 수
+         */
+        public int getBudget() {
+            return budget;
+        }
+
+        /**
+         * @return 실행된 문장 수
+         */
+        public int getCount() {
+            return count.get();
+        }
+
+        /**
+         * @return 실행된 문장 수가 허용치를 넘었으면 true
+         */
+        public boolean isOverBudget() {
+            return count.get() > budget;
+        }
+
+        /**
+         * 두 번 이상 실행된 문장 형태를 실행 횟수가 많은 순서로 반환합니다. (N+1 후보)
+         *
+         * @return 문장 형태별 실행 횟수
+         */
+        public Map<String, Integer> getRepeatedShapes() {
+            Map<String, Integer> repeated = new LinkedHashMap<>();
+            shapes.entrySet().stream()
+                    .filter(entry -> entry.getValue().get() > 1)
+                    .sorted(Comparator.comparingInt((Map.Entry<String, AtomicInteger> entry) -> entry.getValue().get()).reversed())
+                    .forEach(entry -> repeated.put(entry.getKey(), entry.getValue().get()));
+            return repeated;
+        }
+    }
+
+    /**
+     * 기록 지정 범위
+     */
+    @FunctionalInterface
+    public interface Scope extends AutoCloseable {
+        @Override
+        void close();
+    }
+}
@@ -0,0 +1,88 @@
+package com.example.demo.provider;
+
+import com.example.demo.exception.DeadlineExceededException;
+
+import java.time.Duration;
+
+/**
+ * 현재 요청의 처리 제한 시간(deadline)을 보관하는 클래스
+ * <p>
+ * RequestDeadlineFilter 가 요청 시작 시점에 설정하며, 다음 작업이 남은 시간을 사용합니다.
+ * <ul>
+ *     <li>JDBC 문장마다 남은 시간을 query timeout 으로 지정 (DeadlineAwareDataSource)</li>
+ *     <li>{@link TaskScopeProvider} 의 작업 범위 제한 시간과 작업 스레드로의 전달</li>
+ * </ul>
+ * deadline 이 설정되지 않은 스레드(스케줄러, 비동기 작업 등)에서는 제한이 없습니다.
+ */
+public final class RequestDeadline {
+
+    private static final ThreadLocal<Long> DEADLINE_NANOS = new ThreadLocal<>();
+
+    private RequestDeadline() {
+    }
+
+    /**
+     * 현재 스레드에 지금부터 timeout 뒤의 deadline 을 지정합니다. try-with-resources 로 사용합니다.
+     *
+     * @param timeout 남은 처리 시간
+     * @return 블록을 벗어날 때 이전 deadline 을 복원하는 범위
+     */
+    public static Scope start(Duration timeout) {
+        return propagate(System.nanoTime() + timeout.toNanos());
+    }
+
+    /**
+     * 다른 스레드에서 가져온 deadline 을 현재 스레드에 지정합니다.
+     *
+     * @param deadlineNanos {@link System#nanoTime()} 기준 deadline (null 이면 제한 없음)
+     * @return 블록을 벗어날 때 이전 deadline 을 복원하는 범위
+     */
+    public static Scope propagate(Long deadlineNanos) {
+        Long previous = DEADLINE_NANOS.get();
+        set(deadlineNanos);
+        return () -> set(previous);
+    }
+
+    /**
+     * @return 현재 스레드의 deadline ({@link System#nanoTime()} 기준, 없으면 null)
+     */
+    public static Long current() {
+        return DEADLINE_NANOS.get();
+    }
+
+    /**
+     * @return 남은 시간(나노초, 지났으면 0 이하), deadline 이 없으면 {@link Long#MAX_VALUE}
+     */
+    public static long remainingNanos() {
+        Long deadline = DEADLINE_NANOS.get();
+        return deadline == null ? Long.MAX_VALUE : deadline - System.nanoTime();
+    }
+
+    /**
+     * deadline 이 지났으면 예외를 던집니다. 시간이 오래 걸리는 작업을 시작하기 전에 호출합니다.
+     *
+     * @throws DeadlineExceededException deadline 이 지난 경우
+     */
+    public static void checkRemaining() {
+        if (remainingNanos() <= 0) {
+            throw new DeadlineExceededException(MessageProvider.getMessage("common.deadline.exceeded"));
+        }
+    }
+
+    private static void set(Long deadlineNanos) {
+        if (deadlineNanos == null) {
+            DEADLINE_NANOS.remove();
+        } else {
+            DEADLINE_NANOS.set(deadlineNanos);
+        }
+    }
+
+    /**
+     * deadline 지정 범위
+     */
+    @FunctionalInterface
+    public interface Scope extends AutoCloseable {
+        @Override
+        void close();
+    }
+}
@@ -0,0 +1,222 @@
+package com.example.demo.provider;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 응답 본문 gzip 압축을 담당하는 컴포넌트입니다.
+ *
+ * <p>주요 기능:
+ * <ul>
+ *     <li>캐시할 응답을 한 번에 압축 ({@link #gzip(byte[])})</li>
+ *     <li>큰 응답을 스트리밍으로 압축 ({@link #openGzipStream(OutputStream)})</li>
+ *     <li>압축률과 압축에 사용한 CPU 시간 메트릭 노출</li>
+ * </ul>
+ * 가상 스레드는 스레드 CPU 시간을 제공하지 않으므로(-1) 경과 시간으로 대신 측정하고 clock=wall 태그로 구분합니다.
+ * Brotli 는 JDK 에 인코더가 없어 지원하지 않습니다.
+ */
+@Component
+public class ResponseCompressor {
+
+    private static final String METRIC_PREFIX = "http.server.response.compression";
+
+    private final ThreadMXBean threadMXBean = ManagementFactory.getThreadMXBean();
+    private final boolean cpuTimeSupported = threadMXBean.isCurrentThreadCpuTimeSupported();
+    private final DistributionSummary streamRatio;
+    private final DistributionSummary cachedRatio;
+    private final Timer streamCpuTime;
+    private final Timer cachedCpuTime;
+    private final Timer streamWallTime;
+    private final Timer cachedWallTime;
+
+    public ResponseCompressor(MeterRegistry meterRegistry) {
+        this.streamRatio = ratioSummary(meterRegistry, "stream");
+        this.cachedRatio = ratioSummary(meterRegistry, "cache");
+        this.streamCpuTime = cpuTimer(meterRegistry, "stream", "cpu");
+        this.cachedCpuTime = cpuTimer(meterRegistry, "cache", "cpu");
+        this.streamWallTime = cpuTimer(meterRegistry, "stream", "wall");
+        this.cachedWallTime = cpuTimer(meterRegistry, "cache", "wall");
+    }
+
+    /**
+     * 바이트 배열 전체를 gzip 으로 압축합니다. 캐시에 저장할 응답을 미리 압축할 때 사용합니다.
+     *
+     * @param source 원본 바이트
+     * @return 압축된 바이트
+     */
+    public byte[] gzip(byte[] source) {
+        boolean cpuClock = cpuClockAvailable();
+        long start = now(cpuClock);
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream(Math.max(64, source.length / 4));
+        try (GZIPOutputStream gzip = new GZIPOutputStream(buffer)) {
+            gzip.write(source);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        byte[] compressed = buffer.toByteArray();
+
+        (cpuClock ? cachedCpuTime : cachedWallTime).record(now(cpuClock) - start, TimeUnit.NANOSECONDS);
+        recordRatio(cachedRatio, source.length, compressed.length);
+        return compressed;
+    }
+
+    /**
+     * 대상 스트림에 쓰는 gzip 스트림을 엽니다.
+     * flush 시 지금까지의 데이터를 내보내며(sync flush), close 시 압축률과 CPU 시간을 기록합니다.
+     * close 는 대상 스트림을 닫지 않습니다.
+     *
+     * @param target 압축된 데이터를 쓸 스트림
+     * @return gzip 스트림
+     * @throws IOException gzip 헤더 쓰기 실패 시
+     */
+    public OutputStream openGzipStream(OutputStream target) throws IOException {
+        return new MeteredGzipOutputStream(target);
+    }
+
+    /**
+     * 현재 스레드에서 스레드 CPU 시간을 측정할 수 있는지 확인합니다. (가상 스레드는 지원하지 않음)
+     */
+    private boolean cpuClockAvailable() {
+        return cpuTimeSupported && !Thread.currentThread().isVirtual();
+    }
+
+    private long now(boolean cpuClock) {
+        return cpuClock ? threadMXBean.getCurrentThreadCpuTime() : System.nanoTime();
+    }
+
+    private static void recordRatio(DistributionSummary summary, long originalBytes, long compressedBytes) {
+        if (originalBytes > 0) {
+            summary.record((double) compressedBytes / originalBytes);
+        }
+    }
+
+    private static DistributionSummary ratioSummary(MeterRegistry meterRegistry, String source) {
+        return DistributionSummary.builder(METRIC_PREFIX + ".ratio")
+                .description("압축 후 크기 / 원본 크기")
+                .tag("encoding", "gzip")
+                .tag("source", source)
+                .register(meterRegistry);
+    }
+
+    private static Timer cpuTimer(MeterRegistry meterRegistry, String source, String clock) {
+        return Timer.builder(METRIC_PREFIX + ".cpu")
+                .description("응답 압축에 사용한 스레드 CPU 시간 (clock=wall 은 가상 스레드의 경과 시간)")
+                .tag("encoding", "gzip")
+                .tag("source", source)
+                .tag("clock", clock)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 입출력 바이트 수와 압축 CPU 시간을 집계하는 gzip 스트림
+     */
+    private final class MeteredGzipOutputStream extends OutputStream {
+
+        private final CountingOutputStream counter;
+        private final GZIPOutputStream gzip;
+        private long originalBytes;
+        private long cpuNanos;
+        private long wallNanos;
+        private boolean closed;
+
+        private MeteredGzipOutputStream(OutputStream target) throws IOException {
+            this.counter = new CountingOutputStream(target);
+            this.gzip = new GZIPOutputStream(counter, 8192, true);
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            write(new byte[]{(byte) b}, 0, 1);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            boolean cpuClock = cpuClockAvailable();
+            long start = now(cpuClock);
+            gzip.write(b, off, len);
+            addElapsed(cpuClock, now(cpuClock) - start);
+            originalBytes += len;
+        }
+
+        @Override
+        public void flush() throws IOException {
+            gzip.flush();
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            boolean cpuClock = cpuClockAvailable();
+            long start = now(cpuClock);
+            gzip.finish();
+            addElapsed(cpuClock, now(cpuClock) - start);
+            counter.flush();
+
+            // 비동기 응답은 쓰기 스레드가 바뀔 수 있으므로 측정 방식별로 따로 기록
+            if (cpuNanos > 0 || wallNanos == 0) {
+                streamCpuTime.record(cpuNanos, TimeUnit.NANOSECONDS);
+            }
+            if (wallNanos > 0) {
+                streamWallTime.record(wallNanos, TimeUnit.NANOSECONDS);
+            }
+            recordRatio(streamRatio, originalBytes, counter.count);
+        }
+
+        private void addElapsed(boolean cpuClock, long nanos) {
+            if (cpuClock) {
+                cpuNanos += nanos;
+            } else {
+                wallNanos += nanos;
+            }
+        }
+    }
+
+    /**
+     * 쓰인 바이트 수를 세고, close 는 대상 스트림에 전달하지 않는 스트림
+     */
+    private static final class CountingOutputStream extends OutputStream {
+
+        private final OutputStream target;
+        private long count;
+
+        private CountingOutputStream(OutputStream target) {
+            this.target = target;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            target.write(b);
+            count++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            target.write(b, off, len);
+            count += len;
+        }
+
+        @Override
+        public void flush() throws IOException {
+            target.flush();
+        }
+
+        @Override
+        public void close() {
+            // 대상 스트림(서블릿 응답)은 컨테이너가 닫습니다.
+        }
+    }
+}
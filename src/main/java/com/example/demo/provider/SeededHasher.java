@@ -0,0 +1,41 @@
+package com.example.demo.provider;
+
+/**
+ * 시드 기반 64비트 문자열 해시 유틸리티입니다.
+ * <p>
+ * 요청 값(이메일, IP 등)을 고정 크기 스케치 구조의 인덱스로 변환할 때 사용합니다.
+ * 인스턴스마다 임의 시드를 사용하면 외부에서 충돌 키를 미리 계산하기 어렵습니다.
+ */
+public final class SeededHasher {
+
+    private SeededHasher() {
+    }
+
+    /**
+     * 문자열의 64비트 해시를 계산합니다.
+     *
+     * @param value 해시할 문자열
+     * @param seed  해시 시드
+     * @return 64비트 해시 값
+     */
+    public static long hash(CharSequence value, long seed) {
+        long h = seed ^ 0x9E3779B97F4A7C15L;
+        for (int i = 0; i < value.length(); i++) {
+            h ^= value.charAt(i);
+            h *= 0x100000001B3L;
+        }
+        return mix(h ^ value.length());
+    }
+
+    /**
+     * 64비트 값을 고르게 섞습니다. (SplitMix64 finalizer)
+     *
+     * @param z 입력 값
+     * @return 섞인 값
+     */
+    public static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
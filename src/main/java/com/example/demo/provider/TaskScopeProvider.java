@@ -0,0 +1,187 @@
+package com.example.demo.provider;
+
+import com.example.demo.exception.DeadlineExceededException;
+import com.example.demo.exception.ServiceOverloadedException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.i18n.LocaleContext;
+import org.springframework.context.i18n.LocaleContextHolder;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * 하나의 요청 안에서 독립적인 조회를 가상 스레드로 동시에 실행하는 작업 범위(scope)를 제공합니다.
+ * <p>
+ * JDK 21 의 {@code StructuredTaskScope.ShutdownOnFailure} 는 preview API 이므로 같은 규칙을 직접 구현합니다.
+ * <ul>
+ *     <li>{@link Scope#fork(Callable)} 로 시작한 작업은 모두 {@link Scope#join()} 또는 close 전에 끝나거나 취소됩니다.</li>
+ *     <li>작업 하나가 실패하면 나머지 작업을 즉시 취소(interrupt)하고 그 예외를 호출 스레드에서 다시 던집니다.</li>
+ *     <li>deadline 안에 끝나지 않으면 모든 작업을 취소하고 {@link ServiceOverloadedException} 을 던집니다.
+ *     요청의 deadline({@link RequestDeadline})이 더 이르면 그 시점까지만 기다리며, 그 경우에는 {@link DeadlineExceededException} 을 던집니다.</li>
+ *     <li>호출 스레드의 SecurityContext, LocaleContext, 요청 deadline, SQL 문장 집계({@link QueryCounter})를 작업 스레드로 전달합니다.</li>
+ * </ul>
+ * 작업은 각각 별도의 트랜잭션(커넥션)에서 실행되므로, 동시에 필요한 커넥션 수는 fork 한 작업 수만큼 늘어납니다.
+ * 범위마다 실행기를 따로 두고 close 에서 취소한 작업이 실제로 끝날 때까지 기다리므로,
+ * 응답이 나간 뒤에도 남은 작업이 커넥션을 잡고 있거나 SQL 문장 집계에 기록하는 일이 없습니다.
+ */
+@Slf4j
+@Component
+public class TaskScopeProvider {
+
+    private static final long RETRY_AFTER_SECONDS = 1;
+
+    private final ThreadFactory threadFactory = Thread.ofVirtual().name("task-scope-", 0).factory();
+
+    /**
+     * 작업 범위를 엽니다. try-with-resources 로 사용합니다.
+     *
+     * @param timeout    모든 작업이 끝나야 하는 시간
+     * @param concurrent false 이면 fork 시점에 호출 스레드에서 바로 실행 (비교/장애 대응용)
+     * @return 작업 범위
+     */
+    public Scope open(Duration timeout, boolean concurrent) {
+        long deadlineNanos = System.nanoTime() + timeout.toNanos();
+        Long requestDeadline = RequestDeadline.current();
+        if (requestDeadline != null && requestDeadline - deadlineNanos < 0) {
+            deadlineNanos = requestDeadline;
+        }
+        return new Scope(concurrent ? Executors.newThreadPerTaskExecutor(threadFactory) : null, deadlineNanos);
+    }
+
+    /**
+     * fork 한 작업의 수명을 하나의 블록으로 묶는 작업 범위
+     */
+    public static final class Scope implements AutoCloseable {
+
+        private final ExecutorService executor;
+        private final CompletionService<Object> completionService;
+        private final long deadlineNanos;
+        private final List<Future<Object>> futures = new ArrayList<>();
+        private boolean joined;
+
+        private Scope(ExecutorService executor, long deadlineNanos) {
+            this.executor = executor;
+            this.completionService = (executor != null) ? new ExecutorCompletionService<>(executor) : null;
+            this.deadlineNanos = deadlineNanos;
+        }
+
+        /**
+         * 작업을 시작합니다.
+         *
+         * @param task 실행할 작업
+         * @return {@link #join()} 이후에 결과를 반환하는 핸들
+         */
+        @SuppressWarnings("unchecked")
+        public <T> Supplier<T> fork(Callable<? extends T> task) {
+            if (completionService == null) {
+                T result = callInline(task);
+                return () -> result;
+            }
+
+            SecurityContext securityContext = SecurityContextHolder.getContext();
+            LocaleContext localeContext = LocaleContextHolder.getLocaleContext();
+            Long requestDeadline = RequestDeadline.current();
+            QueryCounter.Recording recording = QueryCounter.current();
+            Future<Object> future = completionService.submit(() -> {
+                SecurityContextHolder.setContext(securityContext);
+                LocaleContextHolder.setLocaleContext(localeContext);
+                try (RequestDeadline.Scope ignored = RequestDeadline.propagate(requestDeadline);
+                     QueryCounter.Scope ignoredRecording = QueryCounter.record(recording)) {
+                    return task.call();
+                } finally {
+                    SecurityContextHolder.clearContext();
+                    LocaleContextHolder.resetLocaleContext();
+                }
+            });
+            futures.add(future);
+            return () -> {
+                if (!joined) {
+                    throw new IllegalStateException("Subtask result read before join()");
+                }
+                return (T) future.resultNow();
+            };
+        }
+
+        /**
+         * 모든 작업이 끝날 때까지 기다립니다.
+         * 실패한 작업이 있으면 나머지를 취소하고 첫 번째 실패를 그대로 다시 던집니다.
+         *
+         * @throws ServiceOverloadedException deadline 안에 끝나지 않은 경우
+         * @throws DeadlineExceededException   요청의 deadline 이 지난 경우
+         */
+        public void join() {
+            if (completionService != null) {
+                try {
+                    for (int remaining = futures.size(); remaining > 0; remaining--) {
+                        Future<Object> done = completionService.poll(deadlineNanos - System.nanoTime(), TimeUnit.NANOSECONDS);
+                        if (done == null) {
+                            cancelAll();
+                            log.warn("Task scope deadline exceeded with {} of {} subtasks running", remaining, futures.size());
+                            RequestDeadline.checkRemaining();
+                            throw new ServiceOverloadedException(
+                                    MessageProvider.getMessage("common.service.unavailable"), RETRY_AFTER_SECONDS);
+                        }
+                        if (done.state() == Future.State.FAILED) {
+                            cancelAll();
+                            throw propagate(done.exceptionNow());
+                        }
+                    }
+                } catch (InterruptedException e) {
+                    cancelAll();
+                    Thread.currentThread().interrupt();
+                    throw new IllegalStateException("Interrupted while waiting for subtasks", e);
+                }
+            }
+            joined = true;
+        }
+
+        /**
+         * 아직 실행 중인 작업을 모두 취소(interrupt)하고, 모든 작업 스레드가 끝날 때까지 기다립니다.
+         * (join 전에 블록을 벗어났거나 join 이 실패/시간 초과로 끝난 경우)
+         */
+        @Override
+        public void close() {
+            cancelAll();
+            if (executor != null) {
+                executor.close();
+            }
+        }
+
+        private void cancelAll() {
+            for (Future<Object> future : futures) {
+                future.cancel(true);
+            }
+        }
+
+        private static <T> T callInline(Callable<? extends T> task) {
+            try {
+                return task.call();
+            } catch (Exception e) {
+                throw propagate(e);
+            }
+        }
+
+        private static RuntimeException propagate(Throwable failure) {
+            if (failure instanceof RuntimeException runtimeException) {
+                return runtimeException;
+            }
+            if (failure instanceof Error error) {
+                throw error;
+            }
+            return new IllegalStateException("Subtask failed", failure);
+        }
+    }
+}
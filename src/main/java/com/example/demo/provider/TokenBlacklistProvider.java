@@ -1,47 +1,106 @@
 package com.example.demo.provider;
 
+import com.example.demo.entity.BlacklistedToken;
+import com.example.demo.repository.BlacklistedTokenRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
 
-import java.util.Set;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * TokenBlacklistProvider는 블랙리스트에 등록된 토큰들을 관리하는 컴포넌트입니다.
- * 이 클래스는 동시성을 고려하여 ConcurrentHashMap 기반의 key set을 사용합니다.
+ * <p>
+ * 블랙리스트는 token_blacklist 테이블({@link BlacklistedToken})에 저장하여 서블릿 API 인스턴스들과
+ * WebFlux 읽기 API 프로세스가 함께 사용합니다. 블랙리스트에서 확인된 토큰은 이 프로세스에도 기억하여
+ * 같은 토큰이 다시 제시되면 조회하지 않으며, 만료 시각이 지난 기록은 테이블과 함께 주기적으로 삭제합니다.
  */
+@Slf4j
 @Component
 public class TokenBlacklistProvider {
 
-    // 동시성 보장이 되는 Set을 사용하여 토큰을 관리합니다.
-    private final Set<String> blacklistedTokens = ConcurrentHashMap.newKeySet();
+    private final BlacklistedTokenRepository blacklistedTokenRepository;
+
+    // 이 프로세스에서 블랙리스트로 확인된 토큰 해시 → 만료 시각
+    private final Map<String, LocalDateTime> knownBlacklisted = new ConcurrentHashMap<>();
+
+    public TokenBlacklistProvider(BlacklistedTokenRepository blacklistedTokenRepository, MeterRegistry meterRegistry) {
+        this.blacklistedTokenRepository = blacklistedTokenRepository;
+        Gauge.builder("auth.token.blacklist.size", knownBlacklisted, Map::size)
+                .description("이 프로세스에서 확인된 블랙리스트 토큰 수")
+                .register(meterRegistry);
+    }
 
     /**
      * 주어진 토큰을 블랙리스트에 추가합니다.
      *
-     * @param token 블랙리스트에 추가할 토큰
+     * @param token     블랙리스트에 추가할 토큰
+     * @param expiresAt 토큰 만료 시각 (이후에는 서명 검증에서 거부되므로 기록을 삭제할 수 있음)
      */
-    public void addToBlacklist(String token) {
-        blacklistedTokens.add(token);
+    @Transactional
+    public void addToBlacklist(String token, Instant expiresAt) {
+        BlacklistedToken blacklisted = BlacklistedToken.of(token, LocalDateTime.ofInstant(expiresAt, ZoneId.systemDefault()));
+        blacklistedTokenRepository.save(blacklisted);
+        knownBlacklisted.put(blacklisted.getTokenHash(), blacklisted.getExpiresAt());
     }
 
     /**
      * 주어진 토큰이 블랙리스트에 등록되어 있는지 확인합니다.
+     * 다른 프로세스에서 로그아웃한 토큰도 거부할 수 있도록, 이 프로세스에서 확인된 적이 없으면 테이블을 조회합니다.
      *
      * @param token 확인할 토큰
      * @return 토큰이 블랙리스트에 있다면 true, 그렇지 않으면 false
      */
     public boolean isBlacklisted(String token) {
-        return blacklistedTokens.contains(token);
+        String tokenHash = BlacklistedToken.hashOf(token);
+        if (knownBlacklisted.containsKey(tokenHash)) {
+            return true;
+        }
+        return blacklistedTokenRepository.findById(tokenHash)
+                .map(blacklisted -> {
+                    knownBlacklisted.put(tokenHash, blacklisted.getExpiresAt());
+                    return true;
+                })
+                .orElse(false);
     }
 
     /**
      * 주어진 토큰을 블랙리스트에서 제거합니다.
      * (필요에 따라 블랙리스트에서 토큰을 삭제할 수 있는 기능)
+     * 다른 프로세스가 이미 기억한 토큰은 만료될 때까지 거부될 수 있습니다.
      *
      * @param token 블랙리스트에서 제거할 토큰
      * @return 토큰이 존재하여 제거되었다면 true, 그렇지 않으면 false
      */
+    @Transactional
     public boolean removeFromBlacklist(String token) {
-        return blacklistedTokens.remove(token);
+        String tokenHash = BlacklistedToken.hashOf(token);
+        knownBlacklisted.remove(tokenHash);
+        if (!blacklistedTokenRepository.existsById(tokenHash)) {
+            return false;
+        }
+        blacklistedTokenRepository.deleteById(tokenHash);
+        return true;
+    }
+
+    /**
+     * 만료 시각이 지난 블랙리스트 기록을 주기적으로 제거합니다.
+     */
+    @Scheduled(fixedDelayString = "${auth.token-blacklist.purge-interval:1h}", initialDelayString = "${auth.token-blacklist.purge-interval:1h}")
+    @Transactional
+    public void purgeExpired() {
+        LocalDateTime now = LocalDateTime.now();
+        knownBlacklisted.values().removeIf(expiresAt -> expiresAt.isBefore(now));
+        int purged = blacklistedTokenRepository.deleteByExpiresAtBefore(now);
+        if (purged > 0) {
+            log.info("Purged {} expired blacklisted tokens", purged);
+        }
     }
 }
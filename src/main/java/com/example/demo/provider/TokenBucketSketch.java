@@ -0,0 +1,103 @@
+package com.example.demo.provider;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 고정 메모리 토큰 버킷 스케치
+ * <p>
+ * 키마다 버킷을 만들지 않고, Count-Min Sketch 처럼 {@code depth x width} 크기의 셀 배열에
+ * 키를 해시하여 버킷 상태를 공유합니다. 각 셀은 GCRA(Generic Cell Rate Algorithm)의
+ * 이론적 도착 시각(TAT)을 하나의 long 값으로 저장하므로 CAS 만으로 갱신되며 락이 없습니다.
+ * 셀 값은 증가하기만 합니다.
+ * <ul>
+ *     <li>키 수와 무관하게 메모리 사용량이 고정됩니다.</li>
+ *     <li>해시 충돌은 한도를 더 빨리 소진시키는 방향(과소 허용)으로만 작용합니다.</li>
+ *     <li>행(row)별 최솟값을 추정치로 사용하여 충돌 영향을 줄입니다.</li>
+ * </ul>
+ */
+public class TokenBucketSketch {
+
+    private final AtomicLongArray cells;
+    private final int depth;
+    private final int mask;
+    private final long seed;
+    private final long emissionIntervalNanos;
+    private final long burstToleranceNanos;
+    private final long originNanos;
+
+    /**
+     * 토큰 버킷 스케치를 생성합니다.
+     *
+     * @param capacity 버킷 용량 (연속으로 허용할 최대 요청 수)
+     * @param period   용량만큼의 토큰이 다시 채워지는 시간
+     * @param width    행당 셀 수 (2의 거듭제곱으로 올림)
+     * @param depth    행 수
+     */
+    public TokenBucketSketch(int capacity, Duration period, int width, int depth) {
+        if (capacity < 1 || depth < 1 || width < 1 || period.isNegative() || period.isZero()) {
+            throw new IllegalArgumentException("capacity, width, depth 와 period 는 0보다 커야 합니다.");
+        }
+        int normalizedWidth = Integer.highestOneBit(Math.max(1, width - 1)) << 1;
+        this.cells = new AtomicLongArray(normalizedWidth * depth);
+        this.depth = depth;
+        this.mask = normalizedWidth - 1;
+        this.seed = ThreadLocalRandom.current().nextLong();
+        this.emissionIntervalNanos = Math.max(1, period.toNanos() / capacity);
+        this.burstToleranceNanos = emissionIntervalNanos * (capacity - 1);
+        // 0 을 "아직 사용되지 않은 셀" 로 사용하기 위해 기준 시각을 1 주기만큼 당겨 둡니다.
+        this.originNanos = System.nanoTime() - period.toNanos();
+    }
+
+    /**
+     * 주어진 키에 대해 토큰 하나를 소비합니다.
+     * <p>
+     * 셀 값을 읽은 뒤 다른 요청이 그 셀을 바꾸었다면 처음부터 다시 시도합니다.
+     * 같은 추정치를 읽은 동시 요청 중 하나만 허용되므로 동시 요청이 몰려도 용량을 넘지 않습니다.
+     *
+     * @param key 제한 대상 키 (예: 이메일, IP)
+     * @return 허용되면 0, 거부되면 다음 토큰까지 기다려야 하는 시간(나노초)
+     */
+    public long tryAcquire(String key) {
+        long hash = SeededHasher.hash(key, seed);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32) | 1;
+        long[] seen = new long[depth];
+
+        while (true) {
+            long now = System.nanoTime() - originNanos;
+            long estimate = Long.MAX_VALUE;
+            for (int row = 0; row < depth; row++) {
+                seen[row] = cells.get(index(row, h1, h2));
+                estimate = Math.min(estimate, seen[row]);
+            }
+
+            long tat = Math.max(estimate, now);
+            if (tat - now > burstToleranceNanos) {
+                return tat - now - burstToleranceNanos;
+            }
+
+            // Conservative update: 추정치보다 뒤처진 셀만 새 TAT 로 끌어올립니다.
+            // 읽은 값 그대로일 때만 갱신하며, 하나라도 바뀌었으면 다시 읽습니다.
+            // (이미 끌어올린 셀은 되돌리지 않으므로 경쟁 시에는 과소 허용 방향으로만 틀어집니다.)
+            long newTat = tat + emissionIntervalNanos;
+            if (raiseAll(seen, newTat, h1, h2)) {
+                return 0L;
+            }
+        }
+    }
+
+    private boolean raiseAll(long[] seen, long newTat, int h1, int h2) {
+        for (int row = 0; row < depth; row++) {
+            if (seen[row] < newTat && !cells.compareAndSet(index(row, h1, h2), seen[row], newTat)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private int index(int row, int h1, int h2) {
+        return row * (mask + 1) + ((h1 + row * h2) & mask);
+    }
+}
@@ -0,0 +1,151 @@
+package com.example.demo.provider;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordedThread;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * 가상 스레드가 캐리어 스레드에 고정(pinning)되는 구간을 JFR 로 감지하여 메트릭과 로그로 노출하는 컴포넌트입니다.
+ * <p>
+ * synchronized 블록 안에서의 블로킹 I/O 나 네이티브 호출 중에는 가상 스레드가 캐리어 스레드를 놓지 못하므로,
+ * 캐리어 수(CPU 코어 수)만큼 고정되면 다른 가상 스레드가 모두 멈춥니다.
+ * <ul>
+ *     <li>{@code jdk.VirtualThreadPinned} 이벤트를 threshold 이상 고정된 경우에만 수집합니다.</li>
+ *     <li>고정 시간은 {@code jvm.threads.virtual.pinned} 타이머에 고정이 발생한 위치(site) 태그와 함께 기록합니다.</li>
+ *     <li>위치마다 처음 한 번은 스택 트레이스와 함께 WARN 로그를 남기고, 이후는 DEBUG 로 남깁니다.</li>
+ *     <li>위치 태그는 최대 {@value #MAX_REPORTED_SITES} 개까지 만들고, 그 이후는 "other" 로 묶습니다.</li>
+ * </ul>
+ */
+@Slf4j
+@Component
+@ConditionalOnThreading(Threading.VIRTUAL)
+public class VirtualThreadPinningMonitor {
+
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+    private static final String METRIC_NAME = "jvm.threads.virtual.pinned";
+    private static final int MAX_REPORTED_SITES = 128;
+    private static final int LOGGED_FRAMES = 12;
+    private static final List<String> PLATFORM_PACKAGES = List.of("java.", "javax.", "jdk.", "sun.", "com.sun.");
+
+    private final MeterRegistry meterRegistry;
+    private final boolean enabled;
+    private final Duration threshold;
+    private final Set<String> reportedSites = ConcurrentHashMap.newKeySet();
+
+    private RecordingStream recordingStream;
+
+    /**
+     * VirtualThreadPinningMonitor 인스턴스를 초기화합니다.
+     *
+     * @param meterRegistry 메트릭 레지스트리
+     * @param enabled       감지 사용 여부
+     * @param threshold     이 시간 이상 고정된 경우만 기록
+     */
+    public VirtualThreadPinningMonitor(
+            MeterRegistry meterRegistry,
+            @Value("${virtual-threads.pinning.enabled:true}") boolean enabled,
+            @Value("${virtual-threads.pinning.threshold:20ms}") Duration threshold
+    ) {
+        this.meterRegistry = meterRegistry;
+        this.enabled = enabled;
+        this.threshold = threshold;
+    }
+
+    /**
+     * JFR 이벤트 스트림을 백그라운드에서 시작합니다.
+     */
+    @PostConstruct
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+        recordingStream = new RecordingStream();
+        recordingStream.enable(PINNED_EVENT).withThreshold(threshold).withStackTrace();
+        recordingStream.onEvent(PINNED_EVENT, this::onPinned);
+        recordingStream.startAsync();
+        log.info("Virtual thread pinning monitor started (threshold {}ms)", threshold.toMillis());
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (recordingStream != null) {
+            recordingStream.close();
+        }
+    }
+
+    private void onPinned(RecordedEvent event) {
+        RecordedStackTrace stackTrace = event.getStackTrace();
+        List<RecordedFrame> frames = (stackTrace != null) ? stackTrace.getFrames() : List.of();
+        String site = pinnedSite(frames);
+
+        boolean firstReport = reportedSites.size() < MAX_REPORTED_SITES && reportedSites.add(site);
+        String siteTag = reportedSites.contains(site) ? site : "other";
+        Timer.builder(METRIC_NAME)
+                .description("가상 스레드가 캐리어 스레드에 고정된 시간")
+                .tag("site", siteTag)
+                .register(meterRegistry)
+                .record(event.getDuration());
+
+        if (firstReport) {
+            log.warn("Virtual thread pinned for {}ms at {} (thread {}):\n{}",
+                    event.getDuration().toMillis(), site, threadName(event), formatFrames(frames));
+        } else if (log.isDebugEnabled()) {
+            log.debug("Virtual thread pinned for {}ms at {} (thread {})",
+                    event.getDuration().toMillis(), site, threadName(event));
+        }
+    }
+
+    /**
+     * JDK 내부 프레임을 건너뛴 첫 애플리케이션/라이브러리 프레임을 고정 위치로 사용합니다.
+     */
+    private static String pinnedSite(List<RecordedFrame> frames) {
+        RecordedFrame candidate = null;
+        for (RecordedFrame frame : frames) {
+            if (!frame.isJavaFrame()) {
+                continue;
+            }
+            if (candidate == null) {
+                candidate = frame;
+            }
+            String type = frame.getMethod().getType().getName();
+            if (PLATFORM_PACKAGES.stream().noneMatch(type::startsWith)) {
+                candidate = frame;
+                break;
+            }
+        }
+        return (candidate != null) ? describe(candidate) : "unknown";
+    }
+
+    private static String describe(RecordedFrame frame) {
+        return frame.getMethod().getType().getName() + "." + frame.getMethod().getName();
+    }
+
+    private static String formatFrames(List<RecordedFrame> frames) {
+        return frames.stream()
+                .limit(LOGGED_FRAMES)
+                .map(frame -> "\tat " + describe(frame) + ":" + frame.getLineNumber())
+                .collect(Collectors.joining("\n"));
+    }
+
+    private static String threadName(RecordedEvent event) {
+        RecordedThread thread = event.getThread();
+        return (thread != null) ? thread.getJavaName() : "unknown";
+    }
+}
@@ -0,0 +1,27 @@
+package com.example.demo.repository;
+
+import com.example.demo.entity.BlacklistedToken;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+
+/**
+ * 로그아웃된 액세스 토큰(블랙리스트) 데이터 접근 레포지토리
+ */
+@Repository
+public interface BlacklistedTokenRepository extends JpaRepository<BlacklistedToken, String> {
+
+    /**
+     * 만료 시각이 지난 기록을 삭제합니다.
+     *
+     * @param threshold 기준 시각
+     * @return 삭제된 행 수
+     */
+    @Modifying
+    @Query("delete from BlacklistedToken t where t.expiresAt < :threshold")
+    int deleteByExpiresAtBefore(@Param("threshold") LocalDateTime threshold);
+}
@@ -0,0 +1,90 @@
+package com.example.demo.repository;
+
+import com.example.demo.dto.todo.ToDoDto;
+import com.example.demo.entity.Todo;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * MySQL(JPA) 기반 할 일 저장소
+ * <p>
+ * {@code todo-embedded} 프로파일이 활성화되면 등록되지 않습니다.
+ */
+@Repository
+@Profile("!todo-embedded")
+public interface JpaToDoRepository extends JpaRepository<Todo, Long>, ToDoRepository {
+
+    /**
+     * MySQL Connector/J 는 fetch size 가 Integer.MIN_VALUE 일 때 결과를 한 행씩 스트리밍합니다.
+     */
+    String STREAMING_FETCH_SIZE = "" + Integer.MIN_VALUE;
+
+    @Override
+    @Query("select new com.example.demo.dto.todo.ToDoDto(t.id, t.title, t.completed) from Todo t " +
+            "where t.id > :cursor order by t.id asc")
+    List<ToDoDto> findPageAfter(@Param("cursor") long cursor, Limit limit);
+
+    /**
+     * (completed, id) 인덱스를 사용합니다.
+     */
+    @Override
+    @Query("select new com.example.demo.dto.todo.ToDoDto(t.id, t.title, t.completed) from Todo t " +
+            "where t.completed = :completed and t.id > :cursor order by t.id asc")
+    List<ToDoDto> findPageByCompletedAfter(@Param("completed") boolean completed, @Param("cursor") long cursor, Limit limit);
+
+    /**
+     * (updatedAt, id) 인덱스를 사용합니다.
+     */
+    @Override
+    @Query("select t from Todo t " +
+            "where t.updatedAt >= :updatedAt and (t.updatedAt > :updatedAt or t.id > :id) " +
+            "order by t.updatedAt asc, t.id asc")
+    List<Todo> findChangedAfter(@Param("updatedAt") LocalDateTime updatedAt, @Param("id") long id, Limit limit);
+
+    @Override
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = STREAMING_FETCH_SIZE))
+    @Query("select new com.example.demo.dto.todo.ToDoDto(t.id, t.title, t.completed) from Todo t order by t.id asc")
+    Stream<ToDoDto> streamAll();
+
+    @Override
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = STREAMING_FETCH_SIZE))
+    @Query("select new com.example.demo.dto.todo.ToDoDto(t.id, t.title, t.completed) from Todo t " +
+            "where t.completed = :completed order by t.id asc")
+    Stream<ToDoDto> streamByCompleted(@Param("completed") boolean completed);
+
+    /**
+     * 벌크 연산은 @UpdateTimestamp 가 적용되지 않으므로 수정 시각을 직접 전달합니다.
+     */
+    @Override
+    @Modifying
+    @Query("update Todo t set t.completed = :completed, t.updatedAt = :updatedAt " +
+            "where t.id in :ids and t.completed <> :completed")
+    int updateCompletedByIds(@Param("ids") Collection<Long> ids,
+                             @Param("completed") boolean completed,
+                             @Param("updatedAt") LocalDateTime updatedAt);
+
+    @Override
+    @Modifying
+    @Query("delete from Todo t where t.id in :ids and t.completed = :completed")
+    int deleteCompletedByIds(@Param("ids") Collection<Long> ids, @Param("completed") boolean completed);
+
+    /**
+     * (completed, id) 인덱스를 사용합니다.
+     */
+    @Override
+    @Query("select t.id from Todo t where t.completed = :completed and t.id > :cursor order by t.id asc")
+    List<Long> findIdsByCompletedAfter(@Param("completed") boolean completed, @Param("cursor") long cursor, Limit limit);
+}
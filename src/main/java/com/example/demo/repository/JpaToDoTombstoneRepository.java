@@ -0,0 +1,57 @@
+package com.example.demo.repository;
+
+import com.example.demo.entity.TodoTombstone;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * MySQL(JPA) 기반 할 일 삭제 기록 저장소
+ * <p>
+ * {@code todo-embedded} 프로파일이 활성화되면 등록되지 않습니다.
+ */
+@Repository
+@Profile("!todo-embedded")
+public interface JpaToDoTombstoneRepository extends JpaRepository<TodoTombstone, Long>, ToDoTombstoneRepository {
+
+    /**
+     * 엔티티 조회(merge) 없이 INSERT 한 번으로 처리합니다.
+     */
+    @Override
+    @Modifying
+    @Query("insert into TodoTombstone (todoId, deletedAt) values (:todoId, :deletedAt)")
+    int insertTombstone(@Param("todoId") long todoId, @Param("deletedAt") LocalDateTime deletedAt);
+
+    /**
+     * INSERT ... SELECT 한 번으로 처리합니다.
+     */
+    @Override
+    @Modifying
+    @Query("insert into TodoTombstone (todoId, deletedAt) " +
+            "select t.id, :deletedAt from Todo t where t.id in :todoIds and t.completed = :completed")
+    int insertTombstonesByIds(@Param("todoIds") Collection<Long> todoIds,
+                              @Param("completed") boolean completed,
+                              @Param("deletedAt") LocalDateTime deletedAt);
+
+    /**
+     * (deletedAt, todoId) 인덱스를 사용합니다.
+     */
+    @Override
+    @Query("select t from TodoTombstone t " +
+            "where t.deletedAt >= :deletedAt and (t.deletedAt > :deletedAt or t.todoId > :todoId) " +
+            "order by t.deletedAt asc, t.todoId asc")
+    List<TodoTombstone> findDeletedAfter(@Param("deletedAt") LocalDateTime deletedAt, @Param("todoId") long todoId, Limit limit);
+
+    @Override
+    @Modifying
+    @Query("delete from TodoTombstone t where t.deletedAt < :threshold")
+    int deleteByDeletedAtBefore(@Param("threshold") LocalDateTime threshold);
+}
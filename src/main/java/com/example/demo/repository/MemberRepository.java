@@ -1,9 +1,17 @@
 package com.example.demo.repository;
 
 import com.example.demo.entity.Member;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * 회원 데이터 접근 레포지토리
@@ -27,4 +35,30 @@ public interface MemberRepository extends JpaRepository<Member, Long> {
      * @return 이메일 존재 여부
      */
     boolean existsMemberByEmail(String email);
+
+    /**
+     * 모든 회원 이메일을 스트림으로 조회합니다. (트랜잭션 안에서 사용해야 합니다)
+     * 회원 수만큼의 결과를 드라이버가 한 번에 메모리에 올리지 않도록 한 행씩 스트리밍합니다.
+     *
+     * @return 회원 이메일 스트림
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = JpaToDoRepository.STREAMING_FETCH_SIZE))
+    @Query("select m.email from Member m")
+    Stream<String> streamAllEmails();
+
+    /**
+     * 저장된 비밀번호 해시가 예상 값과 같을 때만 새 해시로 교체합니다.
+     * 동시에 비밀번호가 변경된 경우 덮어쓰지 않습니다.
+     *
+     * @param id              회원 ID
+     * @param currentPassword 현재 저장된 해시
+     * @param newPassword     새 해시
+     * @return 갱신된 행 수
+     */
+    @Transactional
+    @Modifying
+    @Query("update Member m set m.password = :newPassword where m.id = :id and m.password = :currentPassword")
+    int updatePasswordIfUnchanged(@Param("id") Long id,
+                                  @Param("currentPassword") String currentPassword,
+                                  @Param("newPassword") String newPassword);
 }
@@ -1,11 +1,13 @@
 package com.example.demo.repository;
 
 import com.example.demo.entity.PostComment;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 
 
@@ -17,12 +19,23 @@ import java.util.List;
 public interface PostCommentRepository extends JpaRepository<PostComment, Long> {
     /**
      * 게시글 ID를 기준으로 댓글 목록을 조회합니다.
+     * 응답에 작성자 이메일이 포함되므로 작성자를 함께 조회합니다. (댓글마다 작성자를 따로 조회하지 않음)
      *
      * @param postId 게시글 ID
      * @return 해당 게시글에 속한 댓글 목록
      */
+    @EntityGraph(attributePaths = "member")
     List<PostComment> findByPostId(Long postId);
 
+    /**
+     * 여러 게시글의 댓글 목록을 한 번에 조회합니다. (게시글 목록에서 게시글마다 따로 조회하지 않음)
+     *
+     * @param postIds 게시글 ID 목록
+     * @return 해당 게시글들에 속한 댓글 목록
+     */
+    @EntityGraph(attributePaths = "member")
+    List<PostComment> findByPostIdIn(Collection<Long> postIds);
+
     /**
      * 게시글 ID를 기준으로 댓글 목록을 삭제합니다.
      *
@@ -2,7 +2,12 @@ package com.example.demo.repository;
 
 import com.example.demo.entity.PostLike;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -28,5 +33,17 @@ public interface PostLikeRepository extends JpaRepository<PostLike, Long> {
      * @param memberId 회원 ID
      * @return 좋아요 여부 (true: 좋아요 함, false: 좋아요 안 함)
      */
+    // 게시글 상세 조회에서 트랜잭션 밖(가상 스레드)으로 호출되므로 읽기 풀을 사용하도록 readOnly 지정
+    @Transactional(readOnly = true)
     boolean existsByPostIdAndMemberId(Long postId, Long memberId);
+
+    /**
+     * 주어진 게시글 중 특정 회원이 좋아요 한 게시글 ID 목록을 조회합니다. (게시글 목록의 좋아요 여부를 한 번에 확인)
+     *
+     * @param memberId 회원 ID
+     * @param postIds  게시글 ID 목록
+     * @return 좋아요 한 게시글 ID 목록
+     */
+    @Query("select pl.post.id from PostLike pl where pl.memberId = :memberId and pl.post.id in :postIds")
+    List<Long> findLikedPostIds(@Param("memberId") Long memberId, @Param("postIds") Collection<Long> postIds);
 }
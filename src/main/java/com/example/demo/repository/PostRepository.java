@@ -1,11 +1,18 @@
 package com.example.demo.repository;
 
+import com.example.demo.dto.post.PostSummary;
 import com.example.demo.entity.Post;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Optional;
+
 /**
  * 게시글 데이터 접근 레포지토리.
  * JpaRepository를 상속하여 기본적인 CRUD 메서드를 제공받습니다.
@@ -20,4 +27,76 @@ public interface PostRepository extends JpaRepository<Post, Long> {
      * @return 검색된 게시글의 페이지
      */
     Page<Post> findByTitleContainingIgnoreCase(String title, Pageable pageable);
-}
\ No newline at end of file
+
+    /**
+     * 본문을 제외한 게시글 목록을 페이징 조회합니다.
+     *
+     * @param pageable 페이징 및 정렬 정보
+     * @return 게시글 요약 페이지
+     */
+    @Query(value = "select new com.example.demo.dto.post.PostSummary(p.id, p.title, p.likeCount, p.member.id, p.createdAt, p.updatedAt, p.version) "
+            + "from Post p",
+            countQuery = "select count(p) from Post p")
+    Page<PostSummary> findAllSummaries(Pageable pageable);
+
+    /**
+     * 제목에 키워드가 포함된 게시글을 본문 없이 검색합니다.
+     *
+     * @param title    키워드
+     * @param pageable 페이징 및 정렬 정보
+     * @return 게시글 요약 페이지
+     */
+    @Query(value = "select new com.example.demo.dto.post.PostSummary(p.id, p.title, p.likeCount, p.member.id, p.createdAt, p.updatedAt, p.version) "
+            + "from Post p where upper(p.title) like upper(concat('%', :title, '%'))",
+            countQuery = "select count(p) from Post p where upper(p.title) like upper(concat('%', :title, '%'))")
+    Page<PostSummary> findSummariesByTitleContainingIgnoreCase(@Param("title") String title, Pageable pageable);
+
+    /**
+     * 본문을 제외한 단일 게시글을 조회합니다.
+     *
+     * @param id 게시글 ID
+     * @return 게시글 요약
+     */
+    @Query("select new com.example.demo.dto.post.PostSummary(p.id, p.title, p.likeCount, p.member.id, p.createdAt, p.updatedAt, p.version) "
+            + "from Post p where p.id = :id")
+    Optional<PostSummary> findSummaryById(@Param("id") Long id);
+
+    /**
+     * 게시글 버전만 조회합니다. (LOB 컬럼을 읽지 않음)
+     *
+     * @param id 게시글 ID
+     * @return 게시글 버전
+     */
+    @Query("select p.version from Post p where p.id = :id")
+    Optional<Long> findVersionById(@Param("id") Long id);
+
+    /**
+     * 버전이 예상 값과 같을 때만 게시글을 수정하고 버전을 올립니다.
+     * 행 잠금 없이 갱신 손실(lost update)을 방지합니다.
+     *
+     * @param id              게시글 ID
+     * @param expectedVersion 클라이언트가 알고 있는 버전 (If-Match)
+     * @param title           새 제목
+     * @param content         새 내용
+     * @param updatedAt       수정 시각
+     * @return 갱신된 행 수 (0 이면 버전 불일치 또는 게시글 없음)
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("update Post p set p.title = :title, p.content = :content, p.updatedAt = :updatedAt, p.version = p.version + 1 "
+            + "where p.id = :id and p.version = :expectedVersion")
+    int updateIfVersionMatches(@Param("id") Long id,
+                               @Param("expectedVersion") Long expectedVersion,
+                               @Param("title") String title,
+                               @Param("content") String content,
+                               @Param("updatedAt") LocalDateTime updatedAt);
+
+    /**
+     * 게시글 버전을 1 증가시킵니다. 응답에 포함되는 하위 데이터(댓글)가 변경되었을 때 ETag 를 바꾸기 위해 사용합니다.
+     *
+     * @param id 게시글 ID
+     * @return 갱신된 행 수
+     */
+    @Modifying
+    @Query("update Post p set p.version = p.version + 1 where p.id = :id")
+    int incrementVersion(@Param("id") Long id);
+}
@@ -0,0 +1,60 @@
+package com.example.demo.repository;
+
+import com.example.demo.entity.RefreshToken;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * 리프레시 토큰 데이터 접근 레포지토리
+ * <p>
+ * 토큰 해시 기반 조회, 회전(사용 처리) 및 폐기 기능을 제공합니다.
+ */
+public interface RefreshTokenRepository extends JpaRepository<RefreshToken, Long> {
+
+    /**
+     * 토큰 해시로 리프레시 토큰과 소유 회원을 한 번의 쿼리로 조회합니다.
+     *
+     * @param tokenHash 토큰 원문의 SHA-256 해시
+     * @return 리프레시 토큰 (Optional)
+     */
+    @Query("select rt from RefreshToken rt join fetch rt.member where rt.tokenHash = :tokenHash")
+    Optional<RefreshToken> findByTokenHashWithMember(@Param("tokenHash") String tokenHash);
+
+    /**
+     * 아직 사용되지 않은 토큰만 사용 처리합니다.
+     * 동시에 같은 토큰으로 회전을 시도하면 하나만 성공합니다.
+     *
+     * @param id  토큰 ID
+     * @param now 사용 시각
+     * @return 갱신된 행 수 (0 이면 이미 사용되었거나 폐기된 토큰)
+     */
+    @Modifying
+    @Query("update RefreshToken rt set rt.usedAt = :now where rt.id = :id and rt.usedAt is null and rt.revoked = false")
+    int markUsed(@Param("id") Long id, @Param("now") LocalDateTime now);
+
+    /**
+     * 같은 family 에 속한 모든 토큰을 폐기합니다.
+     *
+     * @param familyId family 식별자
+     * @return 폐기된 행 수
+     */
+    @Modifying
+    @Query("update RefreshToken rt set rt.revoked = true where rt.familyId = :familyId")
+    int revokeFamily(@Param("familyId") String familyId);
+
+    /**
+     * 회원의 모든 리프레시 토큰을 폐기합니다.
+     *
+     * @param email 회원 이메일
+     * @return 폐기된 행 수
+     */
+    @Modifying
+    @Query("update RefreshToken rt set rt.revoked = true " +
+            "where rt.revoked = false and rt.member.id in (select m.id from Member m where m.email = :email)")
+    int revokeAllByMemberEmail(@Param("email") String email);
+}
@@ -1,9 +1,121 @@
 package com.example.demo.repository;
 
+import com.example.demo.dto.todo.ToDoDto;
 import com.example.demo.entity.Todo;
-import org.springframework.data.jpa.repository.JpaRepository;
-import org.springframework.stereotype.Repository;
+import org.springframework.data.domain.Limit;
 
-@Repository
-public interface ToDoRepository extends JpaRepository<Todo, Long> {
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+/**
+ * 할 일 저장소
+ * <p>
+ * 서비스가 사용하는 연산만 선언한 저장소 추상화입니다. 구현은 프로파일로 선택됩니다.
+ * <ul>
+ *     <li>기본: {@link JpaToDoRepository} (MySQL)</li>
+ *     <li>{@code todo-embedded}: {@link com.example.demo.repository.embedded.EmbeddedToDoRepository} (메모리 + WAL)</li>
+ * </ul>
+ * 두 구현 모두에서 동작하도록, 엔티티를 변경한 뒤에는 dirty checking 에 기대지 않고 {@link #save(Todo)} 를 호출해야 합니다.
+ */
+public interface ToDoRepository {
+
+    /**
+     * 할 일을 저장합니다. ID 가 없으면 새로 생성합니다.
+     *
+     * @param todo 저장할 할 일
+     * @return 저장된 할 일 (ID 가 할당됨)
+     */
+    Todo save(Todo todo);
+
+    /**
+     * ID 로 할 일을 조회합니다.
+     *
+     * @param id 할 일 ID
+     * @return 할 일 (없으면 empty)
+     */
+    Optional<Todo> findById(Long id);
+
+    /**
+     * 할 일을 삭제합니다.
+     *
+     * @param todo 삭제할 할 일
+     */
+    void delete(Todo todo);
+
+    /**
+     * 커서(id) 이후의 할 일을 id 오름차순으로 조회합니다.
+     *
+     * @param cursor 마지막으로 받은 할 일 ID (처음이면 0)
+     * @param limit  최대 조회 개수
+     * @return 할 일 DTO 목록
+     */
+    List<ToDoDto> findPageAfter(long cursor, Limit limit);
+
+    /**
+     * 완료 여부로 필터링하여 커서(id) 이후의 할 일을 조회합니다.
+     *
+     * @param completed 완료 여부
+     * @param cursor    마지막으로 받은 할 일 ID (처음이면 0)
+     * @param limit     최대 조회 개수
+     * @return 할 일 DTO 목록
+     */
+    List<ToDoDto> findPageByCompletedAfter(boolean completed, long cursor, Limit limit);
+
+    /**
+     * (수정 시각, ID) 커서 이후에 생성 또는 수정된 할 일을 조회합니다.
+     *
+     * @param updatedAt 커서 시각
+     * @param id        커서 ID
+     * @param limit     최대 조회 개수
+     * @return 할 일 목록
+     */
+    List<Todo> findChangedAfter(LocalDateTime updatedAt, long id, Limit limit);
+
+    /**
+     * 모든 할 일을 id 오름차순으로 스트리밍합니다. 트랜잭션 안에서 사용하고 반드시 닫아야 합니다.
+     *
+     * @return 할 일 DTO 스트림
+     */
+    Stream<ToDoDto> streamAll();
+
+    /**
+     * 완료 여부로 필터링한 할 일을 id 오름차순으로 스트리밍합니다. 트랜잭션 안에서 사용하고 반드시 닫아야 합니다.
+     *
+     * @param completed 완료 여부
+     * @return 할 일 DTO 스트림
+     */
+    Stream<ToDoDto> streamByCompleted(boolean completed);
+
+    /**
+     * 주어진 ID 중 완료 상태가 다른 할 일을 일괄 변경합니다.
+     *
+     * @param ids       변경할 할 일 ID 목록
+     * @param completed 새로운 완료 상태
+     * @param updatedAt 수정 시각
+     * @return 변경된 행 수
+     */
+    int updateCompletedByIds(Collection<Long> ids, boolean completed, LocalDateTime updatedAt);
+
+    /**
+     * 주어진 ID 중 완료 상태가 일치하는 할 일을 일괄 삭제합니다.
+     *
+     * @param ids       삭제할 할 일 ID 목록
+     * @param completed 삭제할 할 일의 완료 상태
+     * @return 삭제된 행 수
+     */
+    int deleteCompletedByIds(Collection<Long> ids, boolean completed);
+
+    /**
+     * 완료 상태가 일치하는 할 일의 ID 를 커서(id) 이후부터 오름차순으로 조회합니다.
+     * 일괄 처리가 다음 청크의 ID 를 고를 때 사용합니다.
+     *
+     * @param completed 완료 상태
+     * @param cursor    이전 청크의 마지막 ID (처음이면 0)
+     * @param limit     최대 조회 개수 (청크 크기)
+     * @return 할 일 ID 목록
+     */
+    List<Long> findIdsByCompletedAfter(boolean completed, long cursor, Limit limit);
 }
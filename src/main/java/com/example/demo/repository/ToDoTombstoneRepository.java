@@ -0,0 +1,54 @@
+package com.example.demo.repository;
+
+import com.example.demo.entity.TodoTombstone;
+import org.springframework.data.domain.Limit;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 할 일 삭제 기록(tombstone) 저장소
+ * <p>
+ * {@link ToDoRepository} 와 같은 프로파일 규칙으로 구현이 선택됩니다.
+ */
+public interface ToDoTombstoneRepository {
+
+    /**
+     * 삭제된 할 일의 기록을 남깁니다.
+     *
+     * @param todoId    삭제된 할 일 ID
+     * @param deletedAt 삭제 시각
+     * @return 추가된 행 수
+     */
+    int insertTombstone(long todoId, LocalDateTime deletedAt);
+
+    /**
+     * 주어진 ID 중 완료 상태가 일치하는 할 일의 삭제 기록을 남깁니다.
+     * 같은 트랜잭션에서 {@link ToDoRepository#deleteCompletedByIds} 보다 먼저 실행해야 합니다.
+     *
+     * @param todoIds   삭제할 할 일 ID 목록
+     * @param completed 삭제할 할 일의 완료 상태
+     * @param deletedAt 삭제 시각
+     * @return 추가된 행 수
+     */
+    int insertTombstonesByIds(Collection<Long> todoIds, boolean completed, LocalDateTime deletedAt);
+
+    /**
+     * (삭제 시각, ID) 커서 이후의 삭제 기록을 조회합니다.
+     *
+     * @param deletedAt 커서 시각
+     * @param todoId    커서 ID
+     * @param limit     최대 조회 개수
+     * @return 삭제 기록 목록
+     */
+    List<TodoTombstone> findDeletedAfter(LocalDateTime deletedAt, long todoId, Limit limit);
+
+    /**
+     * 보존 기간이 지난 삭제 기록을 제거합니다.
+     *
+     * @param threshold 이 시각 이전의 기록을 제거
+     * @return 제거된 행 수
+     */
+    int deleteByDeletedAtBefore(LocalDateTime threshold);
+}
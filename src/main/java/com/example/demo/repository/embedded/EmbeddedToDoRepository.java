@@ -0,0 +1,602 @@
+package com.example.demo.repository.embedded;
+
+import com.example.demo.dto.todo.ToDoDto;
+import com.example.demo.entity.Todo;
+import com.example.demo.entity.TodoTombstone;
+import com.example.demo.repository.ToDoRepository;
+import com.example.demo.repository.ToDoTombstoneRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.domain.Limit;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Repository;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.NavigableSet;
+import java.util.Optional;
+import java.util.TreeSet;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+
+/**
+ * MySQL 테이블 대신 메모리 + WAL 에 할 일을 저장하는 내장 저장소 ({@code todo-embedded} 프로파일)
+ * <p>
+ * DemoApplication 에서는 할 일 저장소만 바뀌며 회원/게시글 모듈과 인증은 그대로 DataSource(MySQL)를 사용합니다.
+ * DB 없이 할 일 API 만 실행하려면 {@link com.example.demo.edge.TodoEdgeApplication} 으로 기동합니다.
+ * <p>
+ * 모든 할 일을 메모리에 두고, 변경은 메모리 매핑된 WAL 에 먼저 기록합니다.
+ * <ul>
+ *     <li>기본 저장: id → 할 일 ({@link LongObjectHashMap}, 박싱 없는 long 키)</li>
+ *     <li>id 순서 조회: 정렬된 long[] (id 는 단조 증가하므로 추가는 항상 끝에), 삭제된 id 는 모아서 정리</li>
+ *     <li>변경분 동기화: (updatedAt, id), (deletedAt, id) 정렬 인덱스</li>
+ *     <li>내구성: 변경마다 WAL 기록 후 group commit fsync (todo.embedded.fsync)</li>
+ *     <li>스냅샷: snapshot-interval 마다 전체 상태를 기록하고, 스냅샷에 포함된 WAL 세그먼트를 삭제 (log compaction)</li>
+ *     <li>복구: 시작 시 최신 스냅샷을 읽고 이후 WAL 세그먼트를 재생</li>
+ * </ul>
+ * 트랜잭션은 지원하지 않습니다. 각 메서드가 하나의 원자적 변경이며, 다른 스레드는 fsync 전의 변경도 읽을 수 있습니다.
+ * 일괄 삭제 시 삭제 기록은 삭제와 함께 원자적으로 남기므로 {@link #insertTombstonesByIds} 는 대상 수만 계산합니다.
+ */
+@Slf4j
+@Repository
+@Profile("todo-embedded")
+public class EmbeddedToDoRepository implements ToDoRepository, ToDoTombstoneRepository {
+
+    private static final LocalDateTime EPOCH = LocalDateTime.of(1970, 1, 1, 0, 0);
+    private static final int MIN_COMPACT_IDS = 1024;
+
+    private final Path directory;
+    private final boolean fsync;
+    private final TodoWriteAheadLog wal;
+    private final TodoSnapshotFile snapshotFile;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private final LongObjectHashMap<StoredTodo> todos = new LongObjectHashMap<>(1024);
+    private final NavigableSet<Position> changeIndex = new TreeSet<>();
+    private final LongObjectHashMap<StoredTombstone> tombstones = new LongObjectHashMap<>(1024);
+    private final NavigableSet<Position> tombstoneIndex = new TreeSet<>();
+
+    /** 살아 있거나 정리 전인 id (오름차순) */
+    private long[] ids = new long[1024];
+    private int idCount;
+    private int deadIds;
+    private long nextId = 1;
+    private long mutationsSinceSnapshot;
+
+    public EmbeddedToDoRepository(
+            @Value("${todo.embedded.directory:./data/todo}") Path directory,
+            @Value("${todo.embedded.segment-size:64MB}") DataSize segmentSize,
+            @Value("${todo.embedded.fsync:true}") boolean fsync
+    ) {
+        this.directory = directory;
+        this.fsync = fsync;
+        this.wal = new TodoWriteAheadLog(directory, (int) Math.min(Integer.MAX_VALUE, segmentSize.toBytes()));
+        this.snapshotFile = new TodoSnapshotFile(directory);
+    }
+
+    /**
+     * 최신 스냅샷과 이후의 WAL 을 읽어 상태를 복구하고 새 WAL 세그먼트를 엽니다.
+     *
+     * @throws IOException 디렉터리나 파일을 읽을 수 없는 경우
+     */
+    @PostConstruct
+    public void recover() throws IOException {
+        long start = System.nanoTime();
+        Files.createDirectories(directory);
+
+        long fromSequence = 0;
+        Optional<TodoSnapshotFile.Snapshot> snapshot = snapshotFile.readLatest();
+        if (snapshot.isPresent()) {
+            fromSequence = snapshot.get().sequence();
+            nextId = snapshot.get().nextId();
+            snapshot.get().todos().forEach(this::putTodo);
+            snapshot.get().tombstones().forEach(this::putTombstone);
+        }
+
+        long replayed = wal.replay(fromSequence, payload -> {
+            try {
+                apply(TodoLogRecord.decode(payload));
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+        wal.open();
+        mutationsSinceSnapshot = replayed;
+
+        log.info("Embedded todo store recovered from {}: {} todos, {} tombstones, {} WAL records replayed in {}ms",
+                directory.toAbsolutePath(), todos.size(), tombstones.size(), replayed, (System.nanoTime() - start) / 1_000_000);
+    }
+
+    /**
+     * 종료 시 스냅샷을 남기고 WAL 을 닫습니다. 다음 시작 시 재생할 WAL 이 줄어듭니다.
+     *
+     * @throws IOException WAL 을 닫을 수 없는 경우
+     */
+    @PreDestroy
+    public void close() throws IOException {
+        snapshot();
+        wal.close();
+    }
+
+    /**
+     * 변경이 있었으면 스냅샷을 기록하고 스냅샷에 포함된 WAL 세그먼트와 이전 스냅샷을 삭제합니다.
+     * <p>
+     * 잠금 안에서는 WAL 세그먼트 전환과 참조 복사만 하고, 파일 기록은 잠금 밖에서 수행합니다.
+     */
+    @Scheduled(fixedDelayString = "${todo.embedded.snapshot-interval:5m}", initialDelayString = "${todo.embedded.snapshot-interval:5m}")
+    public void snapshot() {
+        long sequence;
+        long snapshotNextId;
+        long mutations;
+        List<StoredTodo> todoCopy;
+        List<StoredTombstone> tombstoneCopy;
+
+        lock.writeLock().lock();
+        try {
+            if (mutationsSinceSnapshot == 0) {
+                return;
+            }
+            sequence = wal.roll();
+            snapshotNextId = nextId;
+            mutations = mutationsSinceSnapshot;
+            todoCopy = todos.values();
+            tombstoneCopy = tombstones.values();
+            mutationsSinceSnapshot = 0;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        try {
+            long start = System.nanoTime();
+            todoCopy.sort(Comparator.comparingLong(StoredTodo::id));
+            snapshotFile.write(sequence, snapshotNextId, todoCopy, tombstoneCopy);
+            int compacted = wal.deleteSegmentsBefore(sequence);
+            snapshotFile.deleteOlderThan(sequence);
+            log.info("Embedded todo snapshot {} written: {} todos, {} tombstones, {} WAL segments compacted in {}ms",
+                    sequence, todoCopy.size(), tombstoneCopy.size(), compacted, (System.nanoTime() - start) / 1_000_000);
+        } catch (IOException e) {
+            lock.writeLock().lock();
+            try {
+                mutationsSinceSnapshot += mutations; // 다음 주기에 다시 시도
+            } finally {
+                lock.writeLock().unlock();
+            }
+            log.error("Failed to write embedded todo snapshot {}", sequence, e);
+        }
+    }
+
+    // --- ToDoRepository ---
+
+    /**
+     * ID 가 있는데 저장된 할 일이 없으면(그 사이 삭제됨) 다시 만들지 않고 예외를 던집니다.
+     * 삭제 기록이 남아 있는 ID 로 되살아나면 동기화 클라이언트가 삭제와 변경을 모두 받게 되므로,
+     * 분리(detached) 엔티티를 merge 할 때 행이 없으면 실패하는 JPA 와 같게 동작합니다.
+     *
+     * @throws ObjectOptimisticLockingFailureException ID 에 해당하는 할 일이 삭제된 경우
+     */
+    @Override
+    public Todo save(Todo todo) {
+        long now = nowMicros();
+        StoredTodo stored;
+        long lsn;
+
+        lock.writeLock().lock();
+        try {
+            StoredTodo existing = (todo.getId() == null) ? null : todos.get(todo.getId());
+            if (todo.getId() != null && existing == null) {
+                throw new ObjectOptimisticLockingFailureException(Todo.class, todo.getId());
+            }
+            if (existing != null
+                    && existing.title().equals(todo.getTitle())
+                    && existing.completed() == todo.getCompleted()) {
+                return toEntity(existing); // 변경이 없으면 기록하지 않음 (JPA dirty checking 과 동일)
+            }
+
+            long id = (existing == null) ? nextId : existing.id();
+            long createdAt = (existing == null) ? now : existing.createdAt();
+            stored = new StoredTodo(id, todo.getTitle(), todo.getCompleted(), createdAt, now);
+            lsn = log(new TodoLogRecord.Put(stored));
+            putTodo(stored);
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        awaitDurable(lsn);
+        return toEntity(stored);
+    }
+
+    @Override
+    public Optional<Todo> findById(Long id) {
+        lock.readLock().lock();
+        try {
+            return Optional.ofNullable(todos.get(id)).map(this::toEntity);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public void delete(Todo todo) {
+        long now = nowMicros();
+        long lsn = 0;
+
+        lock.writeLock().lock();
+        try {
+            if (todos.get(todo.getId()) != null) {
+                lsn = log(new TodoLogRecord.Delete(todo.getId(), now));
+                removeTodo(todo.getId());
+                putTombstone(new StoredTombstone(todo.getId(), now));
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        awaitDurable(lsn);
+    }
+
+    @Override
+    public List<ToDoDto> findPageAfter(long cursor, Limit limit) {
+        return scanAfter(cursor, maxResults(limit), todo -> true);
+    }
+
+    @Override
+    public List<ToDoDto> findPageByCompletedAfter(boolean completed, long cursor, Limit limit) {
+        return scanAfter(cursor, maxResults(limit), todo -> todo.completed() == completed);
+    }
+
+    @Override
+    public List<Todo> findChangedAfter(LocalDateTime updatedAt, long id, Limit limit) {
+        int max = maxResults(limit);
+        lock.readLock().lock();
+        try {
+            List<Todo> result = new ArrayList<>(Math.min(max, 256));
+            for (Position position : changeIndex.tailSet(new Position(toMicros(updatedAt), id), false)) {
+                if (result.size() >= max) {
+                    break;
+                }
+                result.add(toEntity(todos.get(position.id())));
+            }
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 메모리에 있는 상태를 복사하여 스트림으로 반환합니다. (JDBC 커서와 달리 이미 메모리에 있으므로 추가 비용은 참조 복사뿐)
+     */
+    @Override
+    public Stream<ToDoDto> streamAll() {
+        return scanAfter(0, Integer.MAX_VALUE, todo -> true).stream();
+    }
+
+    @Override
+    public Stream<ToDoDto> streamByCompleted(boolean completed) {
+        return scanAfter(0, Integer.MAX_VALUE, todo -> todo.completed() == completed).stream();
+    }
+
+    @Override
+    public int updateCompletedByIds(Collection<Long> ids, boolean completed, LocalDateTime updatedAt) {
+        long time = toMicros(updatedAt);
+        int affected = 0;
+        long lsn = 0;
+
+        lock.writeLock().lock();
+        try {
+            for (Long id : ids) {
+                StoredTodo todo = todos.get(id);
+                if (todo != null && todo.completed() != completed) {
+                    StoredTodo updated = new StoredTodo(todo.id(), todo.title(), completed, todo.createdAt(), time);
+                    lsn = log(new TodoLogRecord.Put(updated));
+                    putTodo(updated);
+                    affected++;
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        awaitDurable(lsn);
+        return affected;
+    }
+
+    @Override
+    public int deleteCompletedByIds(Collection<Long> ids, boolean completed) {
+        long now = nowMicros();
+        int affected = 0;
+        long lsn = 0;
+
+        lock.writeLock().lock();
+        try {
+            for (Long id : ids) {
+                StoredTodo todo = todos.get(id);
+                if (todo != null && todo.completed() == completed) {
+                    lsn = log(new TodoLogRecord.Delete(todo.id(), now));
+                    removeTodo(todo.id());
+                    putTombstone(new StoredTombstone(todo.id(), now));
+                    affected++;
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        awaitDurable(lsn);
+        return affected;
+    }
+
+    @Override
+    public List<Long> findIdsByCompletedAfter(boolean completed, long cursor, Limit limit) {
+        int max = maxResults(limit);
+        lock.readLock().lock();
+        try {
+            List<Long> result = new ArrayList<>(Math.min(max, 1024));
+            for (int i = firstIndexAfter(cursor); i < idCount && result.size() < max; i++) {
+                StoredTodo todo = todos.get(ids[i]);
+                if (todo != null && todo.completed() == completed) {
+                    result.add(todo.id());
+                }
+            }
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // --- ToDoTombstoneRepository ---
+
+    /**
+     * 삭제 시 이미 기록되므로, 기록이 없는 경우에만 추가합니다.
+     */
+    @Override
+    public int insertTombstone(long todoId, LocalDateTime deletedAt) {
+        long lsn;
+        lock.writeLock().lock();
+        try {
+            if (tombstones.get(todoId) != null) {
+                return 0;
+            }
+            StoredTombstone tombstone = new StoredTombstone(todoId, toMicros(deletedAt));
+            lsn = log(new TodoLogRecord.Tombstone(tombstone.todoId(), tombstone.deletedAt()));
+            putTombstone(tombstone);
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        awaitDurable(lsn);
+        return 1;
+    }
+
+    /**
+     * {@link #deleteCompletedByIds} 가 삭제와 함께 기록하므로 대상 수만 반환합니다.
+     */
+    @Override
+    public int insertTombstonesByIds(Collection<Long> todoIds, boolean completed, LocalDateTime deletedAt) {
+        lock.readLock().lock();
+        try {
+            int count = 0;
+            for (Long id : todoIds) {
+                StoredTodo todo = todos.get(id);
+                if (todo != null && todo.completed() == completed) {
+                    count++;
+                }
+            }
+            return count;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public List<TodoTombstone> findDeletedAfter(LocalDateTime deletedAt, long todoId, Limit limit) {
+        int max = maxResults(limit);
+        lock.readLock().lock();
+        try {
+            List<TodoTombstone> result = new ArrayList<>(Math.min(max, 256));
+            for (Position position : tombstoneIndex.tailSet(new Position(toMicros(deletedAt), todoId), false)) {
+                if (result.size() >= max) {
+                    break;
+                }
+                result.add(TodoTombstone.restore(position.id(), fromMicros(position.time())));
+            }
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public int deleteByDeletedAtBefore(LocalDateTime threshold) {
+        long time = toMicros(threshold);
+        int purged;
+        long lsn = 0;
+
+        lock.writeLock().lock();
+        try {
+            purged = tombstoneIndex.headSet(new Position(time, Long.MIN_VALUE), false).size();
+            if (purged > 0) {
+                lsn = log(new TodoLogRecord.Purge(time));
+                purgeTombstones(time);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        awaitDurable(lsn);
+        return purged;
+    }
+
+    // --- 내부 상태 변경 (WAL 기록 없음, 잠금은 호출자가 관리) ---
+
+    private void apply(TodoLogRecord record) {
+        switch (record) {
+            case TodoLogRecord.Put put -> putTodo(put.todo());
+            case TodoLogRecord.Delete delete -> {
+                removeTodo(delete.id());
+                putTombstone(new StoredTombstone(delete.id(), delete.deletedAt()));
+            }
+            case TodoLogRecord.Tombstone tombstone -> putTombstone(new StoredTombstone(tombstone.id(), tombstone.deletedAt()));
+            case TodoLogRecord.Purge purge -> purgeTombstones(purge.threshold());
+        }
+    }
+
+    private void putTodo(StoredTodo todo) {
+        StoredTodo previous = todos.put(todo.id(), todo);
+        if (previous != null) {
+            changeIndex.remove(new Position(previous.updatedAt(), previous.id()));
+        } else {
+            insertId(todo.id());
+        }
+        changeIndex.add(new Position(todo.updatedAt(), todo.id()));
+        nextId = Math.max(nextId, todo.id() + 1);
+    }
+
+    private void removeTodo(long id) {
+        StoredTodo removed = todos.remove(id);
+        if (removed == null) {
+            return;
+        }
+        changeIndex.remove(new Position(removed.updatedAt(), removed.id()));
+        nextId = Math.max(nextId, id + 1);
+        if (++deadIds > MIN_COMPACT_IDS && deadIds > idCount / 2) {
+            compactIds();
+        }
+    }
+
+    private void putTombstone(StoredTombstone tombstone) {
+        StoredTombstone previous = tombstones.put(tombstone.todoId(), tombstone);
+        if (previous != null) {
+            tombstoneIndex.remove(new Position(previous.deletedAt(), previous.todoId()));
+        }
+        tombstoneIndex.add(new Position(tombstone.deletedAt(), tombstone.todoId()));
+    }
+
+    private void purgeTombstones(long threshold) {
+        NavigableSet<Position> expired = tombstoneIndex.headSet(new Position(threshold, Long.MIN_VALUE), false);
+        for (Position position : expired) {
+            tombstones.remove(position.id());
+        }
+        expired.clear();
+    }
+
+    /**
+     * id 를 정렬 순서를 유지하며 추가합니다. 새 id 는 항상 가장 크므로 보통 끝에 붙습니다.
+     */
+    private void insertId(long id) {
+        int index = (idCount == 0 || ids[idCount - 1] < id) ? idCount : Arrays.binarySearch(ids, 0, idCount, id);
+        if (index >= 0 && index < idCount) {
+            deadIds--; // 정리 전의 id 가 다시 살아남
+            return;
+        }
+        int insertAt = (index < 0) ? -index - 1 : index;
+        if (idCount == ids.length) {
+            ids = Arrays.copyOf(ids, ids.length << 1);
+        }
+        System.arraycopy(ids, insertAt, ids, insertAt + 1, idCount - insertAt);
+        ids[insertAt] = id;
+        idCount++;
+    }
+
+    private void compactIds() {
+        int live = 0;
+        for (int i = 0; i < idCount; i++) {
+            if (todos.get(ids[i]) != null) {
+                ids[live++] = ids[i];
+            }
+        }
+        idCount = live;
+        deadIds = 0;
+    }
+
+    // --- 조회 도우미 ---
+
+    private List<ToDoDto> scanAfter(long cursor, int max, Predicate<StoredTodo> filter) {
+        lock.readLock().lock();
+        try {
+            List<ToDoDto> result = new ArrayList<>(Math.min(max, 256));
+            for (int i = firstIndexAfter(cursor); i < idCount && result.size() < max; i++) {
+                StoredTodo todo = todos.get(ids[i]);
+                if (todo != null && filter.test(todo)) {
+                    result.add(new ToDoDto(todo.id(), todo.title(), todo.completed()));
+                }
+            }
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private int firstIndexAfter(long cursor) {
+        int index = Arrays.binarySearch(ids, 0, idCount, cursor);
+        return (index >= 0) ? index + 1 : -index - 1;
+    }
+
+    private long log(TodoLogRecord record) {
+        try {
+            long lsn = wal.append(record.encode());
+            mutationsSinceSnapshot++;
+            return lsn;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to append to todo WAL", e);
+        }
+    }
+
+    private void awaitDurable(long lsn) {
+        if (!fsync || lsn == 0) {
+            return;
+        }
+        try {
+            wal.sync(lsn);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to sync todo WAL", e);
+        }
+    }
+
+    private Todo toEntity(StoredTodo todo) {
+        return Todo.restore(todo.id(), todo.title(), todo.completed(), fromMicros(todo.createdAt()), fromMicros(todo.updatedAt()));
+    }
+
+    private static int maxResults(Limit limit) {
+        return limit.isLimited() ? limit.max() : Integer.MAX_VALUE;
+    }
+
+    private static long nowMicros() {
+        return toMicros(LocalDateTime.now());
+    }
+
+    private static long toMicros(LocalDateTime time) {
+        return ChronoUnit.MICROS.between(EPOCH, time);
+    }
+
+    private static LocalDateTime fromMicros(long micros) {
+        return EPOCH.plus(micros, ChronoUnit.MICROS);
+    }
+
+    /**
+     * 정렬 인덱스 항목 (시각, id)
+     */
+    private record Position(long time, long id) implements Comparable<Position> {
+        @Override
+        public int compareTo(Position other) {
+            int byTime = Long.compare(time, other.time);
+            return (byTime != 0) ? byTime : Long.compare(id, other.id);
+        }
+    }
+}
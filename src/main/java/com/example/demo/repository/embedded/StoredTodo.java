@@ -0,0 +1,15 @@
+package com.example.demo.repository.embedded;
+
+/**
+ * 내장 저장소에 보관되는 할 일의 불변 상태
+ * <p>
+ * 시각은 1970-01-01T00:00 기준 마이크로초입니다. (MySQL datetime(6) 과 같은 정밀도)
+ *
+ * @param id        할 일 ID
+ * @param title     제목
+ * @param completed 완료 여부
+ * @param createdAt 생성 시각
+ * @param updatedAt 수정 시각
+ */
+record StoredTodo(long id, String title, boolean completed, long createdAt, long updatedAt) {
+}
@@ -0,0 +1,10 @@
+package com.example.demo.repository.embedded;
+
+/**
+ * 내장 저장소에 보관되는 삭제 기록
+ *
+ * @param todoId    삭제된 할 일 ID
+ * @param deletedAt 삭제 시각 (1970-01-01T00:00 기준 마이크로초)
+ */
+record StoredTombstone(long todoId, long deletedAt) {
+}
@@ -0,0 +1,121 @@
+package com.example.demo.repository.embedded;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 내장 할 일 저장소의 WAL 레코드
+ * <p>
+ * 첫 바이트는 레코드 종류이며, 시각은 모두 1970-01-01T00:00 기준 마이크로초입니다.
+ */
+sealed interface TodoLogRecord {
+
+    byte PUT = 1;
+    byte DELETE = 2;
+    byte TOMBSTONE = 3;
+    byte PURGE = 4;
+
+    /**
+     * 할 일 생성 또는 수정 (전체 상태 기록)
+     */
+    record Put(StoredTodo todo) implements TodoLogRecord {
+    }
+
+    /**
+     * 할 일 삭제 (삭제 기록 함께 생성)
+     */
+    record Delete(long id, long deletedAt) implements TodoLogRecord {
+    }
+
+    /**
+     * 이미 없는 할 일에 대한 삭제 기록 생성
+     */
+    record Tombstone(long id, long deletedAt) implements TodoLogRecord {
+    }
+
+    /**
+     * threshold 이전의 삭제 기록 제거
+     */
+    record Purge(long threshold) implements TodoLogRecord {
+    }
+
+    /**
+     * 레코드를 바이트 배열로 직렬화합니다.
+     *
+     * @return 직렬화된 레코드
+     */
+    default byte[] encode() {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(64);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            switch (this) {
+                case Put put -> {
+                    out.writeByte(PUT);
+                    writeTodo(out, put.todo());
+                }
+                case Delete delete -> {
+                    out.writeByte(DELETE);
+                    out.writeLong(delete.id());
+                    out.writeLong(delete.deletedAt());
+                }
+                case Tombstone tombstone -> {
+                    out.writeByte(TOMBSTONE);
+                    out.writeLong(tombstone.id());
+                    out.writeLong(tombstone.deletedAt());
+                }
+                case Purge purge -> {
+                    out.writeByte(PURGE);
+                    out.writeLong(purge.threshold());
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    /**
+     * 바이트 배열에서 레코드를 읽습니다.
+     *
+     * @param payload 직렬화된 레코드
+     * @return 레코드
+     * @throws IOException 알 수 없는 종류이거나 형식이 잘못된 경우
+     */
+    static TodoLogRecord decode(byte[] payload) throws IOException {
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(payload));
+        byte type = in.readByte();
+        return switch (type) {
+            case PUT -> new Put(readTodo(in));
+            case DELETE -> new Delete(in.readLong(), in.readLong());
+            case TOMBSTONE -> new Tombstone(in.readLong(), in.readLong());
+            case PURGE -> new Purge(in.readLong());
+            default -> throw new IOException("Unknown WAL record type: " + type);
+        };
+    }
+
+    static void writeTodo(DataOutput out, StoredTodo todo) throws IOException {
+        out.writeLong(todo.id());
+        out.writeBoolean(todo.completed());
+        out.writeLong(todo.createdAt());
+        out.writeLong(todo.updatedAt());
+        byte[] title = todo.title().getBytes(StandardCharsets.UTF_8);
+        out.writeInt(title.length);
+        out.write(title);
+    }
+
+    static StoredTodo readTodo(DataInput in) throws IOException {
+        long id = in.readLong();
+        boolean completed = in.readBoolean();
+        long createdAt = in.readLong();
+        long updatedAt = in.readLong();
+        byte[] title = new byte[in.readInt()];
+        in.readFully(title);
+        return new StoredTodo(id, new String(title, StandardCharsets.UTF_8), completed, createdAt, updatedAt);
+    }
+}
@@ -0,0 +1,197 @@
+package com.example.demo.repository.embedded;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+import java.util.zip.CRC32C;
+import java.util.zip.CheckedInputStream;
+import java.util.zip.CheckedOutputStream;
+
+/**
+ * 내장 할 일 저장소의 스냅샷 파일
+ * <p>
+ * {@code snapshot-<번호>.bin} 은 번호 미만의 WAL 세그먼트를 모두 반영한 상태이며, 복구 시 이 번호의 세그먼트부터 재생합니다.
+ * 임시 파일에 쓰고 force 한 뒤 원자적으로 이름을 바꾸므로, 쓰는 도중 중단되어도 이전 스냅샷이 유지됩니다.
+ * 파일 끝의 CRC32C 가 맞지 않는 스냅샷은 무시하고 그 이전 스냅샷을 사용합니다.
+ */
+@Slf4j
+final class TodoSnapshotFile {
+
+    private static final int MAGIC = 0x54444F53; // "TDOS"
+    private static final int VERSION = 1;
+    private static final String PREFIX = "snapshot-";
+    private static final String SUFFIX = ".bin";
+
+    private final Path directory;
+
+    TodoSnapshotFile(Path directory) {
+        this.directory = directory;
+    }
+
+    /**
+     * 스냅샷 내용
+     *
+     * @param sequence   재생을 시작할 WAL 세그먼트 번호
+     * @param nextId     다음에 할당할 할 일 ID
+     * @param todos      할 일 목록 (id 오름차순)
+     * @param tombstones 삭제 기록 목록
+     */
+    record Snapshot(long sequence, long nextId, List<StoredTodo> todos, List<StoredTombstone> tombstones) {
+    }
+
+    /**
+     * 스냅샷을 기록합니다.
+     *
+     * @param sequence   재생을 시작할 WAL 세그먼트 번호
+     * @param nextId     다음에 할당할 할 일 ID
+     * @param todos      할 일 목록 (id 오름차순)
+     * @param tombstones 삭제 기록 목록
+     * @throws IOException 기록에 실패한 경우
+     */
+    void write(long sequence, long nextId, Collection<StoredTodo> todos, Collection<StoredTombstone> tombstones) throws IOException {
+        Path target = path(sequence);
+        Path temp = target.resolveSibling(target.getFileName() + ".tmp");
+
+        try (FileChannel channel = FileChannel.open(temp,
+                StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            CRC32C crc = new CRC32C();
+            OutputStream stream = new BufferedOutputStream(Channels.newOutputStream(channel), 64 * 1024);
+            DataOutputStream out = new DataOutputStream(new CheckedOutputStream(stream, crc));
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            out.writeLong(sequence);
+            out.writeLong(nextId);
+            out.writeInt(todos.size());
+            for (StoredTodo todo : todos) {
+                TodoLogRecord.writeTodo(out, todo);
+            }
+            out.writeInt(tombstones.size());
+            for (StoredTombstone tombstone : tombstones) {
+                out.writeLong(tombstone.todoId());
+                out.writeLong(tombstone.deletedAt());
+            }
+            out.flush();
+            new DataOutputStream(stream).writeInt((int) crc.getValue());
+            stream.flush();
+            channel.force(true);
+        }
+        Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    /**
+     * 유효한 가장 최근 스냅샷을 읽습니다.
+     *
+     * @return 스냅샷 (없으면 empty)
+     * @throws IOException 목록을 읽을 수 없는 경우
+     */
+    Optional<Snapshot> readLatest() throws IOException {
+        List<Long> sequences = listSequences();
+        sequences.sort(Comparator.reverseOrder());
+        for (long sequence : sequences) {
+            try {
+                return Optional.of(read(sequence));
+            } catch (IOException e) {
+                log.warn("Ignoring unreadable todo snapshot {}: {}", path(sequence), e.getMessage());
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * 주어진 번호보다 오래된 스냅샷과 남은 임시 파일을 삭제합니다.
+     *
+     * @param sequence 이 번호 미만의 스냅샷을 삭제
+     * @throws IOException 목록을 읽을 수 없는 경우
+     */
+    void deleteOlderThan(long sequence) throws IOException {
+        for (long candidate : listSequences()) {
+            if (candidate < sequence) {
+                Files.deleteIfExists(path(candidate));
+            }
+        }
+        try (Stream<Path> files = Files.list(directory)) {
+            for (Path file : files.filter(p -> p.getFileName().toString().endsWith(SUFFIX + ".tmp")).toList()) {
+                Files.deleteIfExists(file);
+            }
+        }
+    }
+
+    private Snapshot read(long sequence) throws IOException {
+        Path path = path(sequence);
+        long size = Files.size(path);
+        if (size < Integer.BYTES) {
+            throw new IOException("Snapshot too short");
+        }
+
+        // 내용을 해석하기 전에 CRC 부터 확인
+        CRC32C crc = new CRC32C();
+        int storedCrc;
+        try (InputStream in = new BufferedInputStream(Files.newInputStream(path), 64 * 1024)) {
+            CheckedInputStream checked = new CheckedInputStream(in, crc);
+            long remaining = size - Integer.BYTES;
+            byte[] chunk = new byte[64 * 1024];
+            while (remaining > 0) {
+                int read = checked.read(chunk, 0, (int) Math.min(chunk.length, remaining));
+                if (read < 0) {
+                    throw new IOException("Unexpected end of snapshot");
+                }
+                remaining -= read;
+            }
+            storedCrc = new DataInputStream(in).readInt();
+        }
+        if ((int) crc.getValue() != storedCrc) {
+            throw new IOException("Snapshot checksum mismatch");
+        }
+
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(path), 64 * 1024))) {
+            if (in.readInt() != MAGIC || in.readInt() != VERSION) {
+                throw new IOException("Unknown snapshot format");
+            }
+            long storedSequence = in.readLong();
+            long nextId = in.readLong();
+            int todoCount = in.readInt();
+            List<StoredTodo> todos = new ArrayList<>(todoCount);
+            for (int i = 0; i < todoCount; i++) {
+                todos.add(TodoLogRecord.readTodo(in));
+            }
+            int tombstoneCount = in.readInt();
+            List<StoredTombstone> tombstones = new ArrayList<>(tombstoneCount);
+            for (int i = 0; i < tombstoneCount; i++) {
+                tombstones.add(new StoredTombstone(in.readLong(), in.readLong()));
+            }
+            return new Snapshot(storedSequence, nextId, todos, tombstones);
+        }
+    }
+
+    private List<Long> listSequences() throws IOException {
+        List<Long> sequences = new ArrayList<>();
+        try (Stream<Path> files = Files.list(directory)) {
+            files.map(path -> path.getFileName().toString())
+                    .filter(name -> name.startsWith(PREFIX) && name.endsWith(SUFFIX))
+                    .forEach(name -> sequences.add(Long.parseLong(name.substring(PREFIX.length(), name.length() - SUFFIX.length()))));
+        }
+        return sequences;
+    }
+
+    private Path path(long sequence) {
+        return directory.resolve(String.format("%s%016d%s", PREFIX, sequence, SUFFIX));
+    }
+}
@@ -0,0 +1,332 @@
+package com.example.demo.repository.embedded;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.zip.CRC32C;
+
+/**
+ * 메모리 매핑된 세그먼트 파일에 레코드를 순서대로 추가하는 write-ahead log
+ * <p>
+ * 각 레코드는 {@code [길이(int)][CRC32C(int)][본문]} 형태로 기록되며, 길이 0 은 세그먼트의 끝을 뜻합니다.
+ * <ul>
+ *     <li>세그먼트는 {@code wal-<번호>.log} 로 고정 크기로 매핑되며, 가득 차면 다음 번호로 넘어갑니다.</li>
+ *     <li>{@link #sync(long)} 는 group commit 방식으로 동작합니다. 먼저 도착한 스레드가 그때까지 기록된 모든 레코드를
+ *     한 번에 force 하고, 그동안 도착한 스레드들은 다음 force 에 함께 묶입니다.</li>
+ *     <li>복구 시 CRC 가 맞지 않거나 잘린 레코드를 만나면 그 세그먼트의 끝으로 간주합니다. (쓰기 도중 중단된 꼬리)</li>
+ *     <li>재시작 후에는 항상 새 세그먼트에 기록하므로 기존 세그먼트는 변경되지 않습니다.</li>
+ *     <li>가상 스레드가 캐리어 스레드에 고정되지 않도록 synchronized 대신 {@link ReentrantLock} 을 사용합니다.</li>
+ * </ul>
+ */
+@Slf4j
+final class TodoWriteAheadLog implements Closeable {
+
+    private static final int FRAME_HEADER_BYTES = 8;
+    private static final String PREFIX = "wal-";
+    private static final String SUFFIX = ".log";
+
+    private final Path directory;
+    private final int segmentSize;
+    /** 세그먼트와 appendedLsn 보호 */
+    private final ReentrantLock appendLock = new ReentrantLock();
+    /** durableLsn 과 flushing 보호 */
+    private final ReentrantLock syncLock = new ReentrantLock();
+    private final Condition flushed = syncLock.newCondition();
+
+    private Segment current;
+    private long lastSequence = -1;
+
+    /** 지금까지 추가된 레코드 수 (LSN) */
+    private long appendedLsn;
+    /** 디스크에 반영이 확인된 LSN */
+    private long durableLsn;
+    /** group commit 리더가 force 중인지 여부 */
+    private boolean flushing;
+
+    TodoWriteAheadLog(Path directory, int segmentSize) {
+        this.directory = directory;
+        this.segmentSize = segmentSize;
+    }
+
+    /**
+     * fromSequence 이상의 세그먼트를 순서대로 읽어 레코드 본문을 전달합니다. {@link #open()} 전에 호출합니다.
+     *
+     * @param fromSequence 읽기 시작할 세그먼트 번호 (스냅샷 이후 세그먼트)
+     * @param consumer     레코드 본문 처리 함수
+     * @return 읽은 레코드 수
+     * @throws IOException 파일을 읽을 수 없는 경우
+     */
+    long replay(long fromSequence, Consumer<byte[]> consumer) throws IOException {
+        long records = 0;
+        for (long sequence : listSequences()) {
+            lastSequence = Math.max(lastSequence, sequence);
+            if (sequence < fromSequence) {
+                continue;
+            }
+            try (FileChannel channel = FileChannel.open(segmentPath(sequence), StandardOpenOption.READ)) {
+                ByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+                records += replaySegment(sequence, buffer, consumer);
+            }
+        }
+        return records;
+    }
+
+    /**
+     * 새 세그먼트를 열어 기록을 시작합니다.
+     *
+     * @throws IOException 세그먼트를 만들 수 없는 경우
+     */
+    void open() throws IOException {
+        appendLock.lock();
+        try {
+            current = Segment.create(segmentPath(++lastSequence), lastSequence, segmentSize);
+        } finally {
+            appendLock.unlock();
+        }
+    }
+
+    /**
+     * 레코드를 추가합니다. 호출이 끝나도 디스크 반영은 보장되지 않으므로 필요하면 {@link #sync(long)} 를 호출합니다.
+     *
+     * @param payload 레코드 본문
+     * @return 레코드의 LSN
+     * @throws IOException 세그먼트 전환에 실패한 경우
+     */
+    long append(byte[] payload) throws IOException {
+        int frameLength = FRAME_HEADER_BYTES + payload.length;
+        if (frameLength > segmentSize - Integer.BYTES) {
+            throw new IOException("WAL record too large: " + payload.length + " bytes");
+        }
+        CRC32C crc = new CRC32C();
+        crc.update(payload);
+
+        appendLock.lock();
+        try {
+            if (current.writeOffset + frameLength > segmentSize - Integer.BYTES) {
+                roll();
+            }
+            int offset = current.writeOffset;
+            current.buffer.put(offset + FRAME_HEADER_BYTES, payload);
+            current.buffer.putInt(offset + Integer.BYTES, (int) crc.getValue());
+            current.buffer.putInt(offset, payload.length); // 길이를 마지막에 기록하여 반쯤 쓰인 레코드가 보이지 않게 함
+            current.writeOffset += frameLength;
+            return ++appendedLsn;
+        } finally {
+            appendLock.unlock();
+        }
+    }
+
+    /**
+     * 주어진 LSN 까지 디스크에 반영될 때까지 기다립니다. (group commit)
+     *
+     * @param lsn 기다릴 LSN
+     * @throws IOException force 에 실패한 경우
+     */
+    void sync(long lsn) throws IOException {
+        long reached;
+        syncLock.lock();
+        try {
+            while (durableLsn < lsn && flushing) {
+                try {
+                    flushed.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new IOException("Interrupted while waiting for WAL sync", e);
+                }
+            }
+            if (durableLsn >= lsn) {
+                return;
+            }
+            flushing = true;
+            reached = durableLsn;
+        } finally {
+            syncLock.unlock();
+        }
+
+        try {
+            reached = forceAppended();
+        } finally {
+            syncLock.lock();
+            try {
+                durableLsn = Math.max(durableLsn, reached);
+                flushing = false;
+                flushed.signalAll();
+            } finally {
+                syncLock.unlock();
+            }
+        }
+    }
+
+    /**
+     * 현재 세그먼트를 닫고 다음 세그먼트로 넘어갑니다. 닫는 세그먼트는 전부 force 됩니다.
+     *
+     * @return 새 세그먼트 번호 (이 번호부터 재생하면 이후의 모든 변경을 복구할 수 있음)
+     * @throws IOException 세그먼트 전환에 실패한 경우
+     */
+    long roll() throws IOException {
+        appendLock.lock();
+        try {
+            current.forceAll();
+            current.close();
+            open();
+            syncLock.lock();
+            try {
+                durableLsn = Math.max(durableLsn, appendedLsn);
+            } finally {
+                syncLock.unlock();
+            }
+            return current.sequence;
+        } finally {
+            appendLock.unlock();
+        }
+    }
+
+    /**
+     * 스냅샷에 포함되어 더 이상 필요 없는 세그먼트를 삭제합니다. (log compaction)
+     *
+     * @param sequence 이 번호 미만의 세그먼트를 삭제
+     * @return 삭제된 세그먼트 수
+     * @throws IOException 목록을 읽을 수 없는 경우
+     */
+    int deleteSegmentsBefore(long sequence) throws IOException {
+        int deleted = 0;
+        for (long candidate : listSequences()) {
+            if (candidate < sequence && Files.deleteIfExists(segmentPath(candidate))) {
+                deleted++;
+            }
+        }
+        return deleted;
+    }
+
+    @Override
+    public void close() throws IOException {
+        appendLock.lock();
+        try {
+            if (current != null) {
+                current.forceAll();
+                current.close();
+                current = null;
+            }
+        } finally {
+            appendLock.unlock();
+        }
+    }
+
+    /**
+     * 현재 세그먼트에서 아직 force 되지 않은 구간을 force 합니다.
+     *
+     * @return force 로 반영된 LSN
+     */
+    private long forceAppended() throws IOException {
+        Segment segment;
+        int from;
+        int to;
+        long lsn;
+        appendLock.lock();
+        try {
+            segment = current;
+            from = segment.durableOffset;
+            to = segment.writeOffset;
+            lsn = appendedLsn;
+        } finally {
+            appendLock.unlock();
+        }
+        if (to > from) {
+            segment.buffer.force(from, to - from);
+            segment.durableOffset = to;
+        }
+        return lsn;
+    }
+
+    private long replaySegment(long sequence, ByteBuffer buffer, Consumer<byte[]> consumer) {
+        long records = 0;
+        int offset = 0;
+        while (offset + FRAME_HEADER_BYTES <= buffer.limit()) {
+            int length = buffer.getInt(offset);
+            if (length == 0) {
+                break;
+            }
+            if (length < 0 || offset + FRAME_HEADER_BYTES + length > buffer.limit()) {
+                log.warn("Truncated WAL record in segment {} at offset {}; ignoring the rest of the segment", sequence, offset);
+                break;
+            }
+
+            byte[] payload = new byte[length];
+            buffer.get(offset + FRAME_HEADER_BYTES, payload);
+            CRC32C crc = new CRC32C();
+            crc.update(payload);
+            if ((int) crc.getValue() != buffer.getInt(offset + Integer.BYTES)) {
+                log.warn("Corrupt WAL record in segment {} at offset {}; ignoring the rest of the segment", sequence, offset);
+                break;
+            }
+
+            consumer.accept(payload);
+            records++;
+            offset += FRAME_HEADER_BYTES + length;
+        }
+        return records;
+    }
+
+    private List<Long> listSequences() throws IOException {
+        List<Long> sequences = new ArrayList<>();
+        try (Stream<Path> files = Files.list(directory)) {
+            files.map(path -> path.getFileName().toString())
+                    .filter(name -> name.startsWith(PREFIX) && name.endsWith(SUFFIX))
+                    .forEach(name -> sequences.add(Long.parseLong(name.substring(PREFIX.length(), name.length() - SUFFIX.length()))));
+        }
+        sequences.sort(null);
+        return sequences;
+    }
+
+    private Path segmentPath(long sequence) {
+        return directory.resolve(String.format("%s%016d%s", PREFIX, sequence, SUFFIX));
+    }
+
+    /**
+     * 고정 크기로 매핑된 WAL 세그먼트
+     */
+    private static final class Segment {
+
+        private final long sequence;
+        private final FileChannel channel;
+        private final MappedByteBuffer buffer;
+        private int writeOffset;
+        private volatile int durableOffset;
+
+        private Segment(long sequence, FileChannel channel, MappedByteBuffer buffer) {
+            this.sequence = sequence;
+            this.channel = channel;
+            this.buffer = buffer;
+        }
+
+        static Segment create(Path path, long sequence, int size) throws IOException {
+            FileChannel channel = FileChannel.open(path,
+                    StandardOpenOption.CREATE_NEW, StandardOpenOption.READ, StandardOpenOption.WRITE);
+            return new Segment(sequence, channel, channel.map(FileChannel.MapMode.READ_WRITE, 0, size));
+        }
+
+        void forceAll() {
+            if (writeOffset > durableOffset) {
+                buffer.force(durableOffset, writeOffset - durableOffset);
+                durableOffset = writeOffset;
+            }
+        }
+
+        void close() throws IOException {
+            channel.close();
+        }
+    }
+}
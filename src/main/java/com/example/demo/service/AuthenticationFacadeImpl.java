@@ -48,11 +48,17 @@ public class AuthenticationFacadeImpl implements AuthenticationFacade {
      * 현재 인증된 사용자의 ID를 반환합니다.
      * <p>
      * 인증된 사용자가 없을 경우 0을 반환합니다.
+     * JWT 필터가 인증 시 조회한 Member 가 principal 로 들어 있으면 DB 를 다시 조회하지 않습니다.
      *
      * @return 현재 사용자의 ID 또는 0
      */
     @Override
     public Long getCurrentMemberId() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.isAuthenticated()
+                && authentication.getPrincipal() instanceof Member principal && principal.getId() != null) {
+            return principal.getId();
+        }
         Member currentMember = getCurrentMember();
         return currentMember != null ? currentMember.getId() : 0;
     }
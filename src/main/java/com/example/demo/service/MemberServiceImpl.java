@@ -4,11 +4,15 @@ import com.example.demo.dto.sign.up.SignUpRequest;
 import com.example.demo.dto.member.MemberResponse;
 import com.example.demo.entity.Member;
 import com.example.demo.exception.MemberAlreadyExistsException;
+import com.example.demo.exception.ServiceOverloadedException;
+import com.example.demo.provider.EmailBloomFilterProvider;
+import com.example.demo.provider.MessageProvider;
+import com.example.demo.provider.PasswordHashProvider;
 import com.example.demo.repository.MemberRepository;
 import lombok.RequiredArgsConstructor;
-import org.springframework.security.crypto.password.PasswordEncoder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Optional;
 import java.util.Set;
@@ -19,15 +23,29 @@ import java.util.Set;
  * 이 클래스는 사용자 관련 비즈니스 로직을 처리하는 서비스 레이어로,
  * 회원 가입, 사용자 조회, 인증 등의 기능을 제공한다.
  */
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class MemberServiceImpl implements MemberService {
     private final MemberRepository memberRepository;  // 사용자 저장소 (JPA Repository)
-    private final PasswordEncoder passwordEncoder; // 비밀번호 암호화를 위한 PasswordEncoder
+    private final PasswordHashProvider passwordHashProvider; // 전용 스레드 풀에서 비밀번호를 해싱/검증
+    private final EmailBloomFilterProvider emailBloomFilterProvider; // 가입 이메일 Bloom filter
 
 
+    /**
+     * 이메일 중복 여부를 확인한다.
+     *
+     * - Bloom filter 가 "확실히 없음" 을 반환하면 DB 조회 없이 false 를 반환한다.
+     * - "있을 수도 있음" 인 경우에만 DB 로 확인한다.
+     *
+     * @param email 확인할 이메일
+     * @return 이미 가입된 이메일이면 true
+     */
     @Override
     public boolean existsMemberByEmail(String email) {
+        if (!this.emailBloomFilterProvider.mightContain(email)) {
+            return false;
+        }
         return this.memberRepository.existsMemberByEmail(email);
     }
 
@@ -45,7 +63,7 @@ public class MemberServiceImpl implements MemberService {
     /**
      * 회원 가입 기능을 수행한다.
      *
-     * - 이미 존재하는 이메일이면 예외를 발생시킨다.
+     * - 이미 존재하는 이메일이면 예외를 발생시킨다. (최종 판단은 email 유니크 제약 조건)
      * - 비밀번호는 암호화되어 저장된다.
      * - 새로운 사용자가 성공적으로 저장되면, 해당 사용자의 정보를 DTO로 변환하여 반환한다.
      *
@@ -54,20 +72,30 @@ public class MemberServiceImpl implements MemberService {
      * @throws MemberAlreadyExistsException 동일한 이메일이 이미 존재하는 경우 발생
      */
     @Override
-    @Transactional  // 데이터 일관성을 위해 트랜잭션 처리
     public MemberResponse saveMember(SignUpRequest signUpRequest) {
-        // 1. 사용자 객체 생성 및 비밀번호 암호화 후 저장
-        Member savedMember = this.memberRepository.save(
-                Member.builder()
-                        .email(signUpRequest.getEmail())
-                        .password(this.passwordEncoder.encode(signUpRequest.getPassword())) // 비밀번호 암호화 저장
-                        .roles(Set.of(Member.MemberRole.ROLE_USER)) // 사용자 역할(Role) 설정
-                        .accountNonLocked(true) // 계정 잠금 여부 (true = 잠금되지 않음)
-                        .enabled(true) // 계정 활성화 여부 (true = 활성화됨)
-                        .build()
-        );
+        // 1. 비밀번호 암호화 (DB 커넥션을 잡지 않은 상태에서 해싱하도록 트랜잭션 밖에서 수행)
+        String encodedPassword = this.passwordHashProvider.encode(signUpRequest.getPassword());
+
+        // 2. 사용자 객체 생성 후 저장 (save 는 레포지토리 트랜잭션 안에서 처리됨)
+        Member savedMember;
+        try {
+            savedMember = this.memberRepository.save(
+                    Member.builder()
+                            .email(signUpRequest.getEmail())
+                            .password(encodedPassword) // 비밀번호 암호화 저장
+                            .roles(Set.of(Member.MemberRole.ROLE_USER)) // 사용자 역할(Role) 설정
+                            .accountNonLocked(true) // 계정 잠금 여부 (true = 잠금되지 않음)
+                            .enabled(true) // 계정 활성화 여부 (true = 활성화됨)
+                            .build()
+            );
+        } catch (DataIntegrityViolationException e) {
+            // 중복 확인과 저장 사이에 같은 이메일이 가입된 경우 유니크 제약 조건 위반으로 감지됨
+            this.emailBloomFilterProvider.put(signUpRequest.getEmail());
+            throw new MemberAlreadyExistsException(MessageProvider.getMessage("user.email.exists"));
+        }
+        this.emailBloomFilterProvider.put(savedMember.getEmail());
 
-        // 2. 저장된 사용자 정보를 UserDTO 객체로 변환하여 반환
+        // 3. 저장된 사용자 정보를 UserDTO 객체로 변환하여 반환
         return MemberResponse.builder()
                 .id(savedMember.getId())
                 .email(savedMember.getEmail()).build();
@@ -79,13 +107,43 @@ public class MemberServiceImpl implements MemberService {
      * - 이메일을 기반으로 사용자를 조회한다.
      * - 입력된 비밀번호와 저장된 암호화된 비밀번호를 비교하여 검증한다.
      * - 검증이 성공하면 사용자 엔티티를 Optional로 감싸서 반환한다.
+     * - 저장된 해시의 BCrypt 강도가 현재 설정과 다르면 입력된 비밀번호로 다시 해싱하여 저장한다.
      *
      * @param email 사용자 이메일
      * @param rawPassword 입력된 비밀번호 (암호화되지 않은 상태)
      * @return 인증 성공 시 User 엔티티를 Optional로 감싸서 반환, 실패 시 Optional.empty() 반환
+     * @throws com.example.demo.exception.ServiceOverloadedException 해싱 대기열이 가득 찬 경우
      */
     public Optional<Member> authenticateMember(String email, String rawPassword) {
         return this.memberRepository.findMemberByEmail(email)
-                .filter(member -> passwordEncoder.matches(rawPassword, member.getPassword()));
+                .filter(member -> passwordHashProvider.matches(rawPassword, member.getPassword()))
+                .map(member -> {
+                    rehashIfNeeded(member, rawPassword);
+                    return member;
+                });
+    }
+
+    /**
+     * 저장된 해시의 강도가 현재 설정과 다르면 다시 해싱하여 저장한다.
+     * 재해싱은 부가 작업이므로 해싱 대기열이 가득 차 있으면 건너뛰고 다음 로그인에서 다시 시도한다.
+     *
+     * @param member      인증된 회원
+     * @param rawPassword 검증된 평문 비밀번호
+     */
+    private void rehashIfNeeded(Member member, String rawPassword) {
+        String currentPassword = member.getPassword();
+        if (!passwordHashProvider.needsRehash(currentPassword)) {
+            return;
+        }
+
+        try {
+            String newPassword = passwordHashProvider.encode(rawPassword);
+            if (memberRepository.updatePasswordIfUnchanged(member.getId(), currentPassword, newPassword) > 0) {
+                member.updatePassword(newPassword);
+                log.info("Password rehashed with current BCrypt strength: memberId={}", member.getId());
+            }
+        } catch (ServiceOverloadedException e) {
+            log.debug("Skipping password rehash while hash queue is full: memberId={}", member.getId());
+        }
     }
 }
@@ -3,10 +3,13 @@ package com.example.demo.service;
 import com.example.demo.dto.post.CreatePostCommentRequest;
 import com.example.demo.dto.post.PostCommentDto;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 
 public interface PostCommentService {
     List<PostCommentDto> findAllPostComments(Long postId);
+    Map<Long, List<PostCommentDto>> findAllPostComments(Collection<Long> postIds);
     PostCommentDto createPostComment(CreatePostCommentRequest createPostCommentRequest);
     void deletePostComment(Long id);
     void deleteAllPostComments(Long postId);
@@ -5,6 +5,7 @@ import com.example.demo.dto.post.PostCommentDto;
 import com.example.demo.entity.Member;
 import com.example.demo.entity.Post;
 import com.example.demo.entity.PostComment;
+import com.example.demo.event.PostChangedEvent;
 import com.example.demo.exception.ResourceNotFoundException;
 import com.example.demo.exception.StandardException;
 import com.example.demo.provider.MessageProvider;
@@ -12,11 +13,16 @@ import com.example.demo.repository.MemberRepository;
 import com.example.demo.repository.PostCommentRepository;
 import com.example.demo.repository.PostRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 
 /**
  * 게시글 댓글(Comment) 서비스 구현 클래스
@@ -38,6 +44,7 @@ public class PostCommentServiceImpl implements PostCommentService {
     private final PostRepository postRepository;
     private final MemberRepository memberRepository;
     private final AuthenticationFacade authenticationFacade;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * PostComment 엔티티를 PostCommentDto로 변환합니다.
@@ -46,7 +53,18 @@ public class PostCommentServiceImpl implements PostCommentService {
      * @return 변환된 PostCommentDto
      */
     private PostCommentDto convertToPostCommentDto(PostComment postComment) {
-        boolean isEnabledDelete = this.authenticationFacade.getCurrentMemberId().equals(postComment.getMember().getId());
+        return convertToPostCommentDto(postComment, this.authenticationFacade.getCurrentMemberId());
+    }
+
+    /**
+     * PostComment 엔티티를 PostCommentDto로 변환합니다.
+     *
+     * @param postComment     변환할 PostComment 엔티티
+     * @param currentMemberId 현재 회원 ID (삭제 가능 여부 판단)
+     * @return 변환된 PostCommentDto
+     */
+    private PostCommentDto convertToPostCommentDto(PostComment postComment, Long currentMemberId) {
+        boolean isEnabledDelete = currentMemberId.equals(postComment.getMember().getId());
 
         return PostCommentDto.builder()
                 .id(postComment.getId())
@@ -71,12 +89,32 @@ public class PostCommentServiceImpl implements PostCommentService {
     @Override
     @Transactional(readOnly = true)
     public List<PostCommentDto> findAllPostComments(Long postId) {
+        Long currentMemberId = this.authenticationFacade.getCurrentMemberId();
         return postCommentRepository.findByPostId(postId)
                 .stream()
-                .map(this::convertToPostCommentDto)
+                .map(postComment -> convertToPostCommentDto(postComment, currentMemberId))
                 .toList();
     }
 
+    /**
+     * 여러 게시글의 댓글을 한 번의 조회로 가져와 게시글 ID 별로 묶습니다. (게시글 목록 응답용)
+     *
+     * @param postIds 조회할 게시글 ID 목록
+     * @return 게시글 ID 별 댓글 DTO 목록 (댓글이 없는 게시글은 포함되지 않음)
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public Map<Long, List<PostCommentDto>> findAllPostComments(Collection<Long> postIds) {
+        if (postIds.isEmpty()) {
+            return Map.of();
+        }
+        Long currentMemberId = this.authenticationFacade.getCurrentMemberId();
+        return postCommentRepository.findByPostIdIn(postIds)
+                .stream()
+                .map(postComment -> convertToPostCommentDto(postComment, currentMemberId))
+                .collect(Collectors.groupingBy(PostCommentDto::getPostId, LinkedHashMap::new, Collectors.toList()));
+    }
+
     /**
      * 특정 게시글에 댓글을 추가합니다.
      * <p>
@@ -101,6 +139,8 @@ public class PostCommentServiceImpl implements PostCommentService {
                 .member(member)
                 .build();
         PostComment savedComment = postCommentRepository.save(postComment);
+        postRepository.incrementVersion(post.getId()); // 게시글 응답(ETag)에 댓글이 포함되므로 버전 증가
+        eventPublisher.publishEvent(new PostChangedEvent(post.getId()));
         return convertToPostCommentDto(savedComment);
     }
 
@@ -125,11 +165,14 @@ public class PostCommentServiceImpl implements PostCommentService {
         }
 
         postCommentRepository.deleteById(id);
+        postRepository.incrementVersion(postComment.getPost().getId()); // 게시글 응답(ETag)에 댓글이 포함되므로 버전 증가
+        eventPublisher.publishEvent(new PostChangedEvent(postComment.getPost().getId()));
     }
 
     @Override
     @Transactional
     public void deleteAllPostComments(Long postId) {
         this.postCommentRepository.deleteByPostId(postId);
+        eventPublisher.publishEvent(new PostChangedEvent(postId));
     }
 }
@@ -2,9 +2,12 @@ package com.example.demo.service;
 
 import com.example.demo.dto.post.PostRequest;
 import com.example.demo.dto.post.PostDto;
+import com.example.demo.dto.post.PostFields;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import java.util.Optional;
+
 /**
  * 게시글 서비스 인터페이스
  * <p>
@@ -24,35 +27,47 @@ public interface PostService {
      * 모든 게시글을 페이징하여 조회합니다.
      *
      * @param pageable 페이징 정보
+     * @param fields   응답에 포함할 필드 (요청되지 않은 본문/댓글/좋아요 여부는 조회하지 않음)
      * @return 게시글 목록 (페이징 처리됨)
      */
-    Page<PostDto> findAllPosts(Pageable pageable);
+    Page<PostDto> findAllPosts(Pageable pageable, PostFields fields);
 
     /**
      * 제목을 기준으로 게시글을 검색합니다.
      *
      * @param title    검색할 게시글 제목 (부분 일치)
      * @param pageable 페이징 정보
+     * @param fields   응답에 포함할 필드
      * @return 검색된 게시글 목록 (페이징 처리됨)
      */
-    Page<PostDto> searchPostsByTitle(String title, Pageable pageable);
+    Page<PostDto> searchPostsByTitle(String title, Pageable pageable, PostFields fields);
 
     /**
      * 특정 게시글을 ID로 조회합니다.
      *
-     * @param id 조회할 게시글 ID
+     * @param id     조회할 게시글 ID
+     * @param fields 응답에 포함할 필드
      * @return 조회된 게시글 정보
      */
-    PostDto getPostById(Long id);
+    PostDto getPostById(Long id, PostFields fields);
+
+    /**
+     * 게시글의 현재 버전만 조회합니다. (조건부 GET 처리용)
+     *
+     * @param id 조회할 게시글 ID
+     * @return 게시글 버전 (게시글이 없으면 empty)
+     */
+    Optional<Long> findPostVersion(Long id);
 
     /**
      * 기존 게시글을 수정합니다.
      *
-     * @param id          수정할 게시글 ID
-     * @param postRequest 수정할 데이터 (제목, 내용)
+     * @param id              수정할 게시글 ID
+     * @param postRequest     수정할 데이터 (제목, 내용)
+     * @param expectedVersion 클라이언트가 알고 있는 버전 (If-Match, null 이면 버전 확인 없이 수정)
      * @return 수정된 게시글 정보
      */
-    PostDto updatePost(Long id, PostRequest postRequest);
+    PostDto updatePost(Long id, PostRequest postRequest, Long expectedVersion);
 
     /**
      * 특정 게시글을 삭제합니다.
@@ -1,22 +1,43 @@
 package com.example.demo.service;
 
+import com.example.demo.dto.post.PostCommentDto;
 import com.example.demo.dto.post.PostDto;
+import com.example.demo.dto.post.PostFields;
+import com.example.demo.dto.post.PostFields.Field;
+import com.example.demo.dto.post.PostSummary;
 import com.example.demo.dto.post.PostRequest;
 import com.example.demo.entity.Member;
 import com.example.demo.entity.Post;
 import com.example.demo.entity.PostLike;
+import com.example.demo.event.PostChangedEvent;
+import com.example.demo.exception.PreconditionFailedException;
 import com.example.demo.exception.ResourceNotFoundException;
 import com.example.demo.exception.StandardException;
 import com.example.demo.provider.MessageProvider;
+import com.example.demo.provider.TaskScopeProvider;
 import com.example.demo.repository.PostLikeRepository;
 import com.example.demo.repository.PostRepository;
-import lombok.RequiredArgsConstructor;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Supplier;
 
 /**
  * 자유 게시판 서비스 구현 클래스
@@ -24,15 +45,59 @@ import java.util.Optional;
  * 이 클래스는 자유 게시판 관련 비즈니스 로직을 처리하는 서비스 레이어로,
  * 게시글 작성 및 수정, 게시글 조회, 게시글 삭제, 게시글 좋아요 등의 기능을 제공한다.
  */
+@Slf4j
 @Service
 @Transactional
-@RequiredArgsConstructor
 public class PostServiceImpl implements PostService {
 
+    /**
+     * 좋아요 토글이 동시 변경과 충돌했을 때 시도하는 최대 횟수
+     */
+    private static final int LIKE_TOGGLE_ATTEMPTS = 3;
+
     private final PostRepository postRepository;
     private final PostLikeRepository postLikeRepository;
     private final AuthenticationFacade authenticationFacade;
     private final PostCommentService postCommentService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TaskScopeProvider taskScopeProvider;
+    private final boolean detailConcurrent;
+    private final Duration detailTimeout;
+    private final Counter likeCounter;
+    private final Counter unlikeCounter;
+    private final TransactionTemplate transactionTemplate;
+
+    public PostServiceImpl(
+            PostRepository postRepository,
+            PostLikeRepository postLikeRepository,
+            AuthenticationFacade authenticationFacade,
+            PostCommentService postCommentService,
+            ApplicationEventPublisher eventPublisher,
+            TaskScopeProvider taskScopeProvider,
+            MeterRegistry meterRegistry,
+            TransactionTemplate transactionTemplate,
+            @Value("${post.detail.concurrent:true}") boolean detailConcurrent,
+            @Value("${post.detail.timeout:2s}") Duration detailTimeout
+    ) {
+        this.postRepository = postRepository;
+        this.postLikeRepository = postLikeRepository;
+        this.authenticationFacade = authenticationFacade;
+        this.postCommentService = postCommentService;
+        this.eventPublisher = eventPublisher;
+        this.taskScopeProvider = taskScopeProvider;
+        this.detailConcurrent = detailConcurrent;
+        this.detailTimeout = detailTimeout;
+        this.likeCounter = likeToggleCounter(meterRegistry, "like");
+        this.unlikeCounter = likeToggleCounter(meterRegistry, "unlike");
+        this.transactionTemplate = transactionTemplate;
+    }
+
+    private static Counter likeToggleCounter(MeterRegistry meterRegistry, String action) {
+        return Counter.builder("post.like.toggles")
+                .description("게시글 좋아요 토글 횟수")
+                .tag("action", action)
+                .register(meterRegistry);
+    }
 
     /**
      * 새로운 게시글을 생성합니다.
@@ -51,19 +116,26 @@ public class PostServiceImpl implements PostService {
                         .member(currentMember)
                         .build()
         );
+        eventPublisher.publishEvent(new PostChangedEvent(savedPost.getId()));
         return convertToPostDto(savedPost);
     }
 
     /**
      * 전체 게시글 목록을 페이징 조회합니다.
+     * content 가 요청되지 않으면 본문을 제외한 프로젝션으로 조회합니다.
+     * 좋아요 여부와 댓글은 게시글마다 조회하지 않고 페이지 단위로 한 번씩 조회합니다.
      *
      * @param pageable 페이징 및 정렬 정보
+     * @param fields   응답에 포함할 필드
      * @return 게시글 응답 DTO 페이지
      */
     @Transactional(readOnly = true)
-    public Page<PostDto> findAllPosts(final Pageable pageable) {
-        return postRepository.findAll(pageable)
-                .map(this::convertToPostDto);
+    public Page<PostDto> findAllPosts(final Pageable pageable, final PostFields fields) {
+        Long currentMemberId = resolveCurrentMemberId(fields);
+        Page<PostDetail> details = fields.contains(Field.CONTENT)
+                ? postRepository.findAll(pageable).map(post -> new PostDetail(toPostSummary(post), post.getContent()))
+                : postRepository.findAllSummaries(pageable).map(summary -> new PostDetail(summary, null));
+        return buildPostDtoPage(details, fields, currentMemberId);
     }
 
     /**
@@ -71,43 +143,108 @@ public class PostServiceImpl implements PostService {
      *
      * @param title    검색할 키워드
      * @param pageable 페이징 및 정렬 정보
+     * @param fields   응답에 포함할 필드
      * @return 검색 결과 페이지
      */
     @Transactional(readOnly = true)
-    public Page<PostDto> searchPostsByTitle(final String title, final Pageable pageable) {
-        return postRepository.findByTitleContainingIgnoreCase(title, pageable)
-                .map(this::convertToPostDto);
+    public Page<PostDto> searchPostsByTitle(final String title, final Pageable pageable, final PostFields fields) {
+        Long currentMemberId = resolveCurrentMemberId(fields);
+        Page<PostDetail> details = fields.contains(Field.CONTENT)
+                ? postRepository.findByTitleContainingIgnoreCase(title, pageable)
+                        .map(post -> new PostDetail(toPostSummary(post), post.getContent()))
+                : postRepository.findSummariesByTitleContainingIgnoreCase(title, pageable)
+                        .map(summary -> new PostDetail(summary, null));
+        return buildPostDtoPage(details, fields, currentMemberId);
     }
 
     /**
      * 게시글 ID를 기반으로 단일 게시글을 조회합니다.
+     * <p>
+     * 게시글, 좋아요 여부, 댓글(작성자 포함)은 서로 독립적인 조회이므로 가상 스레드에서 동시에 실행하여
+     * 응답 시간이 조회 시간의 합이 아닌 가장 느린 조회에 가까워지도록 합니다. (post.detail.concurrent)
+     * <ul>
+     *     <li>각 조회는 자신의 읽기 전용 트랜잭션에서 실행되므로 이 메서드는 트랜잭션(커넥션)을 잡고 기다리지 않습니다.</li>
+     *     <li>조회 하나가 실패하면 나머지는 취소되고 그 예외가 그대로 전달됩니다.</li>
+     *     <li>post.detail.timeout 안에 끝나지 않으면 모두 취소하고 503 으로 응답합니다.</li>
+     * </ul>
      *
-     * @param id 게시글 ID
+     * @param id     게시글 ID
+     * @param fields 응답에 포함할 필드
      * @return 게시글 응답 DTO
      * @throws ResourceNotFoundException 게시글이 존재하지 않을 경우 예외 발생
      */
-    @Transactional(readOnly = true)
-    public PostDto getPostById(final Long id) {
-        Post post = postRepository.findById(id)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public PostDto getPostById(final Long id, final PostFields fields) {
+        Long currentMemberId = resolveCurrentMemberId(fields);
+
+        Supplier<Optional<PostDetail>> post;
+        Supplier<Boolean> likedByUser = () -> null;
+        Supplier<List<PostCommentDto>> postComments = () -> null;
+        try (TaskScopeProvider.Scope scope = taskScopeProvider.open(detailTimeout, detailConcurrent)) {
+            post = scope.fork(() -> fields.contains(Field.CONTENT)
+                    ? postRepository.findById(id).map(found -> new PostDetail(toPostSummary(found), found.getContent()))
+                    : postRepository.findSummaryById(id).map(summary -> new PostDetail(summary, null)));
+            if (fields.contains(Field.LIKED_BY_USER)) {
+                likedByUser = scope.fork(() -> postLikeRepository.existsByPostIdAndMemberId(id, currentMemberId));
+            }
+            if (fields.contains(Field.POST_COMMENTS)) {
+                postComments = scope.fork(() -> postCommentService.findAllPostComments(id));
+            }
+            scope.join();
+        }
+
+        PostDetail detail = post.get()
                 .orElseThrow(() -> new ResourceNotFoundException(
                         MessageProvider.getMessage("common.validation.resourceNotFoundException") + " id: " + id));
-        return convertToPostDto(post);
+        return assemblePostDto(detail.summary(), detail.content(), fields, currentMemberId, likedByUser.get(), postComments.get());
+    }
+
+    /**
+     * 게시글의 현재 버전만 조회합니다.
+     *
+     * @param id 게시글 ID
+     * @return 게시글 버전
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<Long> findPostVersion(final Long id) {
+        return postRepository.findVersionById(id);
     }
 
     /**
      * 게시글을 수정합니다.
+     * <p>
+     * expectedVersion 이 주어지면 버전 조건부 UPDATE 로 수정하여, 그 사이 다른 요청이 수정한 경우 덮어쓰지 않습니다.
      *
-     * @param id          수정할 게시글 ID
-     * @param postRequest 수정할 데이터
+     * @param id              수정할 게시글 ID
+     * @param postRequest     수정할 데이터
+     * @param expectedVersion 클라이언트가 알고 있는 버전 (null 이면 버전 확인 없이 수정)
      * @return 수정된 게시글 응답 DTO
-     * @throws ResourceNotFoundException 게시글이 존재하지 않을 경우 예외 발생
+     * @throws ResourceNotFoundException   게시글이 존재하지 않을 경우 예외 발생
+     * @throws PreconditionFailedException 버전이 일치하지 않을 경우 예외 발생
      */
     @Override
-    public PostDto updatePost(final Long id, final PostRequest postRequest) {
+    public PostDto updatePost(final Long id, final PostRequest postRequest, final Long expectedVersion) {
+        if (expectedVersion != null) {
+            int updated = postRepository.updateIfVersionMatches(
+                    id, expectedVersion, postRequest.getTitle(), postRequest.getContent(), LocalDateTime.now());
+            if (updated == 0) {
+                if (!postRepository.existsById(id)) {
+                    throw new ResourceNotFoundException(
+                            MessageProvider.getMessage("common.validation.resourceNotFoundException") + " id: " + id);
+                }
+                throw new PreconditionFailedException(MessageProvider.getMessage("common.precondition.failed"));
+            }
+        }
+
         Post post = postRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException(
                         MessageProvider.getMessage("common.validation.resourceNotFoundException") + " id: " + id));
-        post.updatePost(postRequest.getTitle(), postRequest.getContent());
+        if (expectedVersion == null) {
+            post.updatePost(postRequest.getTitle(), postRequest.getContent());
+            postRepository.flush(); // 증가된 버전을 응답에 반영
+        }
+        eventPublisher.publishEvent(new PostChangedEvent(id));
         return convertToPostDto(post);
     }
 
@@ -128,18 +265,38 @@ public class PostServiceImpl implements PostService {
         }
 
         this.postRepository.delete(post);
+        eventPublisher.publishEvent(new PostChangedEvent(id));
     }
 
     /**
      * 특정 게시글에 대해 회원의 좋아요 상태를 토글합니다.
      * 이미 좋아요한 상태이면 좋아요를 취소하고, 그렇지 않으면 좋아요를 추가합니다.
+     * <p>
+     * 좋아요 수는 버전이 있는 게시글 행에 있으므로, 같은 게시글에 대한 다른 토글이나 댓글 변경(버전 증가)과 겹치면
+     * 낙관적 락 검사에 실패합니다. 이 경우 새 트랜잭션에서 최대 {@value #LIKE_TOGGLE_ATTEMPTS}번까지 다시 시도하고,
+     * 그래도 실패하면 예외를 그대로 전달합니다. (409 응답)
      *
      * @param id 게시글 ID
      * @return 좋아요 상태가 반영된 게시글 응답 DTO
      * @throws ResourceNotFoundException 게시글이 존재하지 않을 경우 예외 발생
+     * @throws OptimisticLockingFailureException 재시도 후에도 동시 변경과 충돌한 경우
      */
     @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public PostDto togglePostLike(final Long id) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return transactionTemplate.execute(status -> togglePostLikeOnce(id));
+            } catch (OptimisticLockingFailureException e) {
+                if (attempt >= LIKE_TOGGLE_ATTEMPTS) {
+                    throw e;
+                }
+                log.debug("Post like toggle conflicted, retrying. id: {}, attempt: {}", id, attempt);
+            }
+        }
+    }
+
+    private PostDto togglePostLikeOnce(final Long id) {
         Post post = postRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException(
                         MessageProvider.getMessage("common.validation.resourceNotFoundException") + " id: " + id));
@@ -160,31 +317,142 @@ public class PostServiceImpl implements PostService {
             postLikeRepository.save(postLike);
             post.incrementLikeCount();
         }
+        postRepository.flush(); // 증가된 버전을 응답에 반영 (버전 충돌도 여기서 드러남)
+        (optionalPostLike.isPresent() ? unlikeCounter : likeCounter).increment();
+        eventPublisher.publishEvent(new PostChangedEvent(id));
         return convertToPostDto(post);
     }
 
     /**
-     * Post 엔티티를 PostDto로 변환하는 헬퍼 메서드.
+     * Post 엔티티를 모든 필드를 포함한 PostDto로 변환하는 헬퍼 메서드.
      *
      * @param post 변환할 Post 엔티티
      * @return 변환된 PostDto
      */
     private PostDto convertToPostDto(final Post post) {
-        boolean likedByUser = postLikeRepository.existsByPostIdAndMemberId(post.getId(), this.authenticationFacade.getCurrentMemberId());
-        boolean isEnabledDelete = this.authenticationFacade.getCurrentMemberId().equals(post.getMember().getId());
+        return convertToPostDto(post, PostFields.ALL, this.authenticationFacade.getCurrentMemberId());
+    }
 
-        return PostDto.builder()
-                .id(post.getId())
-                .title(post.getTitle())
-                .content(post.getContent())
-                .createdAt(post.getCreatedAt())
-                .updatedAt(post.getUpdatedAt())
-                .likeCount(post.getLikeCount().get())
-                .likedByUser(likedByUser)
-                .postComments(this.postCommentService.findAllPostComments(post.getId()))
-                .isEnabledDelete(isEnabledDelete)
-                .build();
+    /**
+     * Post 엔티티를 PostDto로 변환하는 헬퍼 메서드.
+     *
+     * @param post            변환할 Post 엔티티
+     * @param fields          응답에 포함할 필드
+     * @param currentMemberId 현재 회원 ID (회원별 필드가 요청되지 않았으면 null)
+     * @return 변환된 PostDto
+     */
+    private PostDto convertToPostDto(final Post post, final PostFields fields, final Long currentMemberId) {
+        return buildPostDto(toPostSummary(post), post.getContent(), fields, currentMemberId);
     }
 
+    /**
+     * Post 엔티티에서 게시글 요약을 만드는 헬퍼 메서드.
+     *
+     * @param post 게시글 엔티티
+     * @return 게시글 요약
+     */
+    private static PostSummary toPostSummary(final Post post) {
+        return new PostSummary(post.getId(), post.getTitle(), post.getLikeCount(), post.getMember().getId(),
+                post.getCreatedAt(), post.getUpdatedAt(), post.getVersion());
+    }
+
+    /**
+     * 게시글 요약과 본문으로 PostDto를 만드는 헬퍼 메서드.
+     * 요청되지 않은 필드(좋아요 여부, 댓글)는 조회하지 않습니다.
+     *
+     * @param summary         게시글 요약
+     * @param content         게시글 본문 (요청되지 않았으면 null)
+     * @param fields          응답에 포함할 필드
+     * @param currentMemberId 현재 회원 ID (회원별 필드가 요청되지 않았으면 null)
+     * @return 변환된 PostDto
+     */
+    private PostDto buildPostDto(final PostSummary summary, final String content, final PostFields fields, final Long currentMemberId) {
+        Boolean likedByUser = fields.contains(Field.LIKED_BY_USER)
+                ? postLikeRepository.existsByPostIdAndMemberId(summary.id(), currentMemberId)
+                : null;
+        List<PostCommentDto> postComments = fields.contains(Field.POST_COMMENTS)
+                ? this.postCommentService.findAllPostComments(summary.id())
+                : null;
+        return assemblePostDto(summary, content, fields, currentMemberId, likedByUser, postComments);
+    }
 
+    /**
+     * 게시글 페이지를 PostDto 페이지로 변환하는 헬퍼 메서드.
+     * 좋아요 여부와 댓글은 페이지의 게시글 ID 로 한 번씩만 조회합니다. (게시글마다 조회하는 N+1 방지)
+     *
+     * @param details         게시글 페이지
+     * @param fields          응답에 포함할 필드
+     * @param currentMemberId 현재 회원 ID (회원별 필드가 요청되지 않았으면 null)
+     * @return 변환된 PostDto 페이지
+     */
+    private Page<PostDto> buildPostDtoPage(final Page<PostDetail> details, final PostFields fields, final Long currentMemberId) {
+        List<Long> postIds = details.stream().map(detail -> detail.summary().id()).toList();
+        Set<Long> likedPostIds = fields.contains(Field.LIKED_BY_USER) && !postIds.isEmpty()
+                ? new HashSet<>(postLikeRepository.findLikedPostIds(currentMemberId, postIds))
+                : Set.of();
+        Map<Long, List<PostCommentDto>> postComments = fields.contains(Field.POST_COMMENTS)
+                ? this.postCommentService.findAllPostComments(postIds)
+                : Map.of();
+        return details.map(detail -> {
+            Long id = detail.summary().id();
+            return assemblePostDto(detail.summary(), detail.content(), fields, currentMemberId,
+                    likedPostIds.contains(id), postComments.getOrDefault(id, List.of()));
+        });
+    }
+
+    /**
+     * 미리 조회한 값으로 PostDto를 만드는 헬퍼 메서드.
+     *
+     * @param summary         게시글 요약
+     * @param content         게시글 본문 (요청되지 않았으면 null)
+     * @param fields          응답에 포함할 필드
+     * @param currentMemberId 현재 회원 ID (회원별 필드가 요청되지 않았으면 null)
+     * @param likedByUser     좋아요 여부 (요청되지 않았으면 null)
+     * @param postComments    댓글 목록 (요청되지 않았으면 null)
+     * @return 변환된 PostDto
+     */
+    private PostDto assemblePostDto(final PostSummary summary, final String content, final PostFields fields,
+                                    final Long currentMemberId, final Boolean likedByUser, final List<PostCommentDto> postComments) {
+        PostDto.PostDtoBuilder builder = PostDto.builder()
+                .id(summary.id())
+                .title(summary.title())
+                .content(content)
+                .createdAt(summary.createdAt())
+                .updatedAt(summary.updatedAt())
+                .version(summary.version())
+                .likeCount(summary.likeCount().get());
+
+        if (fields.contains(Field.LIKED_BY_USER)) {
+            builder.likedByUser(likedByUser);
+        }
+        if (fields.contains(Field.IS_ENABLED_DELETE)) {
+            builder.isEnabledDelete(currentMemberId.equals(summary.memberId()));
+        }
+        if (fields.contains(Field.POST_COMMENTS)) {
+            builder.postComments(postComments);
+        }
+        return builder.build();
+    }
+
+    /**
+     * 회원별 필드(좋아요 여부, 삭제 가능 여부)가 요청된 경우에만 현재 회원 ID를 조회합니다.
+     *
+     * @param fields 응답에 포함할 필드
+     * @return 현재 회원 ID (필요 없으면 null)
+     */
+    private Long resolveCurrentMemberId(final PostFields fields) {
+        if (fields.contains(Field.LIKED_BY_USER) || fields.contains(Field.IS_ENABLED_DELETE)) {
+            return this.authenticationFacade.getCurrentMemberId();
+        }
+        return null;
+    }
+
+    /**
+     * 게시글 상세 조회 결과
+     *
+     * @param summary 게시글 요약
+     * @param content 게시글 본문 (요청되지 않았으면 null)
+     */
+    private record PostDetail(PostSummary summary, String content) {
+    }
 }
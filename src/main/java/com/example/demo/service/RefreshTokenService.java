@@ -0,0 +1,38 @@
+package com.example.demo.service;
+
+import com.example.demo.dto.sign.in.SignInResponse;
+import com.example.demo.entity.Member;
+
+import java.util.Optional;
+
+/**
+ * 토큰 발급 서비스 인터페이스
+ * <p>
+ * 짧은 수명의 액세스 토큰과 회전(rotation)되는 리프레시 토큰을 발급/갱신/폐기합니다.
+ */
+public interface RefreshTokenService {
+
+    /**
+     * 로그인에 성공한 회원에게 새 액세스 토큰과 리프레시 토큰(새 family)을 발급합니다.
+     *
+     * @param member 인증된 회원
+     * @return 액세스 토큰과 리프레시 토큰
+     */
+    SignInResponse issueTokens(Member member);
+
+    /**
+     * 리프레시 토큰을 회전하여 새 토큰 쌍을 발급합니다.
+     * 이미 사용된 토큰이 제시되면 해당 family 전체를 폐기합니다.
+     *
+     * @param refreshToken 클라이언트가 보관한 리프레시 토큰 원문
+     * @return 새 토큰 쌍 (유효하지 않은 토큰이면 Optional.empty())
+     */
+    Optional<SignInResponse> rotateTokens(String refreshToken);
+
+    /**
+     * 회원의 모든 리프레시 토큰을 폐기합니다.
+     *
+     * @param email 회원 이메일
+     */
+    void revokeAllTokens(String email);
+}
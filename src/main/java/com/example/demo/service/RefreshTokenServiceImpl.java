@@ -0,0 +1,139 @@
+package com.example.demo.service;
+
+import com.example.demo.dto.sign.in.SignInResponse;
+import com.example.demo.entity.Member;
+import com.example.demo.entity.RefreshToken;
+import com.example.demo.provider.JwtProvider;
+import com.example.demo.repository.RefreshTokenRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.StringUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.HexFormat;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * 토큰 발급 서비스 구현 클래스
+ *
+ * 리프레시 토큰은 추측 불가능한 난수 원문을 클라이언트에 전달하고, DB 에는 SHA-256 해시만 저장한다.
+ * 갱신 요청은 해시 인덱스 조회 한 번으로 처리되며 비밀번호 해싱을 수행하지 않는다.
+ */
+@Slf4j
+@Service
+public class RefreshTokenServiceImpl implements RefreshTokenService {
+
+    private static final int TOKEN_BYTES = 32;
+
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final JwtProvider jwtProvider;
+    private final long refreshExpirationMillis;
+    private final SecureRandom secureRandom = new SecureRandom();
+
+    public RefreshTokenServiceImpl(
+            RefreshTokenRepository refreshTokenRepository,
+            JwtProvider jwtProvider,
+            @Value("${jwt.refreshExpirationMillis}") long refreshExpirationMillis
+    ) {
+        this.refreshTokenRepository = refreshTokenRepository;
+        this.jwtProvider = jwtProvider;
+        this.refreshExpirationMillis = refreshExpirationMillis;
+    }
+
+    @Override
+    @Transactional
+    public SignInResponse issueTokens(Member member) {
+        return issueTokens(member, UUID.randomUUID().toString());
+    }
+
+    /**
+     * 리프레시 토큰을 회전한다.
+     *
+     * - 해시로 토큰과 회원을 한 번에 조회한다.
+     * - 만료/폐기된 토큰은 거부한다.
+     * - 이미 사용된 토큰이면 탈취로 간주하고 family 전체를 폐기한다.
+     * - 조건부 UPDATE 로 사용 처리하여 동시 회전 요청 중 하나만 성공하도록 한다.
+     */
+    @Override
+    @Transactional
+    public Optional<SignInResponse> rotateTokens(String refreshToken) {
+        if (!StringUtils.hasText(refreshToken)) {
+            return Optional.empty();
+        }
+
+        Optional<RefreshToken> found = refreshTokenRepository.findByTokenHashWithMember(hash(refreshToken));
+        if (found.isEmpty()) {
+            return Optional.empty();
+        }
+
+        RefreshToken current = found.get();
+        LocalDateTime now = LocalDateTime.now();
+        if (current.isRevoked() || current.isExpired(now)) {
+            return Optional.empty();
+        }
+
+        if (current.getUsedAt() != null || refreshTokenRepository.markUsed(current.getId(), now) == 0) {
+            log.warn("Refresh token reuse detected. Revoking family: {}", current.getFamilyId());
+            refreshTokenRepository.revokeFamily(current.getFamilyId());
+            return Optional.empty();
+        }
+
+        return Optional.of(issueTokens(current.getMember(), current.getFamilyId()));
+    }
+
+    @Override
+    @Transactional
+    public void revokeAllTokens(String email) {
+        refreshTokenRepository.revokeAllByMemberEmail(email);
+    }
+
+    /**
+     * 액세스 토큰과 지정한 family 의 새 리프레시 토큰을 발급한다.
+     *
+     * @param member   토큰 소유 회원
+     * @param familyId 리프레시 토큰 family
+     * @return 액세스 토큰과 리프레시 토큰
+     */
+    private SignInResponse issueTokens(Member member, String familyId) {
+        byte[] randomBytes = new byte[TOKEN_BYTES];
+        secureRandom.nextBytes(randomBytes);
+        String refreshToken = Base64.getUrlEncoder().withoutPadding().encodeToString(randomBytes);
+
+        refreshTokenRepository.save(
+                RefreshToken.builder()
+                        .tokenHash(hash(refreshToken))
+                        .familyId(familyId)
+                        .member(member)
+                        .expiresAt(LocalDateTime.now().plusNanos(refreshExpirationMillis * 1_000_000))
+                        .build()
+        );
+
+        return SignInResponse.builder()
+                .token(jwtProvider.generateToken(member.getEmail()))
+                .refreshToken(refreshToken)
+                .build();
+    }
+
+    /**
+     * 토큰 원문의 SHA-256 해시(hex)를 계산한다.
+     *
+     * @param token 토큰 원문
+     * @return 64자리 hex 문자열
+     */
+    private String hash(String token) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+}
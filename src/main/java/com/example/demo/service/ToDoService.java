@@ -1,8 +1,11 @@
 package com.example.demo.service;
 
+import com.example.demo.dto.todo.ToDoChanges;
 import com.example.demo.dto.todo.ToDoDto;
+import com.example.demo.dto.todo.ToDoDtoWithCursor;
 
 import java.util.List;
+import java.util.function.Consumer;
 
 /**
  * 할 일(ToDo) 서비스 인터페이스
@@ -12,11 +15,23 @@ import java.util.List;
 public interface ToDoService {
 
     /**
-     * 모든 할 일 목록을 조회합니다.
+     * 커서(id) 이후의 할 일 목록을 id 오름차순으로 조회합니다.
      *
-     * @return 할 일 DTO 목록
+     * @param cursor    마지막으로 받은 할 일 ID (null 이면 처음부터)
+     * @param size      페이지 크기
+     * @param completed 완료 여부 필터 (null 이면 전체)
+     * @return 할 일 목록과 다음 커서
      */
-    List<ToDoDto> findAllTodos();
+    ToDoDtoWithCursor findTodos(Long cursor, int size, Boolean completed);
+
+    /**
+     * 할 일 목록을 JDBC 커서로 한 행씩 읽어 consumer 에 전달합니다.
+     * 전체 목록을 메모리에 올리지 않으므로 대량 내보내기에 사용합니다.
+     *
+     * @param completed 완료 여부 필터 (null 이면 전체)
+     * @param consumer  각 할 일을 처리할 함수
+     */
+    void streamTodos(Boolean completed, Consumer<ToDoDto> consumer);
 
     /**
      * 새로운 할 일을 생성합니다.
@@ -50,4 +65,29 @@ public interface ToDoService {
      * @return 수정된 할 일 DTO
      */
     ToDoDto updateTodoCompleted(Long id, Boolean completed);
+
+    /**
+     * 할 일의 완료 상태를 일괄 변경합니다.
+     *
+     * @param ids       변경할 할 일 ID 목록 (null 이면 완료 상태가 다른 모든 할 일)
+     * @param completed 새로운 완료 상태
+     * @return 변경된 할 일 수
+     */
+    long updateTodosCompleted(List<Long> ids, boolean completed);
+
+    /**
+     * 완료 상태가 일치하는 할 일을 일괄 삭제합니다.
+     *
+     * @param completed 삭제할 할 일의 완료 상태
+     * @return 삭제된 할 일 수
+     */
+    long deleteTodosByCompleted(boolean completed);
+
+    /**
+     * 동기화 토큰 이후에 생성, 수정, 삭제된 할 일을 조회합니다.
+     *
+     * @param since 이전 응답의 nextToken (null 이면 최초 동기화)
+     * @return 변경분과 다음 토큰
+     */
+    ToDoChanges findChanges(String since);
 }
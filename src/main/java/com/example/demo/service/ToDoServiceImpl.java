@@ -1,23 +1,38 @@
 package com.example.demo.service;
 
+import com.example.demo.dto.todo.ToDoChanges;
 import com.example.demo.dto.todo.ToDoDto;
+import com.example.demo.dto.todo.ToDoDtoWithCursor;
+import com.example.demo.dto.todo.ToDoSyncToken;
 import com.example.demo.entity.Todo;
+import com.example.demo.entity.TodoTombstone;
 import com.example.demo.provider.MessageProvider;
+import com.example.demo.provider.RequestDeadline;
 import com.example.demo.repository.ToDoRepository;
-import lombok.RequiredArgsConstructor;
+import com.example.demo.repository.ToDoTombstoneRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Comparator;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.function.Consumer;
+import java.util.function.IntSupplier;
+import java.util.stream.Stream;
 
 /**
  * 할 일(ToDo) 서비스 구현 클래스
  *
  * 할 일 목록 조회, 생성, 수정, 삭제 기능을 제공하며,
  */
+@Slf4j
 @Service
-@RequiredArgsConstructor
 public class ToDoServiceImpl implements ToDoService {
 
     /**
@@ -26,17 +41,99 @@ public class ToDoServiceImpl implements ToDoService {
     private final ToDoRepository toDoRepository;
 
     /**
-     * 모든 할 일 목록을 조회하여 DTO 리스트로 반환합니다.
+     * 삭제 기록(tombstone)에 대한 데이터 접근 객체
+     */
+    private final ToDoTombstoneRepository toDoTombstoneRepository;
+
+    /**
+     * 일괄 처리 청크마다 별도 트랜잭션을 여는 데 사용
+     */
+    private final TransactionTemplate transactionTemplate;
+
+    /**
+     * 일괄 처리 시 한 문장이 다루는 최대 ID 수
+     */
+    private final int bulkChunkSize;
+
+    /**
+     * 변경분 동기화 응답 한 번에 담을 최대 변경/삭제 건수 (각각)
+     */
+    private final int syncMaxChanges;
+
+    /**
+     * 커밋 순서가 수정 시각 순서와 다를 수 있으므로, 이 시간 이내의 변경은 다음 요청에서 한 번 더 전달합니다.
+     */
+    private final Duration syncSafetyWindow;
+
+    /**
+     * 삭제 기록 보존 기간. 이보다 오래된 토큰은 전체 재동기화를 요구합니다.
+     */
+    private final Duration tombstoneRetention;
+
+    public ToDoServiceImpl(
+            ToDoRepository toDoRepository,
+            ToDoTombstoneRepository toDoTombstoneRepository,
+            TransactionTemplate transactionTemplate,
+            @Value("${todo.bulk.chunk-size:1000}") int bulkChunkSize,
+            @Value("${todo.sync.max-changes:500}") int syncMaxChanges,
+            @Value("${todo.sync.safety-window:5s}") Duration syncSafetyWindow,
+            @Value("${todo.sync.tombstone-retention:30d}") Duration tombstoneRetention
+    ) {
+        this.toDoRepository = toDoRepository;
+        this.toDoTombstoneRepository = toDoTombstoneRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.bulkChunkSize = Math.max(1, bulkChunkSize);
+        this.syncMaxChanges = Math.max(1, syncMaxChanges);
+        this.syncSafetyWindow = syncSafetyWindow;
+        this.tombstoneRetention = tombstoneRetention;
+    }
+
+    /**
+     * 커서(id) 이후의 할 일 목록을 조회합니다.
+     * OFFSET 대신 {@code id > cursor} 조건을 사용하므로 뒤쪽 페이지도 인덱스 탐색 한 번으로 조회됩니다.
+     * 다음 페이지 존재 여부는 size + 1 개를 조회하여 판단합니다.
      *
-     * @return 할 일 DTO 목록
+     * @param cursor    마지막으로 받은 할 일 ID (null 이면 처음부터)
+     * @param size      페이지 크기
+     * @param completed 완료 여부 필터 (null 이면 전체)
+     * @return 할 일 목록과 다음 커서
      */
     @Override
     @Transactional(readOnly = true)
-    public List<ToDoDto> findAllTodos() {
-        return toDoRepository.findAll()
-                .stream()
-                .map(this::convertToDto)
-                .collect(Collectors.toList());
+    public ToDoDtoWithCursor findTodos(Long cursor, int size, Boolean completed) {
+        long after = (cursor == null) ? 0L : cursor;
+        Limit limit = Limit.of(size + 1);
+        List<ToDoDto> todos = (completed == null)
+                ? toDoRepository.findPageAfter(after, limit)
+                : toDoRepository.findPageByCompletedAfter(completed, after, limit);
+
+        boolean hasNext = todos.size() > size;
+        if (hasNext) {
+            todos = todos.subList(0, size);
+        }
+        return ToDoDtoWithCursor.builder()
+                .todos(todos)
+                .nextCursor(hasNext ? todos.get(todos.size() - 1).getId() : null)
+                .hasNext(hasNext)
+                .size(todos.size())
+                .build();
+    }
+
+    /**
+     * 할 일 목록을 JDBC 커서로 한 행씩 읽어 consumer 에 전달합니다.
+     * 엔티티 대신 DTO 로 조회하므로 영속성 컨텍스트에 행이 쌓이지 않습니다.
+     *
+     * @param completed 완료 여부 필터 (null 이면 전체)
+     * @param consumer  각 할 일을 처리할 함수
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public void streamTodos(Boolean completed, Consumer<ToDoDto> consumer) {
+        try (Stream<ToDoDto> todos = (completed == null)
+                ? toDoRepository.streamAll()
+                : toDoRepository.streamByCompleted(completed)) {
+            todos.forEach(consumer);
+        }
     }
 
     /**
@@ -72,7 +169,7 @@ public class ToDoServiceImpl implements ToDoService {
                 .orElseThrow(() -> new IllegalArgumentException(
                         MessageProvider.getMessage("common.validation.illegalArgumentException") + " id: " + id));
         todo.updateTitle(title);
-        return convertToDto(todo);
+        return convertToDto(toDoRepository.save(todo));
     }
 
     /**
@@ -90,7 +187,7 @@ public class ToDoServiceImpl implements ToDoService {
                 .orElseThrow(() -> new IllegalArgumentException(
                         MessageProvider.getMessage("common.validation.illegalArgumentException") + " id: " + id));
         todo.updateCompleted(completed);
-        return convertToDto(todo);
+        return convertToDto(toDoRepository.save(todo));
     }
 
     /**
@@ -106,6 +203,227 @@ public class ToDoServiceImpl implements ToDoService {
                 .orElseThrow(() -> new IllegalArgumentException(
                         MessageProvider.getMessage("common.validation.illegalArgumentException") + " id: " + id));
         toDoRepository.delete(todo);
+        toDoTombstoneRepository.insertTombstone(id, ToDoSyncToken.truncate(LocalDateTime.now()));
+    }
+
+    /**
+     * 할 일의 완료 상태를 UPDATE 문으로 일괄 변경합니다.
+     * <p>
+     * 엔티티를 조회하지 않고 청크마다 UPDATE 한 번을 실행합니다.
+     * 청크마다 트랜잭션을 커밋하므로 대량 변경 중에도 행 잠금이 오래 유지되지 않습니다.
+     * 수정 시각은 청크 트랜잭션 안에서 정하므로, 앞 청크가 커밋된 뒤에 커밋되는 청크가 더 이른 수정 시각을 갖지 않습니다.
+     * 중간에 실패하면 이전 청크의 변경은 유지되며, 같은 요청을 다시 보내면 남은 행만 변경됩니다.
+     * 요청 deadline 안에 다음 청크를 마칠 시간이 없으면 거기서 멈추고 그때까지 변경된 수를 반환합니다.
+     *
+     * @param ids       변경할 할 일 ID 목록 (null 이면 완료 상태가 다른 모든 할 일)
+     * @param completed 새로운 완료 상태
+     * @return 변경된 할 일 수
+     */
+    @Override
+    public long updateTodosCompleted(List<Long> ids, boolean completed) {
+        long affected = 0;
+
+        if (ids != null) {
+            List<Long> distinctIds = ids.stream().distinct().toList();
+            long chunkNanos = 0;
+            for (int from = 0; from < distinctIds.size() && hasTimeForChunk(chunkNanos); from += bulkChunkSize) {
+                List<Long> chunk = distinctIds.subList(from, Math.min(from + bulkChunkSize, distinctIds.size()));
+                long startNanos = System.nanoTime();
+                affected += executeChunk(() -> toDoRepository.updateCompletedByIds(chunk, completed, LocalDateTime.now()));
+                chunkNanos = System.nanoTime() - startNanos;
+            }
+        } else {
+            affected = forEachIdChunk(!completed,
+                    chunk -> toDoRepository.updateCompletedByIds(chunk, completed, LocalDateTime.now()));
+        }
+
+        log.info("Bulk todo update: completed={}, affected={}", completed, affected);
+        return affected;
+    }
+
+    /**
+     * 완료 상태가 일치하는 할 일을 청크별 DELETE 문으로 일괄 삭제합니다.
+     * 각 청크는 같은 트랜잭션에서 삭제 기록을 INSERT ... SELECT 로 먼저 남긴 뒤 삭제합니다.
+     * 삭제 시각도 청크 트랜잭션 안에서 정합니다.
+     * 일괄 변경과 마찬가지로 요청 deadline 에 걸리면 그때까지 삭제된 수를 반환합니다.
+     *
+     * @param completed 삭제할 할 일의 완료 상태
+     * @return 삭제된 할 일 수
+     */
+    @Override
+    public long deleteTodosByCompleted(boolean completed) {
+        long affected = forEachIdChunk(completed, chunk -> {
+            toDoTombstoneRepository.insertTombstonesByIds(chunk, completed, ToDoSyncToken.truncate(LocalDateTime.now()));
+            return toDoRepository.deleteCompletedByIds(chunk, completed);
+        });
+
+        log.info("Bulk todo delete: completed={}, affected={}", completed, affected);
+        return affected;
+    }
+
+    /**
+     * 동기화 토큰 이후의 변경분을 조회합니다.
+     * <p>
+     * 변경된 할 일은 (updatedAt, id), 삭제 기록은 (deletedAt, todoId) 커서로 각각 최대 max-changes 건씩 조회하므로
+     * 비용은 테이블 크기가 아니라 변경 건수에 비례합니다.
+     * 다음 커서는 safety-window 이전 시각을 넘지 않도록 제한하여, 늦게 커밋된 변경이 누락되지 않게 합니다.
+     *
+     * @param since 이전 응답의 nextToken (null 이면 최초 동기화)
+     * @return 변경분과 다음 토큰
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public ToDoChanges findChanges(String since) {
+        LocalDateTime now = ToDoSyncToken.truncate(LocalDateTime.now());
+        Cursor stable = new Cursor(now.minus(syncSafetyWindow), Long.MAX_VALUE);
+        ToDoSyncToken token = (since == null || since.isBlank())
+                ? ToDoSyncToken.initial(stable.time())
+                : ToDoSyncToken.decode(since);
+
+        if (token.deletedAt().isBefore(now.minus(tombstoneRetention))) {
+            return ToDoChanges.builder()
+                    .changed(List.of())
+                    .deleted(List.of())
+                    .resetRequired(true)
+                    .build();
+        }
+
+        Limit limit = Limit.of(syncMaxChanges + 1);
+        List<Todo> changed = toDoRepository.findChangedAfter(token.changedAt(), token.changedId(), limit);
+        List<TodoTombstone> deleted = toDoTombstoneRepository.findDeletedAfter(token.deletedAt(), token.deletedId(), limit);
+
+        boolean changedHasMore = changed.size() > syncMaxChanges;
+        boolean deletedHasMore = deleted.size() > syncMaxChanges;
+        if (changedHasMore) {
+            changed = changed.subList(0, syncMaxChanges);
+        }
+        if (deletedHasMore) {
+            deleted = deleted.subList(0, syncMaxChanges);
+        }
+
+        Cursor lastChanged = changed.isEmpty() ? null : new Cursor(changed.getLast().getUpdatedAt(), changed.getLast().getId());
+        Cursor lastDeleted = deleted.isEmpty() ? null : new Cursor(deleted.getLast().getDeletedAt(), deleted.getLast().getTodoId());
+        Cursor nextChanged = advance(new Cursor(token.changedAt(), token.changedId()), stable, changedHasMore, lastChanged);
+        Cursor nextDeleted = advance(new Cursor(token.deletedAt(), token.deletedId()), stable, deletedHasMore, lastDeleted);
+
+        // 이번 응답이 안정 시점을 넘어섰다면 안정 시점까지는 모두 전달한 것이고, 남은 변경은 safety-window 안에 있어
+        // 바로 다시 요청해도 커서가 움직이지 않으므로 hasMore 를 알리지 않음 (안정 시점이 지난 뒤의 요청에서 전달됨)
+        boolean hasMore = (changedHasMore && Cursor.ORDER.compare(lastChanged, stable) < 0)
+                || (deletedHasMore && Cursor.ORDER.compare(lastDeleted, stable) < 0);
+
+        return ToDoChanges.builder()
+                .changed(changed.stream().map(this::convertToDto).toList())
+                .deleted(deleted.stream().map(TodoTombstone::getTodoId).toList())
+                .nextToken(new ToDoSyncToken(nextChanged.time(), nextChanged.id(), nextDeleted.time(), nextDeleted.id()).encode())
+                .hasMore(hasMore)
+                .build();
+    }
+
+    /**
+     * 보존 기간이 지난 삭제 기록을 주기적으로 제거합니다.
+     */
+    @Scheduled(fixedDelayString = "${todo.sync.purge-interval:1h}", initialDelayString = "${todo.sync.purge-interval:1h}")
+    @Transactional
+    public void purgeExpiredTombstones() {
+        int purged = toDoTombstoneRepository.deleteByDeletedAtBefore(LocalDateTime.now().minus(tombstoneRetention));
+        if (purged > 0) {
+            log.info("Purged {} todo tombstones older than {}", purged, tombstoneRetention);
+        }
+    }
+
+    /**
+     * 다음 커서를 계산합니다.
+     * <ul>
+     *     <li>남은 변경이 없으면 안정 시점(safety-window 이전)까지 모두 전달한 것으로 보고 그 시점으로 이동합니다.</li>
+     *     <li>남은 변경이 있으면 마지막으로 전달한 위치로 이동하되 안정 시점을 넘지 않습니다.</li>
+     *     <li>커서는 뒤로 돌아가지 않습니다.</li>
+     * </ul>
+     *
+     * @param current 현재 커서
+     * @param stable  안정 시점
+     * @param hasMore 남은 변경 여부
+     * @param last    이번에 마지막으로 전달한 위치 (없으면 null)
+     * @return 다음 커서
+     */
+    private Cursor advance(Cursor current, Cursor stable, boolean hasMore, Cursor last) {
+        Cursor candidate = (hasMore && last != null) ? min(last, stable) : stable;
+        return (Cursor.ORDER.compare(candidate, current) > 0) ? candidate : current;
+    }
+
+    private Cursor min(Cursor a, Cursor b) {
+        return (Cursor.ORDER.compare(a, b) <= 0) ? a : b;
+    }
+
+    /**
+     * 변경분 동기화 커서 위치 (시각, ID)
+     */
+    private record Cursor(LocalDateTime time, long id) {
+        static final Comparator<Cursor> ORDER = Comparator.comparing(Cursor::time).thenComparingLong(Cursor::id);
+    }
+
+    /**
+     * 완료 상태가 일치하는 행을 id 순서의 청크로 나누어 문장을 실행합니다.
+     * <p>
+     * 청크마다 {@code id > 이전 청크의 마지막 id} 조건으로 다음 청크 크기만큼의 ID 를 (completed, id) 인덱스에서 고른 뒤,
+     * 같은 트랜잭션에서 그 ID 목록에 대해 문장을 실행합니다. id 가 드문드문해도 빈 청크 없이 대상 행 수에 비례하여 반복합니다.
+     * 요청 deadline 까지 남은 시간이 직전 청크의 소요 시간보다 짧으면 다음 청크를 시작하지 않습니다.
+     *
+     * @param completed 대상 행의 현재 완료 상태
+     * @param statement ID 목록에 대해 실행할 문장
+     * @return 영향받은 행 수 합계
+     */
+    private long forEachIdChunk(boolean completed, ChunkStatement statement) {
+        long affected = 0;
+        long lastId = 0;
+        long chunkNanos = 0;
+        while (hasTimeForChunk(chunkNanos)) {
+            long after = lastId;
+            long startNanos = System.nanoTime();
+            Chunk chunk = transactionTemplate.execute(status -> {
+                List<Long> ids = toDoRepository.findIdsByCompletedAfter(completed, after, Limit.of(bulkChunkSize));
+                return new Chunk(ids, ids.isEmpty() ? 0 : statement.execute(ids));
+            });
+            chunkNanos = System.nanoTime() - startNanos;
+            if (chunk == null || chunk.ids().isEmpty()) {
+                return affected;
+            }
+            affected += chunk.affected();
+            if (chunk.ids().size() < bulkChunkSize) {
+                return affected;
+            }
+            lastId = chunk.ids().getLast();
+        }
+        log.warn("Bulk todo statement stopped at request deadline: completed={}, affected={}, lastId={}", completed, affected, lastId);
+        return affected;
+    }
+
+    /**
+     * 이전 청크는 커밋되었으므로, deadline 을 넘겨 다음 청크가 롤백되고 504 로 끝나는 대신 여기서 멈춥니다.
+     *
+     * @param previousChunkNanos 직전 청크의 소요 시간 (첫 청크는 0)
+     * @return 다음 청크를 시작할지 여부
+     */
+    private static boolean hasTimeForChunk(long previousChunkNanos) {
+        return RequestDeadline.remainingNanos() > previousChunkNanos;
+    }
+
+    private int executeChunk(IntSupplier chunk) {
+        Integer affected = transactionTemplate.execute(status -> chunk.getAsInt());
+        return (affected == null) ? 0 : affected;
+    }
+
+    /**
+     * ID 목록에 대해 실행하는 벌크 문장
+     */
+    @FunctionalInterface
+    private interface ChunkStatement {
+        int execute(List<Long> ids);
+    }
+
+    /**
+     * 한 청크에서 고른 ID 와 영향받은 행 수
+     */
+    private record Chunk(List<Long> ids, int affected) {
     }
 
     /**
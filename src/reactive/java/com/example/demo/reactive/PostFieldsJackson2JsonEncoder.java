@@ -0,0 +1,65 @@
+package com.example.demo.reactive;
+
+import com.example.demo.dto.post.PostFields;
+import com.example.demo.exception.InvalidParameterException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleBeanPropertyFilter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleFilterProvider;
+import org.springframework.core.ResolvableType;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.json.Jackson2JsonEncoder;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.lang.Nullable;
+import org.springframework.util.MimeType;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 게시글 응답의 sparse fieldset 을 적용하는 JSON 인코더 (WebFlux)
+ * <p>
+ * 서블릿 API 의 PostFieldsResponseBodyAdvice 와 같은 역할입니다. WebFlux 는 NDJSON 스트리밍에서
+ * MappingJacksonValue 를 풀지 않으므로, 요청의 fields 파라미터를 인코딩 힌트로 넘기고
+ * 요소마다 생성되는 ObjectWriter 에 필터를 지정합니다. JSON 과 NDJSON 모두에 적용됩니다.
+ */
+public class PostFieldsJackson2JsonEncoder extends Jackson2JsonEncoder {
+
+    private static final String FIELDS_PARAMETER = "fields";
+    private static final String FILTER_HINT = PostFieldsJackson2JsonEncoder.class.getName() + ".FILTER";
+
+    public PostFieldsJackson2JsonEncoder(ObjectMapper objectMapper) {
+        super(objectMapper);
+    }
+
+    @Override
+    public Map<String, Object> getEncodeHints(@Nullable ResolvableType actualType, ResolvableType elementType,
+                                              @Nullable MediaType mediaType, ServerHttpRequest request, ServerHttpResponse response) {
+        Map<String, Object> hints = super.getEncodeHints(actualType, elementType, mediaType, request, response);
+        PostFields fields;
+        try {
+            fields = PostFields.parse(request.getQueryParams().getFirst(FIELDS_PARAMETER));
+        } catch (InvalidParameterException e) {
+            // 잘못된 fields 는 컨트롤러에서 400 으로 응답하므로 여기서는 전체 직렬화
+            return hints;
+        }
+        if (fields.isAll()) {
+            return hints;
+        }
+        Map<String, Object> filtered = new HashMap<>(hints);
+        filtered.put(FILTER_HINT, new SimpleFilterProvider()
+                .addFilter(PostFields.FILTER_ID, SimpleBeanPropertyFilter.filterOutAllExcept(fields.names())));
+        return filtered;
+    }
+
+    @Override
+    protected ObjectWriter customizeWriter(ObjectWriter writer, @Nullable MimeType mimeType,
+                                           ResolvableType elementType, @Nullable Map<String, Object> hints) {
+        ObjectWriter customized = super.customizeWriter(writer, mimeType, elementType, hints);
+        if (hints != null && hints.get(FILTER_HINT) instanceof SimpleFilterProvider filters) {
+            return customized.with(filters);
+        }
+        return customized;
+    }
+}
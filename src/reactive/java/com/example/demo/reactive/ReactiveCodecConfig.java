@@ -0,0 +1,25 @@
+package com.example.demo.reactive;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.web.codec.CodecCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.annotation.Order;
+
+/**
+ * WebFlux 코덱 설정
+ * <p>
+ * Boot 가 등록하는 Jackson 코덱(@Order(0)) 다음에 JSON 인코더를 {@link PostFieldsJackson2JsonEncoder} 로 교체합니다.
+ * ObjectMapper 는 Boot 의 것을 그대로 사용하므로 JacksonConfig 의 기본 필터와 날짜 형식이 유지됩니다.
+ */
+@Configuration
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveCodecConfig {
+
+    @Bean
+    @Order(1)
+    public CodecCustomizer postFieldsCodecCustomizer(ObjectMapper objectMapper) {
+        return configurer -> configurer.defaultCodecs().jackson2JsonEncoder(new PostFieldsJackson2JsonEncoder(objectMapper));
+    }
+}
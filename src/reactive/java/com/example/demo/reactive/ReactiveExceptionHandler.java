@@ -0,0 +1,106 @@
+package com.example.demo.reactive;
+
+import com.example.demo.dto.ApiResult;
+import com.example.demo.exception.InvalidParameterException;
+import com.example.demo.exception.ResourceNotFoundException;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.ConstraintViolationException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.context.MessageSourceResolvable;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.method.annotation.HandlerMethodValidationException;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.stream.Collectors;
+
+/**
+ * 읽기 API 예외 처리 클래스 (WebFlux)
+ * <p>
+ * 서블릿 API 의 GlobalExceptionHandler 와 같은 ApiResult 형식과 상태 코드로 응답합니다.
+ */
+@RestControllerAdvice(assignableTypes = ReactivePostController.class)
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveExceptionHandler {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReactiveExceptionHandler.class);
+
+    /**
+     * 잘못된 요청 파라미터 (InvalidParameterException)
+     *
+     * @param ex InvalidParameterException 예외
+     * @return 400 Bad Request 응답
+     */
+    @ExceptionHandler(InvalidParameterException.class)
+    public ResponseEntity<ApiResult<Void>> handleInvalidParameterException(InvalidParameterException ex) {
+        logger.warn("Invalid parameter: {}", ex.getMessage());
+        return buildErrorResponse(ex.getMessage(), HttpStatus.BAD_REQUEST);
+    }
+
+    /**
+     * 파라미터 제약 조건 위반 (ConstraintViolationException, HandlerMethodValidationException)
+     *
+     * @param ex 검증 예외
+     * @return 400 Bad Request 응답
+     */
+    @ExceptionHandler({ConstraintViolationException.class, HandlerMethodValidationException.class})
+    public ResponseEntity<ApiResult<Void>> handleValidationException(Exception ex) {
+        String errorMessage = (ex instanceof ConstraintViolationException violationException)
+                ? violationException.getConstraintViolations().stream()
+                        .map(ConstraintViolation::getMessage)
+                        .collect(Collectors.joining(", "))
+                : ((HandlerMethodValidationException) ex).getAllErrors().stream()
+                        .map(MessageSourceResolvable::getDefaultMessage)
+                        .collect(Collectors.joining(", "));
+        logger.warn("Constraint violation error: {}", errorMessage);
+        return buildErrorResponse(errorMessage, HttpStatus.BAD_REQUEST);
+    }
+
+    /**
+     * 게시글이 존재하지 않는 경우 (ResourceNotFoundException)
+     *
+     * @param ex ResourceNotFoundException 예외
+     * @return 404 Not Found 응답
+     */
+    @ExceptionHandler(ResourceNotFoundException.class)
+    public ResponseEntity<ApiResult<Void>> handleResourceNotFoundException(ResourceNotFoundException ex) {
+        logger.warn("Resource not found: {}", ex.getMessage());
+        return buildErrorResponse(ex.getMessage(), HttpStatus.NOT_FOUND);
+    }
+
+    /**
+     * 요청 해석 실패 등 WebFlux 가 상태 코드를 지정한 예외 (ResponseStatusException)
+     * <p>
+     * 누락된 파라미터, 타입 변환 실패(ServerWebInputException)는 400, 지원하지 않는 Accept 는 406 등으로 응답합니다.
+     *
+     * @param ex ResponseStatusException 예외
+     * @return 예외에 지정된 상태 코드 응답
+     */
+    @ExceptionHandler(ResponseStatusException.class)
+    public ResponseEntity<ApiResult<Void>> handleResponseStatusException(ResponseStatusException ex) {
+        logger.warn("Request rejected: {}", ex.getMessage());
+        return buildErrorResponse(ex.getReason() != null ? ex.getReason() : ex.getMessage(), ex.getStatusCode());
+    }
+
+    /**
+     * 기타 모든 예외 처리 (Generic Exception)
+     *
+     * @param ex Exception 예외
+     * @return 500 Internal Server Error 응답
+     */
+    @ExceptionHandler(Exception.class)
+    public ResponseEntity<ApiResult<Void>> handleGenericException(Exception ex) {
+        logger.error("An unexpected error occurred: ", ex);
+        String message = "An unexpected error occurred. Please contact support if the problem persists.";
+        return buildErrorResponse(message, HttpStatus.INTERNAL_SERVER_ERROR);
+    }
+
+    private ResponseEntity<ApiResult<Void>> buildErrorResponse(String message, HttpStatusCode status) {
+        return ResponseEntity.status(status).body(ApiResult.failure(message));
+    }
+}
@@ -0,0 +1,55 @@
+package com.example.demo.reactive;
+
+import com.example.demo.entity.Member.MemberRole;
+import com.example.demo.provider.JwtProvider;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.authentication.ReactiveAuthenticationManager;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+/**
+ * JWT 인증 매니저 (WebFlux)
+ * <p>
+ * 서블릿 API 의 JwtAuthenticationFilter 와 같은 순서로 검증합니다.
+ * <ol>
+ *     <li>서명/만료 검증 ({@link JwtProvider})</li>
+ *     <li>로그아웃(블랙리스트) 토큰 거부: 서블릿 API 와 같은 token_blacklist 테이블을 조회</li>
+ *     <li>subject(이메일)로 회원 조회 후 role_mask 에서 권한 생성</li>
+ * </ol>
+ * 서명 검증은 CPU 작업만 수행하고, 블랙리스트와 회원 조회는 R2DBC 로 논블로킹 실행합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveJwtAuthenticationManager implements ReactiveAuthenticationManager {
+
+    private final JwtProvider jwtProvider;
+    private final ReactivePostRepository reactivePostRepository;
+
+    @Override
+    public Mono<Authentication> authenticate(Authentication authentication) {
+        String token = (String) authentication.getCredentials();
+        if (!jwtProvider.validateToken(token)) {
+            return Mono.error(new BadCredentialsException("Invalid or expired token"));
+        }
+
+        String email = jwtProvider.extractUsername(token);
+        return reactivePostRepository.isTokenBlacklisted(token)
+                .flatMap(blacklisted -> {
+                    if (blacklisted) {
+                        log.warn("Attempted use of blacklisted token");
+                        return Mono.error(new BadCredentialsException("Token is blacklisted"));
+                    }
+                    return reactivePostRepository.findMemberByEmail(email)
+                            .switchIfEmpty(Mono.error(() -> new BadCredentialsException("User not found")));
+                })
+                .map(row -> new UsernamePasswordAuthenticationToken(
+                        row.member(), null, MemberRole.authoritiesOf(row.roles())));
+    }
+}
@@ -0,0 +1,209 @@
+package com.example.demo.reactive;
+
+import com.example.demo.dto.ApiResult;
+import com.example.demo.dto.post.PostDto;
+import com.example.demo.dto.post.PostDtoWithPaging;
+import com.example.demo.dto.post.PostFields;
+import com.example.demo.exception.InvalidParameterException;
+import com.example.demo.provider.MessageProvider;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.PositiveOrZero;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ETag;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * 자유 게시판 읽기 전용 REST API 컨트롤러 (WebFlux)
+ * <p>
+ * 서블릿 API 의 PostController 와 같은 URL 과 응답 형식(ApiResult, ETag)을 제공합니다.
+ * Accept: application/x-ndjson 으로 요청하면 ApiResult 로 감싸지 않은 게시글을 한 줄에 하나씩 스트리밍하며,
+ * 클라이언트가 읽는 속도에 맞춰 DB 에서 행을 읽습니다(backpressure).
+ */
+@Validated
+@RestController
+@RequestMapping("/api/post")
+@RequiredArgsConstructor
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactivePostController {
+
+    private static final int PAGE_SIZE = 10;
+    private static final int MAX_STREAM_SIZE = 1000;
+    // 게시글 응답은 사용자별 값(좋아요 여부 등)을 포함하므로 공유 캐시에 저장하지 않고 매번 ETag 로 재검증
+    private static final CacheControl POST_CACHE_CONTROL = CacheControl.noCache().cachePrivate();
+
+    private final ReactivePostService reactivePostService;
+
+    /**
+     * 전체 게시글 조회 API (페이징 지원).
+     * URL: GET /api/post
+     *
+     * @param pageNumber 페이지 번호 (기본값: 0)
+     * @param fields     응답에 포함할 게시글 필드 (생략 시 전체)
+     * @param member     현재 회원 (익명이면 null)
+     * @return 게시글 페이지
+     */
+    @GetMapping(produces = MediaType.APPLICATION_JSON_VALUE)
+    public Mono<ApiResult<PostDtoWithPaging>> findAllPosts(
+            @RequestParam(defaultValue = "0") @PositiveOrZero(message = "{common.validation.range}") int pageNumber,
+            @RequestParam(required = false) String fields,
+            @AuthenticationPrincipal ReadMember member) {
+        return reactivePostService.findPostsPage(null, pageNumber, PAGE_SIZE, PostFields.parse(fields), memberIdOf(member))
+                .map(ApiResult::success);
+    }
+
+    /**
+     * 전체 게시글 스트리밍 API.
+     * URL: GET /api/post (Accept: application/x-ndjson)
+     *
+     * @param offset 건너뛸 게시글 수 (기본값: 0)
+     * @param size   최대 게시글 수 (1 ~ 1000, 기본값: 100)
+     * @param fields 응답에 포함할 게시글 필드 (생략 시 전체)
+     * @param member 현재 회원 (익명이면 null)
+     * @return 최신순 게시글 스트림
+     */
+    @GetMapping(produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<PostDto> streamAllPosts(
+            @RequestParam(defaultValue = "0") @PositiveOrZero(message = "{common.validation.range}") long offset,
+            @RequestParam(defaultValue = "100") int size,
+            @RequestParam(required = false) String fields,
+            @AuthenticationPrincipal ReadMember member) {
+        return reactivePostService.findPosts(null, offset, validateStreamSize(size), PostFields.parse(fields), memberIdOf(member));
+    }
+
+    /**
+     * 게시글 검색 API (제목에 포함된 키워드를 기준으로 검색).
+     * URL: GET /api/post/search?title=keyword
+     *
+     * @param title      검색할 키워드 (빈 값은 허용되지 않음)
+     * @param pageNumber 페이지 번호 (기본값: 0)
+     * @param fields     응답에 포함할 게시글 필드 (생략 시 전체)
+     * @param member     현재 회원
+     * @return 검색된 게시글 페이지
+     */
+    @GetMapping(path = "/search", produces = MediaType.APPLICATION_JSON_VALUE)
+    public Mono<ApiResult<PostDtoWithPaging>> searchPosts(
+            @RequestParam @NotBlank(message = "{common.validation.notBlank}") String title,
+            @RequestParam(defaultValue = "0") @PositiveOrZero(message = "{common.validation.range}") int pageNumber,
+            @RequestParam(required = false) String fields,
+            @AuthenticationPrincipal ReadMember member) {
+        return reactivePostService.findPostsPage(title, pageNumber, PAGE_SIZE, PostFields.parse(fields), memberIdOf(member))
+                .map(ApiResult::success);
+    }
+
+    /**
+     * 게시글 검색 스트리밍 API.
+     * URL: GET /api/post/search?title=keyword (Accept: application/x-ndjson)
+     *
+     * @param title  검색할 키워드 (빈 값은 허용되지 않음)
+     * @param offset 건너뛸 게시글 수 (기본값: 0)
+     * @param size   최대 게시글 수 (1 ~ 1000, 기본값: 100)
+     * @param fields 응답에 포함할 게시글 필드 (생략 시 전체)
+     * @param member 현재 회원
+     * @return 검색된 게시글 스트림
+     */
+    @GetMapping(path = "/search", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<PostDto> streamSearchPosts(
+            @RequestParam @NotBlank(message = "{common.validation.notBlank}") String title,
+            @RequestParam(defaultValue = "0") @PositiveOrZero(message = "{common.validation.range}") long offset,
+            @RequestParam(defaultValue = "100") int size,
+            @RequestParam(required = false) String fields,
+            @AuthenticationPrincipal ReadMember member) {
+        return reactivePostService.findPosts(title, offset, validateStreamSize(size), PostFields.parse(fields), memberIdOf(member));
+    }
+
+    /**
+     * 특정 게시글 조회 API.
+     * URL: GET /api/post/{id}
+     * <p>
+     * If-None-Match 가 현재 버전과 일치하면 버전만 조회한 뒤 본문 없이 304 를 반환합니다.
+     *
+     * @param id          조회할 게시글 ID (양수여야 함)
+     * @param ifNoneMatch 클라이언트가 가진 ETag (선택)
+     * @param fields      응답에 포함할 게시글 필드 (생략 시 전체)
+     * @param member      현재 회원
+     * @return 게시글 정보와 HTTP 200 응답 또는 HTTP 304 응답
+     */
+    @GetMapping("/{id}")
+    public Mono<ResponseEntity<ApiResult<PostDto>>> getPostById(
+            @PathVariable @Positive(message = "{common.validation.positive}") Long id,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+            @RequestParam(required = false) String fields,
+            @AuthenticationPrincipal ReadMember member) {
+        PostFields postFields = PostFields.parse(fields);
+        Mono<ResponseEntity<ApiResult<PostDto>>> fullResponse = Mono.defer(() ->
+                reactivePostService.getPost(id, postFields, memberIdOf(member))
+                        .map(postDto -> ResponseEntity.ok()
+                                .eTag(toETag(postDto.getVersion()))
+                                .cacheControl(POST_CACHE_CONTROL)
+                                .varyBy(HttpHeaders.AUTHORIZATION, HttpHeaders.ACCEPT)
+                                .body(ApiResult.success(postDto))));
+        if (ifNoneMatch == null) {
+            return fullResponse;
+        }
+
+        return reactivePostService.findPostVersion(id)
+                .filter(version -> matchesAny(ifNoneMatch, version))
+                .map(version -> ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                        .eTag(toETag(version))
+                        .cacheControl(POST_CACHE_CONTROL)
+                        .varyBy(HttpHeaders.AUTHORIZATION, HttpHeaders.ACCEPT)
+                        .<ApiResult<PostDto>>build())
+                .switchIfEmpty(fullResponse);
+    }
+
+    /**
+     * 스트리밍 크기를 검증하는 헬퍼 메서드.
+     *
+     * @param size 요청된 크기
+     * @return 검증된 크기
+     * @throws InvalidParameterException 1 ~ {@value #MAX_STREAM_SIZE} 범위를 벗어난 경우
+     */
+    private int validateStreamSize(int size) {
+        if (size < 1 || size > MAX_STREAM_SIZE) {
+            throw new InvalidParameterException(MessageProvider.getMessage("common.validation.range") + " size: " + size);
+        }
+        return size;
+    }
+
+    private static long memberIdOf(ReadMember member) {
+        return member != null ? member.id() : ReadMember.ANONYMOUS_ID;
+    }
+
+    /**
+     * 게시글 버전을 강한 ETag 문자열로 변환하는 헬퍼 메서드.
+     *
+     * @param version 게시글 버전
+     * @return ETag (예: "3")
+     */
+    private String toETag(Long version) {
+        return ETag.create(String.valueOf(version)).formattedTag();
+    }
+
+    /**
+     * If-None-Match 헤더의 ETag 목록 중 현재 버전과 일치하는 것이 있는지 확인하는 헬퍼 메서드. (약한 비교)
+     *
+     * @param ifNoneMatch If-None-Match 헤더 값
+     * @param version     현재 게시글 버전
+     * @return 일치하면 true
+     */
+    private boolean matchesAny(String ifNoneMatch, Long version) {
+        ETag current = ETag.create(String.valueOf(version));
+        return ETag.parse(ifNoneMatch).stream().anyMatch(etag -> etag.isWildcard() || current.compare(etag, false));
+    }
+}
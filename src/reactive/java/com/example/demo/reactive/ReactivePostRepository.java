@@ -0,0 +1,217 @@
+package com.example.demo.reactive;
+
+import com.example.demo.dto.post.PostCommentDto;
+import com.example.demo.entity.BlacklistedToken;
+import com.example.demo.entity.Member.MemberRole;
+import com.example.demo.entity.converter.MemberRoleSetConverter;
+import io.r2dbc.spi.Readable;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.Set;
+
+/**
+ * 게시글 읽기 전용 R2DBC 레포지토리
+ * <p>
+ * JPA 엔티티와 같은 테이블을 SQL 로 직접 조회합니다. 행은 구독자의 요청(demand) 만큼만 드라이버에서 읽히므로
+ * 느린 클라이언트에게 스트리밍할 때도 결과 전체를 메모리에 올리지 않습니다.
+ * <ul>
+ *     <li>posts.like_count 는 JPA 가 AtomicInteger 를 직렬화한 바이너리 컬럼이므로,
+ *     좋아요 수는 post_likes 의 (post_id, member_id) 유니크 인덱스로 센 값을 사용합니다.</li>
+ *     <li>좋아요 여부는 게시글마다 따로 조회하지 않고 같은 SELECT 의 EXISTS 로 함께 읽습니다.</li>
+ * </ul>
+ */
+@Repository
+@RequiredArgsConstructor
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactivePostRepository {
+
+    private static final String TITLE_CONDITION = " WHERE UPPER(p.title) LIKE UPPER(CONCAT('%', :title, '%'))";
+
+    private static final MemberRoleSetConverter ROLE_CONVERTER = new MemberRoleSetConverter();
+
+    private final DatabaseClient databaseClient;
+
+    /**
+     * 게시글 행
+     *
+     * @param id          게시글 ID
+     * @param title       제목
+     * @param content     본문 (요청되지 않았으면 null)
+     * @param likeCount   좋아요 수
+     * @param memberId    작성자 ID
+     * @param createdAt   생성일
+     * @param updatedAt   수정일
+     * @param version     게시글 버전
+     * @param likedByUser 현재 회원의 좋아요 여부 (요청되지 않았으면 null)
+     */
+    public record PostRow(Long id, String title, String content, int likeCount, Long memberId,
+                          LocalDateTime createdAt, LocalDateTime updatedAt, Long version, Boolean likedByUser) {
+    }
+
+    /**
+     * 인증된 회원과 역할
+     *
+     * @param member 회원
+     * @param roles  역할 집합
+     */
+    public record MemberRow(ReadMember member, Set<MemberRole> roles) {
+    }
+
+    /**
+     * 게시글 목록을 최신순으로 조회합니다.
+     *
+     * @param title       제목 검색어 (null 이면 전체)
+     * @param offset      건너뛸 행 수
+     * @param limit       최대 행 수
+     * @param withContent 본문 포함 여부
+     * @param likedBy     좋아요 여부를 확인할 회원 ID (null 이면 확인하지 않음)
+     * @return 게시글 행 스트림
+     */
+    public Flux<PostRow> findPosts(String title, long offset, int limit, boolean withContent, Long likedBy) {
+        String sql = selectPosts(withContent, likedBy != null)
+                + (title != null ? TITLE_CONDITION : "")
+                + " ORDER BY p.created_at DESC LIMIT :limit OFFSET :offset";
+        DatabaseClient.GenericExecuteSpec spec = databaseClient.sql(sql)
+                .bind("limit", limit)
+                .bind("offset", offset);
+        if (title != null) {
+            spec = spec.bind("title", title);
+        }
+        if (likedBy != null) {
+            spec = spec.bind("memberId", likedBy);
+        }
+        return spec.map(row -> toPostRow(row, withContent, likedBy != null)).all();
+    }
+
+    /**
+     * 게시글 수를 조회합니다.
+     *
+     * @param title 제목 검색어 (null 이면 전체)
+     * @return 게시글 수
+     */
+    public Mono<Long> countPosts(String title) {
+        String sql = "SELECT COUNT(*) FROM posts p" + (title != null ? TITLE_CONDITION : "");
+        DatabaseClient.GenericExecuteSpec spec = databaseClient.sql(sql);
+        if (title != null) {
+            spec = spec.bind("title", title);
+        }
+        return spec.map(row -> row.get(0, Long.class)).one();
+    }
+
+    /**
+     * 게시글 하나를 조회합니다.
+     *
+     * @param id          게시글 ID
+     * @param withContent 본문 포함 여부
+     * @param likedBy     좋아요 여부를 확인할 회원 ID (null 이면 확인하지 않음)
+     * @return 게시글 행 (없으면 empty)
+     */
+    public Mono<PostRow> findPost(Long id, boolean withContent, Long likedBy) {
+        DatabaseClient.GenericExecuteSpec spec = databaseClient.sql(selectPosts(withContent, likedBy != null) + " WHERE p.id = :id")
+                .bind("id", id);
+        if (likedBy != null) {
+            spec = spec.bind("memberId", likedBy);
+        }
+        return spec.map(row -> toPostRow(row, withContent, likedBy != null)).one();
+    }
+
+    /**
+     * 게시글 버전만 조회합니다. (If-None-Match 확인용)
+     *
+     * @param id 게시글 ID
+     * @return 게시글 버전 (없으면 empty)
+     */
+    public Mono<Long> findPostVersion(Long id) {
+        return databaseClient.sql("SELECT p.version FROM posts p WHERE p.id = :id")
+                .bind("id", id)
+                .map(row -> row.get(0, Long.class))
+                .one();
+    }
+
+    /**
+     * 게시글의 댓글을 작성자 이메일과 함께 조회합니다.
+     *
+     * @param postId          게시글 ID
+     * @param currentMemberId 현재 회원 ID (삭제 가능 여부 판단)
+     * @return 댓글 스트림
+     */
+    public Flux<PostCommentDto> findComments(Long postId, long currentMemberId) {
+        return databaseClient.sql("SELECT c.id, c.content, c.post_id, c.member_id, m.email, c.created_at, c.updated_at "
+                        + "FROM post_comments c JOIN members m ON m.id = c.member_id "
+                        + "WHERE c.post_id = :postId ORDER BY c.id")
+                .bind("postId", postId)
+                .map(row -> {
+                    Long memberId = row.get("member_id", Long.class);
+                    return PostCommentDto.builder()
+                            .id(row.get("id", Long.class))
+                            .content(row.get("content", String.class))
+                            .postId(row.get("post_id", Long.class))
+                            .memberId(memberId)
+                            .memberEmail(row.get("email", String.class))
+                            .createdAt(row.get("created_at", LocalDateTime.class))
+                            .updatedAt(row.get("updated_at", LocalDateTime.class))
+                            .isEnabledDelete(memberId != null && memberId == currentMemberId)
+                            .build();
+                })
+                .all();
+    }
+
+    /**
+     * 이메일로 회원을 조회합니다.
+     *
+     * @param email 회원 이메일 (JWT subject)
+     * @return 회원과 역할 (없으면 empty)
+     */
+    public Mono<MemberRow> findMemberByEmail(String email) {
+        return databaseClient.sql("SELECT m.id, m.email, m.role_mask FROM members m WHERE m.email = :email")
+                .bind("email", email)
+                .map(row -> new MemberRow(
+                        new ReadMember(row.get("id", Long.class), row.get("email", String.class)),
+                        ROLE_CONVERTER.convertToEntityAttribute(row.get("role_mask", Integer.class))))
+                .one();
+    }
+
+    /**
+     * 토큰이 로그아웃(블랙리스트)되었는지 확인합니다.
+     * 서블릿 API 가 로그아웃 시 기록하는 token_blacklist 테이블을 같은 해시로 조회합니다.
+     *
+     * @param token 액세스 토큰 원문
+     * @return 블랙리스트에 있으면 true
+     */
+    public Mono<Boolean> isTokenBlacklisted(String token) {
+        return databaseClient.sql("SELECT 1 FROM token_blacklist t WHERE t.token_hash = :tokenHash")
+                .bind("tokenHash", BlacklistedToken.hashOf(token))
+                .map(row -> Boolean.TRUE)
+                .first()
+                .defaultIfEmpty(false);
+    }
+
+    private static String selectPosts(boolean withContent, boolean withLiked) {
+        return "SELECT p.id, p.title, p.member_id, p.created_at, p.updated_at, p.version, "
+                + "(SELECT COUNT(*) FROM post_likes pl WHERE pl.post_id = p.id) AS like_count"
+                + (withContent ? ", p.content" : "")
+                + (withLiked ? ", EXISTS(SELECT 1 FROM post_likes ul WHERE ul.post_id = p.id AND ul.member_id = :memberId) AS liked_by_user" : "")
+                + " FROM posts p";
+    }
+
+    private static PostRow toPostRow(Readable row, boolean withContent, boolean withLiked) {
+        Long likeCount = row.get("like_count", Long.class);
+        Long liked = withLiked ? row.get("liked_by_user", Long.class) : null;
+        return new PostRow(
+                row.get("id", Long.class),
+                row.get("title", String.class),
+                withContent ? row.get("content", String.class) : null,
+                likeCount != null ? likeCount.intValue() : 0,
+                row.get("member_id", Long.class),
+                row.get("created_at", LocalDateTime.class),
+                row.get("updated_at", LocalDateTime.class),
+                row.get("version", Long.class),
+                liked != null ? liked != 0 : null);
+    }
+}
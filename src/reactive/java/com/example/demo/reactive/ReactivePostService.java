@@ -0,0 +1,136 @@
+package com.example.demo.reactive;
+
+import com.example.demo.dto.post.PostCommentDto;
+import com.example.demo.dto.post.PostDto;
+import com.example.demo.dto.post.PostDtoWithPaging;
+import com.example.demo.dto.post.PostFields;
+import com.example.demo.dto.post.PostFields.Field;
+import com.example.demo.exception.ResourceNotFoundException;
+import com.example.demo.provider.MessageProvider;
+import com.example.demo.reactive.ReactivePostRepository.PostRow;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+/**
+ * 게시글 읽기 서비스 (WebFlux)
+ * <p>
+ * 서블릿 API 의 PostServiceImpl 과 같은 응답(PostDto)을 만들며, 요청되지 않은 필드(본문, 좋아요 여부, 댓글)는 조회하지 않습니다.
+ * 게시글별 댓글 조회는 동시에 최대 {@value #COMMENT_CONCURRENCY} 개까지만 실행하고, 결과는 게시글 순서대로 내보냅니다.
+ */
+@Service
+@RequiredArgsConstructor
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactivePostService {
+
+    private static final int COMMENT_CONCURRENCY = 4;
+
+    private final ReactivePostRepository reactivePostRepository;
+
+    /**
+     * 게시글 한 페이지를 조회합니다.
+     *
+     * @param title      제목 검색어 (null 이면 전체)
+     * @param pageNumber 페이지 번호 (0부터)
+     * @param pageSize   페이지 크기
+     * @param fields     응답에 포함할 필드
+     * @param memberId   현재 회원 ID (익명이면 {@link ReadMember#ANONYMOUS_ID})
+     * @return 페이징 정보를 포함한 게시글 목록
+     */
+    public Mono<PostDtoWithPaging> findPostsPage(String title, int pageNumber, int pageSize, PostFields fields, long memberId) {
+        Mono<List<PostDto>> posts = findPosts(title, (long) pageNumber * pageSize, pageSize, fields, memberId).collectList();
+        Mono<Long> total = reactivePostRepository.countPosts(title);
+        return Mono.zip(posts, total, (content, count) -> PostDtoWithPaging.builder()
+                .totalPages((int) ((count + pageSize - 1) / pageSize))
+                .sizePages(pageSize)
+                .currentPageNumber(pageNumber)
+                .posts(content)
+                .build());
+    }
+
+    /**
+     * 게시글을 최신순으로 조회합니다. 행은 구독자의 요청만큼만 읽습니다.
+     *
+     * @param title    제목 검색어 (null 이면 전체)
+     * @param offset   건너뛸 게시글 수
+     * @param limit    최대 게시글 수
+     * @param fields   응답에 포함할 필드
+     * @param memberId 현재 회원 ID (익명이면 {@link ReadMember#ANONYMOUS_ID})
+     * @return 게시글 스트림
+     */
+    public Flux<PostDto> findPosts(String title, long offset, int limit, PostFields fields, long memberId) {
+        Flux<PostRow> rows = reactivePostRepository.findPosts(title, offset, limit,
+                fields.contains(Field.CONTENT), fields.contains(Field.LIKED_BY_USER) ? memberId : null);
+        if (!fields.contains(Field.POST_COMMENTS)) {
+            return rows.map(row -> toPostDto(row, fields, memberId, null));
+        }
+        return rows.flatMapSequential(row -> reactivePostRepository.findComments(row.id(), memberId).collectList()
+                .map(comments -> toPostDto(row, fields, memberId, comments)), COMMENT_CONCURRENCY);
+    }
+
+    /**
+     * 게시글 하나를 조회합니다. 게시글과 댓글은 동시에 조회합니다.
+     *
+     * @param id       게시글 ID
+     * @param fields   응답에 포함할 필드
+     * @param memberId 현재 회원 ID (익명이면 {@link ReadMember#ANONYMOUS_ID})
+     * @return 게시글
+     * @throws ResourceNotFoundException 게시글이 존재하지 않을 경우 (error 신호)
+     */
+    public Mono<PostDto> getPost(Long id, PostFields fields, long memberId) {
+        Mono<PostRow> post = reactivePostRepository.findPost(id, fields.contains(Field.CONTENT),
+                        fields.contains(Field.LIKED_BY_USER) ? memberId : null)
+                .switchIfEmpty(Mono.error(() -> new ResourceNotFoundException(
+                        MessageProvider.getMessage("common.validation.resourceNotFoundException") + " id: " + id)));
+        if (!fields.contains(Field.POST_COMMENTS)) {
+            return post.map(row -> toPostDto(row, fields, memberId, null));
+        }
+        return Mono.zip(post, reactivePostRepository.findComments(id, memberId).collectList(),
+                (row, comments) -> toPostDto(row, fields, memberId, comments));
+    }
+
+    /**
+     * 게시글의 현재 버전만 조회합니다.
+     *
+     * @param id 게시글 ID
+     * @return 게시글 버전 (없으면 empty)
+     */
+    public Mono<Long> findPostVersion(Long id) {
+        return reactivePostRepository.findPostVersion(id);
+    }
+
+    /**
+     * 게시글 행으로 PostDto를 만드는 헬퍼 메서드.
+     *
+     * @param row          게시글 행
+     * @param fields       응답에 포함할 필드
+     * @param memberId     현재 회원 ID
+     * @param postComments 댓글 목록 (요청되지 않았으면 null)
+     * @return 변환된 PostDto
+     */
+    private static PostDto toPostDto(PostRow row, PostFields fields, long memberId, List<PostCommentDto> postComments) {
+        PostDto.PostDtoBuilder builder = PostDto.builder()
+                .id(row.id())
+                .title(row.title())
+                .content(row.content())
+                .createdAt(row.createdAt())
+                .updatedAt(row.updatedAt())
+                .version(row.version())
+                .likeCount(row.likeCount());
+
+        if (fields.contains(Field.LIKED_BY_USER)) {
+            builder.likedByUser(row.likedByUser());
+        }
+        if (fields.contains(Field.IS_ENABLED_DELETE)) {
+            builder.isEnabledDelete(row.memberId() != null && row.memberId() == memberId);
+        }
+        if (fields.contains(Field.POST_COMMENTS)) {
+            builder.postComments(postComments);
+        }
+        return builder.build();
+    }
+}
@@ -0,0 +1,50 @@
+package com.example.demo.reactive;
+
+import com.example.demo.config.JacksonConfig;
+import com.example.demo.provider.JwtProvider;
+import com.example.demo.provider.MessageProvider;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.autoconfigure.data.jpa.JpaRepositoriesAutoConfiguration;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceAutoConfiguration;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceTransactionManagerAutoConfiguration;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernateJpaAutoConfiguration;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.annotation.ComponentScan;
+import org.springframework.context.annotation.Import;
+
+/**
+ * 게시글 읽기 전용 WebFlux + R2DBC 애플리케이션 (Maven reactive 프로파일)
+ * <p>
+ * GET /api/post, /api/post/search, /api/post/{id} 를 같은 테이블(posts, post_comments, post_likes, members)에서
+ * 논블로킹으로 제공합니다. 이벤트 루프 스레드(CPU 코어 수) 만으로 느린 클라이언트 수천 개를 처리할 수 있도록
+ * 요청 처리 중 스레드를 블로킹하지 않습니다.
+ * <ul>
+ *     <li>JWT 검증은 {@link JwtProvider} 를 그대로 사용하고, 로그아웃 토큰은 서블릿 API 와 같은 token_blacklist 테이블에서 확인합니다.</li>
+ *     <li>JPA/DataSource 자동 설정은 사용하지 않으며, 접속 정보는 reactive-read 프로파일의 spring.r2dbc.* 를 따릅니다.</li>
+ *     <li>이 패키지의 빈은 모두 REACTIVE 웹 애플리케이션에서만 등록되므로,
+ *     같은 jar 에 포함되어도 서블릿 애플리케이션(DemoApplication)에는 영향을 주지 않습니다.</li>
+ * </ul>
+ * 실행: ./mvnw -Preactive spring-boot:run
+ */
+@SpringBootConfiguration
+@EnableAutoConfiguration(exclude = {
+        DataSourceAutoConfiguration.class,
+        DataSourceTransactionManagerAutoConfiguration.class,
+        HibernateJpaAutoConfiguration.class,
+        JpaRepositoriesAutoConfiguration.class
+})
+@ComponentScan
+@Import({JwtProvider.class, MessageProvider.class, JacksonConfig.class})
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveReadApplication {
+
+    public static void main(String[] args) {
+        new SpringApplicationBuilder(ReactiveReadApplication.class)
+                .web(WebApplicationType.REACTIVE)
+                .profiles("reactive-read")
+                .run(args);
+    }
+}
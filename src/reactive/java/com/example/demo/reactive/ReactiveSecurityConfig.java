@@ -0,0 +1,126 @@
+package com.example.demo.reactive;
+
+import com.example.demo.dto.ApiResult;
+import com.example.demo.provider.JwtProvider;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.config.annotation.web.reactive.EnableWebFluxSecurity;
+import org.springframework.security.config.web.server.SecurityWebFiltersOrder;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.config.web.server.ServerHttpSecurity;
+import org.springframework.security.web.server.SecurityWebFilterChain;
+import org.springframework.security.web.server.authentication.AuthenticationWebFilter;
+import org.springframework.security.web.server.context.NoOpServerSecurityContextRepository;
+import org.springframework.web.cors.CorsConfiguration;
+import org.springframework.web.cors.reactive.CorsConfigurationSource;
+import org.springframework.web.cors.reactive.UrlBasedCorsConfigurationSource;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+/**
+ * 읽기 API 보안 설정 (WebFlux)
+ * <p>
+ * 서블릿 API 의 SecurityConfig 와 같은 규칙을 적용합니다.
+ * <ul>
+ *   <li>GET /api/post : 인증 없이 허용 (토큰이 있으면 좋아요 여부/삭제 가능 여부를 계산)</li>
+ *   <li>그 외의 모든 요청 : 인증 필요</li>
+ *   <li>토큰이 유효하지 않으면 401 (ApiResult 형식)</li>
+ * </ul>
+ */
+@Configuration
+@EnableWebFluxSecurity
+@RequiredArgsConstructor
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveSecurityConfig {
+
+    private final ReactiveJwtAuthenticationManager authenticationManager;
+    private final JwtProvider jwtProvider;
+    private final ObjectMapper objectMapper;
+
+    @Bean
+    public SecurityWebFilterChain securityWebFilterChain(ServerHttpSecurity http) {
+        AuthenticationWebFilter jwtAuthenticationFilter = new AuthenticationWebFilter(authenticationManager);
+        jwtAuthenticationFilter.setServerAuthenticationConverter(this::extractBearerToken);
+        jwtAuthenticationFilter.setSecurityContextRepository(NoOpServerSecurityContextRepository.getInstance());
+        jwtAuthenticationFilter.setAuthenticationFailureHandler((webFilterExchange, exception) ->
+                writeUnauthorized(webFilterExchange.getExchange().getResponse(), exception.getMessage()));
+
+        return http
+                // 기본 HTTP 인증 / 폼 로그인 / CSRF 비활성화 (JWT 인증)
+                .httpBasic(ServerHttpSecurity.HttpBasicSpec::disable)
+                .formLogin(ServerHttpSecurity.FormLoginSpec::disable)
+                .csrf(ServerHttpSecurity.CsrfSpec::disable)
+                .cors(cors -> cors.configurationSource(corsConfigurationSource()))
+                // 세션을 사용하지 않음
+                .securityContextRepository(NoOpServerSecurityContextRepository.getInstance())
+                .authorizeExchange(exchange -> exchange
+                        .pathMatchers(HttpMethod.GET, "/api/post").permitAll()
+                        .anyExchange().authenticated()
+                )
+                .addFilterAt(jwtAuthenticationFilter, SecurityWebFiltersOrder.AUTHENTICATION)
+                .exceptionHandling(exception -> exception
+                        .authenticationEntryPoint((exchange, ex) ->
+                                writeUnauthorized(exchange.getResponse(), "Unauthorized: 인증이 필요합니다."))
+                )
+                .build();
+    }
+
+    /**
+     * CORS 정책 (서블릿 API 와 동일)
+     *
+     * @return 구성된 CorsConfigurationSource
+     */
+    @Bean
+    public CorsConfigurationSource corsConfigurationSource() {
+        CorsConfiguration configuration = new CorsConfiguration();
+        configuration.setAllowCredentials(true);
+        configuration.setAllowedOrigins(List.of(
+                "http://localhost:5173",
+                "http://localhost:8080",
+                "https://jangjeonghun1004.github.io"
+        ));
+        configuration.setAllowedMethods(List.of("GET", "OPTIONS"));
+        configuration.setAllowedHeaders(List.of("Authorization", "Cache-Control", "Content-Type", "If-None-Match"));
+        configuration.setExposedHeaders(List.of("ETag"));
+
+        UrlBasedCorsConfigurationSource source = new UrlBasedCorsConfigurationSource();
+        source.registerCorsConfiguration("/**", configuration);
+        return source;
+    }
+
+    /**
+     * Authorization 헤더의 Bearer 토큰을 인증 요청으로 변환합니다.
+     * 토큰이 없으면 empty 를 반환하여 익명 요청으로 처리합니다.
+     *
+     * @param exchange 현재 요청
+     * @return 토큰을 credentials 로 담은 인증 요청
+     */
+    private Mono<Authentication> extractBearerToken(ServerWebExchange exchange) {
+        return Mono.justOrEmpty(jwtProvider.extractToken(exchange.getRequest().getHeaders().getFirst(HttpHeaders.AUTHORIZATION)))
+                .map(token -> new UsernamePasswordAuthenticationToken(null, token));
+    }
+
+    private Mono<Void> writeUnauthorized(ServerHttpResponse response, String message) {
+        byte[] body;
+        try {
+            body = objectMapper.writeValueAsBytes(ApiResult.failure(message));
+        } catch (JsonProcessingException e) {
+            return Mono.error(e);
+        }
+        response.setStatusCode(HttpStatus.UNAUTHORIZED);
+        response.getHeaders().setContentType(MediaType.APPLICATION_JSON);
+        return response.writeWith(Mono.just(response.bufferFactory().wrap(body)));
+    }
+}
@@ -0,0 +1,15 @@
+package com.example.demo.reactive;
+
+/**
+ * 읽기 API 의 인증 주체 (JWT subject 로 조회한 회원)
+ *
+ * @param id    회원 ID
+ * @param email 회원 이메일
+ */
+public record ReadMember(Long id, String email) {
+
+    /**
+     * 인증되지 않은 요청의 회원 ID (서블릿 API 의 AuthenticationFacade 와 같은 값)
+     */
+    public static final long ANONYMOUS_ID = 0L;
+}
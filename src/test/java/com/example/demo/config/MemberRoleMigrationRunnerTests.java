@@ -0,0 +1,71 @@
+package com.example.demo.config;
+
+import com.example.demo.entity.Member.MemberRole;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * 회원 역할 마이그레이션({@link MemberRoleMigrationRunner})의 완료 처리 검증
+ * <p>
+ * 레거시 역할이 없어 role_mask 가 0 으로 남는 회원이 있어도, 한 번 끝난 마이그레이션은 다음 기동에서 다시 훑지 않는지 확인합니다.
+ * MySQL 없이 실행할 수 있도록 H2(MySQL 모드)를 사용하며, DATABASE() 가 테이블 스키마와 같도록 스키마 이름을 맞춥니다.
+ */
+class MemberRoleMigrationRunnerTests {
+
+    private JdbcTemplate jdbcTemplate;
+    private final AtomicInteger updates = new AtomicInteger();
+
+    @BeforeEach
+    void setUp() {
+        // SET SCHEMA 가 유지되도록 연결 하나를 계속 사용
+        SingleConnectionDataSource dataSource = new SingleConnectionDataSource(
+                "jdbc:h2:mem:role-migration-" + System.nanoTime() + ";MODE=MySQL;DATABASE_TO_LOWER=TRUE",
+                "sa", "", true);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        String database = jdbcTemplate.queryForObject("SELECT DATABASE()", String.class);
+        jdbcTemplate.execute("CREATE SCHEMA \"" + database + "\"");
+        jdbcTemplate.execute("SET SCHEMA \"" + database + "\"");
+        jdbcTemplate.execute("CREATE TABLE members (id BIGINT PRIMARY KEY, role_mask INT NOT NULL DEFAULT 0)");
+        jdbcTemplate.execute("CREATE TABLE member_roles (member_id BIGINT NOT NULL, roles VARCHAR(20) NOT NULL)");
+        jdbcTemplate.update("INSERT INTO members (id) VALUES (1), (2), (3)");
+        jdbcTemplate.update("INSERT INTO member_roles (member_id, roles) VALUES (1, 'ROLE_USER'), (1, 'ROLE_ADMIN'), (3, 'ROLE_USER')");
+    }
+
+    @Test
+    void migratesOnceAndSkipsOnNextStartup() {
+        runner().migrate();
+
+        int adminAndUser = MemberRole.ROLE_USER.getBit() | MemberRole.ROLE_ADMIN.getBit();
+        assertEquals(adminAndUser, roleMask(1));
+        assertEquals(0, roleMask(2));
+        assertEquals(MemberRole.ROLE_USER.getBit(), roleMask(3));
+        int firstRunUpdates = updates.get();
+
+        // 회원 2 는 role_mask 가 0 으로 남지만 완료 기록이 있으므로 UPDATE 를 다시 실행하지 않음
+        runner().migrate();
+        assertEquals(firstRunUpdates, updates.get());
+    }
+
+    private MemberRoleMigrationRunner runner() {
+        JdbcTemplate countingTemplate = new JdbcTemplate(jdbcTemplate.getDataSource()) {
+            @Override
+            public int update(String sql, Object... args) {
+                if (sql.startsWith("UPDATE members")) {
+                    updates.incrementAndGet();
+                }
+                return super.update(sql, args);
+            }
+        };
+        return new MemberRoleMigrationRunner(countingTemplate, true, 1);
+    }
+
+    private int roleMask(long id) {
+        return jdbcTemplate.queryForObject("SELECT role_mask FROM members WHERE id = ?", Integer.class, id);
+    }
+}
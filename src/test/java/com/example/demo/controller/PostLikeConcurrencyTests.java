@@ -0,0 +1,115 @@
+package com.example.demo.controller;
+
+import com.jayway.jsonpath.JsonPath;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 같은 게시글에 대한 동시 좋아요 토글(POST /api/post/{id}/like) 검증
+ * <p>
+ * 좋아요 수는 버전이 있는 게시글 행에서 바뀌므로 동시 토글은 낙관적 락 검사에서 충돌합니다.
+ * 충돌한 토글이 500 으로 실패하지 않고 재시도되어 좋아요 수가 정확히 반영되는지 확인합니다.
+ * MySQL 없이 실행할 수 있도록 H2(MySQL 모드)를 사용합니다.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:post-like;MODE=MySQL;DB_CLOSE_DELAY=-1",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "jwt.secret=post-like-test-secret-key-post-like-test-secret-key-0000",
+        "post.feed-cache.enabled=false"
+})
+@AutoConfigureMockMvc
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class PostLikeConcurrencyTests {
+
+    private static final int ROUNDS = 10;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    private final List<String> bearerTokens = new ArrayList<>();
+    private long postId;
+
+    @BeforeAll
+    void setUp() throws Exception {
+        for (int i = 0; i < 2; i++) {
+            bearerTokens.add(signUpAndSignIn("like" + i + "@example.com"));
+        }
+        String created = mockMvc.perform(post("/api/post")
+                        .header(HttpHeaders.AUTHORIZATION, bearerTokens.getFirst())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"title\":\"title\",\"content\":\"content\"}"))
+                .andExpect(status().is2xxSuccessful())
+                .andReturn().getResponse().getContentAsString();
+        postId = ((Number) JsonPath.read(created, "$.contents.id")).longValue();
+    }
+
+    @Test
+    void concurrentTogglesOnSamePostAllSucceed() throws Exception {
+        CyclicBarrier barrier = new CyclicBarrier(bearerTokens.size());
+        try (ExecutorService executor = Executors.newFixedThreadPool(bearerTokens.size())) {
+            for (int round = 0; round < ROUNDS; round++) {
+                List<Future<Integer>> statuses = new ArrayList<>();
+                for (String bearerToken : bearerTokens) {
+                    statuses.add(executor.submit(() -> {
+                        barrier.await();
+                        return mockMvc.perform(post("/api/post/{id}/like", postId)
+                                        .header(HttpHeaders.AUTHORIZATION, bearerToken))
+                                .andReturn().getResponse().getStatus();
+                    }));
+                }
+                for (Future<Integer> status : statuses) {
+                    assertEquals(200, status.get(), "round " + round);
+                }
+                // 두 회원이 모두 토글했으므로 홀수 번째 라운드 뒤에는 2, 짝수 번째 라운드 뒤에는 0
+                assertEquals(round % 2 == 0 ? 2 : 0, likeCount(), "round " + round);
+            }
+        }
+    }
+
+    private int likeCount() throws Exception {
+        String body = mockMvc.perform(get("/api/post/{id}", postId)
+                        .header(HttpHeaders.AUTHORIZATION, bearerTokens.getFirst()))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        return ((Number) JsonPath.read(body, "$.contents.likeCount")).intValue();
+    }
+
+    private String signUpAndSignIn(String email) throws Exception {
+        mockMvc.perform(post("/api/auth/signUp")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"email":"%s","password":"like12345","name":"like","phoneNumber":"010-1234-5678"}
+                                """.formatted(email)))
+                .andExpect(status().is2xxSuccessful());
+        String signIn = mockMvc.perform(post("/api/auth/signIn")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"email":"%s","password":"like12345"}
+                                """.formatted(email)))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        return "Bearer " + JsonPath.read(signIn, "$.contents.token");
+    }
+}
@@ -0,0 +1,103 @@
+package com.example.demo.controller;
+
+import com.jayway.jsonpath.JsonPath;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static com.example.demo.support.QueryBudgetMatchers.maxQueries;
+import static com.example.demo.support.QueryBudgetMatchers.withinQueryBudget;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 게시글 조회 API 의 SQL 문장 수 허용치(http.query-budget.endpoints) 검증
+ * <p>
+ * 게시글마다 댓글/좋아요를 따로 조회하는 N+1 회귀가 생기면 허용치를 넘어 실패합니다.
+ * MySQL 없이 실행할 수 있도록 H2(MySQL 모드)를 사용합니다.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:query-budget;MODE=MySQL;DB_CLOSE_DELAY=-1",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "jwt.secret=query-budget-test-secret-key-query-budget-test-secret-key",
+        "post.feed-cache.enabled=false"
+})
+@AutoConfigureMockMvc
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class PostQueryBudgetTests {
+
+    private static final int POST_COUNT = 5;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    private String bearerToken;
+    private long postId;
+
+    @BeforeAll
+    void setUp() throws Exception {
+        mockMvc.perform(post("/api/auth/signUp")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"email":"budget@example.com","password":"budget1234","name":"budget","phoneNumber":"010-1234-5678"}
+                                """))
+                .andExpect(status().is2xxSuccessful());
+        String signIn = mockMvc.perform(post("/api/auth/signIn")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"email":"budget@example.com","password":"budget1234"}
+                                """))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        bearerToken = "Bearer " + JsonPath.read(signIn, "$.contents.token");
+
+        for (int i = 0; i < POST_COUNT; i++) {
+            String created = mockMvc.perform(post("/api/post")
+                            .header(HttpHeaders.AUTHORIZATION, bearerToken)
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content("{\"title\":\"title" + i + "\",\"content\":\"content" + i + "\"}"))
+                    .andExpect(status().is2xxSuccessful())
+                    .andReturn().getResponse().getContentAsString();
+            postId = ((Number) JsonPath.read(created, "$.contents.id")).longValue();
+            mockMvc.perform(post("/api/postComment")
+                            .header(HttpHeaders.AUTHORIZATION, bearerToken)
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content("{\"postId\":" + postId + ",\"content\":\"comment" + i + "\"}"))
+                    .andExpect(status().is2xxSuccessful());
+        }
+    }
+
+    @Test
+    void anonymousFeedStaysWithinBudget() throws Exception {
+        mockMvc.perform(get("/api/post"))
+                .andExpect(status().isOk())
+                .andExpect(withinQueryBudget());
+    }
+
+    @Test
+    void postDetailStaysWithinBudget() throws Exception {
+        mockMvc.perform(get("/api/post/{id}", postId).header(HttpHeaders.AUTHORIZATION, bearerToken))
+                .andExpect(status().isOk())
+                .andExpect(withinQueryBudget());
+    }
+
+    @Test
+    void exceedingBudgetFailsWithRepeatedStatements() {
+        AssertionError error = assertThrows(AssertionError.class, () ->
+                mockMvc.perform(get("/api/post/{id}", postId).header(HttpHeaders.AUTHORIZATION, bearerToken))
+                        .andExpect(maxQueries(1)));
+        assertTrue(error.getMessage().contains("budget 1"), error.getMessage());
+    }
+}
@@ -0,0 +1,65 @@
+package com.example.demo.dto.todo;
+
+import com.example.demo.exception.InvalidParameterException;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 변경분 동기화 토큰({@link ToDoSyncToken}) 인코딩/해석 검증
+ */
+class ToDoSyncTokenTests {
+
+    @Test
+    void roundTripsThroughEncodedString() {
+        ToDoSyncToken token = new ToDoSyncToken(
+                LocalDateTime.of(2025, 3, 1, 12, 30, 15, 123_456_000), 42L,
+                LocalDateTime.of(2025, 2, 28, 8, 0, 0, 1_000), 7L);
+
+        String encoded = token.encode();
+
+        assertEquals(token, ToDoSyncToken.decode(encoded));
+        // URL 쿼리에 그대로 넣을 수 있는 Base64URL (패딩 없음)
+        assertTrue(encoded.matches("[A-Za-z0-9_-]+"), encoded);
+    }
+
+    @Test
+    void initialTokenRoundTrips() {
+        ToDoSyncToken initial = ToDoSyncToken.initial(LocalDateTime.of(2025, 1, 1, 0, 0));
+
+        assertEquals(initial, ToDoSyncToken.decode(initial.encode()));
+        assertEquals(Long.MAX_VALUE, initial.deletedId());
+    }
+
+    @Test
+    void truncateDropsSubMicrosecondPrecision() {
+        LocalDateTime time = LocalDateTime.of(2025, 3, 1, 12, 0, 0, 123_456_789);
+
+        assertEquals(LocalDateTime.of(2025, 3, 1, 12, 0, 0, 123_456_000), ToDoSyncToken.truncate(time));
+    }
+
+    @Test
+    void rejectsMalformedTokens() {
+        assertInvalid("not base64!");
+        assertInvalid(base64("1.2.3"));
+        assertInvalid(base64("2.0.0.0.0"));
+        assertInvalid(base64("1.a.0.0.0"));
+    }
+
+    private static void assertInvalid(String token) {
+        InvalidParameterException exception = assertThrows(InvalidParameterException.class, () -> ToDoSyncToken.decode(token));
+        assertTrue(exception.getMessage().endsWith(" since: " + token), exception.getMessage());
+        assertFalse(exception.getMessage().contains("{0}"), exception.getMessage());
+    }
+
+    private static String base64(String raw) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.US_ASCII));
+    }
+}
@@ -0,0 +1,84 @@
+package com.example.demo.edge;
+
+import com.example.demo.provider.JwtProvider;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationContext;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+
+import javax.sql.DataSource;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 할 일 전용 애플리케이션({@link TodoEdgeApplication})의 기동 검증
+ * <p>
+ * DataSource 없이 컨텍스트가 뜨고, 서명이 유효한 토큰으로 할 일 API 를 사용할 수 있는지 확인합니다.
+ * datasource 설정이 없으므로 JPA 모듈이 하나라도 등록되면 컨텍스트 기동이 실패합니다.
+ */
+@SpringBootTest(classes = TodoEdgeApplication.class, properties = {
+        "jwt.secret=todo-edge-test-secret-key-todo-edge-test-secret-key-0000",
+        "todo.embedded.fsync=false"
+})
+@ActiveProfiles(TodoEdgeApplication.PROFILE)
+@AutoConfigureMockMvc
+class TodoEdgeApplicationTests {
+
+    @TempDir
+    static Path directory;
+
+    @DynamicPropertySource
+    static void embeddedDirectory(DynamicPropertyRegistry registry) {
+        registry.add("todo.embedded.directory", () -> directory.toString());
+    }
+
+    @Autowired
+    private ApplicationContext context;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JwtProvider jwtProvider;
+
+    @Test
+    void startsWithoutDataSource() {
+        assertEquals(0, context.getBeanNamesForType(DataSource.class).length);
+    }
+
+    @Test
+    void rejectsRequestWithoutToken() throws Exception {
+        mockMvc.perform(get("/api/todo"))
+                .andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    void createsAndListsTodoWithSignedToken() throws Exception {
+        String bearerToken = "Bearer " + jwtProvider.generateToken("edge@example.com");
+
+        mockMvc.perform(post("/api/todo")
+                        .header(HttpHeaders.AUTHORIZATION, bearerToken)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"title\":\"edge\"}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.contents.title").value("edge"));
+
+        mockMvc.perform(get("/api/todo")
+                        .header(HttpHeaders.AUTHORIZATION, bearerToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.contents.todos[?(@.title == 'edge')]").exists());
+    }
+}
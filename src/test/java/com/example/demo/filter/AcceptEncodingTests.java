@@ -0,0 +1,65 @@
+package com.example.demo.filter;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Accept-Encoding 해석({@link AcceptEncoding})의 q 값 처리 검증
+ * <p>
+ * 문자열에 gzip 이 들어 있는지가 아니라, gzip 을 0 보다 큰 q 값으로 허용하는지로 판단하는지 확인합니다.
+ */
+class AcceptEncodingTests {
+
+    @Test
+    void acceptsListedGzip() {
+        assertTrue(acceptsGzip("gzip"));
+        assertTrue(acceptsGzip("br, GZIP;q=0.5"));
+        assertTrue(acceptsGzip("deflate, x-gzip"));
+        assertTrue(acceptsGzip("gzip ; q = 1.0"));
+    }
+
+    @Test
+    void rejectsGzipWithZeroQuality() {
+        assertFalse(acceptsGzip("gzip;q=0"));
+        assertFalse(acceptsGzip("br, gzip;q=0.000"));
+        // 직접 나온 항목이 "*" 보다 우선
+        assertFalse(acceptsGzip("*, gzip;q=0"));
+    }
+
+    @Test
+    void appliesWildcardOnlyToUnlistedCodings() {
+        assertTrue(acceptsGzip("br, *;q=0.1"));
+        assertFalse(acceptsGzip("br, *;q=0"));
+        assertTrue(acceptsGzip("gzip, *;q=0"));
+    }
+
+    @Test
+    void rejectsMissingOrUnrelatedOrMalformedHeader() {
+        assertFalse(acceptsGzip(null));
+        assertFalse(acceptsGzip(""));
+        assertFalse(acceptsGzip("identity"));
+        // 코딩 이름의 일부로 gzip 이 들어 있는 경우
+        assertFalse(acceptsGzip("nogzip"));
+        assertFalse(acceptsGzip("gzip;q=abc"));
+        assertFalse(acceptsGzip("gzip;q=2"));
+    }
+
+    @Test
+    void usesHighestQualityForRepeatedCoding() {
+        assertEquals(0.7, AcceptEncoding.qValue("gzip;q=0.2, gzip;q=0.7", "gzip"));
+        assertEquals(1.0, AcceptEncoding.qValue("gzip;level=9", "gzip"));
+    }
+
+    private static boolean acceptsGzip(String acceptEncoding) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/post");
+        if (acceptEncoding != null) {
+            request.addHeader(HttpHeaders.ACCEPT_ENCODING, acceptEncoding);
+        }
+        return AcceptEncoding.acceptsGzip(request);
+    }
+}
@@ -0,0 +1,100 @@
+package com.example.demo.filter;
+
+import com.example.demo.provider.AuthRateLimitProvider;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 인증 요청 빈도 제한 필터({@link AuthRateLimitFilter})의 본문 검사 범위 검증
+ * <p>
+ * 길이를 알 수 있고 한도 이내인 본문만 읽어 이메일을 추출하며, 나머지는 IP 기준으로만 제한합니다.
+ */
+class AuthRateLimitFilterTests {
+
+    private AuthRateLimitProvider authRateLimitProvider;
+    private AuthRateLimitFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        authRateLimitProvider = mock(AuthRateLimitProvider.class);
+        when(authRateLimitProvider.tryAcquire(any(), any())).thenReturn(0L);
+        filter = new AuthRateLimitFilter(authRateLimitProvider, new ObjectMapper());
+    }
+
+    @Test
+    void extractsEmailFromSmallBody() throws Exception {
+        MockHttpServletRequest request = signIn();
+        request.setContent("{\"email\":\"user@example.com\",\"password\":\"x\"}".getBytes(StandardCharsets.UTF_8));
+        MockFilterChain chain = new MockFilterChain();
+
+        filter.doFilter(request, new MockHttpServletResponse(), chain);
+
+        verify(authRateLimitProvider).tryAcquire("127.0.0.1", "user@example.com");
+        // 컨트롤러가 같은 본문을 다시 읽을 수 있도록 캐시된 요청을 전달
+        CachedBodyHttpServletRequest forwarded = assertInstanceOf(CachedBodyHttpServletRequest.class, chain.getRequest());
+        assertEquals(request.getContentLength(), forwarded.getBody().length);
+    }
+
+    @Test
+    void doesNotReadBodyOfUnknownLength() throws Exception {
+        // chunked 요청처럼 Content-Length 가 없는 경우 (-1)
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/auth/signIn") {
+            @Override
+            public long getContentLengthLong() {
+                return -1;
+            }
+        };
+        request.setContent("{\"email\":\"user@example.com\"}".getBytes(StandardCharsets.UTF_8));
+        MockFilterChain chain = new MockFilterChain();
+
+        filter.doFilter(request, new MockHttpServletResponse(), chain);
+
+        verify(authRateLimitProvider).tryAcquire(any(), isNull());
+        assertSame(request, chain.getRequest());
+    }
+
+    @Test
+    void doesNotReadBodyOverLimit() throws Exception {
+        MockHttpServletRequest request = signIn();
+        request.setContent(new byte[16 * 1024 + 1]);
+        MockFilterChain chain = new MockFilterChain();
+
+        filter.doFilter(request, new MockHttpServletResponse(), chain);
+
+        verify(authRateLimitProvider).tryAcquire(any(), isNull());
+        assertSame(request, chain.getRequest());
+    }
+
+    @Test
+    void rejectsWithRetryAfterWhenLimited() throws Exception {
+        when(authRateLimitProvider.tryAcquire(any(), any())).thenReturn(1_500_000_000L);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain chain = new MockFilterChain();
+
+        filter.doFilter(signIn(), response, chain);
+
+        assertEquals(429, response.getStatus());
+        assertEquals("2", response.getHeader("Retry-After"));
+        assertNull(chain.getRequest());
+    }
+
+    private static MockHttpServletRequest signIn() {
+        return new MockHttpServletRequest("POST", "/api/auth/signIn");
+    }
+}
@@ -0,0 +1,67 @@
+package com.example.demo.filter;
+
+import com.example.demo.provider.FeedResponseCacheProvider;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 게시글 목록 캐시 필터({@link FeedCacheFilter})의 표현 선택 검증
+ * <p>
+ * 미리 압축된 표현은 Accept-Encoding 이 gzip 을 0 보다 큰 q 값으로 허용할 때만 보내는지 확인합니다.
+ */
+class FeedCacheFilterTests {
+
+    private static final FeedResponseCacheProvider.Entry ENTRY = new FeedResponseCacheProvider.Entry(
+            "{\"contents\":[]}".getBytes(StandardCharsets.UTF_8), new byte[]{31, -117, 8}, "\"json\"", "\"json-gzip\"");
+
+    private FeedCacheFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        FeedResponseCacheProvider feedResponseCacheProvider = mock(FeedResponseCacheProvider.class);
+        when(feedResponseCacheProvider.isCacheable(anyInt())).thenReturn(true);
+        when(feedResponseCacheProvider.get(any())).thenReturn(ENTRY);
+        filter = new FeedCacheFilter(feedResponseCacheProvider, true, Duration.ZERO);
+    }
+
+    @Test
+    void sendsGzipWhenAccepted() throws Exception {
+        MockHttpServletResponse response = perform("br, gzip;q=0.5");
+
+        assertEquals("gzip", response.getHeader(HttpHeaders.CONTENT_ENCODING));
+        assertEquals(ENTRY.gzipEtag(), response.getHeader(HttpHeaders.ETAG));
+        assertArrayEquals(ENTRY.gzip(), response.getContentAsByteArray());
+    }
+
+    @Test
+    void sendsJsonWhenGzipRefused() throws Exception {
+        MockHttpServletResponse response = perform("gzip;q=0, identity");
+
+        assertNull(response.getHeader(HttpHeaders.CONTENT_ENCODING));
+        assertEquals(ENTRY.etag(), response.getHeader(HttpHeaders.ETAG));
+        assertArrayEquals(ENTRY.json(), response.getContentAsByteArray());
+    }
+
+    private MockHttpServletResponse perform(String acceptEncoding) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/post");
+        request.addHeader(HttpHeaders.ACCEPT_ENCODING, acceptEncoding);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, new MockFilterChain());
+        return response;
+    }
+}
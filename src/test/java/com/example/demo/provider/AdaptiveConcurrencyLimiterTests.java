@@ -0,0 +1,151 @@
+package com.example.demo.provider;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 응답 시간 기반 동시 실행 한도({@link AdaptiveConcurrencyLimiter}) 검증
+ * <p>
+ * 한도 조절은 100ms 이상, 10개 이상의 표본이 모인 구간마다 일어나므로 구간마다 잠시 기다린 뒤 반환합니다.
+ */
+class AdaptiveConcurrencyLimiterTests {
+
+    private static final long RTT_1MS = TimeUnit.MILLISECONDS.toNanos(1);
+    private static final long RTT_10MS = TimeUnit.MILLISECONDS.toNanos(10);
+
+    @Test
+    void rejectsAboveLimitUntilReleased() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(3, 1, 10, 1.5);
+
+        assertTrue(limiter.tryAcquire());
+        assertTrue(limiter.tryAcquire());
+        assertTrue(limiter.tryAcquire());
+        assertFalse(limiter.tryAcquire());
+        assertEquals(3, limiter.getInFlight());
+
+        limiter.release(RTT_1MS, false);
+        assertTrue(limiter.tryAcquire());
+    }
+
+    @Test
+    void concurrentAcquiresNeverExceedLimit() throws Exception {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(5, 1, 10, 1.5);
+        int threads = 16;
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Boolean>> results = new ArrayList<>();
+        try (ExecutorService executor = Executors.newFixedThreadPool(threads)) {
+            for (int i = 0; i < threads; i++) {
+                Callable<Boolean> acquire = () -> {
+                    start.await();
+                    return limiter.tryAcquire();
+                };
+                results.add(executor.submit(acquire));
+            }
+            start.countDown();
+        }
+
+        long admitted = 0;
+        for (Future<Boolean> result : results) {
+            admitted += result.get() ? 1 : 0;
+        }
+        assertEquals(5, admitted);
+        assertEquals(5, limiter.getInFlight());
+    }
+
+    @Test
+    void overloadBacksOffButNotBelowMinimum() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(100, 80, 200, 1.5);
+
+        limiter.tryAcquire();
+        limiter.release(RTT_1MS, true);
+        assertEquals(90, limiter.getLimit());
+
+        for (int i = 0; i < 10; i++) {
+            limiter.tryAcquire();
+            limiter.release(RTT_1MS, true);
+        }
+        assertEquals(80, limiter.getLimit());
+        assertEquals(0, limiter.getInFlight());
+    }
+
+    @Test
+    void releaseIgnoredOnlyFreesThePermit() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(2, 1, 10, 1.5);
+        limiter.tryAcquire();
+        limiter.tryAcquire();
+
+        limiter.releaseIgnored();
+        limiter.releaseIgnored();
+
+        assertEquals(0, limiter.getInFlight());
+        assertEquals(2, limiter.getLimit());
+    }
+
+    @Test
+    void growsWhileResponseTimeIsStable() throws InterruptedException {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(20, 1, 100, 1.5);
+
+        for (int i = 0; i < 4; i++) {
+            runWindow(limiter, limiter.getLimit(), RTT_1MS);
+        }
+
+        assertTrue(limiter.getLimit() > 20, "limit " + limiter.getLimit());
+    }
+
+    @Test
+    void shrinksWhenResponseTimeRises() throws InterruptedException {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(50, 1, 100, 1.5);
+        runWindow(limiter, 50, RTT_1MS);
+        int baseline = limiter.getLimit();
+
+        runWindow(limiter, baseline, RTT_10MS);
+        runWindow(limiter, limiter.getLimit(), RTT_10MS);
+
+        assertTrue(limiter.getLimit() < baseline, "limit " + limiter.getLimit() + " baseline " + baseline);
+    }
+
+    @Test
+    void doesNotGrowWhenMostOfTheLimitIsUnused() throws InterruptedException {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(40, 1, 100, 1.5);
+
+        for (int i = 0; i < 3; i++) {
+            runWindow(limiter, 10, RTT_1MS);
+        }
+
+        assertEquals(40, limiter.getLimit());
+    }
+
+    @Test
+    void rejectsInvalidConfiguration() {
+        assertThrows(IllegalArgumentException.class, () -> new AdaptiveConcurrencyLimiter(10, 0, 10, 1.5));
+        assertThrows(IllegalArgumentException.class, () -> new AdaptiveConcurrencyLimiter(10, 5, 4, 1.5));
+        assertThrows(IllegalArgumentException.class, () -> new AdaptiveConcurrencyLimiter(10, 1, 10, 0.9));
+        assertEquals(10, new AdaptiveConcurrencyLimiter(50, 1, 10, 1.5).getLimit());
+    }
+
+    /**
+     * concurrency 개의 요청을 동시에 실행 중인 상태로 한 구간을 보낸 뒤 모두 같은 응답 시간으로 반환합니다.
+     */
+    private static void runWindow(AdaptiveConcurrencyLimiter limiter, int concurrency, long rttNanos) throws InterruptedException {
+        for (int i = 0; i < concurrency; i++) {
+            assertTrue(limiter.tryAcquire(), "acquire " + i + " of " + concurrency);
+        }
+        TimeUnit.MILLISECONDS.sleep(110);
+        for (int i = 0; i < concurrency; i++) {
+            limiter.release(rttNanos, false);
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package com.example.demo.provider;
+
+import com.example.demo.entity.BlacklistedToken;
+import com.example.demo.repository.BlacklistedTokenRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 로그아웃 토큰 블랙리스트({@link TokenBlacklistProvider})의 공유 저장소 조회 검증
+ * <p>
+ * 다른 프로세스에서 로그아웃한 토큰은 테이블에서 확인하고, 한 번 확인된 토큰은 다시 조회하지 않는지 확인합니다.
+ */
+class TokenBlacklistProviderTests {
+
+    private BlacklistedTokenRepository blacklistedTokenRepository;
+    private TokenBlacklistProvider tokenBlacklistProvider;
+
+    @BeforeEach
+    void setUp() {
+        blacklistedTokenRepository = mock(BlacklistedTokenRepository.class);
+        when(blacklistedTokenRepository.findById(any())).thenReturn(Optional.empty());
+        tokenBlacklistProvider = new TokenBlacklistProvider(blacklistedTokenRepository, new SimpleMeterRegistry());
+    }
+
+    @Test
+    void storesOnlyTokenHash() {
+        tokenBlacklistProvider.addToBlacklist("token-a", Instant.now().plusSeconds(60));
+
+        verify(blacklistedTokenRepository).save(any());
+        assertTrue(tokenBlacklistProvider.isBlacklisted("token-a"));
+        // 이 프로세스에서 추가한 토큰은 테이블을 다시 조회하지 않음
+        verify(blacklistedTokenRepository, never()).findById(any());
+        assertEquals(64, BlacklistedToken.hashOf("token-a").length());
+    }
+
+    @Test
+    void rejectsTokenBlacklistedByAnotherProcess() {
+        String tokenHash = BlacklistedToken.hashOf("token-b");
+        when(blacklistedTokenRepository.findById(tokenHash))
+                .thenReturn(Optional.of(BlacklistedToken.of("token-b", LocalDateTime.now().plusMinutes(1))));
+
+        assertTrue(tokenBlacklistProvider.isBlacklisted("token-b"));
+        assertTrue(tokenBlacklistProvider.isBlacklisted("token-b"));
+
+        verify(blacklistedTokenRepository, times(1)).findById(tokenHash);
+    }
+
+    @Test
+    void acceptsTokenNotInTable() {
+        assertFalse(tokenBlacklistProvider.isBlacklisted("token-c"));
+        assertFalse(tokenBlacklistProvider.isBlacklisted("token-c"));
+
+        // 확인되지 않은 토큰은 다른 프로세스에서 로그아웃될 수 있으므로 매번 조회
+        verify(blacklistedTokenRepository, times(2)).findById(BlacklistedToken.hashOf("token-c"));
+    }
+}
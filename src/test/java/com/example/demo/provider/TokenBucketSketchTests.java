@@ -0,0 +1,117 @@
+package com.example.demo.provider;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 고정 메모리 토큰 버킷 스케치({@link TokenBucketSketch}) 검증
+ * <p>
+ * 버스트 허용량, 키별 독립성, 재충전, 해시 충돌과 동시 요청 시 과다 허용이 없는지 확인합니다.
+ */
+class TokenBucketSketchTests {
+
+    @Test
+    void allowsBurstUpToCapacityThenRejects() {
+        TokenBucketSketch sketch = new TokenBucketSketch(5, Duration.ofHours(1), 1024, 4);
+
+        for (int i = 0; i < 5; i++) {
+            assertEquals(0L, sketch.tryAcquire("user@example.com"), "request " + i);
+        }
+        long waitNanos = sketch.tryAcquire("user@example.com");
+
+        // 다음 토큰은 period / capacity (12분) 이내에 채워짐
+        assertTrue(waitNanos > 0, "6th request should be rejected");
+        assertTrue(waitNanos <= TimeUnit.MINUTES.toNanos(12), "wait " + waitNanos);
+    }
+
+    @Test
+    void keysDoNotShareBuckets() {
+        TokenBucketSketch sketch = new TokenBucketSketch(2, Duration.ofHours(1), 1024, 4);
+        sketch.tryAcquire("10.0.0.1");
+        sketch.tryAcquire("10.0.0.1");
+
+        assertTrue(sketch.tryAcquire("10.0.0.1") > 0);
+        assertEquals(0L, sketch.tryAcquire("10.0.0.2"));
+    }
+
+    @Test
+    void refillsAfterEmissionInterval() throws InterruptedException {
+        TokenBucketSketch sketch = new TokenBucketSketch(2, Duration.ofMillis(200), 1024, 4);
+        sketch.tryAcquire("key");
+        sketch.tryAcquire("key");
+        long waitNanos = sketch.tryAcquire("key");
+        assertTrue(waitNanos > 0);
+
+        TimeUnit.NANOSECONDS.sleep(waitNanos + TimeUnit.MILLISECONDS.toNanos(20));
+
+        assertEquals(0L, sketch.tryAcquire("key"));
+    }
+
+    @Test
+    void collisionsNeverAdmitMoreThanCapacity() {
+        // 셀 4개에 키 200개를 넣어 충돌을 강제
+        int capacity = 3;
+        TokenBucketSketch sketch = new TokenBucketSketch(capacity, Duration.ofHours(1), 4, 1);
+
+        for (int key = 0; key < 200; key++) {
+            int admitted = 0;
+            for (int attempt = 0; attempt < capacity + 2; attempt++) {
+                if (sketch.tryAcquire("key-" + key) == 0) {
+                    admitted++;
+                }
+            }
+            assertTrue(admitted <= capacity, "key-" + key + " admitted " + admitted);
+        }
+    }
+
+    @Test
+    void concurrentAcquiresNeverAdmitMoreThanCapacity() throws Exception {
+        // 같은 추정치를 읽은 스레드들이 모두 허용되는 경쟁을 여러 번 반복하여 확인
+        int capacity = 5;
+        int threads = 16;
+        try (ExecutorService executor = Executors.newFixedThreadPool(threads)) {
+            for (int trial = 0; trial < 200; trial++) {
+                TokenBucketSketch sketch = new TokenBucketSketch(capacity, Duration.ofHours(1), 1024, 4);
+                CyclicBarrier start = new CyclicBarrier(threads);
+                List<Future<Integer>> results = new ArrayList<>();
+                for (int i = 0; i < threads; i++) {
+                    results.add(executor.submit(() -> {
+                        start.await();
+                        int admitted = 0;
+                        for (int attempt = 0; attempt < 2; attempt++) {
+                            if (sketch.tryAcquire("user@example.com") == 0) {
+                                admitted++;
+                            }
+                        }
+                        return admitted;
+                    }));
+                }
+
+                int admitted = 0;
+                for (Future<Integer> result : results) {
+                    admitted += result.get();
+                }
+                assertTrue(admitted <= capacity, "trial " + trial + " admitted " + admitted);
+            }
+        }
+    }
+
+    @Test
+    void rejectsInvalidConfiguration() {
+        assertThrows(IllegalArgumentException.class, () -> new TokenBucketSketch(0, Duration.ofMinutes(1), 16, 1));
+        assertThrows(IllegalArgumentException.class, () -> new TokenBucketSketch(1, Duration.ZERO, 16, 1));
+        assertThrows(IllegalArgumentException.class, () -> new TokenBucketSketch(1, Duration.ofMinutes(1), 16, 0));
+    }
+}
@@ -0,0 +1,114 @@
+package com.example.demo.repository.embedded;
+
+import com.example.demo.dto.todo.ToDoDto;
+import com.example.demo.entity.Todo;
+import com.example.demo.entity.TodoTombstone;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.data.domain.Limit;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 내장 할 일 저장소({@link EmbeddedToDoRepository})의 복구 검증
+ * <p>
+ * 종료 처리 없이 중단된 경우(WAL 재생)와 스냅샷 이후 WAL 만 재생하는 경우의 상태를 확인합니다.
+ */
+class EmbeddedToDoRepositoryTests {
+
+    private static final LocalDateTime EPOCH = LocalDateTime.of(1970, 1, 1, 0, 0);
+    private static final Limit ALL = Limit.of(1000);
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void recoversFromWalWithoutShutdown() throws IOException {
+        EmbeddedToDoRepository repository = open();
+        Todo first = repository.save(Todo.builder().title("first").completed(false).build());
+        Todo second = repository.save(Todo.builder().title("second").completed(false).build());
+        first.updateCompleted(true);
+        repository.save(first);
+        repository.delete(second);
+        // close() 를 호출하지 않아 스냅샷 없이 WAL 만 남은 상태
+
+        EmbeddedToDoRepository recovered = open();
+
+        List<ToDoDto> todos = recovered.findPageAfter(0, ALL);
+        assertEquals(1, todos.size());
+        assertEquals(first.getId(), todos.get(0).getId());
+        assertTrue(todos.get(0).getCompleted());
+        assertEquals(List.of(second.getId()), deletedIds(recovered));
+        // 복구 후에도 ID 는 이어서 발급
+        assertEquals(second.getId() + 1, recovered.save(Todo.builder().title("third").completed(false).build()).getId());
+    }
+
+    @Test
+    void recoversFromSnapshotAndLaterWal() throws IOException {
+        EmbeddedToDoRepository repository = open();
+        Todo before = repository.save(Todo.builder().title("before snapshot").completed(false).build());
+        repository.snapshot();
+        Todo after = repository.save(Todo.builder().title("after snapshot").completed(false).build());
+        repository.delete(before);
+
+        // 스냅샷에 포함된 세그먼트는 정리되고 스냅샷 이후 세그먼트만 남음
+        assertEquals(1, files("snapshot-").size());
+        assertEquals(1, files("wal-").size());
+
+        EmbeddedToDoRepository recovered = open();
+
+        assertEquals(List.of(after.getId()), recovered.findPageAfter(0, ALL).stream().map(ToDoDto::getId).toList());
+        assertEquals(List.of(before.getId()), deletedIds(recovered));
+    }
+
+    @Test
+    void closeWritesSnapshotSoNothingIsReplayed() throws IOException {
+        EmbeddedToDoRepository repository = open();
+        Todo todo = repository.save(Todo.builder().title("todo").completed(false).build());
+        repository.close();
+
+        EmbeddedToDoRepository recovered = open();
+
+        assertEquals("todo", recovered.findById(todo.getId()).orElseThrow().getTitle());
+        assertFalse(files("snapshot-").isEmpty());
+    }
+
+    @Test
+    void saveOfDeletedTodoIsRejected() throws IOException {
+        EmbeddedToDoRepository repository = open();
+        Todo todo = repository.save(Todo.builder().title("todo").completed(false).build());
+        repository.delete(todo);
+
+        todo.updateTitle("edited");
+        assertThrows(ObjectOptimisticLockingFailureException.class, () -> repository.save(todo));
+        assertTrue(repository.findById(todo.getId()).isEmpty());
+    }
+
+    private EmbeddedToDoRepository open() throws IOException {
+        EmbeddedToDoRepository repository = new EmbeddedToDoRepository(directory, DataSize.ofKilobytes(64), true);
+        repository.recover();
+        return repository;
+    }
+
+    private static List<Long> deletedIds(EmbeddedToDoRepository repository) {
+        return repository.findDeletedAfter(EPOCH, 0, ALL).stream().map(TodoTombstone::getTodoId).toList();
+    }
+
+    private List<Path> files(String prefix) throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(path -> path.getFileName().toString().startsWith(prefix)).toList();
+        }
+    }
+}
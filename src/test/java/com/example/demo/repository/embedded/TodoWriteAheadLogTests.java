@@ -0,0 +1,183 @@
+package com.example.demo.repository.embedded;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 내장 할 일 저장소 WAL({@link TodoWriteAheadLog}) 검증
+ * <p>
+ * 세그먼트 전환, 잘리거나 손상된 꼬리 복구, group commit sync, 세그먼트 정리를 확인합니다.
+ */
+class TodoWriteAheadLogTests {
+
+    private static final int SEGMENT_SIZE = 256;
+    private static final int FRAME_HEADER_BYTES = 8;
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void replaysRecordsInOrderAcrossSegments() throws IOException {
+        List<String> written = new ArrayList<>();
+        try (TodoWriteAheadLog wal = openNew()) {
+            for (int i = 0; i < 40; i++) {
+                String record = "record-" + i;
+                wal.append(bytes(record));
+                written.add(record);
+            }
+        }
+
+        assertEquals(written, replayAll());
+        assertTrue(segments().size() > 1, "records should span several segments");
+    }
+
+    @Test
+    void restartAppendsToNewSegmentAndKeepsOldRecords() throws IOException {
+        try (TodoWriteAheadLog wal = openNew()) {
+            wal.append(bytes("before"));
+        }
+        try (TodoWriteAheadLog wal = new TodoWriteAheadLog(directory, SEGMENT_SIZE)) {
+            wal.replay(0, payload -> { });
+            wal.open();
+            wal.append(bytes("after"));
+        }
+
+        assertEquals(List.of("before", "after"), replayAll());
+        assertEquals(2, segments().size());
+    }
+
+    @Test
+    void stopsAtTruncatedTail() throws IOException {
+        try (TodoWriteAheadLog wal = openNew()) {
+            wal.append(bytes("first"));
+            wal.append(bytes("second"));
+        }
+        // 쓰기 도중 중단되어 길이만 기록되고 본문이 세그먼트 끝을 넘어가는 레코드
+        int tail = frameLength("first") + frameLength("second");
+        writeInt(segments().get(0), tail, SEGMENT_SIZE);
+
+        assertEquals(List.of("first", "second"), replayAll());
+    }
+
+    @Test
+    void stopsAtCorruptRecord() throws IOException {
+        try (TodoWriteAheadLog wal = openNew()) {
+            wal.append(bytes("first"));
+            wal.append(bytes("second"));
+            wal.append(bytes("third"));
+        }
+        // 두 번째 레코드 본문의 한 바이트를 바꿔 CRC 가 맞지 않게 함
+        Path segment = segments().get(0);
+        int payloadOffset = frameLength("first") + FRAME_HEADER_BYTES;
+        try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.wrap(new byte[]{'X'}), payloadOffset);
+        }
+
+        assertEquals(List.of("first"), replayAll());
+    }
+
+    @Test
+    void concurrentSyncsAllBecomeDurable() throws Exception {
+        int threads = 8;
+        int recordsPerThread = 50;
+        try (TodoWriteAheadLog wal = new TodoWriteAheadLog(directory, 64 * 1024);
+             ExecutorService executor = Executors.newFixedThreadPool(threads)) {
+            wal.replay(0, payload -> { });
+            wal.open();
+
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                int thread = t;
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < recordsPerThread; i++) {
+                        wal.sync(wal.append(bytes(thread + "-" + i)));
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+            // 이미 반영된 LSN 은 바로 반환
+            wal.sync(1);
+        }
+
+        assertEquals(threads * recordsPerThread, replayAll().size());
+    }
+
+    @Test
+    void deletesSegmentsBeforeRolledSequence() throws IOException {
+        try (TodoWriteAheadLog wal = openNew()) {
+            wal.append(bytes("old"));
+            long sequence = wal.roll();
+            wal.append(bytes("new"));
+
+            assertEquals(1, wal.deleteSegmentsBefore(sequence));
+            List<String> replayed = new ArrayList<>();
+            new TodoWriteAheadLog(directory, SEGMENT_SIZE).replay(sequence, payload -> replayed.add(string(payload)));
+            assertEquals(List.of("new"), replayed);
+        }
+    }
+
+    @Test
+    void rejectsRecordLargerThanSegment() throws IOException {
+        try (TodoWriteAheadLog wal = openNew()) {
+            assertThrows(IOException.class, () -> wal.append(new byte[SEGMENT_SIZE]));
+        }
+    }
+
+    private TodoWriteAheadLog openNew() throws IOException {
+        TodoWriteAheadLog wal = new TodoWriteAheadLog(directory, SEGMENT_SIZE);
+        wal.replay(0, payload -> { });
+        wal.open();
+        return wal;
+    }
+
+    private List<String> replayAll() throws IOException {
+        List<String> replayed = new ArrayList<>();
+        new TodoWriteAheadLog(directory, SEGMENT_SIZE).replay(0, payload -> replayed.add(string(payload)));
+        return replayed;
+    }
+
+    private List<Path> segments() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(path -> path.getFileName().toString().startsWith("wal-")).sorted().toList();
+        }
+    }
+
+    private static void writeInt(Path segment, int offset, int value) throws IOException {
+        try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.allocate(Integer.BYTES).putInt(0, value), offset);
+        }
+    }
+
+    private static int frameLength(String record) {
+        return FRAME_HEADER_BYTES + bytes(record).length;
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static String string(byte[] payload) {
+        return new String(payload, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,85 @@
+package com.example.demo.service;
+
+import com.example.demo.provider.RequestDeadline;
+import com.example.demo.repository.ToDoRepository;
+import com.example.demo.repository.ToDoTombstoneRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 할 일 일괄 변경(PATCH /api/todo/completed)의 요청 deadline 처리 검증
+ * <p>
+ * 청크마다 커밋하므로 deadline 에 걸리면 504 대신 다음 청크 전에 멈추고 그때까지 변경된 수를 반환하는지 확인합니다.
+ * 청크 크기는 2 로 두고, 저장소는 mock 으로 대체합니다.
+ */
+class ToDoServiceBulkTests {
+
+    private static final int CHUNK_SIZE = 2;
+    private static final List<Long> IDS = List.of(1L, 2L, 3L, 4L, 5L, 6L);
+
+    private ToDoRepository toDoRepository;
+    private ToDoServiceImpl toDoService;
+
+    @BeforeEach
+    void setUp() {
+        toDoRepository = mock(ToDoRepository.class);
+        TransactionTemplate transactionTemplate = mock(TransactionTemplate.class);
+        when(transactionTemplate.execute(any())).thenAnswer(invocation ->
+                invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+        toDoService = new ToDoServiceImpl(toDoRepository, mock(ToDoTombstoneRepository.class), transactionTemplate,
+                CHUNK_SIZE, 500, Duration.ofSeconds(5), Duration.ofDays(30));
+    }
+
+    @Test
+    void updatesAllChunksWithoutDeadline() {
+        when(toDoRepository.updateCompletedByIds(anyList(), anyBoolean(), any()))
+                .thenAnswer(invocation -> invocation.<List<Long>>getArgument(0).size());
+
+        assertEquals(IDS.size(), toDoService.updateTodosCompleted(IDS, true));
+        verify(toDoRepository, times(3)).updateCompletedByIds(anyList(), anyBoolean(), any());
+    }
+
+    @Test
+    void stopsBeforeChunkThatWouldOutrunDeadline() {
+        when(toDoRepository.updateCompletedByIds(anyList(), anyBoolean(), any())).thenAnswer(invocation -> {
+            Thread.sleep(200);
+            return invocation.<List<Long>>getArgument(0).size();
+        });
+
+        long affected;
+        try (RequestDeadline.Scope ignored = RequestDeadline.start(Duration.ofMillis(300))) {
+            affected = toDoService.updateTodosCompleted(IDS, true);
+        }
+
+        // 첫 청크(200ms) 뒤 남은 시간(약 100ms)이 청크 소요 시간보다 짧으므로 두 번째 청크를 시작하지 않음
+        assertEquals(CHUNK_SIZE, affected);
+        verify(toDoRepository, times(1)).updateCompletedByIds(anyList(), anyBoolean(), any());
+    }
+
+    @Test
+    void startsNoChunkAfterDeadline() {
+        long affected;
+        try (RequestDeadline.Scope ignored = RequestDeadline.start(Duration.ZERO)) {
+            affected = toDoService.deleteTodosByCompleted(true);
+        }
+
+        assertEquals(0, affected);
+        verify(toDoRepository, never()).findIdsByCompletedAfter(anyBoolean(), anyLong(), any());
+    }
+}
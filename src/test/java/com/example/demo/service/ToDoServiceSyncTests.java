@@ -0,0 +1,142 @@
+package com.example.demo.service;
+
+import com.example.demo.dto.todo.ToDoChanges;
+import com.example.demo.dto.todo.ToDoDto;
+import com.example.demo.dto.todo.ToDoSyncToken;
+import com.example.demo.entity.Todo;
+import com.example.demo.entity.TodoTombstone;
+import com.example.demo.repository.ToDoRepository;
+import com.example.demo.repository.ToDoTombstoneRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 할 일 변경분 동기화(GET /api/todo/changes) 커서 이동과 hasMore 검증
+ * <p>
+ * 저장소는 mock 으로 대체하고, 응답 한 번의 최대 건수(max-changes)는 2 로 둡니다.
+ */
+class ToDoServiceSyncTests {
+
+    private static final int MAX_CHANGES = 2;
+    private static final Duration SAFETY_WINDOW = Duration.ofSeconds(5);
+    private static final Duration RETENTION = Duration.ofDays(30);
+
+    private ToDoRepository toDoRepository;
+    private ToDoTombstoneRepository toDoTombstoneRepository;
+    private ToDoServiceImpl toDoService;
+
+    @BeforeEach
+    void setUp() {
+        toDoRepository = mock(ToDoRepository.class);
+        toDoTombstoneRepository = mock(ToDoTombstoneRepository.class);
+        toDoService = new ToDoServiceImpl(toDoRepository, toDoTombstoneRepository, mock(TransactionTemplate.class),
+                1000, MAX_CHANGES, SAFETY_WINDOW, RETENTION);
+        when(toDoTombstoneRepository.findDeletedAfter(any(), anyLong(), any())).thenReturn(List.of());
+    }
+
+    @Test
+    void pagesThroughChangesOlderThanSafetyWindow() {
+        LocalDateTime old = LocalDateTime.now().minusMinutes(10);
+        givenChanged(todo(1, old), todo(2, old), todo(3, old.plusSeconds(1)));
+
+        ToDoChanges changes = toDoService.findChanges(null);
+
+        assertEquals(List.of(1L, 2L), changes.getChanged().stream().map(ToDoDto::getId).toList());
+        assertTrue(changes.isHasMore());
+        ToDoSyncToken next = ToDoSyncToken.decode(changes.getNextToken());
+        // 같은 시각의 다음 행을 놓치지 않도록 (시각, id) 로 마지막 전달 위치에 머무름
+        assertEquals(ToDoSyncToken.truncate(old), next.changedAt());
+        assertEquals(2L, next.changedId());
+    }
+
+    @Test
+    void doesNotReportMoreWhenRemainingChangesAreInsideSafetyWindow() {
+        LocalDateTime recent = LocalDateTime.now();
+        givenChanged(todo(1, recent), todo(2, recent), todo(3, recent));
+
+        ToDoChanges changes = toDoService.findChanges(null);
+
+        // 안정 시점 이후의 변경만 남았으므로 바로 다시 요청해도 커서가 움직이지 않음 → hasMore 를 알리지 않음
+        assertFalse(changes.isHasMore());
+        ToDoSyncToken next = ToDoSyncToken.decode(changes.getNextToken());
+        assertTrue(next.changedAt().isBefore(recent.minus(SAFETY_WINDOW).plusSeconds(1)), next.changedAt().toString());
+    }
+
+    @Test
+    void advancesToStablePointWhenNothingRemains() {
+        LocalDateTime old = LocalDateTime.now().minusMinutes(10);
+        givenChanged(todo(1, old));
+
+        LocalDateTime before = LocalDateTime.now().minus(SAFETY_WINDOW);
+        ToDoChanges changes = toDoService.findChanges(null);
+
+        assertFalse(changes.isHasMore());
+        ToDoSyncToken next = ToDoSyncToken.decode(changes.getNextToken());
+        assertFalse(next.changedAt().isBefore(ToDoSyncToken.truncate(before)), next.changedAt().toString());
+        assertEquals(Long.MAX_VALUE, next.changedId());
+    }
+
+    @Test
+    void neverMovesCursorBackwards() {
+        LocalDateTime ahead = ToDoSyncToken.truncate(LocalDateTime.now().plusMinutes(1));
+        ToDoSyncToken token = new ToDoSyncToken(ahead, 10L, ahead, 20L);
+        givenChanged();
+
+        ToDoSyncToken next = ToDoSyncToken.decode(toDoService.findChanges(token.encode()).getNextToken());
+
+        assertEquals(token, next);
+    }
+
+    @Test
+    void requiresResetWhenTokenIsOlderThanRetention() {
+        LocalDateTime expired = LocalDateTime.now().minus(RETENTION).minusDays(1);
+        ToDoSyncToken token = new ToDoSyncToken(expired, 0L, expired, 0L);
+
+        ToDoChanges changes = toDoService.findChanges(token.encode());
+
+        assertTrue(changes.isResetRequired());
+        assertTrue(changes.getChanged().isEmpty());
+    }
+
+    @Test
+    void pagesDeletedRecordsIndependently() {
+        LocalDateTime old = LocalDateTime.now().minusMinutes(10);
+        givenChanged();
+        when(toDoTombstoneRepository.findDeletedAfter(any(), anyLong(), any())).thenReturn(List.of(
+                TodoTombstone.restore(5L, old), TodoTombstone.restore(6L, old), TodoTombstone.restore(7L, old)));
+        LocalDateTime since = ToDoSyncToken.truncate(old.minusMinutes(1));
+
+        ToDoChanges changes = toDoService.findChanges(new ToDoSyncToken(since, 0L, since, 0L).encode());
+
+        assertEquals(List.of(5L, 6L), changes.getDeleted());
+        assertTrue(changes.isHasMore());
+        assertEquals(6L, ToDoSyncToken.decode(changes.getNextToken()).deletedId());
+    }
+
+    /**
+     * 저장소가 limit(max-changes + 1) 개까지 돌려주는 것처럼 변경 목록을 지정합니다.
+     */
+    private void givenChanged(Todo... todos) {
+        List<Todo> result = new ArrayList<>(List.of(todos).subList(0, Math.min(todos.length, MAX_CHANGES + 1)));
+        when(toDoRepository.findChangedAfter(any(), anyLong(), any())).thenReturn(result);
+    }
+
+    private static Todo todo(long id, LocalDateTime updatedAt) {
+        LocalDateTime time = ToDoSyncToken.truncate(updatedAt);
+        return Todo.restore(id, "todo" + id, false, time, time);
+    }
+}
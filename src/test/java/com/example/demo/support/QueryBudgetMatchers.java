@@ -0,0 +1,66 @@
+package com.example.demo.support;
+
+import com.example.demo.filter.QueryBudgetFilter;
+import com.example.demo.provider.QueryCounter.Recording;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.ResultMatcher;
+
+import static org.springframework.test.util.AssertionErrors.assertNotNull;
+import static org.springframework.test.util.AssertionErrors.assertTrue;
+
+/**
+ * MockMvc 요청의 SQL 문장 수를 검증하는 ResultMatcher 모음
+ * <p>
+ * {@link QueryBudgetFilter} 가 요청 속성으로 남긴 기록을 사용하므로, 운영과 같은 엔드포인트별 허용치
+ * (http.query-budget.endpoints)로 N+1 회귀를 통합 테스트에서 잡을 수 있습니다.
+ * <pre>
+ * mockMvc.perform(get("/api/post"))
+ *         .andExpect(status().isOk())
+ *         .andExpect(withinQueryBudget());
+ * </pre>
+ */
+public final class QueryBudgetMatchers {
+
+    private QueryBudgetMatchers() {
+    }
+
+    /**
+     * 요청의 문장 수가 엔드포인트 허용치 이하인지 검증합니다.
+     *
+     * @return ResultMatcher
+     */
+    public static ResultMatcher withinQueryBudget() {
+        return result -> {
+            Recording recording = recording(result);
+            assertTrue(describe(result, recording, recording.getBudget()), !recording.isOverBudget());
+        };
+    }
+
+    /**
+     * 요청의 문장 수가 주어진 값 이하인지 검증합니다.
+     *
+     * @param maxQueries 허용할 최대 문장 수
+     * @return ResultMatcher
+     */
+    public static ResultMatcher maxQueries(int maxQueries) {
+        return result -> {
+            Recording recording = recording(result);
+            assertTrue(describe(result, recording, maxQueries), recording.getCount() <= maxQueries);
+        };
+    }
+
+    private static Recording recording(MvcResult result) {
+        Recording recording = (Recording) result.getRequest().getAttribute(QueryBudgetFilter.RECORDING_ATTRIBUTE);
+        assertNotNull("Query budget recording not found (is http.query-budget.enabled=true?)", recording);
+        return recording;
+    }
+
+    private static String describe(MvcResult result, Recording recording, int budget) {
+        StringBuilder message = new StringBuilder()
+                .append(result.getRequest().getMethod()).append(' ').append(result.getRequest().getRequestURI())
+                .append(" executed ").append(recording.getCount()).append(" statements (budget ").append(budget).append(')');
+        recording.getRepeatedShapes().forEach((shape, count) ->
+                message.append(System.lineSeparator()).append("  ").append(count).append("x ").append(shape));
+        return message.toString();
+    }
+}